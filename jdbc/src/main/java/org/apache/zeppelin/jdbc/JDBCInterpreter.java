@@ -33,10 +33,13 @@ import org.apache.hadoop.security.alias.CredentialProvider;
 import org.apache.hadoop.security.alias.CredentialProviderFactory;
 import org.apache.zeppelin.interpreter.ZeppelinContext;
 import org.apache.zeppelin.interpreter.util.SqlSplitter;
+import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.tabledata.SpooledTableData;
 import org.apache.zeppelin.tabledata.TableDataUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.security.PrivilegedExceptionAction;
 import java.sql.Connection;
@@ -53,14 +56,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.KerberosInterpreter;
@@ -140,6 +151,10 @@ public class JDBCInterpreter extends KerberosInterpreter {
           "zeppelin.jdbc.concurrent.max_connection";
   private static final String DBCP_STRING = "jdbc:apache:commons:dbcp:";
   private static final String MAX_ROWS_KEY = "zeppelin.jdbc.maxRows";
+  private static final String PAGED_RESULT_KEY = "zeppelin.jdbc.pagedResult";
+  private static final String OUTPUT_BATCH_SIZE_KEY = "zeppelin.jdbc.outputBatchSize";
+  private static final String DEFAULT_OUTPUT_BATCH_SIZE = "100";
+  private static final int SQL_COMPLETER_THREADS = 4;
 
   private static final Set<String> PRESTO_PROPERTIES = new HashSet<>(Arrays.asList(
           "user", "password",
@@ -152,10 +167,29 @@ public class JDBCInterpreter extends KerberosInterpreter {
 
   private final HashMap<String, Properties> basePropertiesMap;
   private final HashMap<String, JDBCUserConfigurations> jdbcUserConfigurationsMap;
-  private final HashMap<String, SqlCompleter> sqlCompletersMap;
+  // completer key -> SqlCompleter, see getSqlCompleterKey
+  private final Map<String, SqlCompleter> sqlCompletersMap;
+  // completer key -> running metadata refresh of this completer
+  private final Map<String, Future<?>> sqlCompleterRefreshes = new ConcurrentHashMap<>();
+  // a few threads, so that a slow metadata query of one data source doesn't hold back the
+  // completer refresh of the others. At most one refresh per completer key is queued.
+  private final ThreadPoolExecutor sqlCompleterExecutor = new ThreadPoolExecutor(
+      SQL_COMPLETER_THREADS, SQL_COMPLETER_THREADS, 60, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(), new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "JDBCInterpreter-SqlCompleter-" + threadCount.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        }
+      });
 
   private int maxLineResults;
   private int maxRows;
+  // directory of the spooled table results, system temp directory if it is null
+  private File spoolDir;
 
   private SqlSplitter sqlSplitter;
 
@@ -167,7 +201,8 @@ public class JDBCInterpreter extends KerberosInterpreter {
     super(property);
     jdbcUserConfigurationsMap = new HashMap<>();
     basePropertiesMap = new HashMap<>();
-    sqlCompletersMap = new HashMap<>();
+    sqlCompletersMap = new ConcurrentHashMap<>();
+    sqlCompleterExecutor.allowCoreThreadTimeOut(true);
     maxLineResults = MAX_LINE_DEFAULT;
   }
 
@@ -235,6 +270,7 @@ public class JDBCInterpreter extends KerberosInterpreter {
 
     setMaxLineResults();
     setMaxRows();
+    setSpoolDir();
 
     //TODO(zjffdu) Set different sql splitter for different sql dialects.
     this.sqlSplitter = new SqlSplitter();
@@ -265,44 +301,65 @@ public class JDBCInterpreter extends KerberosInterpreter {
     maxRows = Integer.valueOf(getProperty(MAX_ROWS_KEY, "1000"));
   }
 
-  private SqlCompleter createOrUpdateSqlCompleter(SqlCompleter sqlCompleter,
-      final Connection connection, String propertyKey, final String buf, final int cursor) {
-    String schemaFiltersKey = String.format("%s.%s", propertyKey, COMPLETER_SCHEMA_FILTERS_KEY);
-    String sqlCompleterTtlKey = String.format("%s.%s", propertyKey, COMPLETER_TTL_KEY);
-    final String schemaFiltersString = getProperty(schemaFiltersKey);
-    int ttlInSeconds = Integer.valueOf(
-        StringUtils.defaultIfEmpty(getProperty(sqlCompleterTtlKey), DEFAULT_COMPLETER_TTL)
-    );
-    final SqlCompleter completer;
-    if (sqlCompleter == null) {
-      completer = new SqlCompleter(ttlInSeconds);
-    } else {
-      completer = sqlCompleter;
+  private void setSpoolDir() {
+    if (!Boolean.parseBoolean(getProperty(PAGED_RESULT_KEY, "false"))) {
+      return;
     }
-    ExecutorService executorService = Executors.newFixedThreadPool(1);
-    executorService.execute(new Runnable() {
-      @Override
-      public void run() {
-        completer.createOrUpdateFromConnection(connection, schemaFiltersString, buf, cursor);
-      }
-    });
+    String interpreterGroupId =
+        getInterpreterGroup() == null ? "default" : getInterpreterGroup().getId();
+    try {
+      spoolDir = SpooledTableData.getSpoolDir(interpreterGroupId);
+    } catch (IOException e) {
+      logger.warn("Fail to prepare spool directory, use system temp directory instead", e);
+    }
+  }
 
-    executorService.shutdown();
+  private SqlCompleter getOrCreateSqlCompleter(String sqlCompleterKey, String propertyKey) {
+    return sqlCompletersMap.computeIfAbsent(sqlCompleterKey, key -> {
+      String sqlCompleterTtlKey = String.format("%s.%s", propertyKey, COMPLETER_TTL_KEY);
+      int ttlInSeconds = Integer.valueOf(
+          StringUtils.defaultIfEmpty(getProperty(sqlCompleterTtlKey), DEFAULT_COMPLETER_TTL)
+      );
+      return new SqlCompleter(ttlInSeconds);
+    });
+  }
 
-    try {
-      // protection to release connection
-      executorService.awaitTermination(3, TimeUnit.SECONDS);
-    } catch (InterruptedException e) {
-      logger.warn("Completion timeout", e);
-      if (connection != null) {
-        try {
-          connection.close();
-        } catch (SQLException e1) {
-          logger.warn("Error close connection", e1);
-        }
-      }
+  /**
+   * Completion metadata only depends on the database user, so it is shared by all the zeppelin
+   * users when they all connect with the account of the interpreter setting.
+   */
+  private String getSqlCompleterKey(String user, String propertyKey) {
+    if (existAccountInBaseProperty(propertyKey)
+        && !basePropertiesMap.get(propertyKey).containsKey("proxy.user.property")
+        && StringUtils.isEmpty(getProperty("zeppelin.jdbc.auth.type"))) {
+      return propertyKey;
     }
-    return completer;
+    return String.format("%s.%s", user, propertyKey);
+  }
+
+  /**
+   * Load the missing or expired metadata of the completer in background. Only one refresh of
+   * the same completer runs at a time, and the connection is only taken by this refresh.
+   */
+  private Future<?> refreshSqlCompleter(String sqlCompleterKey, SqlCompleter completer,
+      String propertyKey, InterpreterContext context, String buf, int cursor) {
+    String schemaFiltersKey = String.format("%s.%s", propertyKey, COMPLETER_SCHEMA_FILTERS_KEY);
+    final String schemaFiltersString = getProperty(schemaFiltersKey);
+    return sqlCompleterRefreshes.computeIfAbsent(sqlCompleterKey,
+        key -> sqlCompleterExecutor.submit(() -> {
+          try {
+            Connection connection = null;
+            try {
+              connection = getConnection(propertyKey, context);
+            } catch (ClassNotFoundException | SQLException | IOException
+                | InterpreterException e) {
+              logger.warn("SQLCompleter will created without use connection", e);
+            }
+            completer.createOrUpdateFromConnection(connection, schemaFiltersString, buf, cursor);
+          } finally {
+            sqlCompleterRefreshes.remove(key);
+          }
+        }));
   }
 
   private void initStatementMap() {
@@ -334,6 +391,7 @@ public class JDBCInterpreter extends KerberosInterpreter {
   @Override
   public void close() {
     super.close();
+    sqlCompleterExecutor.shutdownNow();
     try {
       initStatementMap();
       initConnectionPoolMap();
@@ -577,9 +635,19 @@ public class JDBCInterpreter extends KerberosInterpreter {
     return null;
   }
 
-  private String getResults(ResultSet resultSet, boolean isTableType)
-      throws SQLException {
-
+  /**
+   * Write the rows into interpreter output while they are fetched, every batchSize rows are
+   * flushed to frontend together, so that the first rows of a slow query are displayed
+   * immediately. The interpreter only buffers one batch, but the output still keeps all the
+   * displayed rows (at most common.max_count), as they are the result of the paragraph.
+   *
+   * If paged result is enabled, the rows beyond max result are spooled to a local file instead
+   * of being discarded, and the spooled table is put into resource pool, so that zeppelin
+   * server can read them page by page.
+   */
+  private void writeResults(ResultSet resultSet, boolean isTableType, InterpreterContext context,
+                            int batchSize) throws SQLException, IOException {
+    InterpreterOutput out = context.out;
     ResultSetMetaData md = resultSet.getMetaData();
     StringBuilder msg;
     if (isTableType) {
@@ -588,50 +656,117 @@ public class JDBCInterpreter extends KerberosInterpreter {
       msg = new StringBuilder();
     }
 
+    String[] columnNames = new String[md.getColumnCount()];
     for (int i = 1; i < md.getColumnCount() + 1; i++) {
       if (i > 1) {
         msg.append(TAB);
       }
       if (StringUtils.isNotEmpty(md.getColumnLabel(i))) {
-        msg.append(removeTablePrefix(replaceReservedChars(
-                TableDataUtils.normalizeColumn(md.getColumnLabel(i)))));
+        columnNames[i - 1] = removeTablePrefix(replaceReservedChars(
+                TableDataUtils.normalizeColumn(md.getColumnLabel(i))));
       } else {
-        msg.append(removeTablePrefix(replaceReservedChars(
-                TableDataUtils.normalizeColumn(md.getColumnName(i)))));
+        columnNames[i - 1] = removeTablePrefix(replaceReservedChars(
+                TableDataUtils.normalizeColumn(md.getColumnName(i))));
       }
+      msg.append(columnNames[i - 1]);
     }
     msg.append(NEWLINE);
 
-    int displayRowCount = 0;
-    boolean truncate = false;
-    while (resultSet.next()) {
-      if (displayRowCount >= getMaxResult()) {
-        truncate = true;
-        break;
-      }
-      for (int i = 1; i < md.getColumnCount() + 1; i++) {
-        Object resultObject;
-        String resultValue;
-        resultObject = resultSet.getObject(i);
-        if (resultObject == null) {
-          resultValue = "null";
-        } else {
-          resultValue = resultSet.getString(i);
+    int tableIndex = getTableResultCount(out);
+    SpooledTableData spool = isTableType && isPagedResult(context) ?
+        new SpooledTableData(columnNames, spoolDir) : null;
+    try {
+      int displayRowCount = 0;
+      boolean truncate = false;
+      while (resultSet.next()) {
+        boolean display = displayRowCount < getMaxResult();
+        if (!display && spool == null) {
+          truncate = true;
+          break;
+        }
+        String[] cells = spool == null ? null : new String[md.getColumnCount()];
+        for (int i = 1; i < md.getColumnCount() + 1; i++) {
+          Object resultObject;
+          String resultValue;
+          resultObject = resultSet.getObject(i);
+          if (resultObject == null) {
+            resultValue = "null";
+          } else {
+            resultValue = resultSet.getString(i);
+          }
+          if (cells != null) {
+            cells[i - 1] = replaceReservedChars(resultValue);
+          }
+          if (display) {
+            msg.append(replaceReservedChars(TableDataUtils.normalizeColumn(resultValue)));
+            if (i != md.getColumnCount()) {
+              msg.append(TAB);
+            }
+          }
+        }
+        if (spool != null) {
+          spool.addRow(cells);
+        }
+        if (!display) {
+          continue;
+        }
+        msg.append(NEWLINE);
+        displayRowCount++;
+        if (displayRowCount % batchSize == 0) {
+          out.write(msg.toString());
+          out.flush();
+          msg.setLength(0);
         }
-        msg.append(replaceReservedChars(TableDataUtils.normalizeColumn(resultValue)));
-        if (i != md.getColumnCount()) {
-          msg.append(TAB);
+      }
+
+      if (truncate) {
+        msg.append("\n" + ResultMessages.getExceedsLimitRowsMessage(getMaxResult(),
+                String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY)).toString());
+      }
+      out.write(msg.toString());
+
+      if (spool != null) {
+        spool.finish();
+        ResourcePool pool = context.getResourcePool();
+        // the spooled table of the previous run in refresh mode
+        SpooledTableData.closeIfSpooled(pool.remove(context.getNoteId(),
+            context.getParagraphId(), SpooledTableData.getResourceName(tableIndex)));
+        if (spool.size() > displayRowCount) {
+          spool.putIntoResourcePool(pool, context.getNoteId(), context.getParagraphId(),
+              tableIndex);
+          SpooledTableData.markPaged(context.getConfig(), tableIndex);
+          spool = null;
         }
       }
-      msg.append(NEWLINE);
-      displayRowCount++;
+    } finally {
+      if (spool != null) {
+        spool.close();
+      }
     }
+  }
+
+  private int getOutputBatchSize() {
+    return Math.max(1, Integer.parseInt(
+        getProperty(OUTPUT_BATCH_SIZE_KEY, DEFAULT_OUTPUT_BATCH_SIZE)));
+  }
 
-    if (truncate) {
-      msg.append("\n" + ResultMessages.getExceedsLimitRowsMessage(getMaxResult(),
-              String.format("%s.%s", COMMON_KEY, MAX_LINE_KEY)).toString());
+  private boolean isPagedResult(InterpreterContext context) {
+    return context.getResourcePool() != null &&
+        Boolean.parseBoolean(getProperty(PAGED_RESULT_KEY, "false"));
+  }
+
+  /**
+   * Number of table results written so far, i.e. index of the next table result among the
+   * table results of the paragraph.
+   */
+  private int getTableResultCount(InterpreterOutput out) {
+    int count = 0;
+    for (int i = 0; i < out.size(); i++) {
+      if (out.getOutputAt(i).getType() == InterpreterResult.Type.TABLE) {
+        count++;
+      }
     }
-    return msg.toString();
+    return count;
   }
 
   private boolean isDDLCommand(int updatedCount, int columnCount) throws SQLException {
@@ -693,7 +828,8 @@ public class JDBCInterpreter extends KerberosInterpreter {
         statement = connection.createStatement();
 
         // fetch n+1 rows in order to indicate there's more rows available (for large selects)
-        statement.setFetchSize(context.getIntLocalProperty("limit", getMaxResult()));
+        int fetchSize = context.getIntLocalProperty("limit", getMaxResult());
+        statement.setFetchSize(fetchSize);
         statement.setMaxRows(context.getIntLocalProperty("limit", maxRows));
 
         if (statement == null) {
@@ -746,9 +882,8 @@ public class JDBCInterpreter extends KerberosInterpreter {
                           columnValue, context.getNoteId(), context.getParagraphId());
                 }
               } else {
-                String results = getResults(resultSet,
-                        !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE));
-                context.out.write(results);
+                writeResults(resultSet, !containsIgnoreCase(sqlToExecute, EXPLAIN_PREDICATE),
+                        context, getOutputBatchSize());
                 context.out.write("\n%text ");
                 context.out.flush();
               }
@@ -831,6 +966,11 @@ public class JDBCInterpreter extends KerberosInterpreter {
     logger.debug("Run SQL command '{}'", cmd);
     String propertyKey = getPropertyKey(context);
     logger.debug("PropertyKey: {}, SQL command: '{}'", propertyKey, cmd);
+    if (context.getResourcePool() != null) {
+      // spooled tables of the previous run
+      SpooledTableData.removeFromResourcePool(context.getResourcePool(), context.getNoteId(),
+          context.getParagraphId());
+    }
     if (!isRefreshMode(context)) {
       return executeSql(propertyKey, cmd.trim(), context);
     } else {
@@ -937,21 +1077,22 @@ public class JDBCInterpreter extends KerberosInterpreter {
       InterpreterContext interpreterContext) throws InterpreterException {
     List<InterpreterCompletion> candidates = new ArrayList<>();
     String propertyKey = getPropertyKey(interpreterContext);
-    String sqlCompleterKey =
-        String.format("%s.%s", interpreterContext.getAuthenticationInfo().getUser(), propertyKey);
-    SqlCompleter sqlCompleter = sqlCompletersMap.get(sqlCompleterKey);
-
-    Connection connection = null;
-    try {
-      if (interpreterContext != null) {
-        connection = getConnection(propertyKey, interpreterContext);
+    String sqlCompleterKey = getSqlCompleterKey(
+        interpreterContext.getAuthenticationInfo().getUser(), propertyKey);
+    SqlCompleter sqlCompleter = getOrCreateSqlCompleter(sqlCompleterKey, propertyKey);
+
+    if (sqlCompleter.isUpdateNeeded(buf, cursor)) {
+      Future<?> refresh = refreshSqlCompleter(sqlCompleterKey, sqlCompleter, propertyKey,
+          interpreterContext, buf, cursor);
+      if (!sqlCompleter.isInitialized()) {
+        // nothing to serve yet, wait for the first load a while
+        try {
+          refresh.get(3, TimeUnit.SECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+          logger.warn("Completion timeout", e);
+        }
       }
-    } catch (ClassNotFoundException | SQLException | IOException e) {
-      logger.warn("SQLCompleter will created without use connection");
     }
-
-    sqlCompleter = createOrUpdateSqlCompleter(sqlCompleter, connection, propertyKey, buf, cursor);
-    sqlCompletersMap.put(sqlCompleterKey, sqlCompleter);
     sqlCompleter.complete(buf, cursor, candidates);
 
     return candidates;
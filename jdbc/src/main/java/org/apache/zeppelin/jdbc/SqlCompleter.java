@@ -18,6 +18,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import jline.console.completer.ArgumentCompleter.ArgumentList;
@@ -58,23 +60,24 @@ public class SqlCompleter {
   /**
    * Schema completer.
    */
-  private CachedCompleter schemasCompleter;
+  private volatile CachedCompleter schemasCompleter;
 
   /**
    * Contain different completer with table list for every schema name.
+   * Completers are updated in background while completions are served from them.
    */
-  private Map<String, CachedCompleter> tablesCompleters = new HashMap<>();
+  private Map<String, CachedCompleter> tablesCompleters = new ConcurrentHashMap<>();
 
   /**
    * Contains different completer with column list for every table name
    * Table names store as schema_name.table_name.
    */
-  private Map<String, CachedCompleter> columnsCompleters = new HashMap<>();
+  private Map<String, CachedCompleter> columnsCompleters = new ConcurrentHashMap<>();
 
   /**
    * Completer for sql keywords.
    */
-  private CachedCompleter keywordCompleter;
+  private volatile CachedCompleter keywordCompleter;
 
   private int ttlInSeconds;
 
@@ -342,31 +345,60 @@ public class SqlCompleter {
     }
   }
 
+  /**
+   * Whether the metadata needed to complete the buffer is not loaded yet or expired,
+   * so that the connection is only used when there is something to load.
+   */
+  public boolean isUpdateNeeded(String buffer, int cursor) {
+    CursorArgument cursorArgument = parseCursorArgument(buffer, cursor);
+    if (isMissingOrExpired(keywordCompleter)) {
+      return true;
+    }
+    if (cursorArgument.needLoadSchemas() && isMissingOrExpired(schemasCompleter)) {
+      return true;
+    }
+    if (cursorArgument.needLoadTables()
+        && isMissingOrExpired(tablesCompleters.get(cursorArgument.getSchema()))) {
+      return true;
+    }
+    return cursorArgument.needLoadColumns() && isMissingOrExpired(columnsCompleters.get(
+        String.format("%s.%s", cursorArgument.getSchema(), cursorArgument.getTable())));
+  }
+
+  /**
+   * Whether the metadata is loaded at least once.
+   */
+  public boolean isInitialized() {
+    return keywordCompleter != null;
+  }
+
+  private static boolean isMissingOrExpired(CachedCompleter completer) {
+    return completer == null || completer.getCompleter() == null || completer.isExpired();
+  }
+
   public void initKeywords(Set<String> keywords) {
     if (keywords != null && !keywords.isEmpty()) {
       keywordCompleter = new CachedCompleter(new StringsCompleter(keywords), 0);
     }
   }
 
+  /**
+   * Empty sets are recorded as loaded too, so that an unknown or empty schema doesn't make
+   * every completion go to the database until the ttl expires.
+   */
   public void initSchemas(Set<String> schemas) {
-    if (schemas != null && !schemas.isEmpty()) {
-      schemasCompleter = new CachedCompleter(
-          new StringsCompleter(new TreeSet<>(schemas)), ttlInSeconds);
-    }
+    schemasCompleter = new CachedCompleter(
+        new StringsCompleter(schemas == null ? Collections.emptySet() : schemas), ttlInSeconds);
   }
 
   public void initTables(String schema, Set<String> tables) {
-    if (tables != null && !tables.isEmpty()) {
-      tablesCompleters.put(schema, new CachedCompleter(
-          new StringsCompleter(new TreeSet<>(tables)), ttlInSeconds));
-    }
+    tablesCompleters.put(schema, new CachedCompleter(
+        new StringsCompleter(tables == null ? Collections.emptySet() : tables), ttlInSeconds));
   }
 
   public void initColumns(String schemaTable, Set<String> columns) {
-    if (columns != null && !columns.isEmpty()) {
-      columnsCompleters.put(schemaTable,
-          new CachedCompleter(new StringsCompleter(columns), ttlInSeconds));
-    }
+    columnsCompleters.put(schemaTable, new CachedCompleter(
+        new StringsCompleter(columns == null ? Collections.emptySet() : columns), ttlInSeconds));
   }
 
   /**
@@ -392,7 +424,11 @@ public class SqlCompleter {
    * @return -1 in case of no candidates found, 0 otherwise
    */
   private int completeKeyword(String buffer, int cursor, List<CharSequence> candidates) {
-    return keywordCompleter.getCompleter().complete(buffer, cursor, candidates);
+    CachedCompleter completer = keywordCompleter;
+    if (completer == null) {
+      return -1;
+    }
+    return completer.getCompleter().complete(buffer, cursor, candidates);
   }
 
   /**
@@ -401,7 +437,11 @@ public class SqlCompleter {
    * @return -1 in case of no candidates found, 0 otherwise
    */
   private int completeSchema(String buffer, int cursor, List<CharSequence> candidates) {
-    return schemasCompleter.getCompleter().complete(buffer, cursor, candidates);
+    CachedCompleter completer = schemasCompleter;
+    if (completer == null) {
+      return -1;
+    }
+    return completer.getCompleter().complete(buffer, cursor, candidates);
   }
 
   /**
@@ -412,10 +452,11 @@ public class SqlCompleter {
   private int completeTable(String schema, String buffer, int cursor,
                             List<CharSequence> candidates) {
     // Wrong schema
-    if (schema == null || !tablesCompleters.containsKey(schema)) {
+    CachedCompleter completer = schema == null ? null : tablesCompleters.get(schema);
+    if (completer == null) {
       return -1;
     } else {
-      return tablesCompleters.get(schema).getCompleter().complete(buffer, cursor, candidates);
+      return completer.getCompleter().complete(buffer, cursor, candidates);
     }
   }
 
@@ -427,11 +468,12 @@ public class SqlCompleter {
   private int completeColumn(String schema, String table, String buffer, int cursor,
                              List<CharSequence> candidates) {
     // Wrong schema or wrong table
-    if (schema == null || table == null || !columnsCompleters.containsKey(schema + "." + table)) {
+    CachedCompleter completer =
+        schema == null || table == null ? null : columnsCompleters.get(schema + "." + table);
+    if (completer == null) {
       return -1;
     } else {
-      return columnsCompleters.get(schema + "." + table).getCompleter()
-          .complete(buffer, cursor, candidates);
+      return completer.getCompleter().complete(buffer, cursor, candidates);
     }
   }
 
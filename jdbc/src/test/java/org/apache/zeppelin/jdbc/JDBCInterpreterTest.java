@@ -16,6 +16,8 @@ package org.apache.zeppelin.jdbc;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -45,7 +47,9 @@ import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,9 +63,13 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.scheduler.FIFOScheduler;
 import org.apache.zeppelin.scheduler.ParallelScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.tabledata.SpooledTableData;
+import org.apache.zeppelin.tabledata.TablePage;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.UserCredentials;
 import org.apache.zeppelin.user.UsernamePassword;
@@ -206,6 +214,128 @@ public class JDBCInterpreterTest extends BasicJDBCTestCaseAdapter {
     assertEquals("ID\tNAME\na\ta_name\n", resultMessages.get(0).getData());
   }
 
+  @Test
+  public void testSelectQueryIsWrittenInBatches() throws IOException, InterpreterException,
+      SQLException {
+    Connection connection = DriverManager.getConnection(getJdbcConnection());
+    Statement statement = connection.createStatement();
+    statement.execute(
+        "DROP TABLE IF EXISTS batch_table; " +
+        "CREATE TABLE batch_table(id int);");
+    for (int i = 0; i < 35; i++) {
+      statement.execute("insert into batch_table(id) values (" + i + ");");
+    }
+    connection.close();
+
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "1000");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    properties.setProperty("zeppelin.jdbc.outputBatchSize", "10");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    final List<String> writes = new ArrayList<>();
+    InterpreterContext batchContext = InterpreterContext.builder()
+        .setAuthenticationInfo(new AuthenticationInfo("testUser"))
+        .setParagraphId("paragraphId")
+        .setInterpreterOut(new InterpreterOutput(null) {
+          @Override
+          public void write(String string) throws IOException {
+            writes.add(string);
+            super.write(string);
+          }
+        })
+        .build();
+    InterpreterResult interpreterResult =
+        t.interpret("select * from batch_table order by id", batchContext);
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+
+    // rows are written every 10 rows while they are fetched, not all at the end
+    StringBuilder expectedRows = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      expectedRows.append(i).append("\n");
+    }
+    assertEquals("%table ID\n" + expectedRows, writes.get(0));
+    assertEquals(10, writes.get(1).split("\n").length);
+    assertEquals("10", writes.get(1).split("\n")[0]);
+    assertEquals(10, writes.get(2).split("\n").length);
+    assertEquals("20", writes.get(2).split("\n")[0]);
+
+    List<InterpreterResultMessage> resultMessages =
+        batchContext.out.toInterpreterResultMessage();
+    assertEquals(InterpreterResult.Type.TABLE, resultMessages.get(0).getType());
+    assertEquals(36, resultMessages.get(0).getData().split("\n").length);
+  }
+
+  @Test
+  public void testPagedSelectQuery() throws IOException, InterpreterException {
+    Properties properties = new Properties();
+    properties.setProperty("common.max_count", "2");
+    properties.setProperty("common.max_retry", "3");
+    properties.setProperty("default.driver", "org.h2.Driver");
+    properties.setProperty("default.url", getJdbcConnection());
+    properties.setProperty("default.user", "");
+    properties.setProperty("default.password", "");
+    properties.setProperty("zeppelin.jdbc.pagedResult", "true");
+    JDBCInterpreter t = new JDBCInterpreter(properties);
+    t.open();
+
+    LocalResourcePool pool = new LocalResourcePool("pool_1");
+    InterpreterContext pagedContext = getPagedInterpreterContext(pool);
+    InterpreterResult interpreterResult =
+        t.interpret("select * from test_table order by id", pagedContext);
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+
+    // only the first page is written to the output, without the truncated message
+    List<InterpreterResultMessage> resultMessages =
+        pagedContext.out.toInterpreterResultMessage();
+    assertEquals(InterpreterResult.Type.TABLE, resultMessages.get(0).getType());
+    assertEquals("ID	NAME
+a	a_name
+b	b_name
+", resultMessages.get(0).getData());
+
+    // all rows are in the spooled table of the first table result
+    Resource resource = pool.get("noteId", "paragraphId", SpooledTableData.getResourceName(0));
+    assertNotNull(resource);
+    SpooledTableData table = (SpooledTableData) resource.get();
+    assertEquals(3, table.size());
+    TablePage page = table.page(2, 10);
+    assertEquals(1, page.getRows().size());
+    assertEquals("c", page.getRows().get(0)[0]);
+
+    // run the paragraph again, the spooled table of the previous run is replaced
+    pagedContext = getPagedInterpreterContext(pool);
+    t.interpret("select * from test_table order by id", pagedContext);
+    resource = pool.get("noteId", "paragraphId", SpooledTableData.getResourceName(0));
+    assertNotSame(table, resource.get());
+    assertEquals(3, ((SpooledTableData) resource.get()).size());
+
+    // nothing is spooled when all rows are displayed
+    pagedContext = getPagedInterpreterContext(pool);
+    t.interpret("select * from test_table where id = 'a'", pagedContext);
+    assertEquals("ID	NAME
+a	a_name
+",
+        pagedContext.out.toInterpreterResultMessage().get(0).getData());
+    assertNull(pool.get("noteId", "paragraphId", SpooledTableData.getResourceName(0)));
+    t.close();
+  }
+
+  private InterpreterContext getPagedInterpreterContext(LocalResourcePool pool) {
+    return InterpreterContext.builder()
+        .setAuthenticationInfo(new AuthenticationInfo("testUser"))
+        .setNoteId("noteId")
+        .setParagraphId("paragraphId")
+        .setResourcePool(pool)
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+  }
+
   @Test
   public void testSelectWithRefresh() throws IOException, InterruptedException, TimeoutException {
     Properties properties = new Properties();
@@ -17,6 +17,7 @@ package org.apache.zeppelin.jdbc;
 import static com.google.common.collect.Sets.newHashSet;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.base.Joiner;
@@ -383,6 +384,25 @@ public class SqlCompleterTest {
     ).test();
   }
 
+  @Test
+  public void testUpdateNeeded() {
+    assertTrue(sqlCompleter.isInitialized());
+    assertFalse(sqlCompleter.isUpdateNeeded("SELECT * FROM prod_dds.fin", 26));
+    assertFalse(sqlCompleter.isUpdateNeeded("SELECT prod_dds.customer.na", 27));
+    assertTrue(sqlCompleter.isUpdateNeeded("SELECT * FROM prod_stg.fin", 26));
+    assertTrue(sqlCompleter.isUpdateNeeded("SELECT prod_dds.account.na", 26));
+
+    // unknown schemas and tables are loaded as empty, not looked up on every completion
+    sqlCompleter.initTables("prod_stg", new HashSet<>());
+    sqlCompleter.initColumns("prod_dds.account", null);
+    assertFalse(sqlCompleter.isUpdateNeeded("SELECT * FROM prod_stg.fin", 26));
+    assertFalse(sqlCompleter.isUpdateNeeded("SELECT prod_dds.account.na", 26));
+
+    SqlCompleter emptyCompleter = new SqlCompleter(0);
+    assertFalse(emptyCompleter.isInitialized());
+    assertTrue(emptyCompleter.isUpdateNeeded("SEL", 3));
+  }
+
   @Test
   public void testSqlDelimiterCharacters() {
     assertTrue(sqlCompleter.getSqlDelimiter().isDelimiterChar("r,", 1));
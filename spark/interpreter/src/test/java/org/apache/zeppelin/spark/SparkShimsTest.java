@@ -166,5 +166,15 @@ public class SparkShimsTest {
         assertFalse(mapValue.get("jobUrl").contains("/jobs/job?id="));
       }
     }
+
+    @Test
+    public void isDelimiterFreeTest() {
+      assertTrue(SparkShims.isDelimiterFree("integer"));
+      assertTrue(SparkShims.isDelimiterFree("decimal(10,2)"));
+      assertTrue(SparkShims.isDelimiterFree("timestamp"));
+      assertFalse(SparkShims.isDelimiterFree("string"));
+      assertFalse(SparkShims.isDelimiterFree("array"));
+      assertFalse(SparkShims.isDelimiterFree("struct"));
+    }
   }
 }
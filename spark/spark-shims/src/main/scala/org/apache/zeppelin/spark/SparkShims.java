@@ -25,8 +25,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * This is abstract class for anything that is api incompatible between spark1 and spark2. It will
@@ -46,6 +49,11 @@ public abstract class SparkShims {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SparkShims.class);
 
+  // DataType.typeName of the spark sql types whose string value never contains the field or
+  // row delimiter of %table, decimal types are named like decimal(10,2)
+  private static final Set<String> DELIMITER_FREE_TYPES = new HashSet<>(Arrays.asList(
+      "byte", "short", "integer", "long", "float", "double", "boolean", "date", "timestamp"));
+
   private static SparkShims sparkShims;
 
   protected Properties properties;
@@ -159,6 +167,16 @@ public abstract class SparkShims {
         || (VersionUtil.compareVersions(HADOOP_VERSION_3_0_0, version) <= 0);
   }
 
+  /**
+   * Whether the cells of the column with this spark sql type can be written into %table
+   * without normalization.
+   *
+   * @param typeName DataType.typeName of the column
+   */
+  protected static boolean isDelimiterFree(String typeName) {
+    return DELIMITER_FREE_TYPES.contains(typeName) || typeName.startsWith("decimal");
+  }
+
   @VisibleForTesting
   public static void reset() {
     sparkShims = null;
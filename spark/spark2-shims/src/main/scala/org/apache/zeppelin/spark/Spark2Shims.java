@@ -26,6 +26,7 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.catalyst.expressions.GenericRow;
+import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.ResultMessages;
@@ -79,9 +80,19 @@ public class Spark2Shims extends SparkShims {
       if (isLargerThanMaxResult) {
         rows = rows.subList(0, maxResult);
       }
+      StructField[] fields = df.schema().fields();
+      boolean[] needNormalize = new boolean[fields.length];
+      for (int i = 0; i < fields.length; ++i) {
+        needNormalize[i] = !isDelimiterFree(fields[i].dataType().typeName());
+      }
       for (Row row : rows) {
         for (int i = 0; i < row.size(); ++i) {
-          msg.append(TableDataUtils.normalizeColumn(row.get(i)));
+          Object value = row.get(i);
+          if (value == null || !needNormalize[i]) {
+            msg.append(value);
+          } else {
+            TableDataUtils.appendNormalizedColumn(msg, value.toString());
+          }
           if (i != row.size() -1) {
             msg.append("\t");
           }
@@ -21,6 +21,9 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.Node;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.primitive.PrimitiveState;
+import io.atomix.primitive.event.PrimitiveEvent;
+import io.atomix.primitive.event.impl.DefaultEventType;
 import io.atomix.primitive.operation.OperationType;
 import io.atomix.primitive.operation.PrimitiveOperation;
 import io.atomix.primitive.operation.impl.DefaultOperationId;
@@ -102,15 +105,25 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static io.atomix.primitive.operation.PrimitiveOperation.operation;
 import static org.apache.zeppelin.cluster.meta.ClusterMeta.INTP_TSERVER_HOST;
@@ -127,6 +140,7 @@ import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PROCESS_META
  * 1. RaftClient as the raft client
  * 2. Threading to provide retry after cluster metadata submission failure
  * 3. Cluster monitoring
+ * 4. Watch the changes of cluster metadata
  */
 public abstract class ClusterManager {
   private static Logger LOGGER = LoggerFactory.getLogger(ClusterManager.class);
@@ -157,6 +171,25 @@ public abstract class ClusterManager {
 
   protected boolean isTest = false;
 
+  // watch key -> listeners of the cluster metadata changes, see ClusterStateMachine.getWatchKey
+  private final Map<String, List<Consumer<ClusterMetaEntity>>> metaListeners
+      = new ConcurrentHashMap<>();
+
+  // timeouts of waitClusterMeta and the retries of the check of interpreter thrift service,
+  // its tasks must never block
+  private final ScheduledThreadPoolExecutor metaWatchExecutor = createMetaWatchExecutor();
+
+  // tasks which block on the network: the check of interpreter thrift service, which connects
+  // to it, and watching the metadata again, which queries the raft state machine
+  private final ExecutorService blockingTaskExecutor = Executors.newCachedThreadPool(r -> {
+    Thread t = new Thread(r, "ClusterMetaTask");
+    t.setDaemon(true);
+    return t;
+  });
+
+  // Interval to check whether the thrift service of the online interpreter is accessible
+  private static final int CHECK_INTP_ACCESSIBLE_INTERVAL = 100;
+
   public ClusterManager(ZeppelinConfiguration zConf) {
     try {
       this.zConf = zConf;
@@ -190,6 +223,17 @@ public abstract class ClusterManager {
     }
   }
 
+  private static ScheduledThreadPoolExecutor createMetaWatchExecutor() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, r -> {
+      Thread t = new Thread(r, "ClusterMetaWatcher");
+      t.setDaemon(true);
+      return t;
+    });
+    // timeouts are cancelled once the wait completes, don't keep them until their delay
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
   // Check if the raft environment is initialized
   public abstract boolean raftInitialized();
   // Is it a cluster leader
@@ -200,13 +244,19 @@ public abstract class ClusterManager {
   }
 
   private SessionClient createProxy(RaftClient client) {
-    return client.sessionBuilder(ClusterPrimitiveType.PRIMITIVE_NAME,
+    SessionClient sessionClient = client.sessionBuilder(ClusterPrimitiveType.PRIMITIVE_NAME,
         ClusterPrimitiveType.INSTANCE, new ServiceConfig())
         .withReadConsistency(ReadConsistency.SEQUENTIAL)
         .withCommunicationStrategy(CommunicationStrategy.LEADER)
-        .build()
-        .connect()
-        .join();
+        .build();
+    sessionClient.addEventListener(ClusterStateMachine.META_CHANGED, this::onClusterMetaEvent);
+    sessionClient.addStateChangeListener(state -> {
+      if (state == PrimitiveState.CONNECTED) {
+        // the session may be a new one, whose watches are lost
+        blockingTaskExecutor.execute(this::rewatchClusterMeta);
+      }
+    });
+    return sessionClient.connect().join();
   }
 
   public void start() {
@@ -245,6 +295,8 @@ public abstract class ClusterManager {
         raftClient.connect(clusterMemberIds).join();
 
         raftSessionClient = createProxy(raftClient);
+        // watches added before the raft client is connected
+        rewatchClusterMeta();
 
         LOGGER.info("RaftClientThread run() <<<");
       }
@@ -301,6 +353,8 @@ public abstract class ClusterManager {
     }
 
     running.set(false);
+    metaWatchExecutor.shutdownNow();
+    blockingTaskExecutor.shutdownNow();
 
     try {
       if (null != raftSessionClient) {
@@ -415,12 +469,8 @@ public abstract class ClusterManager {
       return clusterMeta;
     }
 
-    ClusterMetaEntity entity = new ClusterMetaEntity(GET_OPERATION, metaType, metaKey, null);
-
-    byte[] mateData = null;
     try {
-      mateData = raftSessionClient.execute(operation(ClusterStateMachine.GET,
-          clientSerializer.encode(entity))).get(3, TimeUnit.SECONDS);
+      clusterMeta = getClusterMetaAsync(metaType, metaKey).get(3, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
       LOGGER.error(e.getMessage());
     } catch (ExecutionException e) {
@@ -429,10 +479,6 @@ public abstract class ClusterManager {
       LOGGER.error(e.getMessage());
     }
 
-    if (null != mateData) {
-      clusterMeta = clientSerializer.decode(mateData);
-    }
-
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("getClusterMeta >>> {}", clusterMeta.toString());
     }
@@ -440,46 +486,269 @@ public abstract class ClusterManager {
     return clusterMeta;
   }
 
-  public InterpreterClient getIntpProcessStatus(String intpName,
-                                                int timeout,
-                                                ClusterCallback<HashMap<String, Object>> callback) {
-    final int CHECK_META_INTERVAL = 1000;
-    int MAX_RETRY_GET_META = timeout / CHECK_META_INTERVAL;
-    int retryGetMeta = 0;
-    while (retryGetMeta++ < MAX_RETRY_GET_META) {
-      HashMap<String, Object> intpMeta = getClusterMeta(INTP_PROCESS_META, intpName).get(intpName);
-      if (interpreterMetaOnline(intpMeta)) {
-        // connect exist Interpreter Process
-        String intpTSrvHost = (String) intpMeta.get(INTP_TSERVER_HOST);
-        int intpTSrvPort = (int) intpMeta.get(INTP_TSERVER_PORT);
-        LOGGER.info("interpreter thrift {}:{} service is online!", intpTSrvHost, intpTSrvPort);
-
-        // Check if the interpreter thrift service is available
-        boolean remoteIntpAccessible =
-            RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(intpTSrvHost, intpTSrvPort);
-        if (remoteIntpAccessible) {
-          LOGGER.info("interpreter thrift {}:{} accessible!", intpTSrvHost, intpTSrvPort);
-          return callback.online(intpMeta);
-        } else {
-          LOGGER.error("interpreter thrift {}:{} service is not available!",
-              intpTSrvHost, intpTSrvPort);
-          try {
-            Thread.sleep(CHECK_META_INTERVAL);
-            LOGGER.warn("retry {} times to get {} meta!", retryGetMeta, intpName);
-          } catch (InterruptedException e) {
-            LOGGER.error(e.getMessage(), e);
+  // get metadata by cluster metadata without blocking, raft must be initialized
+  private CompletableFuture<HashMap<String, HashMap<String, Object>>> getClusterMetaAsync(
+      ClusterMetaType metaType, String metaKey) {
+    ClusterMetaEntity entity = new ClusterMetaEntity(GET_OPERATION, metaType, metaKey, null);
+    return raftSessionClient.execute(operation(ClusterStateMachine.GET,
+        clientSerializer.encode(entity)))
+        .thenApply(mateData -> {
+          HashMap<String, HashMap<String, Object>> clusterMeta = new HashMap<>();
+          if (null != mateData) {
+            clusterMeta = clientSerializer.decode(mateData);
           }
+          return clusterMeta;
+        });
+  }
+
+  /**
+   * Listen to the changes of the metadata of metaKey, listen to all the metadata of metaType
+   * if metaKey is empty. Listener is called in the thread of raft client, it must not block.
+   */
+  public void addClusterMetaListener(ClusterMetaType metaType, String metaKey,
+                                     Consumer<ClusterMetaEntity> listener) {
+    watchClusterMeta(metaType, metaKey, listener);
+  }
+
+  public void removeClusterMetaListener(ClusterMetaType metaType, String metaKey,
+                                        Consumer<ClusterMetaEntity> listener) {
+    String watchKey = ClusterStateMachine.getWatchKey(metaType, metaKey);
+    // removing the last listener & sending UNWATCH is atomic with watchClusterMeta of the same
+    // key, so a listener added meanwhile is never dropped or left unwatched
+    metaListeners.computeIfPresent(watchKey, (key, listeners) -> {
+      listeners.remove(listener);
+      if (!listeners.isEmpty()) {
+        return listeners;
+      }
+      if (raftInitialized()) {
+        ClusterMetaEntity entity = new ClusterMetaEntity(GET_OPERATION, metaType, metaKey, null);
+        raftSessionClient.execute(operation(ClusterStateMachine.UNWATCH,
+            clientSerializer.encode(entity)));
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Wait until the metadata of metaKey satisfies condition, the returned future completes
+   * with the metadata, or completes exceptionally with TimeoutException after timeout ms.
+   * It never blocks the caller, condition is tested in the thread of raft client.
+   */
+  public CompletableFuture<HashMap<String, Object>> waitClusterMeta(
+      ClusterMetaType metaType, String metaKey,
+      Predicate<HashMap<String, Object>> condition, long timeout) {
+    CompletableFuture<HashMap<String, Object>> future = new CompletableFuture<>();
+    ScheduledFuture<?> timeoutTask = metaWatchExecutor.schedule(
+        () -> future.completeExceptionally(new TimeoutException(
+            "Wait " + metaType + " " + metaKey + " timeout " + timeout + "ms")),
+        timeout, TimeUnit.MILLISECONDS);
+    Consumer<ClusterMetaEntity> listener = entity -> {
+      if (entity.getOperation() == PUT_OPERATION && condition.test(entity.getValues())) {
+        future.complete(entity.getValues());
+      }
+    };
+    CompletableFuture<byte[]> watched = watchClusterMeta(metaType, metaKey, listener);
+    future.whenComplete((meta, e) -> {
+      timeoutTask.cancel(false);
+      removeClusterMetaListener(metaType, metaKey, listener);
+    });
+
+    if (null != watched) {
+      // the metadata may be changed before the watch is registered, so read it once the watch
+      // is registered
+      watched.exceptionally(e -> {
+        LOGGER.warn("Fail to watch " + metaType + " " + metaKey, e);
+        return null;
+      }).thenCompose(v -> getClusterMetaAsync(metaType, metaKey))
+          .thenAccept(metas -> {
+            HashMap<String, Object> meta = metas.get(metaKey);
+            if (condition.test(meta)) {
+              future.complete(meta);
+            }
+          }).exceptionally(e -> {
+            LOGGER.warn("Fail to get " + metaType + " " + metaKey, e);
+            return null;
+          });
+    }
+    return future;
+  }
+
+  // number of the timeouts & retries not run yet
+  int getNumPendingMetaWatchTasks() {
+    return metaWatchExecutor.getQueue().size();
+  }
+
+  // return the future of the watch command, null if raft is not initialized yet
+  private CompletableFuture<byte[]> watchClusterMeta(ClusterMetaType metaType, String metaKey,
+                                                     Consumer<ClusterMetaEntity> listener) {
+    String watchKey = ClusterStateMachine.getWatchKey(metaType, metaKey);
+    List<CompletableFuture<byte[]>> watched = new ArrayList<>(1);
+    // WATCH is sent in the same atomic step as adding the listener, so that it is always sent
+    // after the UNWATCH of a concurrent removeClusterMetaListener
+    metaListeners.compute(watchKey, (key, listeners) -> {
+      if (null == listeners) {
+        listeners = new CopyOnWriteArrayList<>();
+      }
+      listeners.add(listener);
+      if (raftInitialized()) {
+        ClusterMetaEntity entity = new ClusterMetaEntity(GET_OPERATION, metaType, metaKey, null);
+        watched.add(raftSessionClient.execute(operation(ClusterStateMachine.WATCH,
+            clientSerializer.encode(entity))));
+      }
+      return listeners;
+    });
+    // if raft is not initialized, it is watched in rewatchClusterMeta when raft client is
+    // connected
+    return watched.isEmpty() ? null : watched.get(0);
+  }
+
+  // watch all the listened metadata again, and send their current value to the listeners,
+  // so that the changes made when the session is not connected are not missed
+  private void rewatchClusterMeta() {
+    if (!raftInitialized()) {
+      return;
+    }
+    for (Map.Entry<String, List<Consumer<ClusterMetaEntity>>> entry : metaListeners.entrySet()) {
+      String[] parts = entry.getKey().split("/", 2);
+      ClusterMetaType metaType = ClusterMetaType.valueOf(parts[0]);
+      String metaKey = parts[1];
+      ClusterMetaEntity watchEntity =
+          new ClusterMetaEntity(GET_OPERATION, metaType, metaKey, null);
+      raftSessionClient.execute(operation(ClusterStateMachine.WATCH,
+          clientSerializer.encode(watchEntity)));
+
+      HashMap<String, HashMap<String, Object>> metas = getClusterMeta(metaType, metaKey);
+      for (Map.Entry<String, HashMap<String, Object>> meta : metas.entrySet()) {
+        if (null == meta.getKey() || null == meta.getValue()) {
+          continue;
         }
-      } else {
-        try {
-          Thread.sleep(CHECK_META_INTERVAL);
-        } catch (InterruptedException e) {
-          LOGGER.error(e.getMessage(), e);
+        ClusterMetaEntity entity = new ClusterMetaEntity(PUT_OPERATION,
+            metaType, meta.getKey(), meta.getValue());
+        for (Consumer<ClusterMetaEntity> listener : entry.getValue()) {
+          notifyClusterMetaListener(listener, entity);
         }
       }
     }
+  }
+
+  private void onClusterMetaEvent(PrimitiveEvent event) {
+    ClusterMetaEntity entity = clientSerializer.decode(event.value());
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("onClusterMetaEvent {} {} {}",
+          entity.getOperation(), entity.getMetaType(), entity.getKey());
+    }
+    String[] watchKeys = new String[]{
+        ClusterStateMachine.getWatchKey(entity.getMetaType(), entity.getKey()),
+        ClusterStateMachine.getWatchKey(entity.getMetaType(), "")};
+    for (String watchKey : watchKeys) {
+      List<Consumer<ClusterMetaEntity>> listeners = metaListeners.get(watchKey);
+      if (null == listeners) {
+        continue;
+      }
+      for (Consumer<ClusterMetaEntity> listener : listeners) {
+        notifyClusterMetaListener(listener, entity);
+      }
+    }
+  }
+
+  private void notifyClusterMetaListener(Consumer<ClusterMetaEntity> listener,
+                                         ClusterMetaEntity entity) {
+    try {
+      listener.accept(entity);
+    } catch (Exception e) {
+      LOGGER.error("Fail to notify cluster meta listener", e);
+    }
+  }
+
+  /**
+   * Wait until the interpreter process of intpName registers itself in the cluster metadata
+   * and its thrift service is accessible. The returned future completes with the metadata of
+   * the interpreter process, or completes exceptionally after timeout ms.
+   */
+  public CompletableFuture<HashMap<String, Object>> getIntpProcessStatusAsync(String intpName,
+                                                                              int timeout) {
+    long deadline = System.currentTimeMillis() + timeout;
+    CompletableFuture<HashMap<String, Object>> result = new CompletableFuture<>();
+    waitClusterMeta(INTP_PROCESS_META, intpName, this::interpreterMetaOnline, timeout)
+        .whenComplete((intpMeta, e) -> {
+          if (null != e) {
+            result.completeExceptionally(e);
+          } else {
+            submitIntpCheck(intpName, intpMeta, deadline, result);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Get the metadata of the interpreter process of intpName if it is online and its thrift
+   * service is accessible, with a single read of the cluster metadata and without waiting.
+   *
+   * @return null if there is no such interpreter process
+   */
+  public HashMap<String, Object> getOnlineIntpProcessMeta(String intpName) {
+    HashMap<String, Object> intpMeta = getClusterMeta(INTP_PROCESS_META, intpName).get(intpName);
+    if (!interpreterMetaOnline(intpMeta)) {
+      return null;
+    }
+    String intpTSrvHost = (String) intpMeta.get(INTP_TSERVER_HOST);
+    int intpTSrvPort = (int) intpMeta.get(INTP_TSERVER_PORT);
+    if (!RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(intpTSrvHost, intpTSrvPort)) {
+      return null;
+    }
+    return intpMeta;
+  }
+
+  private void submitIntpCheck(String intpName, HashMap<String, Object> intpMeta,
+                               long deadline,
+                               CompletableFuture<HashMap<String, Object>> result) {
+    try {
+      blockingTaskExecutor.execute(
+          () -> checkIntpAccessible(intpName, intpMeta, deadline, result));
+    } catch (RejectedExecutionException e) {
+      // cluster manager is shut down
+      result.completeExceptionally(e);
+    }
+  }
+
+  private void checkIntpAccessible(String intpName, HashMap<String, Object> intpMeta,
+                                   long deadline,
+                                   CompletableFuture<HashMap<String, Object>> result) {
+    String intpTSrvHost = (String) intpMeta.get(INTP_TSERVER_HOST);
+    int intpTSrvPort = (int) intpMeta.get(INTP_TSERVER_PORT);
+    if (RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(intpTSrvHost, intpTSrvPort)) {
+      LOGGER.info("interpreter thrift {}:{} accessible!", intpTSrvHost, intpTSrvPort);
+      result.complete(intpMeta);
+    } else if (System.currentTimeMillis() >= deadline) {
+      result.completeExceptionally(new TimeoutException(String.format(
+          "interpreter %s thrift %s:%d service is not available!",
+          intpName, intpTSrvHost, intpTSrvPort)));
+    } else {
+      try {
+        metaWatchExecutor.schedule(
+            () -> submitIntpCheck(intpName, intpMeta, deadline, result),
+            CHECK_INTP_ACCESSIBLE_INTERVAL, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        result.completeExceptionally(e);
+      }
+    }
+  }
+
+  public InterpreterClient getIntpProcessStatus(String intpName,
+                                                int timeout,
+                                                ClusterCallback<HashMap<String, Object>> callback) {
+    HashMap<String, Object> intpMeta = null;
+    try {
+      intpMeta = getIntpProcessStatusAsync(intpName, timeout).get();
+    } catch (InterruptedException e) {
+      LOGGER.error(e.getMessage(), e);
+    } catch (ExecutionException e) {
+      LOGGER.error("Can not get {} meta! {}", intpName, e.getCause().getMessage());
+    }
 
-    LOGGER.error("retry {} times not get {} meta!", retryGetMeta, intpName);
+    if (null != intpMeta) {
+      return callback.online(intpMeta);
+    }
     callback.offline();
     return null;
   }
@@ -559,6 +828,9 @@ public abstract class ClusterManager {
       .register(RaftMember.Type.class)
       .register(Instant.class)
       .register(Configuration.class)
+      .register(LinkedList.class)
+      .register(PrimitiveEvent.class)
+      .register(DefaultEventType.class)
       .build());
 
   protected static final Serializer storageSerializer = Serializer.using(Namespace.builder()
@@ -32,8 +32,11 @@ import io.atomix.protocols.raft.storage.RaftStorage;
 import io.atomix.storage.StorageLevel;
 import io.atomix.utils.net.Address;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.event.ClusterEventCodec;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.meta.ClusterMetaEntity;
+import org.apache.zeppelin.cluster.meta.ClusterMetaOperation;
 import org.apache.zeppelin.cluster.protocol.RaftServerMessagingProtocol;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.slf4j.Logger;
@@ -44,11 +47,16 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 
+import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PLACEMENT_META;
+import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PROCESS_META;
 import static org.apache.zeppelin.cluster.meta.ClusterMetaType.SERVER_META;
 
 /**
@@ -77,8 +85,44 @@ public class ClusterManagerServer extends ClusterManager {
   public static String CLUSTER_AUTH_EVENT_TOPIC = "CLUSTER_AUTH_EVENT_TOPIC";
   public static String CLUSTER_INTP_SETTING_EVENT_TOPIC = "CLUSTER_INTP_SETTING_EVENT_TOPIC";
 
+  // choose the node on which the interpreter process is launched
+  private ClusterPlacementScheduler placementScheduler;
+  private final long placementReservationTimeout;
+
+  // cluster events broadcast within eventBatchInterval are sent to other nodes in one message
+  private final long eventBatchInterval;
+  private final ScheduledExecutorService eventBatchExecutor;
+  // topic -> events to broadcast, in the order of broadcastClusterEvent
+  private final Map<String, List<String>> pendingEvents = new LinkedHashMap<>();
+  private boolean eventFlushScheduled = false;
+
+  // node name -> address of the node for cluster events
+  private final Map<String, String> serverEventAddresses = new ConcurrentHashMap<>();
+  // address of the node -> version of the cluster events the node accepts
+  private final Map<String, Integer> eventProtocolVersions = new ConcurrentHashMap<>();
+
   private ClusterManagerServer(ZeppelinConfiguration zConf) {
     super(zConf);
+    placementScheduler = createPlacementScheduler(zConf);
+    placementReservationTimeout = zConf.getClusterPlacementReservationTimeout();
+    eventBatchInterval = zConf.getClusterEventBatchInterval();
+    eventBatchExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "ClusterEventBatcher");
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  private static ClusterPlacementScheduler createPlacementScheduler(ZeppelinConfiguration zConf) {
+    String schedulerClass = zConf.getClusterPlacementScheduler();
+    try {
+      return (ClusterPlacementScheduler) Class.forName(schedulerClass)
+          .getConstructor(ZeppelinConfiguration.class).newInstance(zConf);
+    } catch (Exception e) {
+      LOGGER.error("Fail to create placement scheduler " + schedulerClass
+          + ", use LoadAwarePlacementScheduler instead", e);
+      return new LoadAwarePlacementScheduler(zConf);
+    }
   }
 
   public static ClusterManagerServer getInstance(ZeppelinConfiguration zConf) {
@@ -97,6 +141,10 @@ public class ClusterManagerServer extends ClusterManager {
 
     initThread();
 
+    // learn the version of cluster events each server accepts from the server metadata,
+    // which is refreshed by the heartbeat of the server
+    addClusterMetaListener(SERVER_META, "", this::onServerMetaChanged);
+
     // Instantiated raftServer monitoring class
     String clusterName = getClusterNodeName();
     clusterMonitor = new ClusterMonitor(this);
@@ -219,6 +267,7 @@ public class ClusterManagerServer extends ClusterManager {
         meta.put(ClusterMeta.SERVER_HOST, zeplServerHost);
         meta.put(ClusterMeta.SERVER_PORT, raftServerPort);
         meta.put(ClusterMeta.SERVER_START_TIME, LocalDateTime.now());
+        meta.put(ClusterMeta.EVENT_PROTOCOL_VERSION, ClusterEventCodec.PROTOCOL_VERSION);
         putClusterMeta(SERVER_META, nodeName, meta);
 
         LOGGER.info("RaftServer run() <<<");
@@ -232,6 +281,9 @@ public class ClusterManagerServer extends ClusterManager {
       return;
     }
 
+    eventBatchExecutor.shutdown();
+    flushClusterEvents();
+
     try {
       // delete local machine meta
       deleteClusterMeta(SERVER_META, getClusterNodeName());
@@ -261,31 +313,35 @@ public class ClusterManagerServer extends ClusterManager {
     instance = null;
   }
 
-  // Obtain the server node whose resources are idle in the cluster
-  public HashMap<String, Object> getIdleNodeMeta() {
-    HashMap<String, Object> idleNodeMeta = null;
-    HashMap<String, HashMap<String, Object>> clusterMeta = getClusterMeta(SERVER_META, "");
-
-    long memoryIdle = 0;
-    for (Map.Entry<String, HashMap<String, Object>> entry : clusterMeta.entrySet()) {
-      HashMap<String, Object> meta = entry.getValue();
-      // Check if the service or process is offline
-      String status = (String) meta.get(ClusterMeta.STATUS);
-      if (null == status || StringUtils.isEmpty(status)
-          || status.equals(ClusterMeta.OFFLINE_STATUS)) {
-        continue;
-      }
-
-      long memoryCapacity  = (long) meta.get(ClusterMeta.MEMORY_CAPACITY);
-      long memoryUsed      = (long) meta.get(ClusterMeta.MEMORY_USED);
-      long idle = memoryCapacity - memoryUsed;
-      if (idle > memoryIdle) {
-        memoryIdle = idle;
-        idleNodeMeta = meta;
-      }
+  // Obtain the server node on which the interpreter process of intpGroupId is launched,
+  // caller must call finishIntpProcessLaunch when the launch is finished.
+  // The selected node is recorded in the INTP_PLACEMENT_META, so that the placements of all
+  // zeppelin-servers see the launch until its usage is reported by the node.
+  public HashMap<String, Object> getIdleNodeMeta(String intpGroupId, String intpSettingName) {
+    HashMap<String, HashMap<String, Object>> serverMeta = getClusterMeta(SERVER_META, "");
+    HashMap<String, HashMap<String, Object>> intpMeta = getClusterMeta(INTP_PROCESS_META, "");
+    HashMap<String, HashMap<String, Object>> placementMeta =
+        getClusterMeta(INTP_PLACEMENT_META, "");
+
+    String nodeName = placementScheduler.selectNode(
+        intpGroupId, intpSettingName, serverMeta, intpMeta, placementMeta);
+    if (null == nodeName) {
+      return null;
     }
+    HashMap<String, Object> reservation = new HashMap<>();
+    reservation.put(ClusterMeta.NODE_NAME, nodeName);
+    reservation.put(ClusterMeta.PLACEMENT_EXPIRE_TIME,
+        System.currentTimeMillis() + placementReservationTimeout);
+    putClusterMeta(INTP_PLACEMENT_META, intpGroupId, reservation);
+    return serverMeta.get(nodeName);
+  }
 
-    return idleNodeMeta;
+  public void finishIntpProcessLaunch(String intpGroupId, boolean success) {
+    if (!success) {
+      deleteClusterMeta(INTP_PLACEMENT_META, intpGroupId);
+    }
+    // keep the reservation of a successful launch until it expires, because the usage
+    // reported by ClusterMonitor takes a while to include the new process
   }
 
   public void unicastClusterEvent(String host, int port, String topic, String msg) {
@@ -293,82 +349,172 @@ public class ClusterManagerServer extends ClusterManager {
         host, port, topic, msg);
 
     Address address = Address.from(host, port);
-    CompletableFuture<byte[]> response = messagingService.sendAndReceive(address,
-        topic, msg.getBytes(), Duration.ofSeconds(2));
-    response.whenComplete((r, e) -> {
-      if (null == e) {
-        LOGGER.error(e.getMessage(), e);
-      }
-    });
+    sendClusterEvent(address, topic, Collections.singletonList(msg));
   }
 
+  /**
+   * Send the event to all the other nodes of the cluster. Events are batched per topic for
+   * zeppelin.cluster.event.batch.interval milliseconds, the order of the events of a topic
+   * is kept.
+   */
   public void broadcastClusterEvent(String topic, String msg) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("send broadcastClusterEvent message {}", msg);
     }
+    if (eventBatchInterval <= 0) {
+      sendClusterEvent(topic, Collections.singletonList(msg));
+      return;
+    }
+
+    synchronized (pendingEvents) {
+      pendingEvents.computeIfAbsent(topic, k -> new ArrayList<>()).add(msg);
+      if (!eventFlushScheduled) {
+        eventFlushScheduled = true;
+        eventBatchExecutor.schedule(this::flushClusterEvents,
+            eventBatchInterval, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void flushClusterEvents() {
+    Map<String, List<String>> events;
+    synchronized (pendingEvents) {
+      events = new LinkedHashMap<>(pendingEvents);
+      pendingEvents.clear();
+      eventFlushScheduled = false;
+    }
+    for (Map.Entry<String, List<String>> entry : events.entrySet()) {
+      try {
+        sendClusterEvent(entry.getKey(), entry.getValue());
+      } catch (Exception e) {
+        LOGGER.error("Fail to broadcast cluster events of topic " + entry.getKey(), e);
+      }
+    }
+  }
+
+  private void sendClusterEvent(String topic, List<String> messages) {
     for (Node node : clusterNodes) {
-      if (StringUtils.equals(node.address().host(), zeplServerHost)
-          && node.address().port() == raftServerPort) {
-        // skip myself
+      if (isMyself(node)) {
         continue;
       }
+      sendClusterEvent(node.address(), topic, messages);
+    }
+  }
+
+  private void sendClusterEvent(Address address, String topic, List<String> messages) {
+    if (getEventProtocolVersion(address) >= ClusterEventCodec.PROTOCOL_VERSION) {
+      sendClusterEvent(address, topic, ClusterEventCodec.encode(messages));
+      return;
+    }
+    for (String message : messages) {
+      sendClusterEvent(address, topic, ClusterEventCodec.encodeLegacy(message));
+    }
+  }
+
+  private void sendClusterEvent(Address address, String topic, byte[] data) {
+    CompletableFuture<byte[]> response = messagingService.sendAndReceive(address,
+        topic, data, Duration.ofSeconds(2));
+    response.whenComplete((r, e) -> {
+      if (null != e) {
+        LOGGER.error("Fail to send cluster event of topic " + topic + " to " + address, e);
+      } else if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("send cluster event of topic {} to {} success", topic, address);
+      }
+    });
+  }
+
+  // the address other nodes use to send cluster events to this node
+  public String getClusterEventAddress() {
+    return zeplServerHost + ":" + raftServerPort;
+  }
+
+  /**
+   * The version of cluster events all the other servers of the cluster accept,
+   * ClusterEventCodec.LEGACY_PROTOCOL_VERSION until every server has advertised its version.
+   */
+  public int getClusterEventProtocolVersion() {
+    int version = ClusterEventCodec.PROTOCOL_VERSION;
+    for (Node node : clusterNodes) {
+      if (!isMyself(node)) {
+        version = Math.min(version, getEventProtocolVersion(node.address()));
+      }
+    }
+    return version;
+  }
+
+  private int getEventProtocolVersion(Address address) {
+    return eventProtocolVersions.getOrDefault(address.host() + ":" + address.port(),
+        ClusterEventCodec.LEGACY_PROTOCOL_VERSION);
+  }
+
+  private boolean isMyself(Node node) {
+    return StringUtils.equals(node.address().host(), zeplServerHost)
+        && node.address().port() == raftServerPort;
+  }
+
+  private void onServerMetaChanged(ClusterMetaEntity entity) {
+    if (entity.getOperation() == ClusterMetaOperation.DELETE_OPERATION) {
+      String address = serverEventAddresses.remove(entity.getKey());
+      if (null != address) {
+        eventProtocolVersions.remove(address);
+      }
+      return;
+    }
 
-      CompletableFuture<byte[]> response = messagingService.sendAndReceive(node.address(),
-          topic, msg.getBytes(), Duration.ofSeconds(2));
-      response.whenComplete((r, e) -> {
-        if (null == e) {
-          LOGGER.error(e.getMessage(), e);
-        } else {
-          LOGGER.info("broadcastClusterNoteEvent success! {}", msg);
-        }
-      });
+    Map<String, Object> meta = entity.getValues();
+    Object host = meta.get(ClusterMeta.SERVER_HOST);
+    Object port = meta.get(ClusterMeta.SERVER_PORT);
+    if (null == host || null == port) {
+      return;
+    }
+    String address = host + ":" + port;
+    Object version = meta.get(ClusterMeta.EVENT_PROTOCOL_VERSION);
+    serverEventAddresses.put(entity.getKey(), address);
+    eventProtocolVersions.put(address, null == version ? ClusterEventCodec.LEGACY_PROTOCOL_VERSION
+        : Integer.parseInt(String.valueOf(version)));
+  }
+
+  private static void notifyListeners(List<ClusterEventListener> listeners, byte[] data) {
+    for (String message : ClusterEventCodec.decode(data)) {
+      for (ClusterEventListener eventListener : listeners) {
+        eventListener.onClusterEvent(message);
+      }
     }
   }
 
   private BiFunction<Address, byte[], byte[]> subscribeClusterIntpEvent = (address, data) -> {
-    String message = new String(data);
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeClusterIntpEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterIntpEventListeners) {
-      eventListener.onClusterEvent(message);
+      LOGGER.debug("subscribeClusterIntpEvent() from {}, {} bytes", address, data.length);
     }
+    notifyListeners(clusterIntpEventListeners, data);
 
     return null;
   };
 
   private BiFunction<Address, byte[], byte[]> subscribeClusterNoteEvent = (address, data) -> {
-    String message = new String(data);
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeClusterNoteEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterNoteEventListeners) {
-      eventListener.onClusterEvent(message);
+      LOGGER.debug("subscribeClusterNoteEvent() from {}, {} bytes", address, data.length);
     }
+    notifyListeners(clusterNoteEventListeners, data);
 
     return null;
   };
 
   private BiFunction<Address, byte[], byte[]> subscribeClusterAuthEvent = (address, data) -> {
-    String message = new String(data);
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeClusterAuthEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterAuthEventListeners) {
-      eventListener.onClusterEvent(message);
+      LOGGER.debug("subscribeClusterAuthEvent() from {}, {} bytes", address, data.length);
     }
+    notifyListeners(clusterAuthEventListeners, data);
 
     return null;
   };
 
   private BiFunction<Address, byte[], byte[]> subscribeIntpSettingEvent = (address, data) -> {
-    String message = new String(data);
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeIntpSettingEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterIntpSettingEventListeners) {
-      eventListener.onClusterEvent(message);
+      LOGGER.debug("subscribeIntpSettingEvent() from {}, {} bytes", address, data.length);
     }
+    notifyListeners(clusterIntpSettingEventListeners, data);
 
     return null;
   };
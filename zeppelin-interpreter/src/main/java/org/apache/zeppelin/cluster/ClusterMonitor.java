@@ -29,6 +29,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PLACEMENT_META;
 import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PROCESS_META;
 import static org.apache.zeppelin.cluster.meta.ClusterMetaType.SERVER_META;
 
@@ -136,6 +137,10 @@ public class ClusterMonitor {
     LocalDateTime now = LocalDateTime.now();
     // check machine mate
     for (ClusterMetaType metaType : ClusterMetaType.values()) {
+      if (metaType == INTP_PLACEMENT_META) {
+        removeExpiredPlacements();
+        continue;
+      }
       Map<String, HashMap<String, Object>> clusterMeta
           = clusterManager.getClusterMeta(metaType, "");
 
@@ -173,6 +178,19 @@ public class ClusterMonitor {
     }
   }
 
+  // Placements have no heartbeat, they are kept until they expire
+  private void removeExpiredPlacements() {
+    long now = System.currentTimeMillis();
+    Map<String, HashMap<String, Object>> placementMeta
+        = clusterManager.getClusterMeta(INTP_PLACEMENT_META, "");
+    for (Map.Entry<String, HashMap<String, Object>> entry : placementMeta.entrySet()) {
+      Object expireTime = entry.getValue().get(ClusterMeta.PLACEMENT_EXPIRE_TIME);
+      if (!(expireTime instanceof Long) || (Long) expireTime <= now) {
+        clusterManager.deleteClusterMeta(INTP_PLACEMENT_META, entry.getKey());
+      }
+    }
+  }
+
   // The interpreter process sends a heartbeat to the cluster,
   // indicating that the process is still active.
   private void sendHeartbeat() {
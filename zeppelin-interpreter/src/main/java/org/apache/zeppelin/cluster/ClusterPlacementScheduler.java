@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Choose the zeppelin-server node on which a new interpreter process is launched in cluster mode.
+ * The implementation is set by zeppelin.cluster.placement.scheduler, and must have a public
+ * constructor which takes ZeppelinConfiguration.
+ */
+public interface ClusterPlacementScheduler {
+
+  /**
+   * Select the node for the interpreter process of intpGroupId.
+   *
+   * @param intpGroupId interpreter group of the process to launch
+   * @param intpSettingName interpreter setting of the process to launch
+   * @param serverMetas SERVER_META of the cluster, node name -> meta
+   * @param intpProcessMetas INTP_PROCESS_META of the cluster, interpreter group id -> meta
+   * @param placementMetas INTP_PLACEMENT_META of the cluster, interpreter group id -> meta.
+   *        The nodes selected by all zeppelin-servers for the launches of the last
+   *        zeppelin.cluster.placement.reservation.timeout, with their expire time, so that
+   *        processes which are still starting are taken into account.
+   * @return the node name (key of serverMetas), null if no node is available
+   */
+  String selectNode(String intpGroupId,
+                    String intpSettingName,
+                    Map<String, HashMap<String, Object>> serverMetas,
+                    Map<String, HashMap<String, Object>> intpProcessMetas,
+                    Map<String, HashMap<String, Object>> placementMetas);
+}
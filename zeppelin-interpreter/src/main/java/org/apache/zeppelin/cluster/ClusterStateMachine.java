@@ -16,27 +16,36 @@
  */
 package org.apache.zeppelin.cluster;
 
-import com.google.common.collect.Maps;
+import io.atomix.primitive.event.EventType;
+import io.atomix.primitive.event.PrimitiveEvent;
 import io.atomix.primitive.operation.OperationId;
 import io.atomix.primitive.service.AbstractPrimitiveService;
 import io.atomix.primitive.service.BackupOutput;
 import io.atomix.primitive.service.BackupInput;
 import io.atomix.primitive.service.Commit;
 import io.atomix.primitive.service.ServiceExecutor;
+import io.atomix.primitive.session.Session;
 import io.atomix.utils.serializer.Serializer;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
 import org.apache.zeppelin.cluster.meta.ClusterMetaEntity;
+import org.apache.zeppelin.cluster.meta.ClusterMetaOperation;
 import org.apache.zeppelin.cluster.meta.ClusterMetaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Cluster State Machine for Zeppelin
  * The cluster state is implemented as a snapshot state machine.
  * The state machine stores the service and process metadata information of the cluster.
  * Metadata information can be manipulated by put, get, remove, index, and snapshot.
+ * Sessions can watch a metadata key, the state machine publishes META_CHANGED event with
+ * the new metadata to the watching sessions when the key is put or removed.
  */
 public class ClusterStateMachine extends AbstractPrimitiveService {
   private static Logger logger = LoggerFactory.getLogger(ClusterStateMachine.class);
@@ -47,6 +56,13 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
   public static final OperationId GET = OperationId.query("get");
   public static final OperationId REMOVE = OperationId.command("remove");
   public static final OperationId INDEX = OperationId.command("index");
+  public static final OperationId WATCH = OperationId.command("watch");
+  public static final OperationId UNWATCH = OperationId.command("unwatch");
+
+  public static final EventType META_CHANGED = EventType.from("metaChanged");
+
+  // watch key (see getWatchKey) -> id of the sessions which watch it
+  private Map<String, Set<Long>> watchers = new HashMap<>();
 
   public ClusterStateMachine() {
     super(ClusterPrimitiveType.INSTANCE);
@@ -63,11 +79,26 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
     executor.register(GET, this::get);
     executor.register(REMOVE, this::remove);
     executor.register(INDEX, this::index);
+    executor.register(WATCH, this::watch);
+    executor.register(UNWATCH, this::unwatch);
+  }
+
+  /**
+   * Key of the watched metadata, empty metaKey watches all the metadata of metaType.
+   */
+  public static String getWatchKey(ClusterMetaType metaType, String metaKey) {
+    return metaType + "/" + (null == metaKey ? "" : metaKey);
   }
 
   protected long put(Commit<ClusterMetaEntity> commit) {
-    clusterMeta.put(commit.value().getMetaType(),
-        commit.value().getKey(), commit.value().getValues());
+    ClusterMetaType metaType = commit.value().getMetaType();
+    String metaKey = commit.value().getKey();
+    clusterMeta.put(metaType, metaKey, commit.value().getValues());
+
+    // publish the merged metadata, because the put may only update part of it
+    Map<String, Object> values = clusterMeta.get(metaType, "").get(metaKey);
+    notifyWatchers(new ClusterMetaEntity(ClusterMetaOperation.PUT_OPERATION,
+        metaType, metaKey, null == values ? null : new HashMap<>(values)));
     return commit.index();
   }
 
@@ -76,7 +107,11 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
   }
 
   protected long remove(Commit<ClusterMetaEntity> commit) {
-    clusterMeta.remove(commit.value().getMetaType(), commit.value().getKey());
+    ClusterMetaType metaType = commit.value().getMetaType();
+    String metaKey = commit.value().getKey();
+    clusterMeta.remove(metaType, metaKey);
+    notifyWatchers(new ClusterMetaEntity(ClusterMetaOperation.DELETE_OPERATION,
+        metaType, metaKey, null));
     return commit.index();
   }
 
@@ -84,6 +119,74 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
     return commit.index();
   }
 
+  protected long watch(Commit<ClusterMetaEntity> commit) {
+    String watchKey = getWatchKey(commit.value().getMetaType(), commit.value().getKey());
+    Set<Long> sessionIds = watchers.get(watchKey);
+    if (null == sessionIds) {
+      sessionIds = new HashSet<>();
+      watchers.put(watchKey, sessionIds);
+    }
+    sessionIds.add(commit.session().sessionId().id());
+    return commit.index();
+  }
+
+  protected long unwatch(Commit<ClusterMetaEntity> commit) {
+    String watchKey = getWatchKey(commit.value().getMetaType(), commit.value().getKey());
+    Set<Long> sessionIds = watchers.get(watchKey);
+    if (null != sessionIds) {
+      sessionIds.remove(commit.session().sessionId().id());
+      if (sessionIds.isEmpty()) {
+        watchers.remove(watchKey);
+      }
+    }
+    return commit.index();
+  }
+
+  private void notifyWatchers(ClusterMetaEntity entity) {
+    Set<Long> sessionIds = new HashSet<>();
+    Set<Long> keyWatchers = watchers.get(getWatchKey(entity.getMetaType(), entity.getKey()));
+    if (null != keyWatchers) {
+      sessionIds.addAll(keyWatchers);
+    }
+    Set<Long> typeWatchers = watchers.get(getWatchKey(entity.getMetaType(), ""));
+    if (null != typeWatchers) {
+      sessionIds.addAll(typeWatchers);
+    }
+    if (sessionIds.isEmpty()) {
+      return;
+    }
+
+    PrimitiveEvent event = PrimitiveEvent.event(META_CHANGED, serializer().encode(entity));
+    for (Long sessionId : sessionIds) {
+      Session session = getSession(sessionId);
+      if (null != session && session.getState().active()) {
+        session.publish(event);
+      }
+    }
+  }
+
+  private void removeWatcher(Session session) {
+    long sessionId = session.sessionId().id();
+    Iterator<Set<Long>> iter = watchers.values().iterator();
+    while (iter.hasNext()) {
+      Set<Long> sessionIds = iter.next();
+      sessionIds.remove(sessionId);
+      if (sessionIds.isEmpty()) {
+        iter.remove();
+      }
+    }
+  }
+
+  @Override
+  protected void onExpire(Session session) {
+    removeWatcher(session);
+  }
+
+  @Override
+  protected void onClose(Session session) {
+    removeWatcher(session);
+  }
+
   @Override
   public void backup(BackupOutput writer) {
     if (logger.isDebugEnabled()) {
@@ -131,6 +234,33 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
         writer.writeObject(entryValue.getValue());
       }
     }
+
+    // backup watchers
+    writer.writeInt(watchers.size());
+    for (Map.Entry<String, Set<Long>> entry : watchers.entrySet()) {
+      writer.writeString(entry.getKey());
+      writer.writeInt(entry.getValue().size());
+      for (Long sessionId : entry.getValue()) {
+        writer.writeLong(sessionId);
+      }
+    }
+
+    // backup INTP_PLACEMENT_META, after the watchers so that the snapshots written
+    // before it was added can still be restored
+    // IntpGroupId -> {cluster_name,placement_expire_time}
+    Map<String, Map<String, Object>> mapPlacementMeta
+        = clusterMeta.get(ClusterMetaType.INTP_PLACEMENT_META, "");
+    writer.writeInt(mapPlacementMeta.size());
+    for (Map.Entry<String, Map<String, Object>> entry : mapPlacementMeta.entrySet()) {
+      writer.writeString(entry.getKey());
+
+      Map<String, Object> kvPairs = entry.getValue();
+      writer.writeInt(kvPairs.size());
+      for (Map.Entry<String, Object> entryValue : kvPairs.entrySet()) {
+        writer.writeString(entryValue.getKey());
+        writer.writeObject(entryValue.getValue());
+      }
+    }
   }
 
   @Override
@@ -148,14 +278,14 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
 
       // read cluster mate kv pairs size
       int nKVpairs = reader.readInt();
-      for (int j = 0; j < nKVpairs; i++) {
+      Map<String, Object> values = new HashMap<>();
+      for (int j = 0; j < nKVpairs; j++) {
         // read cluster mate kv pairs
         String key = reader.readString();
         Object value = reader.readObject();
-
-        clusterMeta.put(ClusterMetaType.SERVER_META,
-            clusterName, Maps.immutableEntry(key, value));
+        values.put(key, value);
       }
+      clusterMeta.put(ClusterMetaType.SERVER_META, clusterName, values);
     }
 
     // read all INTP_PROCESS_META size
@@ -166,14 +296,45 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
 
       // read interpreter mate kv pairs size
       int nKVpairs = reader.readInt();
-      for (int j = 0; j < nKVpairs; i++) {
+      Map<String, Object> values = new HashMap<>();
+      for (int j = 0; j < nKVpairs; j++) {
         // read interpreter mate kv pairs
         String key = reader.readString();
         Object value = reader.readObject();
+        values.put(key, value);
+      }
+      clusterMeta.put(ClusterMetaType.INTP_PROCESS_META, intpName, values);
+    }
+
+    // read watchers
+    watchers = new HashMap<>();
+    int nWatchers = reader.readInt();
+    for (int i = 0; i < nWatchers; i++) {
+      String watchKey = reader.readString();
+      int nSessions = reader.readInt();
+      Set<Long> sessionIds = new HashSet<>();
+      for (int j = 0; j < nSessions; j++) {
+        sessionIds.add(reader.readLong());
+      }
+      watchers.put(watchKey, sessionIds);
+    }
+
+    // read INTP_PLACEMENT_META
+    if (!reader.hasRemaining()) {
+      return;
+    }
+    int nPlacementMeta = reader.readInt();
+    for (int i = 0; i < nPlacementMeta; i++) {
+      String intpGroupId = reader.readString();
 
-        clusterMeta.put(ClusterMetaType.INTP_PROCESS_META,
-            intpName, Maps.immutableEntry(key, value));
+      int nKVpairs = reader.readInt();
+      Map<String, Object> values = new HashMap<>();
+      for (int j = 0; j < nKVpairs; j++) {
+        String key = reader.readString();
+        Object value = reader.readObject();
+        values.put(key, value);
       }
+      clusterMeta.put(ClusterMetaType.INTP_PLACEMENT_META, intpGroupId, values);
     }
   }
 }
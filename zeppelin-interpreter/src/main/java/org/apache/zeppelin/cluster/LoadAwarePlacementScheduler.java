@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Default ClusterPlacementScheduler, which places the interpreter process on the least loaded
+ * node. The load of a node is the weighted sum of
+ * 1. memory usage and cpu usage reported by ClusterMonitor
+ * 2. number of interpreter processes per cpu core
+ * 3. number of interpreter processes of the same interpreter setting, so that the interpreter
+ *    groups of one setting are spread across nodes
+ *
+ * ClusterMonitor reports the average usage of the last few minutes, so a process which is
+ * just launched is not visible in the usage yet. Each launch reserves some memory and cpu on the
+ * selected node until the reservation expires, otherwise a burst of launches would all go to
+ * the same node. The reservations are the INTP_PLACEMENT_META of the cluster, which
+ * ClusterManagerServer records for the launches of every zeppelin-server.
+ */
+public class LoadAwarePlacementScheduler implements ClusterPlacementScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(LoadAwarePlacementScheduler.class);
+
+  private static final double MEMORY_WEIGHT = 0.4;
+  private static final double CPU_WEIGHT = 0.4;
+  private static final double PROCESS_WEIGHT = 0.2;
+  // added for each process of the same interpreter setting on the node
+  private static final double SAME_SETTING_PENALTY = 0.25;
+
+  // ClusterMonitor reports cpu capacity as 100 per core
+  private static final long CPU_PER_CORE = 100;
+  // reserve one core for each launch
+  private static final long RESERVED_CPU = CPU_PER_CORE;
+
+  private final long reservedMemory;
+  private final LongSupplier clock;
+
+  public LoadAwarePlacementScheduler(ZeppelinConfiguration zConf) {
+    this(zConf.getClusterPlacementReservedMemory(), System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  LoadAwarePlacementScheduler(long reservedMemory, LongSupplier clock) {
+    this.reservedMemory = reservedMemory;
+    this.clock = clock;
+  }
+
+  @Override
+  public String selectNode(String intpGroupId,
+                           String intpSettingName,
+                           Map<String, HashMap<String, Object>> serverMetas,
+                           Map<String, HashMap<String, Object>> intpProcessMetas,
+                           Map<String, HashMap<String, Object>> placementMetas) {
+    // intpGroupId -> node reserved for the launch of its process
+    Map<String, String> reservations = getReservations(intpGroupId, placementMetas);
+
+    String selectedNode = null;
+    double selectedScore = Double.MAX_VALUE;
+    boolean selectedFits = false;
+    for (Map.Entry<String, HashMap<String, Object>> entry : serverMetas.entrySet()) {
+      String nodeName = entry.getKey();
+      NodeLoad load = getNodeLoad(nodeName, entry.getValue(), intpSettingName, intpProcessMetas,
+          reservations);
+      if (load == null) {
+        continue;
+      }
+      double score = load.score();
+      boolean fits = load.memoryFree() >= reservedMemory;
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("node:{} score:{} fits:{}", nodeName, score, fits);
+      }
+      // prefer the nodes which still have memory for the new process
+      if ((fits && !selectedFits) || (fits == selectedFits && score < selectedScore)) {
+        selectedNode = nodeName;
+        selectedScore = score;
+        selectedFits = fits;
+      }
+    }
+
+    if (null != selectedNode) {
+      LOGGER.info("Place interpreter process {} on node {}", intpGroupId, selectedNode);
+    }
+    return selectedNode;
+  }
+
+  // the unexpired reservations of the other interpreter groups
+  private Map<String, String> getReservations(String intpGroupId,
+                                              Map<String, HashMap<String, Object>> placementMetas) {
+    Map<String, String> reservations = new HashMap<>();
+    if (null == placementMetas) {
+      return reservations;
+    }
+    long now = clock.getAsLong();
+    for (Map.Entry<String, HashMap<String, Object>> entry : placementMetas.entrySet()) {
+      HashMap<String, Object> placementMeta = entry.getValue();
+      if (null == placementMeta || entry.getKey().equals(intpGroupId)) {
+        continue;
+      }
+      Long expireTime = getLong(placementMeta, ClusterMeta.PLACEMENT_EXPIRE_TIME);
+      String nodeName = (String) placementMeta.get(ClusterMeta.NODE_NAME);
+      if (null != expireTime && expireTime > now && null != nodeName) {
+        reservations.put(entry.getKey(), nodeName);
+      }
+    }
+    return reservations;
+  }
+
+  private NodeLoad getNodeLoad(String nodeName,
+                               Map<String, Object> serverMeta,
+                               String intpSettingName,
+                               Map<String, HashMap<String, Object>> intpProcessMetas,
+                               Map<String, String> reservations) {
+    // Check if the service or process is offline
+    if (!isOnline(serverMeta)) {
+      return null;
+    }
+    Long memoryCapacity = getLong(serverMeta, ClusterMeta.MEMORY_CAPACITY);
+    Long memoryUsed = getLong(serverMeta, ClusterMeta.MEMORY_USED);
+    if (null == memoryCapacity || null == memoryUsed || memoryCapacity <= 0) {
+      // usage is not reported yet
+      return null;
+    }
+    Long cpuCapacity = getLong(serverMeta, ClusterMeta.CPU_CAPACITY);
+    Long cpuUsed = getLong(serverMeta, ClusterMeta.CPU_USED);
+
+    NodeLoad load = new NodeLoad();
+    load.memoryCapacity = memoryCapacity;
+    load.memoryUsed = memoryUsed;
+    load.cpuCapacity = null == cpuCapacity ? 0 : cpuCapacity;
+    load.cpuUsed = null == cpuUsed ? 0 : cpuUsed;
+
+    String metaNodeName = (String) serverMeta.get(ClusterMeta.NODE_NAME);
+    for (Map.Entry<String, HashMap<String, Object>> entry : intpProcessMetas.entrySet()) {
+      HashMap<String, Object> intpMeta = entry.getValue();
+      if (null == intpMeta || !isOnline(intpMeta)
+          || !StringUtils.equals(metaNodeName, (String) intpMeta.get(ClusterMeta.NODE_NAME))) {
+        continue;
+      }
+      load.processCount++;
+      if (isSameSetting(entry.getKey(), intpSettingName)) {
+        load.sameSettingCount++;
+      }
+    }
+
+    for (Map.Entry<String, String> entry : reservations.entrySet()) {
+      if (!entry.getValue().equals(nodeName)) {
+        continue;
+      }
+      load.memoryUsed += reservedMemory;
+      load.cpuUsed += RESERVED_CPU;
+      // the process is counted above once it is registered in the cluster meta
+      HashMap<String, Object> intpMeta = intpProcessMetas.get(entry.getKey());
+      if (null == intpMeta || !isOnline(intpMeta)) {
+        load.processCount++;
+        if (isSameSetting(entry.getKey(), intpSettingName)) {
+          load.sameSettingCount++;
+        }
+      }
+    }
+    return load;
+  }
+
+  // interpreter group id starts with the name of its interpreter setting
+  private static boolean isSameSetting(String intpGroupId, String intpSettingName) {
+    return null != intpSettingName && null != intpGroupId
+        && intpGroupId.startsWith(intpSettingName + "-");
+  }
+
+  private static boolean isOnline(Map<String, Object> meta) {
+    String status = (String) meta.get(ClusterMeta.STATUS);
+    return !StringUtils.isEmpty(status) && !status.equals(ClusterMeta.OFFLINE_STATUS);
+  }
+
+  private static Long getLong(Map<String, Object> meta, String key) {
+    Object value = meta.get(key);
+    return value instanceof Number ? ((Number) value).longValue() : null;
+  }
+
+  private static class NodeLoad {
+    private long memoryCapacity;
+    private long memoryUsed;
+    private long cpuCapacity;
+    private long cpuUsed;
+    private int processCount;
+    private int sameSettingCount;
+
+    long memoryFree() {
+      return memoryCapacity - memoryUsed;
+    }
+
+    double score() {
+      double memoryLoad = (double) memoryUsed / memoryCapacity;
+      double cpuLoad = cpuCapacity > 0 ? (double) cpuUsed / cpuCapacity : 0;
+      double cores = Math.max(1, cpuCapacity / CPU_PER_CORE);
+      return MEMORY_WEIGHT * memoryLoad
+          + CPU_WEIGHT * cpuLoad
+          + PROCESS_WEIGHT * processCount / cores
+          + SAME_SETTING_PENALTY * sameSettingCount;
+    }
+  }
+}
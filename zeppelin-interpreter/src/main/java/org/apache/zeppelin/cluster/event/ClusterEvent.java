@@ -28,6 +28,8 @@ public enum ClusterEvent {
   BROADCAST_PARAGRAPH,
   BROADCAST_PARAGRAPHS,
   BROADCAST_NEW_PARAGRAPH,
+  // ask the sender of note events to broadcast the whole note again
+  SYNC_NOTE,
   UPDATE_NOTE_PERMISSIONS,
   // CLUSTER_AUTH_EVENT_TOPIC
   SET_ROLES,
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.event;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.commons.io.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Wire format of the cluster events sent between zeppelin servers.
+ *
+ * A batch of events is encoded as a json array of the event messages, and gzip compressed
+ * when it is larger than {@link #COMPRESS_THRESHOLD}. A single message which is not
+ * wrapped in a json array is still accepted, so that the events of zeppelin servers which
+ * don't batch events can be decoded.
+ *
+ * Zeppelin servers advertise the version of the format they accept in the server metadata
+ * (ClusterMeta.EVENT_PROTOCOL_VERSION). A server which doesn't advertise it only accepts
+ * one plain message per request, see {@link #encodeLegacy(String)}.
+ */
+public class ClusterEventCodec {
+
+  public static final int COMPRESS_THRESHOLD = 1024;
+
+  // one plain message per request, the note events carry the whole note
+  public static final int LEGACY_PROTOCOL_VERSION = 1;
+  // batched and compressed messages, versioned note events which carry the changes only
+  public static final int PROTOCOL_VERSION = 2;
+
+  private static final Gson gson = new Gson();
+
+  public static byte[] encode(List<String> messages) {
+    byte[] data = gson.toJson(messages).getBytes(StandardCharsets.UTF_8);
+    if (data.length <= COMPRESS_THRESHOLD) {
+      return data;
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  public static byte[] encodeLegacy(String message) {
+    return message.getBytes(StandardCharsets.UTF_8);
+  }
+
+  public static List<String> decode(byte[] data) {
+    if (isCompressed(data)) {
+      try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+        data = IOUtils.toByteArray(gzip);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    String json = new String(data, StandardCharsets.UTF_8);
+    if (json.startsWith("[")) {
+      return gson.fromJson(json, new TypeToken<List<String>>() {}.getType());
+    }
+    return Collections.singletonList(json);
+  }
+
+  private static boolean isCompressed(byte[] data) {
+    return data.length > 2 && data[0] == (byte) (GZIPInputStream.GZIP_MAGIC)
+        && data[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+  }
+}
@@ -29,7 +29,6 @@ public class ClusterMessage {
 
   private static Gson gson = new GsonBuilder()
       .setDateFormat("yyyy-MM-dd'T'HH:mm:ssZ")
-      .setPrettyPrinting()
       .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
 
   public ClusterMessage(ClusterEvent event) {
@@ -38,6 +38,8 @@ public class ClusterMeta implements Serializable {
   public static String SERVER_HOST          = "SERVER_HOST";
   public static String SERVER_PORT          = "SERVER_PORT";
   public static String SERVER_START_TIME    = "SERVER_START_TIME";
+  // version of the cluster events the zeppelin-server accepts, see ClusterEventCodec
+  public static String EVENT_PROTOCOL_VERSION = "EVENT_PROTOCOL_VERSION";
 
   // interperter-process meta
   public static String INTP_PROCESS_NAME    = "INTP_PROCESS_NAME";
@@ -53,6 +55,9 @@ public class ClusterMeta implements Serializable {
 
   public static String LATEST_HEARTBEAT     = "LATEST_HEARTBEAT";
 
+  // interpreter process placement meta
+  public static String PLACEMENT_EXPIRE_TIME = "PLACEMENT_EXPIRE_TIME";
+
   // zeppelin-server or interperter-process status
   public static String STATUS               = "STATUS";
   public static String ONLINE_STATUS        = "ONLINE";
@@ -67,6 +72,9 @@ public class ClusterMeta implements Serializable {
   // Map:InterpreterGroupId -> {cluster_name,intp_tserver_host,...}
   private Map<String, Map<String, Object>> mapInterpreterMeta = new HashMap<>();
 
+  // Map:InterpreterGroupId -> {cluster_name,placement_expire_time}
+  private Map<String, Map<String, Object>> mapPlacementMeta = new HashMap<>();
+
   public static Gson gson = new Gson();
 
   public void put(ClusterMetaType type, String key, Object value) {
@@ -90,6 +98,9 @@ public class ClusterMeta implements Serializable {
           mapInterpreterMeta.put(key, mapValue);
         }
         break;
+      case INTP_PLACEMENT_META:
+        mapPlacementMeta.put(key, mapValue);
+        break;
     }
   }
 
@@ -117,6 +128,12 @@ public class ClusterMeta implements Serializable {
           logger.warn("can not find key : {}", key);
         }
         break;
+      case INTP_PLACEMENT_META:
+        if (null == key || StringUtils.isEmpty(key)) {
+          return mapPlacementMeta;
+        }
+        values = mapPlacementMeta.get(key);
+        break;
     }
 
     Map<String, Map<String, Object>> result = new HashMap<>();
@@ -141,6 +158,9 @@ public class ClusterMeta implements Serializable {
           logger.warn("can not find key : {}", key);
         }
         break;
+      case INTP_PLACEMENT_META:
+        // a reservation may already be removed by the leader when it expires
+        return mapPlacementMeta.remove(key);
     }
 
     return null;
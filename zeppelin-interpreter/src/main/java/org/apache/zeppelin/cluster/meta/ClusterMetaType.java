@@ -21,5 +21,7 @@ package org.apache.zeppelin.cluster.meta;
  */
 public enum ClusterMetaType {
   SERVER_META,
-  INTP_PROCESS_META
+  INTP_PROCESS_META,
+  // node reserved for an interpreter process which is being launched
+  INTP_PLACEMENT_META
 }
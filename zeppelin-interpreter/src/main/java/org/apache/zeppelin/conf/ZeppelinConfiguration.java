@@ -773,6 +773,42 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getRelativeDir(ConfVars.ZEPPELIN_SEARCH_INDEX_PATH);
   }
 
+  public int getZeppelinSearchIndexCommitInterval() {
+    return getInt(ConfVars.ZEPPELIN_SEARCH_INDEX_COMMIT_INTERVAL);
+  }
+
+  public int getZeppelinSearchIndexCommitSize() {
+    return getInt(ConfVars.ZEPPELIN_SEARCH_INDEX_COMMIT_SIZE);
+  }
+
+  public int getZeppelinSearchIndexRebuildThreads() {
+    return getInt(ConfVars.ZEPPELIN_SEARCH_INDEX_REBUILD_THREADS);
+  }
+
+  public int getNoteCacheMaxNotes() {
+    return getInt(ConfVars.ZEPPELIN_NOTE_CACHE_MAX_NOTES);
+  }
+
+  public long getNoteCacheMaxWeight() {
+    return getLong(ConfVars.ZEPPELIN_NOTE_CACHE_MAX_WEIGHT);
+  }
+
+  public long getNotebookSaveDelay() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_SAVE_DELAY);
+  }
+
+  public int getNotebookSaveThreads() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_SAVE_THREADS);
+  }
+
+  public int getNotebookSyncThreads() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_SYNC_THREADS);
+  }
+
+  public int getNotebookResultBlobThreshold() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD);
+  }
+
   public Boolean isOnlyYarnCluster() {
     return getBoolean(ConfVars.ZEPPELIN_SPARK_ONLY_YARN_CLUSTER);
   }
@@ -802,6 +838,22 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getInt(ConfVars.ZEPPELIN_CLUSTER_HEARTBEAT_TIMEOUT);
   }
 
+  public String getClusterPlacementScheduler() {
+    return getString(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_SCHEDULER);
+  }
+
+  public long getClusterPlacementReservedMemory() {
+    return getLong(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_RESERVED_MEMORY);
+  }
+
+  public long getClusterPlacementReservationTimeout() {
+    return getLong(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_RESERVATION_TIMEOUT);
+  }
+
+  public long getClusterEventBatchInterval() {
+    return getLong(ConfVars.ZEPPELIN_CLUSTER_EVENT_BATCH_INTERVAL);
+  }
+
   public RUN_MODE getRunMode() {
     String mode = getString(ConfVars.ZEPPELIN_RUN_MODE);
     if ("auto".equalsIgnoreCase(mode)) { // auto detect
@@ -915,6 +967,12 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_INTERPRETER_MAX_POOL_SIZE("zeppelin.interpreter.max.poolsize", 10),
     ZEPPELIN_INTERPRETER_GROUP_DEFAULT("zeppelin.interpreter.group.default", "spark"),
     ZEPPELIN_INTERPRETER_OUTPUT_LIMIT("zeppelin.interpreter.output.limit", 1024 * 100),
+    ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_INTERVAL("zeppelin.interpreter.output.flush.interval", 100),
+    ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_SIZE("zeppelin.interpreter.output.flush.size", 1024 * 64),
+    ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_CHUNK_SIZE(
+        "zeppelin.interpreter.resource.transfer.chunk.size", 1024 * 1024),
+    ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_COMPRESS(
+        "zeppelin.interpreter.resource.transfer.compress", false),
     ZEPPELIN_ENCODING("zeppelin.encoding", "UTF-8"),
     ZEPPELIN_NOTEBOOK_DIR("zeppelin.notebook.dir", "notebook"),
 
@@ -958,8 +1016,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_STORAGE("zeppelin.notebook.storage",
         "org.apache.zeppelin.notebook.repo.GitNotebookRepo"),
     ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC("zeppelin.notebook.one.way.sync", false),
+    // number of notes compared & transferred in parallel when syncing notebook storages
+    ZEPPELIN_NOTEBOOK_SYNC_THREADS("zeppelin.notebook.sync.threads", 8),
     // whether by default note is public or private
     ZEPPELIN_NOTEBOOK_PUBLIC("zeppelin.notebook.public", true),
+    // max number & total estimated size of notes kept loaded in memory
+    ZEPPELIN_NOTE_CACHE_MAX_NOTES("zeppelin.note.cache.max.notes", 1000),
+    ZEPPELIN_NOTE_CACHE_MAX_WEIGHT("zeppelin.note.cache.max.weight", 268435456L),
+    // delay of writing saved note to NotebookRepo, saves within it are coalesced, 0 to disable
+    ZEPPELIN_NOTEBOOK_SAVE_DELAY("zeppelin.notebook.save.delay", 0L),
+    ZEPPELIN_NOTEBOOK_SAVE_THREADS("zeppelin.notebook.save.threads", 4),
+    // paragraph results larger than it are stored out of note file, 0 to disable
+    ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD("zeppelin.notebook.result.blob.threshold", 0),
     ZEPPELIN_INTERPRETER_REMOTE_RUNNER("zeppelin.interpreter.remoterunner",
         System.getProperty("os.name")
                 .startsWith("Windows") ? "bin/interpreter.cmd" : "bin/interpreter.sh"),
@@ -1014,12 +1082,21 @@ public class ZeppelinConfiguration extends XMLConfiguration {
             "zeppelin.interpreter.yarn.monitor.interval_secs", 10),
 
     ZEPPELIN_INTERPRETER_SCHEDULER_POOL_SIZE("zeppelin.scheduler.threadpool.size", 100),
+    ZEPPELIN_SCHEDULER_PROGRESS_POLLER_THREADS("zeppelin.scheduler.progress.poller.threads", 4),
+    ZEPPELIN_SCHEDULER_PROGRESS_TIMEOUT("zeppelin.scheduler.progress.timeout", 10000L),
 
     ZEPPELIN_OWNER_ROLE("zeppelin.notebook.default.owner.username", ""),
 
     ZEPPELIN_CLUSTER_ADDR("zeppelin.cluster.addr", ""),
     ZEPPELIN_CLUSTER_HEARTBEAT_INTERVAL("zeppelin.cluster.heartbeat.interval", 3000),
     ZEPPELIN_CLUSTER_HEARTBEAT_TIMEOUT("zeppelin.cluster.heartbeat.timeout", 9000),
+    ZEPPELIN_CLUSTER_PLACEMENT_SCHEDULER("zeppelin.cluster.placement.scheduler",
+        "org.apache.zeppelin.cluster.LoadAwarePlacementScheduler"),
+    ZEPPELIN_CLUSTER_PLACEMENT_RESERVED_MEMORY("zeppelin.cluster.placement.reserved.memory",
+        1073741824L),
+    ZEPPELIN_CLUSTER_PLACEMENT_RESERVATION_TIMEOUT(
+        "zeppelin.cluster.placement.reservation.timeout", 60000L),
+    ZEPPELIN_CLUSTER_EVENT_BATCH_INTERVAL("zeppelin.cluster.event.batch.interval", 50L),
 
     ZEPPELIN_RUN_MODE("zeppelin.run.mode", "auto"),              // auto | local | k8s | Docker
 
@@ -1047,6 +1124,9 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_SEARCH_INDEX_REBUILD("zeppelin.search.index.rebuild", false),
     ZEPPELIN_SEARCH_USE_DISK("zeppelin.search.use.disk", true),
     ZEPPELIN_SEARCH_INDEX_PATH("zeppelin.search.index.path", "/tmp/zeppelin-index"),
+    ZEPPELIN_SEARCH_INDEX_COMMIT_INTERVAL("zeppelin.search.index.commit.interval", 1000),
+    ZEPPELIN_SEARCH_INDEX_COMMIT_SIZE("zeppelin.search.index.commit.size", 1000),
+    ZEPPELIN_SEARCH_INDEX_REBUILD_THREADS("zeppelin.search.index.rebuild.threads", 4),
     ZEPPELIN_JOBMANAGER_ENABLE("zeppelin.jobmanager.enable", false),
     ZEPPELIN_SPARK_ONLY_YARN_CLUSTER("zeppelin.spark.only_yarn_cluster", false);
 
@@ -290,10 +290,36 @@ public class InterpreterOutput extends OutputStream {
     write(b, 0, b.length);
   }
 
+  /**
+   * Bulk write. Only the bytes which may change the state of output type detection
+   * (newline, carriage return, and any byte at the start of a line) go through
+   * {@link #write(int)}, the bytes in between are copied to the current output in one step.
+   */
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
-    for (int i = off; i < len; i++) {
-      write(b[i]);
+    int end = off + len;
+    synchronized (resultMessageOutputs) {
+      int i = off;
+      while (i < end) {
+        if (truncated) {
+          return;
+        }
+        if (startOfTheNewLine || firstCharIsPercentSign
+            || b[i] == NEW_LINE_CHAR || b[i] == LINE_FEED_CHAR) {
+          write(b[i++]);
+          continue;
+        }
+
+        // find the run of bytes which don't need any special handling
+        int runEnd = i + 1;
+        while (runEnd < end && b[runEnd] != NEW_LINE_CHAR && b[runEnd] != LINE_FEED_CHAR) {
+          runEnd++;
+        }
+        size += runEnd - i;
+        getCurrentOutputForWriting().write(b, i, runEnd - i);
+        previousChar = b[runEnd - 1];
+        i = runEnd;
+      }
     }
   }
 
@@ -24,6 +24,11 @@ import java.io.Serializable;
 public class InterpreterResultMessage implements Serializable {
   InterpreterResult.Type type;
   String data;
+  // id of the blob where data is stored separately from note, data is null in this case
+  String blobId;
+  // total number of rows of a paged table result, data holds only its first page and the
+  // other pages are read from the interpreter on demand. null if it is not paged
+  Integer pagedRowCount;
 
   public InterpreterResultMessage(InterpreterResult.Type type, String data) {
     this.type = type;
@@ -38,6 +43,18 @@ public class InterpreterResultMessage implements Serializable {
     return data;
   }
 
+  public String getBlobId() {
+    return blobId;
+  }
+
+  public Integer getPagedRowCount() {
+    return pagedRowCount;
+  }
+
+  public void setPagedRowCount(Integer pagedRowCount) {
+    this.pagedRowCount = pagedRowCount;
+  }
+
   public String toString() {
     return "%" + type.name().toLowerCase() + " " + data;
   }
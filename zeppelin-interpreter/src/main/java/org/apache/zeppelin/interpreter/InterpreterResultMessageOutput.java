@@ -100,19 +100,23 @@ public class InterpreterResultMessageOutput extends OutputStream {
     synchronized (outList) {
       buffer.write(b);
       if (b == NEW_LINE_CHAR) {
-        // first time use of this outputstream.
-        if (firstWrite) {
-          // clear the output on gui
-          if (flushListener != null) {
-            flushListener.onUpdate(this);
-          }
-          firstWrite = false;
-        }
+        onNewLine();
+      }
+    }
+  }
 
-        if (isAppendSupported()) {
-          flush(true);
-        }
+  private void onNewLine() throws IOException {
+    // first time use of this outputstream.
+    if (firstWrite) {
+      // clear the output on gui
+      if (flushListener != null) {
+        flushListener.onUpdate(this);
       }
+      firstWrite = false;
+    }
+
+    if (isAppendSupported()) {
+      flush(true);
     }
   }
 
@@ -123,9 +127,19 @@ public class InterpreterResultMessageOutput extends OutputStream {
 
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
+    int end = off + len;
     synchronized (outList) {
-      for (int i = off; i < len; i++) {
-        write(b[i]);
+      // copy line by line, so that each line is still flushed as soon as it is complete
+      int start = off;
+      for (int i = off; i < end; i++) {
+        if (b[i] == NEW_LINE_CHAR) {
+          buffer.write(b, start, i + 1 - start);
+          onNewLine();
+          start = i + 1;
+        }
+      }
+      if (start < end) {
+        buffer.write(b, start, end - start);
       }
     }
   }
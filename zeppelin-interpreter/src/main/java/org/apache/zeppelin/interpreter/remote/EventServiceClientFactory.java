@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TSocket;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService.Client;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Factory of the thrift clients which connect to RemoteInterpreterEventServer of
+ * zeppelin server. Each client owns its own socket, so that they can be used concurrently.
+ */
+public class EventServiceClientFactory extends BasePooledObjectFactory<Client> {
+  private String host;
+  private int port;
+  private Map<Client, TSocket> clientSocketMap = new HashMap<>();
+
+  public EventServiceClientFactory(String host, int port) {
+    this.host = host;
+    this.port = port;
+  }
+
+  public void close() {
+    synchronized (clientSocketMap) {
+      for (TSocket eachTransfer : clientSocketMap.values()) {
+        eachTransfer.close();
+      }
+      clientSocketMap.clear();
+    }
+  }
+
+  @Override
+  public Client create() throws Exception {
+    TSocket transport = new TSocket(host, port);
+    transport.open();
+    TProtocol protocol = new TBinaryProtocol(transport);
+    Client client = new Client(protocol);
+
+    synchronized (clientSocketMap) {
+      clientSocketMap.put(client, transport);
+    }
+    return client;
+  }
+
+  @Override
+  public PooledObject<Client> wrap(Client client) {
+    return new DefaultPooledObject<>(client);
+  }
+
+  @Override
+  public void destroyObject(PooledObject<Client> p) {
+    synchronized (clientSocketMap) {
+      TSocket transport = clientSocketMap.remove(p.getObject());
+      if (transport != null) {
+        transport.close();
+      }
+    }
+  }
+
+  @Override
+  public boolean validateObject(PooledObject<Client> p) {
+    return p.getObject().getOutputProtocol().getTransport().isOpen();
+  }
+}
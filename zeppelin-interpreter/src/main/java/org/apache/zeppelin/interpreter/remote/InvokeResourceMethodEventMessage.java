@@ -17,6 +17,7 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.gson.Gson;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.zeppelin.common.JsonSerializable;
 import org.apache.zeppelin.resource.ResourceId;
 
@@ -61,12 +62,35 @@ public class InvokeResourceMethodEventMessage implements JsonSerializable {
 
     Class [] types = new Class[paramClassnames.length];
     for (int i = 0; i < paramClassnames.length; i++) {
-      types[i] = this.getClass().getClassLoader().loadClass(paramClassnames[i]);
+      // ClassUtils also resolves primitive types, e.g. int
+      types[i] = ClassUtils.getClass(this.getClass().getClassLoader(), paramClassnames[i]);
     }
 
     return types;
   }
 
+  /**
+   * Get params converted to the param types. Params lose their types in json, e.g. an int param
+   * becomes a double.
+   */
+  public Object [] getParams() throws ClassNotFoundException {
+    Class [] types = getParamTypes();
+    if (params == null || types == null) {
+      return params;
+    }
+
+    Object [] converted = new Object[params.length];
+    for (int i = 0; i < params.length; i++) {
+      Object param = params[i];
+      if (param == null || ClassUtils.isAssignable(param.getClass(), types[i])) {
+        converted[i] = param;
+      } else {
+        converted[i] = gson.fromJson(gson.toJsonTree(param), types[i]);
+      }
+    }
+    return converted;
+  }
+
   public boolean shouldPutResultIntoResourcePool() {
     return (returnResourceName != null);
   }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesce the appended output of paragraphs in interpreter process, so that every line
+ * printed by interpreter won't become one rpc call to zeppelin server.
+ *
+ * Appended output is buffered per (noteId, paragraphId, index) and sent as one append event
+ * for each of them, either periodically (every flushIntervalMs) or as soon as the buffered
+ * size exceeds flushSize. Caller must call {@link #flush(String, String)} before sending
+ * any other output event of the paragraph, so that the order of output events is kept.
+ */
+public class OutputAppendBatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutputAppendBatcher.class);
+
+  public static final long DEFAULT_FLUSH_INTERVAL_MS = 100;
+  public static final int DEFAULT_FLUSH_SIZE = 64 * 1024;
+
+  /**
+   * Callback which sends the coalesced output to zeppelin server.
+   */
+  public interface OutputAppendSender {
+    void send(String noteId, String paragraphId, int index, String output);
+  }
+
+  private final OutputAppendSender sender;
+  private final long flushIntervalMs;
+  private final int flushSize;
+  private final ScheduledExecutorService flushExecutor;
+
+  // key -> buffered output, in the order of first append
+  private final Map<OutputKey, StringBuilder> buffers = new LinkedHashMap<>();
+  private int bufferedSize = 0;
+  // held while draining & sending, so that a flush never overtakes a batch being sent
+  private final Object sendLock = new Object();
+
+  public OutputAppendBatcher(OutputAppendSender sender, long flushIntervalMs, int flushSize) {
+    this.sender = sender;
+    this.flushIntervalMs = flushIntervalMs;
+    this.flushSize = flushSize;
+    if (flushIntervalMs > 0) {
+      this.flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "OutputAppendBatcher");
+        t.setDaemon(true);
+        return t;
+      });
+      this.flushExecutor.scheduleWithFixedDelay(this::flushSafely,
+          flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    } else {
+      this.flushExecutor = null;
+    }
+  }
+
+  public void append(String noteId, String paragraphId, int index, String output) {
+    if (flushExecutor == null) {
+      // batching is disabled
+      synchronized (sendLock) {
+        sender.send(noteId, paragraphId, index, output);
+      }
+      return;
+    }
+
+    boolean exceedFlushSize;
+    synchronized (buffers) {
+      OutputKey key = new OutputKey(noteId, paragraphId, index);
+      StringBuilder builder = buffers.get(key);
+      if (builder == null) {
+        builder = new StringBuilder();
+        buffers.put(key, builder);
+      }
+      builder.append(output);
+      bufferedSize += output.length();
+      exceedFlushSize = bufferedSize >= flushSize;
+    }
+    if (exceedFlushSize) {
+      // send in the caller thread, this bounds the memory used by the buffer
+      flush();
+    }
+  }
+
+  /**
+   * Send all the buffered output.
+   */
+  public void flush() {
+    flush(null, null);
+  }
+
+  /**
+   * Send the buffered output of this paragraph, send all the buffered output if noteId is null.
+   */
+  public void flush(String noteId, String paragraphId) {
+    synchronized (sendLock) {
+      List<Map.Entry<OutputKey, StringBuilder>> batch = new ArrayList<>();
+      synchronized (buffers) {
+        Iterator<Map.Entry<OutputKey, StringBuilder>> iter = buffers.entrySet().iterator();
+        while (iter.hasNext()) {
+          Map.Entry<OutputKey, StringBuilder> entry = iter.next();
+          if (noteId == null || entry.getKey().matches(noteId, paragraphId)) {
+            batch.add(entry);
+            bufferedSize -= entry.getValue().length();
+            iter.remove();
+          }
+        }
+      }
+      for (Map.Entry<OutputKey, StringBuilder> entry : batch) {
+        OutputKey key = entry.getKey();
+        sender.send(key.noteId, key.paragraphId, key.index, entry.getValue().toString());
+      }
+    }
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (Exception e) {
+      LOGGER.warn("Fail to flush appended output", e);
+    }
+  }
+
+  public long getFlushIntervalMs() {
+    return flushIntervalMs;
+  }
+
+  public int getFlushSize() {
+    return flushSize;
+  }
+
+  /**
+   * Send all the buffered output and stop the flush thread.
+   */
+  public void close() {
+    if (flushExecutor != null) {
+      flushExecutor.shutdown();
+    }
+    flushSafely();
+  }
+
+  private static class OutputKey {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+
+    OutputKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    boolean matches(String noteId, String paragraphId) {
+      return Objects.equals(this.noteId, noteId) && Objects.equals(this.paragraphId, paragraphId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      OutputKey outputKey = (OutputKey) o;
+      return index == outputKey.index &&
+          Objects.equals(noteId, outputKey.noteId) &&
+          Objects.equals(paragraphId, outputKey.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(noteId, paragraphId, index);
+    }
+  }
+}
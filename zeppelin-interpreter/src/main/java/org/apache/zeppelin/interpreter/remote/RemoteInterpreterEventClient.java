@@ -16,8 +16,12 @@
  */
 package org.apache.zeppelin.interpreter.remote;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
 import org.apache.zeppelin.interpreter.InterpreterResult;
@@ -29,9 +33,13 @@ import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateAllEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.ParagraphInfo;
+import org.apache.zeppelin.interpreter.thrift.ParagraphStatusUpdateEvent;
+import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
 import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.interpreter.thrift.ServiceException;
+import org.apache.zeppelin.resource.ChunkedResourceInputStream;
+import org.apache.zeppelin.resource.ChunkedResourceSender;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourceId;
@@ -42,40 +50,222 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.InflaterInputStream;
 
 /**
  * This class is used to communicate with ZeppelinServer via thrift.
- * All the methods are synchronized because thrift client is not thread safe.
+ *
+ * Thrift client is not thread safe, so a pool of clients (each one with its own connection)
+ * is used. Events which don't need any response (output, angular object and app events) are
+ * sent in order by one background thread, so the caller never blocks on the network, while
+ * request/response calls (resources, invokeMethod, paragraph list) borrow their own client
+ * and run concurrently. The event thread has its own client outside of the pool, so events
+ * are still sent when all the pooled clients are busy with long requests. At most
+ * MAX_PENDING_EVENTS events wait to be sent, beyond that the caller blocks until the event
+ * thread catches up, so a slow zeppelin server can't make the queue grow without bound.
  */
 public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     AngularObjectRegistryListener {
   private final Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreterEventClient.class);
   private final Gson gson = new Gson();
 
-  private RemoteInterpreterEventService.Client intpEventServiceClient;
+  static final int MAX_CLIENTS = 8;
+  static final int MAX_PENDING_EVENTS = 1000;
+  private static final long BORROW_TIMEOUT_MS = 5_000;
+
+  private EventServiceClientFactory clientFactory;
+  private GenericObjectPool<RemoteInterpreterEventService.Client> clientPool;
+  // fire-and-forget events are sent by this single thread, in the order they are submitted
+  private final ThreadPoolExecutor eventSender;
+  // only used by the eventSender thread
+  private RemoteInterpreterEventService.Client eventSenderClient;
   private String intpGroupId;
+  private volatile OutputAppendBatcher outputAppendBatcher;
+  private volatile int resourceTransferChunkSize = ChunkedResourceSender.DEFAULT_CHUNK_SIZE;
+  private volatile boolean resourceTransferCompress = false;
+
+  public RemoteInterpreterEventClient(String intpEventServerHost, int intpEventServerPort) {
+    this(intpEventServerHost, intpEventServerPort, MAX_PENDING_EVENTS);
+  }
+
+  @VisibleForTesting
+  RemoteInterpreterEventClient(String intpEventServerHost, int intpEventServerPort,
+                               int maxPendingEvents) {
+    this.clientFactory = new EventServiceClientFactory(intpEventServerHost, intpEventServerPort);
+    GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+    poolConfig.setMaxTotal(MAX_CLIENTS);
+    poolConfig.setTestOnBorrow(true);
+    this.clientPool = new GenericObjectPool<>(clientFactory, poolConfig);
+    this.eventSender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(maxPendingEvents), r -> {
+          Thread t = new Thread(r, "RemoteInterpreterEventSender");
+          t.setDaemon(true);
+          return t;
+        }, (r, executor) -> {
+          // queue is full, block the caller instead of dropping the event, output and
+          // status events must all arrive and in order
+          if (executor.isShutdown()) {
+            throw new RejectedExecutionException("event client is closed");
+          }
+          try {
+            executor.getQueue().put(r);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("interrupted while waiting for event queue");
+          }
+        });
+    this.outputAppendBatcher = new OutputAppendBatcher(this::sendOutputAppend,
+        OutputAppendBatcher.DEFAULT_FLUSH_INTERVAL_MS, OutputAppendBatcher.DEFAULT_FLUSH_SIZE);
+  }
+
+  /**
+   * Change the time/size window of coalescing appended output. Interval 0 disables batching.
+   */
+  public void setOutputFlushConfig(long flushIntervalMs, int flushSize) {
+    OutputAppendBatcher oldBatcher = this.outputAppendBatcher;
+    if (oldBatcher.getFlushIntervalMs() == flushIntervalMs
+        && oldBatcher.getFlushSize() == flushSize) {
+      return;
+    }
+    this.outputAppendBatcher =
+        new OutputAppendBatcher(this::sendOutputAppend, flushIntervalMs, flushSize);
+    oldBatcher.close();
+  }
 
-  public RemoteInterpreterEventClient(RemoteInterpreterEventService.Client intpEventServiceClient) {
-    this.intpEventServiceClient = intpEventServiceClient;
+  /**
+   * Change the chunk size and compression of reading resources from other interpreter processes.
+   */
+  public void setResourceTransferConfig(int chunkSize, boolean compress) {
+    this.resourceTransferChunkSize = chunkSize;
+    this.resourceTransferCompress = compress;
   }
 
   public void setIntpGroupId(String intpGroupId) {
     this.intpGroupId = intpGroupId;
   }
 
+  /**
+   * Call the remote function with one client borrowed from the pool, calls from different
+   * threads run concurrently.
+   */
+  private <T> T callRemoteFunction(RemoteEventFunction<T> func) throws TException {
+    RemoteInterpreterEventService.Client client;
+    try {
+      client = clientPool.borrowObject(BORROW_TIMEOUT_MS);
+    } catch (Exception e) {
+      throw new TException("Fail to connect to RemoteInterpreterEventServer", e);
+    }
+    boolean broken = false;
+    try {
+      return func.call(client);
+    } catch (TException e) {
+      broken = true;
+      throw e;
+    } finally {
+      if (broken) {
+        try {
+          clientPool.invalidateObject(client);
+        } catch (Exception e) {
+          LOGGER.warn("exception occurred during releasing thrift client", e);
+        }
+      } else {
+        clientPool.returnObject(client);
+      }
+    }
+  }
+
+  /**
+   * Call the remote function with the client of the eventSender thread. When the connection is
+   * broken, reconnect and retry once.
+   */
+  private void callEventFunction(RemoteEventFunction<Void> func) throws TException {
+    for (int attempt = 0; ; attempt++) {
+      if (eventSenderClient == null) {
+        try {
+          eventSenderClient = clientFactory.create();
+        } catch (Exception e) {
+          throw new TException("Fail to connect to RemoteInterpreterEventServer", e);
+        }
+      }
+      try {
+        func.call(eventSenderClient);
+        return;
+      } catch (TTransportException e) {
+        clientFactory.destroyObject(clientFactory.wrap(eventSenderClient));
+        eventSenderClient = null;
+        if (attempt > 0) {
+          throw e;
+        }
+        LOGGER.warn("Connection of event client is broken, reconnect", e);
+      }
+    }
+  }
+
+  /**
+   * Send the event asynchronously, events are sent in the order they are submitted.
+   */
+  private void sendEvent(String eventName, RemoteEventFunction<Void> func) {
+    try {
+      eventSender.submit(() -> {
+        try {
+          callEventFunction(func);
+        } catch (TException e) {
+          LOGGER.warn("Fail to " + eventName, e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn("Fail to {}, {}", eventName, e.getMessage());
+    }
+  }
+
+  @VisibleForTesting
+  int getPendingEventCount() {
+    return eventSender.getQueue().size();
+  }
+
+  /**
+   * Wait until all the events submitted before are sent.
+   */
+  private void waitForEventsSent() {
+    try {
+      eventSender.submit(() -> { }).get();
+    } catch (RejectedExecutionException e) {
+      // event client is closed
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOGGER.warn("Fail to wait for events", e);
+    }
+  }
+
+  public void registerInterpreterProcess(RegisterInfo registerInfo) throws TException {
+    callRemoteFunction(client -> {
+      client.registerInterpreterProcess(registerInfo);
+      return null;
+    });
+  }
+
   /**
    * Get all resources except for specific resourcePool
    *
    * @return
    */
   @Override
-  public synchronized ResourceSet getAllResources() {
+  public ResourceSet getAllResources() {
     try {
-      List<String> resources = intpEventServiceClient.getAllResources(intpGroupId);
+      List<String> resources = callRemoteFunction(client -> client.getAllResources(intpGroupId));
       ResourceSet resourceSet = new ResourceSet();
       for (String res : resources) {
         RemoteResource resource = RemoteResource.fromJson(res);
@@ -89,19 +279,77 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
-  public synchronized List<ParagraphInfo> getParagraphList(String user, String noteId)
+  /**
+   * Look up resources via the resource index of zeppelin server, instead of fetching
+   * all the resources of all the interpreter processes.
+   */
+  @Override
+  public ResourceSet getResources(String noteId, String paragraphId, String name) {
+    // resourcePoolId is the caller, its resources are excluded
+    Map<String, String> query = new HashMap<>();
+    query.put("resourcePoolId", intpGroupId);
+    query.put("noteId", noteId);
+    query.put("paragraphId", paragraphId);
+    query.put("name", name);
+    String queryJson = gson.toJson(query);
+    ResourceSet resourceSet = new ResourceSet();
+    try {
+      List<String> resources = callRemoteFunction(client -> client.findResources(queryJson));
+      for (String res : resources) {
+        RemoteResource resource = RemoteResource.fromJson(res);
+        resource.setResourcePoolConnector(this);
+        resourceSet.add(resource);
+      }
+    } catch (TException e) {
+      LOGGER.warn("Fail to findResources: " + queryJson, e);
+    }
+    return resourceSet;
+  }
+
+  @Override
+  public void onResourcePut(Resource resource) {
+    String json = resource.toJson();
+    sendEvent("addResource: " + resource.getResourceId().getName(), client -> {
+      client.addResource(intpGroupId, json);
+      return null;
+    });
+  }
+
+  @Override
+  public void onResourceRemove(ResourceId resourceId) {
+    String json = resourceId.toJson();
+    sendEvent("removeResource: " + resourceId.getName(), client -> {
+      client.removeResource(intpGroupId, json);
+      return null;
+    });
+  }
+
+  public List<ParagraphInfo> getParagraphList(String user, String noteId)
       throws TException, ServiceException {
-    List<ParagraphInfo> paragraphList = intpEventServiceClient.getParagraphList(user, noteId);
+    List<ParagraphInfo> paragraphList =
+        callRemoteFunction(client -> client.getParagraphList(user, noteId));
     return paragraphList;
   }
 
   @Override
-  public synchronized Object readResource(ResourceId resourceId) {
+  public Object readResource(ResourceId resourceId) {
+    boolean compress = resourceTransferCompress;
+    String transferRequest = new ResourceTransferRequest(resourceId,
+        UUID.randomUUID().toString(), resourceTransferChunkSize, compress).toJson();
+    // the value is deserialized while its chunks are received, instead of buffering all of them
+    InputStream ins = new ChunkedResourceInputStream(() -> {
+      try {
+        return callRemoteFunction(client -> client.getResourceChunk(intpGroupId, transferRequest));
+      } catch (TException e) {
+        throw new IOException(e);
+      }
+    });
+    if (compress) {
+      ins = new InflaterInputStream(ins);
+    }
     try {
-      ByteBuffer buffer = intpEventServiceClient.getResource(resourceId.toJson());
-      Object o = Resource.deserializeObject(buffer);
-      return o;
-    } catch (TException | IOException | ClassNotFoundException e) {
+      return Resource.deserializeObject(ins);
+    } catch (IOException | ClassNotFoundException e) {
       LOGGER.warn("Failt to readResource: " + resourceId, e);
       return null;
     }
@@ -117,7 +365,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
    * @return
    */
   @Override
-  public synchronized Object invokeMethod(
+  public Object invokeMethod(
       ResourceId resourceId,
       String methodName,
       Class[] paramTypes,
@@ -131,7 +379,8 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
             params,
             null);
     try {
-      ByteBuffer buffer = intpEventServiceClient.invokeMethod(intpGroupId, invokeMethod.toJson());
+      ByteBuffer buffer = callRemoteFunction(
+          client -> client.invokeMethod(intpGroupId, invokeMethod.toJson()));
       Object o = Resource.deserializeObject(buffer);
       return o;
     } catch (TException | IOException | ClassNotFoundException e) {
@@ -151,7 +400,7 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
    * @return
    */
   @Override
-  public synchronized Resource invokeMethod(
+  public Resource invokeMethod(
       ResourceId resourceId,
       String methodName,
       Class[] paramTypes,
@@ -167,7 +416,8 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
             returnResourceName);
 
     try {
-      ByteBuffer serializedResource = intpEventServiceClient.invokeMethod(intpGroupId, invokeMethod.toJson());
+      ByteBuffer serializedResource = callRemoteFunction(
+          client -> client.invokeMethod(intpGroupId, invokeMethod.toJson()));
       Resource deserializedResource = (Resource) Resource.deserializeObject(serializedResource);
       RemoteResource remoteResource = RemoteResource.fromJson(gson.toJson(deserializedResource));
       remoteResource.setResourcePoolConnector(this);
@@ -179,35 +429,70 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
-  public synchronized void onInterpreterOutputAppend(
+  /**
+   * Appended output is coalesced by OutputAppendBatcher, it is not sent to zeppelin server
+   * immediately.
+   */
+  public void onInterpreterOutputAppend(
       String noteId, String paragraphId, int outputIndex, String output) {
+    outputAppendBatcher.append(noteId, paragraphId, outputIndex, output);
+  }
+
+  private void sendOutputAppend(
+      String noteId, String paragraphId, int outputIndex, String output) {
+    OutputAppendEvent event = new OutputAppendEvent(noteId, paragraphId, outputIndex, output, null);
+    sendEvent("appendOutput", client -> {
+      client.appendOutput(event);
+      return null;
+    });
+  }
+
+  /**
+   * Send the buffered appended output of this paragraph to zeppelin server, and wait until
+   * all the events before are sent.
+   */
+  public void flushOutput(String noteId, String paragraphId) {
+    outputAppendBatcher.flush(noteId, paragraphId);
+    waitForEventsSent();
+  }
+
+  /**
+   * Send all the buffered events and close all the connections.
+   */
+  public void close() {
+    outputAppendBatcher.close();
+    eventSender.shutdown();
     try {
-      intpEventServiceClient.appendOutput(
-          new OutputAppendEvent(noteId, paragraphId, outputIndex, output, null));
-    } catch (TException e) {
-      LOGGER.warn("Fail to appendOutput", e);
+      eventSender.awaitTermination(BORROW_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
+    clientPool.close();
+    clientFactory.close();
   }
 
-  public synchronized void onInterpreterOutputUpdate(
+  public void onInterpreterOutputUpdate(
       String noteId, String paragraphId, int outputIndex,
       InterpreterResult.Type type, String output) {
-    try {
-      intpEventServiceClient.updateOutput(
-          new OutputUpdateEvent(noteId, paragraphId, outputIndex, type.name(), output, null));
-    } catch (TException e) {
-      LOGGER.warn("Fail to updateOutput", e);
-    }
+    // buffered appended output must arrive before the update
+    outputAppendBatcher.flush(noteId, paragraphId);
+    OutputUpdateEvent event =
+        new OutputUpdateEvent(noteId, paragraphId, outputIndex, type.name(), output, null);
+    sendEvent("updateOutput", client -> {
+      client.updateOutput(event);
+      return null;
+    });
   }
 
-  public synchronized void onInterpreterOutputUpdateAll(
+  public void onInterpreterOutputUpdateAll(
       String noteId, String paragraphId, List<InterpreterResultMessage> messages) {
-    try {
-      intpEventServiceClient.updateAllOutput(
-          new OutputUpdateAllEvent(noteId, paragraphId, convertToThrift(messages)));
-    } catch (TException e) {
-      LOGGER.warn("Fail to updateAllOutput", e);
-    }
+    outputAppendBatcher.flush(noteId, paragraphId);
+    OutputUpdateAllEvent event =
+        new OutputUpdateAllEvent(noteId, paragraphId, convertToThrift(messages));
+    sendEvent("updateAllOutput", client -> {
+      client.updateAllOutput(event);
+      return null;
+    });
   }
 
   private List<org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage>
@@ -222,95 +507,112 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     return thriftMessages;
   }
 
-  public synchronized void runParagraphs(String noteId,
-                                         List<String> paragraphIds,
-                                         List<Integer> paragraphIndices,
-                                         String curParagraphId) {
+  public void runParagraphs(String noteId,
+                            List<String> paragraphIds,
+                            List<Integer> paragraphIndices,
+                            String curParagraphId) {
     RunParagraphsEvent event =
         new RunParagraphsEvent(noteId, paragraphIds, paragraphIndices, curParagraphId);
-    try {
-      intpEventServiceClient.runParagraphs(event);
-    } catch (TException e) {
-      LOGGER.warn("Fail to runParagraphs: " + event, e);
-    }
+    sendEvent("runParagraphs: " + event, client -> {
+      client.runParagraphs(event);
+      return null;
+    });
   }
 
-  public synchronized void checkpointOutput(String noteId, String paragraphId) {
-    try {
-      intpEventServiceClient.checkpointOutput(noteId, paragraphId);
-    } catch (TException e) {
-      LOGGER.warn("Fail to checkpointOutput of paragraph: " +
-              paragraphId + " of note: " + noteId, e);
-    }
+  public void checkpointOutput(String noteId, String paragraphId) {
+    sendEvent("checkpointOutput of paragraph: " + paragraphId + " of note: " + noteId,
+        client -> {
+          client.checkpointOutput(noteId, paragraphId);
+          return null;
+        });
   }
 
-  public synchronized void onAppOutputAppend(
+  public void onAppOutputAppend(
       String noteId, String paragraphId, int index, String appId, String output) {
     AppOutputAppendEvent event =
         new AppOutputAppendEvent(noteId, paragraphId, appId, index, output);
-    try {
-      intpEventServiceClient.appendAppOutput(event);
-    } catch (TException e) {
-      LOGGER.warn("Fail to appendAppOutput: " + event, e);
-    }
+    sendEvent("appendAppOutput: " + event, client -> {
+      client.appendAppOutput(event);
+      return null;
+    });
   }
 
 
-  public synchronized void onAppOutputUpdate(
+  public void onAppOutputUpdate(
       String noteId, String paragraphId, int index, String appId,
       InterpreterResult.Type type, String output) {
     AppOutputUpdateEvent event =
         new AppOutputUpdateEvent(noteId, paragraphId, appId, index, type.name(), output);
-    try {
-      intpEventServiceClient.updateAppOutput(event);
-    } catch (TException e) {
-      LOGGER.warn("Fail to updateAppOutput: " + event, e);
-    }
+    sendEvent("updateAppOutput: " + event, client -> {
+      client.updateAppOutput(event);
+      return null;
+    });
   }
 
-  public synchronized void onAppStatusUpdate(String noteId, String paragraphId, String appId,
-                                             String status) {
+  public void onAppStatusUpdate(String noteId, String paragraphId, String appId,
+                                String status) {
     AppStatusUpdateEvent event = new AppStatusUpdateEvent(noteId, paragraphId, appId, status);
-    try {
-      intpEventServiceClient.updateAppStatus(event);
-    } catch (TException e) {
-      LOGGER.warn("Fail to updateAppStatus: " + event, e);
-    }
+    sendEvent("updateAppStatus: " + event, client -> {
+      client.updateAppStatus(event);
+      return null;
+    });
   }
 
-  public synchronized void onParaInfosReceived(Map<String, String> infos) {
-    try {
-      intpEventServiceClient.sendParagraphInfo(intpGroupId, gson.toJson(infos));
-    } catch (TException e) {
-      LOGGER.warn("Fail to onParaInfosReceived: " + infos, e);
-    }
+  /**
+   * Push the status change of the job (paragraph) to zeppelin server, so that RemoteScheduler
+   * doesn't need to poll the status of the job. schedulerFull tells whether the scheduler of
+   * the interpreter can't start another job right now.
+   */
+  public void onParagraphStatusUpdate(String noteId, String paragraphId, String status,
+                                      boolean schedulerFull) {
+    ParagraphStatusUpdateEvent event = new ParagraphStatusUpdateEvent(
+        noteId, paragraphId, intpGroupId, status, schedulerFull);
+    sendEvent("updateParagraphStatus: " + event, client -> {
+      client.updateParagraphStatus(event);
+      return null;
+    });
+  }
+
+  public void onParaInfosReceived(Map<String, String> infos) {
+    String json = gson.toJson(infos);
+    sendEvent("onParaInfosReceived: " + infos, client -> {
+      client.sendParagraphInfo(intpGroupId, json);
+      return null;
+    });
   }
 
   @Override
-  public synchronized void onAdd(String interpreterGroupId, AngularObject object) {
-    try {
-      intpEventServiceClient.addAngularObject(intpGroupId, object.toJson());
-    } catch (TException e) {
-      LOGGER.warn("Fail to add AngularObject: " + object, e);
-    }
+  public void onAdd(String interpreterGroupId, AngularObject object) {
+    String json = object.toJson();
+    sendEvent("add AngularObject: " + object, client -> {
+      client.addAngularObject(intpGroupId, json);
+      return null;
+    });
   }
 
   @Override
-  public synchronized void onUpdate(String interpreterGroupId, AngularObject object) {
-    try {
-      intpEventServiceClient.updateAngularObject(intpGroupId, object.toJson());
-    } catch (TException e) {
-      LOGGER.warn("Fail to update AngularObject: " + object, e);
-    }
+  public void onUpdate(String interpreterGroupId, AngularObject object) {
+    String json = object.toJson();
+    sendEvent("update AngularObject: " + object, client -> {
+      client.updateAngularObject(intpGroupId, json);
+      return null;
+    });
   }
 
   @Override
-  public synchronized void onRemove(String interpreterGroupId, String name, String noteId,
-                                    String paragraphId) {
-    try {
-      intpEventServiceClient.removeAngularObject(intpGroupId, noteId, paragraphId, name);
-    } catch (TException e) {
-      LOGGER.warn("Fail to remove AngularObject", e);
-    }
+  public void onRemove(String interpreterGroupId, String name, String noteId,
+                       String paragraphId) {
+    sendEvent("remove AngularObject", client -> {
+      client.removeAngularObject(intpGroupId, noteId, paragraphId, name);
+      return null;
+    });
+  }
+
+  /**
+   *
+   * @param <T>
+   */
+  private interface RemoteEventFunction<T> {
+    T call(RemoteInterpreterEventService.Client client) throws TException;
   }
 }
@@ -22,12 +22,8 @@ import com.google.gson.reflect.TypeToken;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.cluster.ClusterManagerClient;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
@@ -61,19 +57,21 @@ import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
 import org.apache.zeppelin.interpreter.thrift.RemoteApplicationResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
-import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.apache.zeppelin.resource.ChunkedResourceSender;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.AbstractScheduler;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.scheduler.JobListener;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.tabledata.SpooledTableData;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -116,6 +114,7 @@ public class RemoteInterpreterServer extends Thread
   private AngularObjectRegistry angularObjectRegistry;
   private InterpreterHookRegistry hookRegistry;
   private DistributedResourcePool resourcePool;
+  private final ChunkedResourceSender resourceSender = new ChunkedResourceSender();
   private ApplicationLoader appLoader;
   private Gson gson = new Gson();
 
@@ -123,7 +122,6 @@ public class RemoteInterpreterServer extends Thread
   private String host;
   private int port;
   private TThreadPoolServer server;
-  RemoteInterpreterEventService.Client intpEventServiceClient;
 
   RemoteInterpreterEventClient intpEventClient;
   private DependencyResolver depLoader;
@@ -163,11 +161,8 @@ public class RemoteInterpreterServer extends Thread
     if (null != intpEventServerHost) {
       this.intpEventServerHost = intpEventServerHost;
       if (!isTest) {
-        TTransport transport = new TSocket(intpEventServerHost, intpEventServerPort);
-        transport.open();
-        TProtocol protocol = new TBinaryProtocol(transport);
-        intpEventServiceClient = new RemoteInterpreterEventService.Client(protocol);
-        intpEventClient = new RemoteInterpreterEventClient(intpEventServiceClient);
+        intpEventClient =
+            new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort);
       }
     } else {
       // DevInterpreter
@@ -223,7 +218,7 @@ public class RemoteInterpreterServer extends Thread
             if (!interrupted) {
               RegisterInfo registerInfo = new RegisterInfo(host, port, interpreterGroupId);
               try {
-                intpEventServiceClient.registerInterpreterProcess(registerInfo);
+                intpEventClient.registerInterpreterProcess(registerInfo);
               } catch (TException e) {
                 logger.error("Error while registering interpreter: {}", registerInfo, e);
                 try {
@@ -263,6 +258,9 @@ public class RemoteInterpreterServer extends Thread
       if (!isTest) {
         SchedulerFactory.singleton().destroy();
       }
+      if (intpEventClient != null) {
+        intpEventClient.close();
+      }
 
       server.stop();
 
@@ -390,6 +388,24 @@ public class RemoteInterpreterServer extends Thread
         InterpreterOutput.limit = Integer.parseInt(
             properties.get("zeppelin.interpreter.output.limit"));
       }
+      if (properties.containsKey("zeppelin.interpreter.output.flush.interval")
+          || properties.containsKey("zeppelin.interpreter.output.flush.size")) {
+        intpEventClient.setOutputFlushConfig(
+            Long.parseLong(properties.getOrDefault("zeppelin.interpreter.output.flush.interval",
+                OutputAppendBatcher.DEFAULT_FLUSH_INTERVAL_MS + "")),
+            Integer.parseInt(properties.getOrDefault("zeppelin.interpreter.output.flush.size",
+                OutputAppendBatcher.DEFAULT_FLUSH_SIZE + "")));
+      }
+
+      if (properties.containsKey("zeppelin.interpreter.resource.transfer.chunk.size")
+          || properties.containsKey("zeppelin.interpreter.resource.transfer.compress")) {
+        intpEventClient.setResourceTransferConfig(
+            Integer.parseInt(properties.getOrDefault(
+                "zeppelin.interpreter.resource.transfer.chunk.size",
+                ChunkedResourceSender.DEFAULT_CHUNK_SIZE + "")),
+            Boolean.parseBoolean(properties.getOrDefault(
+                "zeppelin.interpreter.resource.transfer.compress", "false")));
+      }
 
       depLoader = new DependencyResolver(localRepoPath);
       appLoader = new ApplicationLoader(resourcePool, depLoader);
@@ -527,7 +543,8 @@ public class RemoteInterpreterServer extends Thread
     context.setInterpreterClassName(intp.getClassName());
 
     Scheduler scheduler = intp.getScheduler();
-    InterpretJobListener jobListener = new InterpretJobListener();
+    InterpretJobListener jobListener =
+        new InterpretJobListener(interpreterContext.getNoteId(), scheduler);
     InterpretJob job = new InterpretJob(
         interpreterContext.getParagraphId(),
         "RemoteInterpretJob_" + System.currentTimeMillis(),
@@ -548,6 +565,11 @@ public class RemoteInterpreterServer extends Thread
     }
 
     progressMap.remove(interpreterContext.getParagraphId());
+    // make sure all the appended output arrives zeppelin server before the result
+    if (intpEventClient != null) {
+      intpEventClient.flushOutput(interpreterContext.getNoteId(),
+          interpreterContext.getParagraphId());
+    }
 
     InterpreterResult  result = (InterpreterResult) job.getReturn();
     // in case of job abort in PENDING status, result can be null
@@ -562,12 +584,28 @@ public class RemoteInterpreterServer extends Thread
 
   class InterpretJobListener implements JobListener {
 
+    private String noteId;
+    private Scheduler scheduler;
+
+    InterpretJobListener(String noteId, Scheduler scheduler) {
+      this.noteId = noteId;
+      this.scheduler = scheduler;
+    }
+
     @Override
     public void onProgressUpdate(Job job, int progress) {
     }
 
     @Override
     public void onStatusChange(Job job, Status before, Status after) {
+      // push the status to RemoteScheduler of zeppelin server
+      if (intpEventClient != null) {
+        // tell RemoteScheduler whether a job sent now would have to wait in the queue here
+        boolean schedulerFull = scheduler instanceof AbstractScheduler
+            && ((AbstractScheduler) scheduler).isFull();
+        intpEventClient.onParagraphStatusUpdate(noteId, job.getId(), after.name(),
+            schedulerFull);
+      }
       synchronized (this) {
         notifyAll();
       }
@@ -1032,6 +1070,7 @@ public class RemoteInterpreterServer extends Thread
   public boolean resourceRemove(String noteId, String paragraphId, String resourceName)
       throws TException {
     Resource resource = resourcePool.remove(noteId, paragraphId, resourceName);
+    SpooledTableData.closeIfSpooled(resource);
     return resource != null;
   }
 
@@ -1053,6 +1092,21 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  @Override
+  public ByteBuffer resourceGetChunk(String noteId, String paragraphId, String resourceName,
+                                     String transferRequest) throws TException {
+    ResourceTransferRequest request = ResourceTransferRequest.fromJson(transferRequest);
+    return resourceSender.readChunk(request.transferId, request.chunkSize, request.compress,
+        () -> {
+          logger.debug("Request resourceGetChunk {} from ZeppelinServer", resourceName);
+          Resource resource = resourcePool.get(noteId, paragraphId, resourceName, false);
+          if (resource == null || !resource.isSerializable()) {
+            return null;
+          }
+          return resource.get();
+        });
+  }
+
   @Override
   public ByteBuffer resourceInvokeMethod(
       String noteId, String paragraphId, String resourceName, String invokeMessage) {
@@ -1067,7 +1121,10 @@ public class RemoteInterpreterServer extends Thread
         Method method = o.getClass().getMethod(
             message.methodName,
             message.getParamTypes());
-        Object ret = method.invoke(o, message.params);
+        Object ret = method.invoke(o, message.getParams());
+        if (Resource.isClose(o, message.methodName, message.getParamTypes())) {
+          resourcePool.remove(noteId, paragraphId, resourceName);
+        }
         if (message.shouldPutResultIntoResourcePool()) {
           // if return resource name is specified,
           // then put result into resource pool
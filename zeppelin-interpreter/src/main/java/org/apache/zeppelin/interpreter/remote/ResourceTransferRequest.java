@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.gson.Gson;
+import org.apache.zeppelin.common.JsonSerializable;
+import org.apache.zeppelin.resource.ResourceId;
+
+/**
+ * message payload to read the next chunk of a resource in the resourcepool
+ */
+public class ResourceTransferRequest implements JsonSerializable {
+  private static final Gson gson = new Gson();
+
+  public final ResourceId resourceId;
+  // generated by the reader, identifies the transfer across the chunk requests
+  public final String transferId;
+  public final int chunkSize;
+  public final boolean compress;
+
+  public ResourceTransferRequest(
+      ResourceId resourceId,
+      String transferId,
+      int chunkSize,
+      boolean compress) {
+    this.resourceId = resourceId;
+    this.transferId = transferId;
+    this.chunkSize = chunkSize;
+    this.compress = compress;
+  }
+
+  public String toJson() {
+    return gson.toJson(this);
+  }
+
+  public static ResourceTransferRequest fromJson(String json) {
+    return gson.fromJson(json, ResourceTransferRequest.class);
+  }
+}
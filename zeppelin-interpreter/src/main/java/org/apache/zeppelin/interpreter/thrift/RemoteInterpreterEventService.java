@@ -42,24 +42,29 @@ public class RemoteInterpreterEventService {
     public void updateAppOutput(AppOutputUpdateEvent event) throws org.apache.thrift.TException;
 
     public void updateAppStatus(AppStatusUpdateEvent event) throws org.apache.thrift.TException;
+    public void updateParagraphStatus(ParagraphStatusUpdateEvent event) throws org.apache.thrift.TException;
 
     public void checkpointOutput(java.lang.String noteId, java.lang.String paragraphId) throws org.apache.thrift.TException;
 
     public void runParagraphs(RunParagraphsEvent event) throws org.apache.thrift.TException;
 
     public void addAngularObject(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
+    public void addResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
 
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
+    public void removeResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
 
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name) throws org.apache.thrift.TException;
 
     public void sendParagraphInfo(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
 
     public java.util.List<java.lang.String> getAllResources(java.lang.String intpGroupId) throws org.apache.thrift.TException;
+    public java.util.List<java.lang.String> findResources(java.lang.String resourceIdJson) throws org.apache.thrift.TException;
 
     public java.nio.ByteBuffer getResource(java.lang.String resourceIdJson) throws org.apache.thrift.TException;
 
     public java.nio.ByteBuffer invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson) throws org.apache.thrift.TException;
+    public java.nio.ByteBuffer getResourceChunk(java.lang.String intpGroupId, java.lang.String transferRequestJson) throws org.apache.thrift.TException;
 
     public java.util.List<ParagraphInfo> getParagraphList(java.lang.String user, java.lang.String noteId) throws ServiceException, org.apache.thrift.TException;
 
@@ -80,24 +85,29 @@ public class RemoteInterpreterEventService {
     public void updateAppOutput(AppOutputUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void updateAppStatus(AppStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+    public void updateParagraphStatus(ParagraphStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void checkpointOutput(java.lang.String noteId, java.lang.String paragraphId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void runParagraphs(RunParagraphsEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void addAngularObject(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+    public void addResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+    public void removeResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void sendParagraphInfo(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void getAllResources(java.lang.String intpGroupId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
+    public void findResources(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
 
     public void getResource(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
     public void invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
+    public void getResourceChunk(java.lang.String intpGroupId, java.lang.String transferRequestJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
     public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException;
 
@@ -263,6 +273,26 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void updateParagraphStatus(ParagraphStatusUpdateEvent event) throws org.apache.thrift.TException
+    {
+      send_updateParagraphStatus(event);
+      recv_updateParagraphStatus();
+    }
+
+    public void send_updateParagraphStatus(ParagraphStatusUpdateEvent event) throws org.apache.thrift.TException
+    {
+      updateParagraphStatus_args args = new updateParagraphStatus_args();
+      args.setEvent(event);
+      sendBase("updateParagraphStatus", args);
+    }
+
+    public void recv_updateParagraphStatus() throws org.apache.thrift.TException
+    {
+      updateParagraphStatus_result result = new updateParagraphStatus_result();
+      receiveBase(result, "updateParagraphStatus");
+      return;
+    }
+
     public void checkpointOutput(java.lang.String noteId, java.lang.String paragraphId) throws org.apache.thrift.TException
     {
       send_checkpointOutput(noteId, paragraphId);
@@ -325,6 +355,27 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void addResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      send_addResource(intpGroupId, json);
+      recv_addResource();
+    }
+
+    public void send_addResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      addResource_args args = new addResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setJson(json);
+      sendBase("addResource", args);
+    }
+
+    public void recv_addResource() throws org.apache.thrift.TException
+    {
+      addResource_result result = new addResource_result();
+      receiveBase(result, "addResource");
+      return;
+    }
+
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
     {
       send_updateAngularObject(intpGroupId, json);
@@ -346,6 +397,27 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void removeResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      send_removeResource(intpGroupId, json);
+      recv_removeResource();
+    }
+
+    public void send_removeResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      removeResource_args args = new removeResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setJson(json);
+      sendBase("removeResource", args);
+    }
+
+    public void recv_removeResource() throws org.apache.thrift.TException
+    {
+      removeResource_result result = new removeResource_result();
+      receiveBase(result, "removeResource");
+      return;
+    }
+
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name) throws org.apache.thrift.TException
     {
       send_removeAngularObject(intpGroupId, noteId, paragraphId, name);
@@ -413,6 +485,29 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getAllResources failed: unknown result");
     }
 
+    public java.util.List<java.lang.String> findResources(java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      send_findResources(resourceIdJson);
+      return recv_findResources();
+    }
+
+    public void send_findResources(java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      findResources_args args = new findResources_args();
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("findResources", args);
+    }
+
+    public java.util.List<java.lang.String> recv_findResources() throws org.apache.thrift.TException
+    {
+      findResources_result result = new findResources_result();
+      receiveBase(result, "findResources");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findResources failed: unknown result");
+    }
+
     public java.nio.ByteBuffer getResource(java.lang.String resourceIdJson) throws org.apache.thrift.TException
     {
       send_getResource(resourceIdJson);
@@ -460,6 +555,30 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "invokeMethod failed: unknown result");
     }
 
+    public java.nio.ByteBuffer getResourceChunk(java.lang.String intpGroupId, java.lang.String transferRequestJson) throws org.apache.thrift.TException
+    {
+      send_getResourceChunk(intpGroupId, transferRequestJson);
+      return recv_getResourceChunk();
+    }
+
+    public void send_getResourceChunk(java.lang.String intpGroupId, java.lang.String transferRequestJson) throws org.apache.thrift.TException
+    {
+      getResourceChunk_args args = new getResourceChunk_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setTransferRequestJson(transferRequestJson);
+      sendBase("getResourceChunk", args);
+    }
+
+    public java.nio.ByteBuffer recv_getResourceChunk() throws org.apache.thrift.TException
+    {
+      getResourceChunk_result result = new getResourceChunk_result();
+      receiveBase(result, "getResourceChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getResourceChunk failed: unknown result");
+    }
+
     public java.util.List<ParagraphInfo> getParagraphList(java.lang.String user, java.lang.String noteId) throws ServiceException, org.apache.thrift.TException
     {
       send_getParagraphList(user, noteId);
@@ -729,6 +848,38 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void updateParagraphStatus(ParagraphStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      updateParagraphStatus_call method_call = new updateParagraphStatus_call(event, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class updateParagraphStatus_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private ParagraphStatusUpdateEvent event;
+      public updateParagraphStatus_call(ParagraphStatusUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.event = event;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("updateParagraphStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        updateParagraphStatus_args args = new updateParagraphStatus_args();
+        args.setEvent(event);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void checkpointOutput(java.lang.String noteId, java.lang.String paragraphId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       checkpointOutput_call method_call = new checkpointOutput_call(noteId, paragraphId, resultHandler, this, ___protocolFactory, ___transport);
@@ -831,6 +982,41 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void addResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      addResource_call method_call = new addResource_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class addResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String json;
+      public addResource_call(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.json = json;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("addResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        addResource_args args = new addResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setJson(json);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       updateAngularObject_call method_call = new updateAngularObject_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
@@ -866,6 +1052,41 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void removeResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      removeResource_call method_call = new removeResource_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class removeResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String json;
+      public removeResource_call(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.json = json;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeResource_args args = new removeResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setJson(json);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       removeAngularObject_call method_call = new removeAngularObject_call(intpGroupId, noteId, paragraphId, name, resultHandler, this, ___protocolFactory, ___transport);
@@ -974,6 +1195,38 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void findResources(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findResources_call method_call = new findResources_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findResources_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<java.lang.String>> {
+      private java.lang.String resourceIdJson;
+      public findResources_call(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourceIdJson = resourceIdJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findResources", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findResources_args args = new findResources_args();
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<java.lang.String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findResources();
+      }
+    }
+
     public void getResource(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getResource_call method_call = new getResource_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
@@ -1041,6 +1294,41 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void getResourceChunk(java.lang.String intpGroupId, java.lang.String transferRequestJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getResourceChunk_call method_call = new getResourceChunk_call(intpGroupId, transferRequestJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getResourceChunk_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String intpGroupId;
+      private java.lang.String transferRequestJson;
+      public getResourceChunk_call(java.lang.String intpGroupId, java.lang.String transferRequestJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.transferRequestJson = transferRequestJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getResourceChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getResourceChunk_args args = new getResourceChunk_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setTransferRequestJson(transferRequestJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getResourceChunk();
+      }
+    }
+
     public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getParagraphList_call method_call = new getParagraphList_call(user, noteId, resultHandler, this, ___protocolFactory, ___transport);
@@ -1096,15 +1384,20 @@ public class RemoteInterpreterEventService {
       processMap.put("appendAppOutput", new appendAppOutput());
       processMap.put("updateAppOutput", new updateAppOutput());
       processMap.put("updateAppStatus", new updateAppStatus());
+      processMap.put("updateParagraphStatus", new updateParagraphStatus());
       processMap.put("checkpointOutput", new checkpointOutput());
       processMap.put("runParagraphs", new runParagraphs());
       processMap.put("addAngularObject", new addAngularObject());
+      processMap.put("addResource", new addResource());
       processMap.put("updateAngularObject", new updateAngularObject());
+      processMap.put("removeResource", new removeResource());
       processMap.put("removeAngularObject", new removeAngularObject());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
       processMap.put("getAllResources", new getAllResources());
+      processMap.put("findResources", new findResources());
       processMap.put("getResource", new getResource());
       processMap.put("invokeMethod", new invokeMethod());
+      processMap.put("getResourceChunk", new getResourceChunk());
       processMap.put("getParagraphList", new getParagraphList());
       return processMap;
     }
@@ -1284,6 +1577,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class updateParagraphStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateParagraphStatus_args> {
+      public updateParagraphStatus() {
+        super("updateParagraphStatus");
+      }
+
+      public updateParagraphStatus_args getEmptyArgsInstance() {
+        return new updateParagraphStatus_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public updateParagraphStatus_result getResult(I iface, updateParagraphStatus_args args) throws org.apache.thrift.TException {
+        updateParagraphStatus_result result = new updateParagraphStatus_result();
+        iface.updateParagraphStatus(args.event);
+        return result;
+      }
+    }
+
     public static class checkpointOutput<I extends Iface> extends org.apache.thrift.ProcessFunction<I, checkpointOutput_args> {
       public checkpointOutput() {
         super("checkpointOutput");
@@ -1359,6 +1677,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class addResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addResource_args> {
+      public addResource() {
+        super("addResource");
+      }
+
+      public addResource_args getEmptyArgsInstance() {
+        return new addResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public addResource_result getResult(I iface, addResource_args args) throws org.apache.thrift.TException {
+        addResource_result result = new addResource_result();
+        iface.addResource(args.intpGroupId, args.json);
+        return result;
+      }
+    }
+
     public static class updateAngularObject<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateAngularObject_args> {
       public updateAngularObject() {
         super("updateAngularObject");
@@ -1384,6 +1727,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class removeResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeResource_args> {
+      public removeResource() {
+        super("removeResource");
+      }
+
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public removeResource_result getResult(I iface, removeResource_args args) throws org.apache.thrift.TException {
+        removeResource_result result = new removeResource_result();
+        iface.removeResource(args.intpGroupId, args.json);
+        return result;
+      }
+    }
+
     public static class removeAngularObject<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeAngularObject_args> {
       public removeAngularObject() {
         super("removeAngularObject");
@@ -1459,13 +1827,13 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResource_args> {
-      public getResource() {
-        super("getResource");
+    public static class findResources<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findResources_args> {
+      public findResources() {
+        super("findResources");
       }
 
-      public getResource_args getEmptyArgsInstance() {
-        return new getResource_args();
+      public findResources_args getEmptyArgsInstance() {
+        return new findResources_args();
       }
 
       protected boolean isOneway() {
@@ -1477,16 +1845,41 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public getResource_result getResult(I iface, getResource_args args) throws org.apache.thrift.TException {
-        getResource_result result = new getResource_result();
-        result.success = iface.getResource(args.resourceIdJson);
+      public findResources_result getResult(I iface, findResources_args args) throws org.apache.thrift.TException {
+        findResources_result result = new findResources_result();
+        result.success = iface.findResources(args.resourceIdJson);
         return result;
       }
     }
 
-    public static class invokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, invokeMethod_args> {
-      public invokeMethod() {
-        super("invokeMethod");
+    public static class getResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResource_args> {
+      public getResource() {
+        super("getResource");
+      }
+
+      public getResource_args getEmptyArgsInstance() {
+        return new getResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getResource_result getResult(I iface, getResource_args args) throws org.apache.thrift.TException {
+        getResource_result result = new getResource_result();
+        result.success = iface.getResource(args.resourceIdJson);
+        return result;
+      }
+    }
+
+    public static class invokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, invokeMethod_args> {
+      public invokeMethod() {
+        super("invokeMethod");
       }
 
       public invokeMethod_args getEmptyArgsInstance() {
@@ -1509,6 +1902,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class getResourceChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResourceChunk_args> {
+      public getResourceChunk() {
+        super("getResourceChunk");
+      }
+
+      public getResourceChunk_args getEmptyArgsInstance() {
+        return new getResourceChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getResourceChunk_result getResult(I iface, getResourceChunk_args args) throws org.apache.thrift.TException {
+        getResourceChunk_result result = new getResourceChunk_result();
+        result.success = iface.getResourceChunk(args.intpGroupId, args.transferRequestJson);
+        return result;
+      }
+    }
+
     public static class getParagraphList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getParagraphList_args> {
       public getParagraphList() {
         super("getParagraphList");
@@ -1558,15 +1976,20 @@ public class RemoteInterpreterEventService {
       processMap.put("appendAppOutput", new appendAppOutput());
       processMap.put("updateAppOutput", new updateAppOutput());
       processMap.put("updateAppStatus", new updateAppStatus());
+      processMap.put("updateParagraphStatus", new updateParagraphStatus());
       processMap.put("checkpointOutput", new checkpointOutput());
       processMap.put("runParagraphs", new runParagraphs());
       processMap.put("addAngularObject", new addAngularObject());
+      processMap.put("addResource", new addResource());
       processMap.put("updateAngularObject", new updateAngularObject());
+      processMap.put("removeResource", new removeResource());
       processMap.put("removeAngularObject", new removeAngularObject());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
       processMap.put("getAllResources", new getAllResources());
+      processMap.put("findResources", new findResources());
       processMap.put("getResource", new getResource());
       processMap.put("invokeMethod", new invokeMethod());
+      processMap.put("getResourceChunk", new getResourceChunk());
       processMap.put("getParagraphList", new getParagraphList());
       return processMap;
     }
@@ -1991,6 +2414,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class updateParagraphStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateParagraphStatus_args, Void> {
+      public updateParagraphStatus() {
+        super("updateParagraphStatus");
+      }
+
+      public updateParagraphStatus_args getEmptyArgsInstance() {
+        return new updateParagraphStatus_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            updateParagraphStatus_result result = new updateParagraphStatus_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            updateParagraphStatus_result result = new updateParagraphStatus_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, updateParagraphStatus_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.updateParagraphStatus(args.event,resultHandler);
+      }
+    }
+
     public static class checkpointOutput<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, checkpointOutput_args, Void> {
       public checkpointOutput() {
         super("checkpointOutput");
@@ -2171,6 +2654,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class addResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addResource_args, Void> {
+      public addResource() {
+        super("addResource");
+      }
+
+      public addResource_args getEmptyArgsInstance() {
+        return new addResource_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addResource_result result = new addResource_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            addResource_result result = new addResource_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, addResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.addResource(args.intpGroupId, args.json,resultHandler);
+      }
+    }
+
     public static class updateAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateAngularObject_args, Void> {
       public updateAngularObject() {
         super("updateAngularObject");
@@ -2231,6 +2774,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class removeResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeResource_args, Void> {
+      public removeResource() {
+        super("removeResource");
+      }
+
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeResource_result result = new removeResource_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            removeResource_result result = new removeResource_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.removeResource(args.intpGroupId, args.json,resultHandler);
+      }
+    }
+
     public static class removeAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeAngularObject_args, Void> {
       public removeAngularObject() {
         super("removeAngularObject");
@@ -2412,6 +3015,67 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class findResources<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findResources_args, java.util.List<java.lang.String>> {
+      public findResources() {
+        super("findResources");
+      }
+
+      public findResources_args getEmptyArgsInstance() {
+        return new findResources_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            findResources_result result = new findResources_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findResources_result result = new findResources_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, findResources_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.findResources(args.resourceIdJson,resultHandler);
+      }
+    }
+
     public static class getResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResource_args, java.nio.ByteBuffer> {
       public getResource() {
         super("getResource");
@@ -2534,16 +3198,77 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getParagraphList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphList_args, java.util.List<ParagraphInfo>> {
-      public getParagraphList() {
-        super("getParagraphList");
+    public static class getResourceChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResourceChunk_args, java.nio.ByteBuffer> {
+      public getResourceChunk() {
+        super("getResourceChunk");
       }
 
-      public getParagraphList_args getEmptyArgsInstance() {
-        return new getParagraphList_args();
+      public getResourceChunk_args getEmptyArgsInstance() {
+        return new getResourceChunk_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            getResourceChunk_result result = new getResourceChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getResourceChunk_result result = new getResourceChunk_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getResourceChunk_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.getResourceChunk(args.intpGroupId, args.transferRequestJson,resultHandler);
+      }
+    }
+
+    public static class getParagraphList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphList_args, java.util.List<ParagraphInfo>> {
+      public getParagraphList() {
+        super("getParagraphList");
+      }
+
+      public getParagraphList_args getEmptyArgsInstance() {
+        return new getParagraphList_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>>() { 
           public void onComplete(java.util.List<ParagraphInfo> o) {
@@ -6983,22 +7708,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class checkpointOutput_args implements org.apache.thrift.TBase<checkpointOutput_args, checkpointOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_args");
+  public static class updateParagraphStatus_args implements org.apache.thrift.TBase<updateParagraphStatus_args, updateParagraphStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateParagraphStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateParagraphStatus_args");
 
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateParagraphStatus_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateParagraphStatus_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable ParagraphStatusUpdateEvent event; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NOTE_ID((short)1, "noteId"),
-      PARAGRAPH_ID((short)2, "paragraphId");
+      EVENT((short)1, "event");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7014,10 +7736,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NOTE_ID
-            return NOTE_ID;
-          case 2: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
+          case 1: // EVENT
+            return EVENT;
           default:
             return null;
         }
@@ -7062,113 +7782,72 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ParagraphStatusUpdateEvent.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateParagraphStatus_args.class, metaDataMap);
     }
 
-    public checkpointOutput_args() {
+    public updateParagraphStatus_args() {
     }
 
-    public checkpointOutput_args(
-      java.lang.String noteId,
-      java.lang.String paragraphId)
+    public updateParagraphStatus_args(
+      ParagraphStatusUpdateEvent event)
     {
       this();
-      this.noteId = noteId;
-      this.paragraphId = paragraphId;
+      this.event = event;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkpointOutput_args(checkpointOutput_args other) {
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
+    public updateParagraphStatus_args(updateParagraphStatus_args other) {
+      if (other.isSetEvent()) {
+        this.event = new ParagraphStatusUpdateEvent(other.event);
       }
     }
 
-    public checkpointOutput_args deepCopy() {
-      return new checkpointOutput_args(this);
+    public updateParagraphStatus_args deepCopy() {
+      return new updateParagraphStatus_args(this);
     }
 
     @Override
     public void clear() {
-      this.noteId = null;
-      this.paragraphId = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getNoteId() {
-      return this.noteId;
-    }
-
-    public checkpointOutput_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
-      this.noteId = noteId;
-      return this;
-    }
-
-    public void unsetNoteId() {
-      this.noteId = null;
-    }
-
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
-    }
-
-    public void setNoteIdIsSet(boolean value) {
-      if (!value) {
-        this.noteId = null;
-      }
+      this.event = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getParagraphId() {
-      return this.paragraphId;
+    public ParagraphStatusUpdateEvent getEvent() {
+      return this.event;
     }
 
-    public checkpointOutput_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
-      this.paragraphId = paragraphId;
+    public updateParagraphStatus_args setEvent(@org.apache.thrift.annotation.Nullable ParagraphStatusUpdateEvent event) {
+      this.event = event;
       return this;
     }
 
-    public void unsetParagraphId() {
-      this.paragraphId = null;
+    public void unsetEvent() {
+      this.event = null;
     }
 
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
     }
 
-    public void setParagraphIdIsSet(boolean value) {
+    public void setEventIsSet(boolean value) {
       if (!value) {
-        this.paragraphId = null;
+        this.event = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case NOTE_ID:
-        if (value == null) {
-          unsetNoteId();
-        } else {
-          setNoteId((java.lang.String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
+      case EVENT:
         if (value == null) {
-          unsetParagraphId();
+          unsetEvent();
         } else {
-          setParagraphId((java.lang.String)value);
+          setEvent((ParagraphStatusUpdateEvent)value);
         }
         break;
 
@@ -7178,11 +7857,8 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case NOTE_ID:
-        return getNoteId();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
+      case EVENT:
+        return getEvent();
 
       }
       throw new java.lang.IllegalStateException();
@@ -7195,10 +7871,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case NOTE_ID:
-        return isSetNoteId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
+      case EVENT:
+        return isSetEvent();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7207,32 +7881,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkpointOutput_args)
-        return this.equals((checkpointOutput_args)that);
+      if (that instanceof updateParagraphStatus_args)
+        return this.equals((updateParagraphStatus_args)that);
       return false;
     }
 
-    public boolean equals(checkpointOutput_args that) {
+    public boolean equals(updateParagraphStatus_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
-          return false;
-        if (!this.noteId.equals(that.noteId))
-          return false;
-      }
-
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
           return false;
-        if (!this.paragraphId.equals(that.paragraphId))
+        if (!this.event.equals(that.event))
           return false;
       }
 
@@ -7243,41 +7908,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
-      if (isSetNoteId())
-        hashCode = hashCode * 8191 + noteId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
-      if (isSetParagraphId())
-        hashCode = hashCode * 8191 + paragraphId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(checkpointOutput_args other) {
+    public int compareTo(updateParagraphStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7300,22 +7951,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateParagraphStatus_args(");
       boolean first = true;
 
-      sb.append("noteId:");
-      if (this.noteId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.noteId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
+      sb.append("event:");
+      if (this.event == null) {
         sb.append("null");
       } else {
-        sb.append(this.paragraphId);
+        sb.append(this.event);
       }
       first = false;
       sb.append(")");
@@ -7325,6 +7968,9 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7343,15 +7989,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class checkpointOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_argsStandardScheme getScheme() {
-        return new checkpointOutput_argsStandardScheme();
+    private static class updateParagraphStatus_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphStatus_argsStandardScheme getScheme() {
+        return new updateParagraphStatus_argsStandardScheme();
       }
     }
 
-    private static class checkpointOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_args> {
+    private static class updateParagraphStatus_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateParagraphStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateParagraphStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7361,18 +8007,11 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NOTE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new ParagraphStatusUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7388,18 +8027,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateParagraphStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7408,44 +8042,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class checkpointOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_argsTupleScheme getScheme() {
-        return new checkpointOutput_argsTupleScheme();
+    private static class updateParagraphStatus_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphStatus_argsTupleScheme getScheme() {
+        return new updateParagraphStatus_argsTupleScheme();
       }
     }
 
-    private static class checkpointOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_args> {
+    private static class updateParagraphStatus_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateParagraphStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateParagraphStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetNoteId()) {
+        if (struct.isSetEvent()) {
           optionals.set(0);
         }
-        if (struct.isSetParagraphId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateParagraphStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
+          struct.event = new ParagraphStatusUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
         }
       }
     }
@@ -7455,12 +8080,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class checkpointOutput_result implements org.apache.thrift.TBase<checkpointOutput_result, checkpointOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_result");
+  public static class updateParagraphStatus_result implements org.apache.thrift.TBase<updateParagraphStatus_result, updateParagraphStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateParagraphStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateParagraphStatus_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateParagraphStatus_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateParagraphStatus_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7524,20 +8149,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateParagraphStatus_result.class, metaDataMap);
     }
 
-    public checkpointOutput_result() {
+    public updateParagraphStatus_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkpointOutput_result(checkpointOutput_result other) {
+    public updateParagraphStatus_result(updateParagraphStatus_result other) {
     }
 
-    public checkpointOutput_result deepCopy() {
-      return new checkpointOutput_result(this);
+    public updateParagraphStatus_result deepCopy() {
+      return new updateParagraphStatus_result(this);
     }
 
     @Override
@@ -7571,12 +8196,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkpointOutput_result)
-        return this.equals((checkpointOutput_result)that);
+      if (that instanceof updateParagraphStatus_result)
+        return this.equals((updateParagraphStatus_result)that);
       return false;
     }
 
-    public boolean equals(checkpointOutput_result that) {
+    public boolean equals(updateParagraphStatus_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -7593,7 +8218,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(checkpointOutput_result other) {
+    public int compareTo(updateParagraphStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7618,7 +8243,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateParagraphStatus_result(");
       boolean first = true;
 
       sb.append(")");
@@ -7646,15 +8271,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class checkpointOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_resultStandardScheme getScheme() {
-        return new checkpointOutput_resultStandardScheme();
+    private static class updateParagraphStatus_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphStatus_resultStandardScheme getScheme() {
+        return new updateParagraphStatus_resultStandardScheme();
       }
     }
 
-    private static class checkpointOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_result> {
+    private static class updateParagraphStatus_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateParagraphStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateParagraphStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7675,7 +8300,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateParagraphStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7685,21 +8310,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class checkpointOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_resultTupleScheme getScheme() {
-        return new checkpointOutput_resultTupleScheme();
+    private static class updateParagraphStatus_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphStatus_resultTupleScheme getScheme() {
+        return new updateParagraphStatus_resultTupleScheme();
       }
     }
 
-    private static class checkpointOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_result> {
+    private static class updateParagraphStatus_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateParagraphStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateParagraphStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateParagraphStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -7709,19 +8334,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class runParagraphs_args implements org.apache.thrift.TBase<runParagraphs_args, runParagraphs_args._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_args");
+  public static class checkpointOutput_args implements org.apache.thrift.TBase<checkpointOutput_args, checkpointOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable RunParagraphsEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      NOTE_ID((short)1, "noteId"),
+      PARAGRAPH_ID((short)2, "paragraphId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7737,8 +8365,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // NOTE_ID
+            return NOTE_ID;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
           default:
             return null;
         }
@@ -7783,72 +8413,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RunParagraphsEvent.class)));
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_args.class, metaDataMap);
     }
 
-    public runParagraphs_args() {
+    public checkpointOutput_args() {
     }
 
-    public runParagraphs_args(
-      RunParagraphsEvent event)
+    public checkpointOutput_args(
+      java.lang.String noteId,
+      java.lang.String paragraphId)
     {
       this();
-      this.event = event;
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public runParagraphs_args(runParagraphs_args other) {
-      if (other.isSetEvent()) {
-        this.event = new RunParagraphsEvent(other.event);
+    public checkpointOutput_args(checkpointOutput_args other) {
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
       }
     }
 
-    public runParagraphs_args deepCopy() {
-      return new runParagraphs_args(this);
+    public checkpointOutput_args deepCopy() {
+      return new checkpointOutput_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.noteId = null;
+      this.paragraphId = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public RunParagraphsEvent getEvent() {
-      return this.event;
+    public java.lang.String getNoteId() {
+      return this.noteId;
     }
 
-    public runParagraphs_args setEvent(@org.apache.thrift.annotation.Nullable RunParagraphsEvent event) {
-      this.event = event;
+    public checkpointOutput_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
+      this.noteId = noteId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetNoteId() {
+      this.noteId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setNoteIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.noteId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public checkpointOutput_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case NOTE_ID:
         if (value == null) {
-          unsetEvent();
+          unsetNoteId();
         } else {
-          setEvent((RunParagraphsEvent)value);
+          setNoteId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
         }
         break;
 
@@ -7858,8 +8529,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case NOTE_ID:
+        return getNoteId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
 
       }
       throw new java.lang.IllegalStateException();
@@ -7872,8 +8546,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case NOTE_ID:
+        return isSetNoteId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7882,23 +8558,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof runParagraphs_args)
-        return this.equals((runParagraphs_args)that);
+      if (that instanceof checkpointOutput_args)
+        return this.equals((checkpointOutput_args)that);
       return false;
     }
 
-    public boolean equals(runParagraphs_args that) {
+    public boolean equals(checkpointOutput_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
           return false;
       }
 
@@ -7909,27 +8594,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
+      if (isSetNoteId())
+        hashCode = hashCode * 8191 + noteId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(runParagraphs_args other) {
+    public int compareTo(checkpointOutput_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7952,14 +8651,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("noteId:");
+      if (this.noteId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
       }
       first = false;
       sb.append(")");
@@ -7969,9 +8676,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7990,15 +8694,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class runParagraphs_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_argsStandardScheme getScheme() {
-        return new runParagraphs_argsStandardScheme();
+    private static class checkpointOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_argsStandardScheme getScheme() {
+        return new checkpointOutput_argsStandardScheme();
       }
     }
 
-    private static class runParagraphs_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_args> {
+    private static class checkpointOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8008,11 +8712,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new RunParagraphsEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8028,13 +8739,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8043,35 +8759,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class runParagraphs_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_argsTupleScheme getScheme() {
-        return new runParagraphs_argsTupleScheme();
+    private static class checkpointOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_argsTupleScheme getScheme() {
+        return new checkpointOutput_argsTupleScheme();
       }
     }
 
-    private static class runParagraphs_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_args> {
+    private static class checkpointOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetNoteId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new RunParagraphsEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
         }
       }
     }
@@ -8081,12 +8806,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class runParagraphs_result implements org.apache.thrift.TBase<runParagraphs_result, runParagraphs_result._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_result");
+  public static class checkpointOutput_result implements org.apache.thrift.TBase<checkpointOutput_result, checkpointOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8150,20 +8875,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_result.class, metaDataMap);
     }
 
-    public runParagraphs_result() {
+    public checkpointOutput_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public runParagraphs_result(runParagraphs_result other) {
+    public checkpointOutput_result(checkpointOutput_result other) {
     }
 
-    public runParagraphs_result deepCopy() {
-      return new runParagraphs_result(this);
+    public checkpointOutput_result deepCopy() {
+      return new checkpointOutput_result(this);
     }
 
     @Override
@@ -8197,12 +8922,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof runParagraphs_result)
-        return this.equals((runParagraphs_result)that);
+      if (that instanceof checkpointOutput_result)
+        return this.equals((checkpointOutput_result)that);
       return false;
     }
 
-    public boolean equals(runParagraphs_result that) {
+    public boolean equals(checkpointOutput_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8219,7 +8944,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(runParagraphs_result other) {
+    public int compareTo(checkpointOutput_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8244,7 +8969,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_result(");
       boolean first = true;
 
       sb.append(")");
@@ -8272,15 +8997,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class runParagraphs_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_resultStandardScheme getScheme() {
-        return new runParagraphs_resultStandardScheme();
+    private static class checkpointOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_resultStandardScheme getScheme() {
+        return new checkpointOutput_resultStandardScheme();
       }
     }
 
-    private static class runParagraphs_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_result> {
+    private static class checkpointOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8301,7 +9026,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8311,21 +9036,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class runParagraphs_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_resultTupleScheme getScheme() {
-        return new runParagraphs_resultTupleScheme();
+    private static class checkpointOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_resultTupleScheme getScheme() {
+        return new checkpointOutput_resultTupleScheme();
       }
     }
 
-    private static class runParagraphs_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_result> {
+    private static class checkpointOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -8335,22 +9060,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class addAngularObject_args implements org.apache.thrift.TBase<addAngularObject_args, addAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_args");
+  public static class runParagraphs_args implements org.apache.thrift.TBase<runParagraphs_args, runParagraphs_args._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+    public @org.apache.thrift.annotation.Nullable RunParagraphsEvent event; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      EVENT((short)1, "event");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8366,10 +9088,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
+          case 1: // EVENT
+            return EVENT;
           default:
             return null;
         }
@@ -8414,130 +9134,86 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RunParagraphsEvent.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_args.class, metaDataMap);
     }
 
-    public addAngularObject_args() {
+    public runParagraphs_args() {
     }
 
-    public addAngularObject_args(
-      java.lang.String intpGroupId,
-      java.lang.String json)
+    public runParagraphs_args(
+      RunParagraphsEvent event)
     {
       this();
-      this.intpGroupId = intpGroupId;
-      this.json = json;
+      this.event = event;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addAngularObject_args(addAngularObject_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
-      }
-      if (other.isSetJson()) {
-        this.json = other.json;
+    public runParagraphs_args(runParagraphs_args other) {
+      if (other.isSetEvent()) {
+        this.event = new RunParagraphsEvent(other.event);
       }
     }
 
-    public addAngularObject_args deepCopy() {
-      return new addAngularObject_args(this);
+    public runParagraphs_args deepCopy() {
+      return new runParagraphs_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
-      this.json = null;
+      this.event = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getIntpGroupId() {
-      return this.intpGroupId;
+    public RunParagraphsEvent getEvent() {
+      return this.event;
     }
 
-    public addAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
-      this.intpGroupId = intpGroupId;
+    public runParagraphs_args setEvent(@org.apache.thrift.annotation.Nullable RunParagraphsEvent event) {
+      this.event = event;
       return this;
     }
 
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
+    public void unsetEvent() {
+      this.event = null;
     }
 
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
     }
 
-    public void setIntpGroupIdIsSet(boolean value) {
+    public void setEventIsSet(boolean value) {
       if (!value) {
-        this.intpGroupId = null;
+        this.event = null;
       }
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getJson() {
-      return this.json;
-    }
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((RunParagraphsEvent)value);
+        }
+        break;
 
-    public addAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
-      this.json = json;
-      return this;
+      }
     }
 
-    public void unsetJson() {
-      this.json = null;
-    }
-
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
-    }
-
-    public void setJsonIsSet(boolean value) {
-      if (!value) {
-        this.json = null;
-      }
-    }
-
-    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
-      switch (field) {
-      case INTP_GROUP_ID:
-        if (value == null) {
-          unsetIntpGroupId();
-        } else {
-          setIntpGroupId((java.lang.String)value);
-        }
-        break;
-
-      case JSON:
-        if (value == null) {
-          unsetJson();
-        } else {
-          setJson((java.lang.String)value);
-        }
-        break;
-
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.Object getFieldValue(_Fields field) {
-      switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
-
-      case JSON:
-        return getJson();
-
-      }
-      throw new java.lang.IllegalStateException();
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
     }
 
     /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
@@ -8547,10 +9223,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
+      case EVENT:
+        return isSetEvent();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8559,32 +9233,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addAngularObject_args)
-        return this.equals((addAngularObject_args)that);
+      if (that instanceof runParagraphs_args)
+        return this.equals((runParagraphs_args)that);
       return false;
     }
 
-    public boolean equals(addAngularObject_args that) {
+    public boolean equals(runParagraphs_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
-          return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
-          return false;
-      }
-
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
           return false;
-        if (!this.json.equals(that.json))
+        if (!this.event.equals(that.event))
           return false;
       }
 
@@ -8595,41 +9260,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
-      if (isSetIntpGroupId())
-        hashCode = hashCode * 8191 + intpGroupId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
-      if (isSetJson())
-        hashCode = hashCode * 8191 + json.hashCode();
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(addAngularObject_args other) {
+    public int compareTo(runParagraphs_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8652,22 +9303,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.intpGroupId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
+      sb.append("event:");
+      if (this.event == null) {
         sb.append("null");
       } else {
-        sb.append(this.json);
+        sb.append(this.event);
       }
       first = false;
       sb.append(")");
@@ -8677,6 +9320,9 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8695,15 +9341,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class addAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_argsStandardScheme getScheme() {
-        return new addAngularObject_argsStandardScheme();
+    private static class runParagraphs_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_argsStandardScheme getScheme() {
+        return new runParagraphs_argsStandardScheme();
       }
     }
 
-    private static class addAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_args> {
+    private static class runParagraphs_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8713,18 +9359,11 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // JSON
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new RunParagraphsEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8740,18 +9379,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8760,44 +9394,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class addAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_argsTupleScheme getScheme() {
-        return new addAngularObject_argsTupleScheme();
+    private static class runParagraphs_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_argsTupleScheme getScheme() {
+        return new runParagraphs_argsTupleScheme();
       }
     }
 
-    private static class addAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_args> {
+    private static class runParagraphs_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetEvent()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
-        }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
+          struct.event = new RunParagraphsEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
         }
       }
     }
@@ -8807,12 +9432,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class addAngularObject_result implements org.apache.thrift.TBase<addAngularObject_result, addAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_result");
+  public static class runParagraphs_result implements org.apache.thrift.TBase<runParagraphs_result, runParagraphs_result._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8876,20 +9501,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_result.class, metaDataMap);
     }
 
-    public addAngularObject_result() {
+    public runParagraphs_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addAngularObject_result(addAngularObject_result other) {
+    public runParagraphs_result(runParagraphs_result other) {
     }
 
-    public addAngularObject_result deepCopy() {
-      return new addAngularObject_result(this);
+    public runParagraphs_result deepCopy() {
+      return new runParagraphs_result(this);
     }
 
     @Override
@@ -8923,12 +9548,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addAngularObject_result)
-        return this.equals((addAngularObject_result)that);
+      if (that instanceof runParagraphs_result)
+        return this.equals((runParagraphs_result)that);
       return false;
     }
 
-    public boolean equals(addAngularObject_result that) {
+    public boolean equals(runParagraphs_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8945,7 +9570,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(addAngularObject_result other) {
+    public int compareTo(runParagraphs_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8970,7 +9595,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_result(");
       boolean first = true;
 
       sb.append(")");
@@ -8998,15 +9623,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class addAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_resultStandardScheme getScheme() {
-        return new addAngularObject_resultStandardScheme();
+    private static class runParagraphs_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_resultStandardScheme getScheme() {
+        return new runParagraphs_resultStandardScheme();
       }
     }
 
-    private static class addAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_result> {
+    private static class runParagraphs_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9027,7 +9652,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9037,21 +9662,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class addAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_resultTupleScheme getScheme() {
-        return new addAngularObject_resultTupleScheme();
+    private static class runParagraphs_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_resultTupleScheme getScheme() {
+        return new runParagraphs_resultTupleScheme();
       }
     }
 
-    private static class addAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_result> {
+    private static class runParagraphs_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -9061,14 +9686,14 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
+  public static class addAngularObject_args implements org.apache.thrift.TBase<addAngularObject_args, addAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
@@ -9145,13 +9770,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_args.class, metaDataMap);
     }
 
-    public updateAngularObject_args() {
+    public addAngularObject_args() {
     }
 
-    public updateAngularObject_args(
+    public addAngularObject_args(
       java.lang.String intpGroupId,
       java.lang.String json)
     {
@@ -9163,7 +9788,7 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_args(updateAngularObject_args other) {
+    public addAngularObject_args(addAngularObject_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
@@ -9172,8 +9797,8 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public updateAngularObject_args deepCopy() {
-      return new updateAngularObject_args(this);
+    public addAngularObject_args deepCopy() {
+      return new addAngularObject_args(this);
     }
 
     @Override
@@ -9187,7 +9812,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public updateAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public addAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -9212,7 +9837,7 @@ public class RemoteInterpreterEventService {
       return this.json;
     }
 
-    public updateAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+    public addAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
       this.json = json;
       return this;
     }
@@ -9285,12 +9910,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_args)
-        return this.equals((updateAngularObject_args)that);
+      if (that instanceof addAngularObject_args)
+        return this.equals((addAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_args that) {
+    public boolean equals(addAngularObject_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -9333,7 +9958,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAngularObject_args other) {
+    public int compareTo(addAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9378,7 +10003,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -9421,15 +10046,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_argsStandardScheme getScheme() {
-        return new updateAngularObject_argsStandardScheme();
+    private static class addAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_argsStandardScheme getScheme() {
+        return new addAngularObject_argsStandardScheme();
       }
     }
 
-    private static class updateAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_args> {
+    private static class addAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9466,7 +10091,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9486,16 +10111,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_argsTupleScheme getScheme() {
-        return new updateAngularObject_argsTupleScheme();
+    private static class addAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_argsTupleScheme getScheme() {
+        return new addAngularObject_argsTupleScheme();
       }
     }
 
-    private static class updateAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_args> {
+    private static class addAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
@@ -9514,7 +10139,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9533,12 +10158,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
+  public static class addAngularObject_result implements org.apache.thrift.TBase<addAngularObject_result, addAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -9602,20 +10227,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_result.class, metaDataMap);
     }
 
-    public updateAngularObject_result() {
+    public addAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_result(updateAngularObject_result other) {
+    public addAngularObject_result(addAngularObject_result other) {
     }
 
-    public updateAngularObject_result deepCopy() {
-      return new updateAngularObject_result(this);
+    public addAngularObject_result deepCopy() {
+      return new addAngularObject_result(this);
     }
 
     @Override
@@ -9649,12 +10274,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_result)
-        return this.equals((updateAngularObject_result)that);
+      if (that instanceof addAngularObject_result)
+        return this.equals((addAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_result that) {
+    public boolean equals(addAngularObject_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -9671,7 +10296,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAngularObject_result other) {
+    public int compareTo(addAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9696,7 +10321,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -9724,15 +10349,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_resultStandardScheme getScheme() {
-        return new updateAngularObject_resultStandardScheme();
+    private static class addAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_resultStandardScheme getScheme() {
+        return new addAngularObject_resultStandardScheme();
       }
     }
 
-    private static class updateAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_result> {
+    private static class addAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9753,7 +10378,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9763,21 +10388,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_resultTupleScheme getScheme() {
-        return new updateAngularObject_resultTupleScheme();
+    private static class addAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_resultTupleScheme getScheme() {
+        return new addAngularObject_resultTupleScheme();
       }
     }
 
-    private static class updateAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_result> {
+    private static class addAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -9787,28 +10412,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class removeAngularObject_args implements org.apache.thrift.TBase<removeAngularObject_args, removeAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_args");
+  public static class addResource_args implements org.apache.thrift.TBase<addResource_args, addResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<addResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addResource_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addResource_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       INTP_GROUP_ID((short)1, "intpGroupId"),
-      NOTE_ID((short)2, "noteId"),
-      PARAGRAPH_ID((short)3, "paragraphId"),
-      NAME((short)4, "name");
+      JSON((short)2, "json");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9826,12 +10445,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // NOTE_ID
-            return NOTE_ID;
-          case 3: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
-          case 4: // NAME
-            return NAME;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -9878,60 +10493,44 @@ public class RemoteInterpreterEventService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addResource_args.class, metaDataMap);
     }
 
-    public removeAngularObject_args() {
+    public addResource_args() {
     }
 
-    public removeAngularObject_args(
+    public addResource_args(
       java.lang.String intpGroupId,
-      java.lang.String noteId,
-      java.lang.String paragraphId,
-      java.lang.String name)
+      java.lang.String json)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.noteId = noteId;
-      this.paragraphId = paragraphId;
-      this.name = name;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeAngularObject_args(removeAngularObject_args other) {
+    public addResource_args(addResource_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
-      }
-      if (other.isSetName()) {
-        this.name = other.name;
+      if (other.isSetJson()) {
+        this.json = other.json;
       }
     }
 
-    public removeAngularObject_args deepCopy() {
-      return new removeAngularObject_args(this);
+    public addResource_args deepCopy() {
+      return new addResource_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.noteId = null;
-      this.paragraphId = null;
-      this.name = null;
+      this.json = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -9939,7 +10538,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public removeAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public addResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -9960,77 +10559,27 @@ public class RemoteInterpreterEventService {
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getNoteId() {
-      return this.noteId;
-    }
-
-    public removeAngularObject_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
-      this.noteId = noteId;
-      return this;
-    }
-
-    public void unsetNoteId() {
-      this.noteId = null;
-    }
-
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
-    }
-
-    public void setNoteIdIsSet(boolean value) {
-      if (!value) {
-        this.noteId = null;
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getParagraphId() {
-      return this.paragraphId;
-    }
-
-    public removeAngularObject_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
-      this.paragraphId = paragraphId;
-      return this;
-    }
-
-    public void unsetParagraphId() {
-      this.paragraphId = null;
-    }
-
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
-    }
-
-    public void setParagraphIdIsSet(boolean value) {
-      if (!value) {
-        this.paragraphId = null;
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getName() {
-      return this.name;
+    public java.lang.String getJson() {
+      return this.json;
     }
 
-    public removeAngularObject_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
-      this.name = name;
+    public addResource_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
       return this;
     }
 
-    public void unsetName() {
-      this.name = null;
+    public void unsetJson() {
+      this.json = null;
     }
 
-    /** Returns true if field name is set (has been assigned a value) and false otherwise */
-    public boolean isSetName() {
-      return this.name != null;
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
     }
 
-    public void setNameIsSet(boolean value) {
+    public void setJsonIsSet(boolean value) {
       if (!value) {
-        this.name = null;
+        this.json = null;
       }
     }
 
@@ -10044,27 +10593,11 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case NOTE_ID:
-        if (value == null) {
-          unsetNoteId();
-        } else {
-          setNoteId((java.lang.String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
-        if (value == null) {
-          unsetParagraphId();
-        } else {
-          setParagraphId((java.lang.String)value);
-        }
-        break;
-
-      case NAME:
+      case JSON:
         if (value == null) {
-          unsetName();
+          unsetJson();
         } else {
-          setName((java.lang.String)value);
+          setJson((java.lang.String)value);
         }
         break;
 
@@ -10077,14 +10610,8 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case NOTE_ID:
-        return getNoteId();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
-
-      case NAME:
-        return getName();
+      case JSON:
+        return getJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -10099,12 +10626,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case NOTE_ID:
-        return isSetNoteId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
-      case NAME:
-        return isSetName();
+      case JSON:
+        return isSetJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10113,12 +10636,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeAngularObject_args)
-        return this.equals((removeAngularObject_args)that);
+      if (that instanceof addResource_args)
+        return this.equals((addResource_args)that);
       return false;
     }
 
-    public boolean equals(removeAngularObject_args that) {
+    public boolean equals(addResource_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10133,30 +10656,12 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
-          return false;
-        if (!this.noteId.equals(that.noteId))
-          return false;
-      }
-
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
-          return false;
-        if (!this.paragraphId.equals(that.paragraphId))
-          return false;
-      }
-
-      boolean this_present_name = true && this.isSetName();
-      boolean that_present_name = true && that.isSetName();
-      if (this_present_name || that_present_name) {
-        if (!(this_present_name && that_present_name))
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
           return false;
-        if (!this.name.equals(that.name))
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -10171,23 +10676,15 @@ public class RemoteInterpreterEventService {
       if (isSetIntpGroupId())
         hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
-      if (isSetNoteId())
-        hashCode = hashCode * 8191 + noteId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
-      if (isSetParagraphId())
-        hashCode = hashCode * 8191 + paragraphId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
-      if (isSetName())
-        hashCode = hashCode * 8191 + name.hashCode();
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeAngularObject_args other) {
+    public int compareTo(addResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10204,32 +10701,12 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10252,7 +10729,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addResource_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -10263,27 +10740,11 @@ public class RemoteInterpreterEventService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("noteId:");
-      if (this.noteId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.noteId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.paragraphId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("name:");
-      if (this.name == null) {
+      sb.append("json:");
+      if (this.json == null) {
         sb.append("null");
       } else {
-        sb.append(this.name);
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -10311,15 +10772,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class removeAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_argsStandardScheme getScheme() {
-        return new removeAngularObject_argsStandardScheme();
+    private static class addResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_argsStandardScheme getScheme() {
+        return new addResource_argsStandardScheme();
       }
     }
 
-    private static class removeAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_args> {
+    private static class addResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10337,26 +10798,10 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // NOTE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // NAME
+            case 2: // JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10372,7 +10817,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10381,19 +10826,9 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10402,64 +10837,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class removeAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_argsTupleScheme getScheme() {
-        return new removeAngularObject_argsTupleScheme();
+    private static class addResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_argsTupleScheme getScheme() {
+        return new addResource_argsTupleScheme();
       }
     }
 
-    private static class removeAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_args> {
+    private static class addResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetNoteId()) {
+        if (struct.isSetJson()) {
           optionals.set(1);
         }
-        if (struct.isSetParagraphId()) {
-          optionals.set(2);
-        }
-        if (struct.isSetName()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
-        }
-        if (struct.isSetName()) {
-          oprot.writeString(struct.name);
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(4);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.intpGroupId = iprot.readString();
           struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.name = iprot.readString();
-          struct.setNameIsSet(true);
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
@@ -10469,12 +10884,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class removeAngularObject_result implements org.apache.thrift.TBase<removeAngularObject_result, removeAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_result");
+  public static class addResource_result implements org.apache.thrift.TBase<addResource_result, addResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<addResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addResource_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addResource_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -10538,20 +10953,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addResource_result.class, metaDataMap);
     }
 
-    public removeAngularObject_result() {
+    public addResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeAngularObject_result(removeAngularObject_result other) {
+    public addResource_result(addResource_result other) {
     }
 
-    public removeAngularObject_result deepCopy() {
-      return new removeAngularObject_result(this);
+    public addResource_result deepCopy() {
+      return new addResource_result(this);
     }
 
     @Override
@@ -10585,12 +11000,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeAngularObject_result)
-        return this.equals((removeAngularObject_result)that);
+      if (that instanceof addResource_result)
+        return this.equals((addResource_result)that);
       return false;
     }
 
-    public boolean equals(removeAngularObject_result that) {
+    public boolean equals(addResource_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10607,7 +11022,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(removeAngularObject_result other) {
+    public int compareTo(addResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10632,7 +11047,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addResource_result(");
       boolean first = true;
 
       sb.append(")");
@@ -10660,15 +11075,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class removeAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_resultStandardScheme getScheme() {
-        return new removeAngularObject_resultStandardScheme();
+    private static class addResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_resultStandardScheme getScheme() {
+        return new addResource_resultStandardScheme();
       }
     }
 
-    private static class removeAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_result> {
+    private static class addResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10689,7 +11104,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10699,21 +11114,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class removeAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_resultTupleScheme getScheme() {
-        return new removeAngularObject_resultTupleScheme();
+    private static class addResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_resultTupleScheme getScheme() {
+        return new addResource_resultTupleScheme();
       }
     }
 
-    private static class removeAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_result> {
+    private static class addResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -10723,14 +11138,14 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class sendParagraphInfo_args implements org.apache.thrift.TBase<sendParagraphInfo_args, sendParagraphInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_args");
+  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
@@ -10807,13 +11222,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
     }
 
-    public sendParagraphInfo_args() {
+    public updateAngularObject_args() {
     }
 
-    public sendParagraphInfo_args(
+    public updateAngularObject_args(
       java.lang.String intpGroupId,
       java.lang.String json)
     {
@@ -10825,7 +11240,7 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendParagraphInfo_args(sendParagraphInfo_args other) {
+    public updateAngularObject_args(updateAngularObject_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
@@ -10834,8 +11249,8 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public sendParagraphInfo_args deepCopy() {
-      return new sendParagraphInfo_args(this);
+    public updateAngularObject_args deepCopy() {
+      return new updateAngularObject_args(this);
     }
 
     @Override
@@ -10849,7 +11264,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public sendParagraphInfo_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public updateAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -10874,7 +11289,7 @@ public class RemoteInterpreterEventService {
       return this.json;
     }
 
-    public sendParagraphInfo_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+    public updateAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
       this.json = json;
       return this;
     }
@@ -10947,12 +11362,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendParagraphInfo_args)
-        return this.equals((sendParagraphInfo_args)that);
+      if (that instanceof updateAngularObject_args)
+        return this.equals((updateAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(sendParagraphInfo_args that) {
+    public boolean equals(updateAngularObject_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10995,7 +11410,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(sendParagraphInfo_args other) {
+    public int compareTo(updateAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11040,7 +11455,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -11083,15 +11498,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class sendParagraphInfo_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_argsStandardScheme getScheme() {
-        return new sendParagraphInfo_argsStandardScheme();
+    private static class updateAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_argsStandardScheme getScheme() {
+        return new updateAngularObject_argsStandardScheme();
       }
     }
 
-    private static class sendParagraphInfo_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_args> {
+    private static class updateAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11128,7 +11543,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11148,16 +11563,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class sendParagraphInfo_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_argsTupleScheme getScheme() {
-        return new sendParagraphInfo_argsTupleScheme();
+    private static class updateAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_argsTupleScheme getScheme() {
+        return new updateAngularObject_argsTupleScheme();
       }
     }
 
-    private static class sendParagraphInfo_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_args> {
+    private static class updateAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
@@ -11176,7 +11591,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -11195,12 +11610,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class sendParagraphInfo_result implements org.apache.thrift.TBase<sendParagraphInfo_result, sendParagraphInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_result");
+  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -11264,20 +11679,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
     }
 
-    public sendParagraphInfo_result() {
+    public updateAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendParagraphInfo_result(sendParagraphInfo_result other) {
+    public updateAngularObject_result(updateAngularObject_result other) {
     }
 
-    public sendParagraphInfo_result deepCopy() {
-      return new sendParagraphInfo_result(this);
+    public updateAngularObject_result deepCopy() {
+      return new updateAngularObject_result(this);
     }
 
     @Override
@@ -11311,12 +11726,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendParagraphInfo_result)
-        return this.equals((sendParagraphInfo_result)that);
+      if (that instanceof updateAngularObject_result)
+        return this.equals((updateAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(sendParagraphInfo_result that) {
+    public boolean equals(updateAngularObject_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -11333,7 +11748,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(sendParagraphInfo_result other) {
+    public int compareTo(updateAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11358,7 +11773,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -11386,15 +11801,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class sendParagraphInfo_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_resultStandardScheme getScheme() {
-        return new sendParagraphInfo_resultStandardScheme();
+    private static class updateAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_resultStandardScheme getScheme() {
+        return new updateAngularObject_resultStandardScheme();
       }
     }
 
-    private static class sendParagraphInfo_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_result> {
+    private static class updateAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11415,7 +11830,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11425,21 +11840,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class sendParagraphInfo_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_resultTupleScheme getScheme() {
-        return new sendParagraphInfo_resultTupleScheme();
+    private static class updateAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_resultTupleScheme getScheme() {
+        return new updateAngularObject_resultTupleScheme();
       }
     }
 
-    private static class sendParagraphInfo_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_result> {
+    private static class updateAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -11449,19 +11864,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getAllResources_args implements org.apache.thrift.TBase<getAllResources_args, getAllResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_args");
+  public static class removeResource_args implements org.apache.thrift.TBase<removeResource_args, removeResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeResource_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11479,6 +11897,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -11525,36 +11945,44 @@ public class RemoteInterpreterEventService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_args.class, metaDataMap);
     }
 
-    public getAllResources_args() {
+    public removeResource_args() {
     }
 
-    public getAllResources_args(
-      java.lang.String intpGroupId)
+    public removeResource_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
     {
       this();
       this.intpGroupId = intpGroupId;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllResources_args(getAllResources_args other) {
+    public removeResource_args(removeResource_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
     }
 
-    public getAllResources_args deepCopy() {
-      return new getAllResources_args(this);
+    public removeResource_args deepCopy() {
+      return new removeResource_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
+      this.json = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -11562,7 +11990,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public getAllResources_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public removeResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -11582,6 +12010,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJson() {
+      return this.json;
+    }
+
+    public removeResource_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case INTP_GROUP_ID:
@@ -11592,6 +12045,14 @@ public class RemoteInterpreterEventService {
         }
         break;
 
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
+        }
+        break;
+
       }
     }
 
@@ -11601,6 +12062,9 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
+      case JSON:
+        return getJson();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11614,6 +12078,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11622,12 +12088,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllResources_args)
-        return this.equals((getAllResources_args)that);
+      if (that instanceof removeResource_args)
+        return this.equals((removeResource_args)that);
       return false;
     }
 
-    public boolean equals(getAllResources_args that) {
+    public boolean equals(removeResource_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -11642,6 +12108,15 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
+          return false;
+      }
+
       return true;
     }
 
@@ -11653,11 +12128,15 @@ public class RemoteInterpreterEventService {
       if (isSetIntpGroupId())
         hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getAllResources_args other) {
+    public int compareTo(removeResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11674,6 +12153,16 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11692,7 +12181,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeResource_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -11702,6 +12191,14 @@ public class RemoteInterpreterEventService {
         sb.append(this.intpGroupId);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11727,15 +12224,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getAllResources_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_argsStandardScheme getScheme() {
-        return new getAllResources_argsStandardScheme();
+    private static class removeResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_argsStandardScheme getScheme() {
+        return new removeResource_argsStandardScheme();
       }
     }
 
-    private static class getAllResources_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_args> {
+    private static class removeResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11753,6 +12250,14 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11764,7 +12269,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11773,41 +12278,56 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getAllResources_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_argsTupleScheme getScheme() {
-        return new getAllResources_argsTupleScheme();
+    private static class removeResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_argsTupleScheme getScheme() {
+        return new removeResource_argsTupleScheme();
       }
     }
 
-    private static class getAllResources_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_args> {
+    private static class removeResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.intpGroupId = iprot.readString();
           struct.setIntpGroupIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
+        }
       }
     }
 
@@ -11816,19 +12336,17 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getAllResources_result implements org.apache.thrift.TBase<getAllResources_result, getAllResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_result");
+  public static class removeResource_result implements org.apache.thrift.TBase<removeResource_result, removeResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeResource_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11844,8 +12362,6 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -11885,70 +12401,3916 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_result.class, metaDataMap);
-    }
-
-    public getAllResources_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_result.class, metaDataMap);
     }
 
-    public getAllResources_result(
-      java.util.List<java.lang.String> success)
-    {
-      this();
-      this.success = success;
+    public removeResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllResources_result(getAllResources_result other) {
-      if (other.isSetSuccess()) {
-        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
-        this.success = __this__success;
-      }
+    public removeResource_result(removeResource_result other) {
     }
 
-    public getAllResources_result deepCopy() {
-      return new getAllResources_result(this);
+    public removeResource_result deepCopy() {
+      return new removeResource_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<java.lang.String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeResource_result)
+        return this.equals((removeResource_result)that);
+      return false;
+    }
+
+    public boolean equals(removeResource_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeResource_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeResource_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_resultStandardScheme getScheme() {
+        return new removeResource_resultStandardScheme();
+      }
+    }
+
+    private static class removeResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeResource_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_resultTupleScheme getScheme() {
+        return new removeResource_resultTupleScheme();
+      }
+    }
+
+    private static class removeResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeResource_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeAngularObject_args implements org.apache.thrift.TBase<removeAngularObject_args, removeAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      NOTE_ID((short)2, "noteId"),
+      PARAGRAPH_ID((short)3, "paragraphId"),
+      NAME((short)4, "name");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // NOTE_ID
+            return NOTE_ID;
+          case 3: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 4: // NAME
+            return NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_args.class, metaDataMap);
+    }
+
+    public removeAngularObject_args() {
+    }
+
+    public removeAngularObject_args(
+      java.lang.String intpGroupId,
+      java.lang.String noteId,
+      java.lang.String paragraphId,
+      java.lang.String name)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.name = name;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeAngularObject_args(removeAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetName()) {
+        this.name = other.name;
+      }
+    }
+
+    public removeAngularObject_args deepCopy() {
+      return new removeAngularObject_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.noteId = null;
+      this.paragraphId = null;
+      this.name = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public removeAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getNoteId() {
+      return this.noteId;
+    }
+
+    public removeAngularObject_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
+
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
+
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
+    }
+
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public removeAngularObject_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getName() {
+      return this.name;
+    }
+
+    public removeAngularObject_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
+        }
+        break;
+
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case NOTE_ID:
+        return getNoteId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case NAME:
+        return getName();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case NOTE_ID:
+        return isSetNoteId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case NAME:
+        return isSetName();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeAngularObject_args)
+        return this.equals((removeAngularObject_args)that);
+      return false;
+    }
+
+    public boolean equals(removeAngularObject_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
+      if (isSetNoteId())
+        hashCode = hashCode * 8191 + noteId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeAngularObject_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_argsStandardScheme getScheme() {
+        return new removeAngularObject_argsStandardScheme();
+      }
+    }
+
+    private static class removeAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_argsTupleScheme getScheme() {
+        return new removeAngularObject_argsTupleScheme();
+      }
+    }
+
+    private static class removeAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetNoteId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetName()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class removeAngularObject_result implements org.apache.thrift.TBase<removeAngularObject_result, removeAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_result.class, metaDataMap);
+    }
+
+    public removeAngularObject_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public removeAngularObject_result(removeAngularObject_result other) {
+    }
+
+    public removeAngularObject_result deepCopy() {
+      return new removeAngularObject_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof removeAngularObject_result)
+        return this.equals((removeAngularObject_result)that);
+      return false;
+    }
+
+    public boolean equals(removeAngularObject_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(removeAngularObject_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class removeAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_resultStandardScheme getScheme() {
+        return new removeAngularObject_resultStandardScheme();
+      }
+    }
+
+    private static class removeAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class removeAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_resultTupleScheme getScheme() {
+        return new removeAngularObject_resultTupleScheme();
+      }
+    }
+
+    private static class removeAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class sendParagraphInfo_args implements org.apache.thrift.TBase<sendParagraphInfo_args, sendParagraphInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_args.class, metaDataMap);
+    }
+
+    public sendParagraphInfo_args() {
+    }
+
+    public sendParagraphInfo_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.json = json;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sendParagraphInfo_args(sendParagraphInfo_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
+    }
+
+    public sendParagraphInfo_args deepCopy() {
+      return new sendParagraphInfo_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public sendParagraphInfo_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJson() {
+      return this.json;
+    }
+
+    public sendParagraphInfo_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sendParagraphInfo_args)
+        return this.equals((sendParagraphInfo_args)that);
+      return false;
+    }
+
+    public boolean equals(sendParagraphInfo_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(sendParagraphInfo_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class sendParagraphInfo_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_argsStandardScheme getScheme() {
+        return new sendParagraphInfo_argsStandardScheme();
+      }
+    }
+
+    private static class sendParagraphInfo_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class sendParagraphInfo_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_argsTupleScheme getScheme() {
+        return new sendParagraphInfo_argsTupleScheme();
+      }
+    }
+
+    private static class sendParagraphInfo_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class sendParagraphInfo_result implements org.apache.thrift.TBase<sendParagraphInfo_result, sendParagraphInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_result.class, metaDataMap);
+    }
+
+    public sendParagraphInfo_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sendParagraphInfo_result(sendParagraphInfo_result other) {
+    }
+
+    public sendParagraphInfo_result deepCopy() {
+      return new sendParagraphInfo_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sendParagraphInfo_result)
+        return this.equals((sendParagraphInfo_result)that);
+      return false;
+    }
+
+    public boolean equals(sendParagraphInfo_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(sendParagraphInfo_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class sendParagraphInfo_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_resultStandardScheme getScheme() {
+        return new sendParagraphInfo_resultStandardScheme();
+      }
+    }
+
+    private static class sendParagraphInfo_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class sendParagraphInfo_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_resultTupleScheme getScheme() {
+        return new sendParagraphInfo_resultTupleScheme();
+      }
+    }
+
+    private static class sendParagraphInfo_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getAllResources_args implements org.apache.thrift.TBase<getAllResources_args, getAllResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_args.class, metaDataMap);
+    }
+
+    public getAllResources_args() {
+    }
+
+    public getAllResources_args(
+      java.lang.String intpGroupId)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getAllResources_args(getAllResources_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+    }
+
+    public getAllResources_args deepCopy() {
+      return new getAllResources_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public getAllResources_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getAllResources_args)
+        return this.equals((getAllResources_args)that);
+      return false;
+    }
+
+    public boolean equals(getAllResources_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getAllResources_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getAllResources_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_argsStandardScheme getScheme() {
+        return new getAllResources_argsStandardScheme();
+      }
+    }
+
+    private static class getAllResources_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getAllResources_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_argsTupleScheme getScheme() {
+        return new getAllResources_argsTupleScheme();
+      }
+    }
+
+    private static class getAllResources_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getAllResources_result implements org.apache.thrift.TBase<getAllResources_result, getAllResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_result.class, metaDataMap);
+    }
+
+    public getAllResources_result() {
+    }
+
+    public getAllResources_result(
+      java.util.List<java.lang.String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getAllResources_result(getAllResources_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public getAllResources_result deepCopy() {
+      return new getAllResources_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public getAllResources_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getAllResources_result)
+        return this.equals((getAllResources_result)that);
+      return false;
+    }
+
+    public boolean equals(getAllResources_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getAllResources_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getAllResources_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_resultStandardScheme getScheme() {
+        return new getAllResources_resultStandardScheme();
+      }
+    }
+
+    private static class getAllResources_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list24.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = iprot.readString();
+                    struct.success.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter27 : struct.success)
+            {
+              oprot.writeString(_iter27);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getAllResources_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_resultTupleScheme getScheme() {
+        return new getAllResources_resultTupleScheme();
+      }
+    }
+
+    private static class getAllResources_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter28 : struct.success)
+            {
+              oprot.writeString(_iter28);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list29.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = iprot.readString();
+              struct.success.add(_elem30);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class findResources_args implements org.apache.thrift.TBase<findResources_args, findResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<findResources_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findResources_args");
+
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findResources_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findResources_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      RESOURCE_ID_JSON((short)1, "resourceIdJson");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findResources_args.class, metaDataMap);
+    }
+
+    public findResources_args() {
+    }
+
+    public findResources_args(
+      java.lang.String resourceIdJson)
+    {
+      this();
+      this.resourceIdJson = resourceIdJson;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findResources_args(findResources_args other) {
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
+      }
+    }
+
+    public findResources_args deepCopy() {
+      return new findResources_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.resourceIdJson = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
+    }
+
+    public findResources_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
+      return this;
+    }
+
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
+    }
+
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
+    }
+
+    public void setResourceIdJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceIdJson = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        if (value == null) {
+          unsetResourceIdJson();
+        } else {
+          setResourceIdJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof findResources_args)
+        return this.equals((findResources_args)that);
+      return false;
+    }
+
+    public boolean equals(findResources_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+          return false;
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findResources_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findResources_args(");
+      boolean first = true;
+
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceIdJson);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findResources_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public findResources_argsStandardScheme getScheme() {
+        return new findResources_argsStandardScheme();
+      }
+    }
+
+    private static class findResources_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findResources_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findResources_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // RESOURCE_ID_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findResources_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findResources_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public findResources_argsTupleScheme getScheme() {
+        return new findResources_argsTupleScheme();
+      }
+    }
+
+    private static class findResources_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findResources_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findResources_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetResourceIdJson()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findResources_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class findResources_result implements org.apache.thrift.TBase<findResources_result, findResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<findResources_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findResources_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findResources_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findResources_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findResources_result.class, metaDataMap);
+    }
+
+    public findResources_result() {
+    }
+
+    public findResources_result(
+      java.util.List<java.lang.String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findResources_result(findResources_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public findResources_result deepCopy() {
+      return new findResources_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public findResources_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof findResources_result)
+        return this.equals((findResources_result)that);
+      return false;
+    }
+
+    public boolean equals(findResources_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findResources_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findResources_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findResources_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public findResources_resultStandardScheme getScheme() {
+        return new findResources_resultStandardScheme();
+      }
+    }
+
+    private static class findResources_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findResources_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findResources_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list24.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = iprot.readString();
+                    struct.success.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findResources_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter27 : struct.success)
+            {
+              oprot.writeString(_iter27);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findResources_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public findResources_resultTupleScheme getScheme() {
+        return new findResources_resultTupleScheme();
+      }
+    }
+
+    private static class findResources_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findResources_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findResources_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter28 : struct.success)
+            {
+              oprot.writeString(_iter28);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findResources_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list29.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = iprot.readString();
+              struct.success.add(_elem30);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getResource_args implements org.apache.thrift.TBase<getResource_args, getResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_args");
+
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      RESOURCE_ID_JSON((short)1, "resourceIdJson");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_args.class, metaDataMap);
+    }
+
+    public getResource_args() {
+    }
+
+    public getResource_args(
+      java.lang.String resourceIdJson)
+    {
+      this();
+      this.resourceIdJson = resourceIdJson;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getResource_args(getResource_args other) {
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
+      }
+    }
+
+    public getResource_args deepCopy() {
+      return new getResource_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.resourceIdJson = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
+    }
+
+    public getResource_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
+      return this;
+    }
+
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
+    }
+
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
+    }
+
+    public void setResourceIdJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceIdJson = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        if (value == null) {
+          unsetResourceIdJson();
+        } else {
+          setResourceIdJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getResource_args)
+        return this.equals((getResource_args)that);
+      return false;
+    }
+
+    public boolean equals(getResource_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+          return false;
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getResource_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_args(");
+      boolean first = true;
+
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceIdJson);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
     }
 
-    public void addToSuccess(java.lang.String elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<java.lang.String>();
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
-      this.success.add(elem);
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.util.List<java.lang.String> getSuccess() {
-      return this.success;
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
     }
 
-    public getAllResources_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
-      this.success = success;
+    private static class getResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_argsStandardScheme getScheme() {
+        return new getResource_argsStandardScheme();
+      }
+    }
+
+    private static class getResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // RESOURCE_ID_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_argsTupleScheme getScheme() {
+        return new getResource_argsTupleScheme();
+      }
+    }
+
+    private static class getResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetResourceIdJson()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
+    }
+
+    public getResource_result() {
+    }
+
+    public getResource_result(
+      java.nio.ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getResource_result(getResource_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+    }
+
+    public getResource_result deepCopy() {
+      return new getResource_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public getResource_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public getResource_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
@@ -11973,7 +16335,11 @@ public class RemoteInterpreterEventService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<java.lang.String>)value);
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
         }
         break;
 
@@ -12007,12 +16373,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllResources_result)
-        return this.equals((getAllResources_result)that);
+      if (that instanceof getResource_result)
+        return this.equals((getResource_result)that);
       return false;
     }
 
-    public boolean equals(getAllResources_result that) {
+    public boolean equals(getResource_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -12042,7 +16408,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(getAllResources_result other) {
+    public int compareTo(getResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12077,14 +16443,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
       }
       first = false;
       sb.append(")");
@@ -12112,15 +16478,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getAllResources_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_resultStandardScheme getScheme() {
-        return new getAllResources_resultStandardScheme();
+    private static class getResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_resultStandardScheme getScheme() {
+        return new getResource_resultStandardScheme();
       }
     }
 
-    private static class getAllResources_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_result> {
+    private static class getResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12131,18 +16497,8 @@ public class RemoteInterpreterEventService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.String>(_list24.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _elem25;
-                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
-                  {
-                    _elem25 = iprot.readString();
-                    struct.success.add(_elem25);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12159,20 +16515,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (java.lang.String _iter27 : struct.success)
-            {
-              oprot.writeString(_iter27);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12181,16 +16530,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getAllResources_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_resultTupleScheme getScheme() {
-        return new getAllResources_resultTupleScheme();
+    private static class getResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_resultTupleScheme getScheme() {
+        return new getResource_resultTupleScheme();
       }
     }
 
-    private static class getAllResources_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_result> {
+    private static class getResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -12198,31 +16547,16 @@ public class RemoteInterpreterEventService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (java.lang.String _iter28 : struct.success)
-            {
-              oprot.writeString(_iter28);
-            }
-          }
+          oprot.writeBinary(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.String>(_list29.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _elem30;
-            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
-            {
-              _elem30 = iprot.readString();
-              struct.success.add(_elem30);
-            }
-          }
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
       }
@@ -12233,19 +16567,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getResource_args implements org.apache.thrift.TBase<getResource_args, getResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_args");
+  public static class invokeMethod_args implements org.apache.thrift.TBase<invokeMethod_args, invokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_args");
 
-    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField INVOKE_METHOD_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMethodJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RESOURCE_ID_JSON((short)1, "resourceIdJson");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      INVOKE_METHOD_JSON((short)2, "invokeMethodJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -12261,8 +16598,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RESOURCE_ID_JSON
-            return RESOURCE_ID_JSON;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // INVOKE_METHOD_JSON
+            return INVOKE_METHOD_JSON;
           default:
             return null;
         }
@@ -12307,72 +16646,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INVOKE_METHOD_JSON, new org.apache.thrift.meta_data.FieldMetaData("invokeMethodJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_args.class, metaDataMap);
     }
 
-    public getResource_args() {
+    public invokeMethod_args() {
     }
 
-    public getResource_args(
-      java.lang.String resourceIdJson)
+    public invokeMethod_args(
+      java.lang.String intpGroupId,
+      java.lang.String invokeMethodJson)
     {
       this();
-      this.resourceIdJson = resourceIdJson;
+      this.intpGroupId = intpGroupId;
+      this.invokeMethodJson = invokeMethodJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_args(getResource_args other) {
-      if (other.isSetResourceIdJson()) {
-        this.resourceIdJson = other.resourceIdJson;
+    public invokeMethod_args(invokeMethod_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetInvokeMethodJson()) {
+        this.invokeMethodJson = other.invokeMethodJson;
       }
     }
 
-    public getResource_args deepCopy() {
-      return new getResource_args(this);
+    public invokeMethod_args deepCopy() {
+      return new invokeMethod_args(this);
     }
 
     @Override
     public void clear() {
-      this.resourceIdJson = null;
+      this.intpGroupId = null;
+      this.invokeMethodJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getResourceIdJson() {
-      return this.resourceIdJson;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public getResource_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
-      this.resourceIdJson = resourceIdJson;
+    public invokeMethod_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetResourceIdJson() {
-      this.resourceIdJson = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceIdJson() {
-      return this.resourceIdJson != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setResourceIdJsonIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.resourceIdJson = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getInvokeMethodJson() {
+      return this.invokeMethodJson;
+    }
+
+    public invokeMethod_args setInvokeMethodJson(@org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson) {
+      this.invokeMethodJson = invokeMethodJson;
+      return this;
+    }
+
+    public void unsetInvokeMethodJson() {
+      this.invokeMethodJson = null;
+    }
+
+    /** Returns true if field invokeMethodJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetInvokeMethodJson() {
+      return this.invokeMethodJson != null;
+    }
+
+    public void setInvokeMethodJsonIsSet(boolean value) {
+      if (!value) {
+        this.invokeMethodJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case RESOURCE_ID_JSON:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetResourceIdJson();
+          unsetIntpGroupId();
         } else {
-          setResourceIdJson((java.lang.String)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case INVOKE_METHOD_JSON:
+        if (value == null) {
+          unsetInvokeMethodJson();
+        } else {
+          setInvokeMethodJson((java.lang.String)value);
         }
         break;
 
@@ -12382,8 +16762,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case RESOURCE_ID_JSON:
-        return getResourceIdJson();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case INVOKE_METHOD_JSON:
+        return getInvokeMethodJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -12396,8 +16779,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case RESOURCE_ID_JSON:
-        return isSetResourceIdJson();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case INVOKE_METHOD_JSON:
+        return isSetInvokeMethodJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12406,23 +16791,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_args)
-        return this.equals((getResource_args)that);
+      if (that instanceof invokeMethod_args)
+        return this.equals((invokeMethod_args)that);
       return false;
     }
 
-    public boolean equals(getResource_args that) {
+    public boolean equals(invokeMethod_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
-      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
-      if (this_present_resourceIdJson || that_present_resourceIdJson) {
-        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.resourceIdJson.equals(that.resourceIdJson))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_invokeMethodJson = true && this.isSetInvokeMethodJson();
+      boolean that_present_invokeMethodJson = true && that.isSetInvokeMethodJson();
+      if (this_present_invokeMethodJson || that_present_invokeMethodJson) {
+        if (!(this_present_invokeMethodJson && that_present_invokeMethodJson))
+          return false;
+        if (!this.invokeMethodJson.equals(that.invokeMethodJson))
           return false;
       }
 
@@ -12433,27 +16827,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
-      if (isSetResourceIdJson())
-        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetInvokeMethodJson()) ? 131071 : 524287);
+      if (isSetInvokeMethodJson())
+        hashCode = hashCode * 8191 + invokeMethodJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getResource_args other) {
+    public int compareTo(invokeMethod_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResourceIdJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMethodJson()).compareTo(other.isSetInvokeMethodJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInvokeMethodJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMethodJson, other.invokeMethodJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12476,14 +16884,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_args(");
       boolean first = true;
 
-      sb.append("resourceIdJson:");
-      if (this.resourceIdJson == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.resourceIdJson);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("invokeMethodJson:");
+      if (this.invokeMethodJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.invokeMethodJson);
       }
       first = false;
       sb.append(")");
@@ -12511,15 +16927,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_argsStandardScheme getScheme() {
-        return new getResource_argsStandardScheme();
+    private static class invokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_argsStandardScheme getScheme() {
+        return new invokeMethod_argsStandardScheme();
       }
     }
 
-    private static class getResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_args> {
+    private static class invokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12529,10 +16945,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RESOURCE_ID_JSON
+            case 1: // INTP_GROUP_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceIdJson = iprot.readString();
-                struct.setResourceIdJsonIsSet(true);
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // INVOKE_METHOD_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.invokeMethodJson = iprot.readString();
+                struct.setInvokeMethodJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12548,13 +16972,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.resourceIdJson != null) {
-          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
-          oprot.writeString(struct.resourceIdJson);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.invokeMethodJson != null) {
+          oprot.writeFieldBegin(INVOKE_METHOD_JSON_FIELD_DESC);
+          oprot.writeString(struct.invokeMethodJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12563,34 +16992,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_argsTupleScheme getScheme() {
-        return new getResource_argsTupleScheme();
+    private static class invokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_argsTupleScheme getScheme() {
+        return new invokeMethod_argsTupleScheme();
       }
     }
 
-    private static class getResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_args> {
+    private static class invokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetResourceIdJson()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetResourceIdJson()) {
-          oprot.writeString(struct.resourceIdJson);
+        if (struct.isSetInvokeMethodJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetInvokeMethodJson()) {
+          oprot.writeString(struct.invokeMethodJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.resourceIdJson = iprot.readString();
-          struct.setResourceIdJsonIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.invokeMethodJson = iprot.readString();
+          struct.setInvokeMethodJsonIsSet(true);
         }
       }
     }
@@ -12600,13 +17039,13 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
+  public static class invokeMethod_result implements org.apache.thrift.TBase<invokeMethod_result, invokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
@@ -12677,13 +17116,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_result.class, metaDataMap);
     }
 
-    public getResource_result() {
+    public invokeMethod_result() {
     }
 
-    public getResource_result(
+    public invokeMethod_result(
       java.nio.ByteBuffer success)
     {
       this();
@@ -12693,14 +17132,14 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_result(getResource_result other) {
+    public invokeMethod_result(invokeMethod_result other) {
       if (other.isSetSuccess()) {
         this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
     }
 
-    public getResource_result deepCopy() {
-      return new getResource_result(this);
+    public invokeMethod_result deepCopy() {
+      return new invokeMethod_result(this);
     }
 
     @Override
@@ -12717,12 +17156,12 @@ public class RemoteInterpreterEventService {
       return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public getResource_result setSuccess(byte[] success) {
+    public invokeMethod_result setSuccess(byte[] success) {
       this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
       return this;
     }
 
-    public getResource_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+    public invokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
       this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
@@ -12786,12 +17225,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_result)
-        return this.equals((getResource_result)that);
+      if (that instanceof invokeMethod_result)
+        return this.equals((invokeMethod_result)that);
       return false;
     }
 
-    public boolean equals(getResource_result that) {
+    public boolean equals(invokeMethod_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -12821,7 +17260,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(getResource_result other) {
+    public int compareTo(invokeMethod_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12856,7 +17295,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12891,15 +17330,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_resultStandardScheme getScheme() {
-        return new getResource_resultStandardScheme();
+    private static class invokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_resultStandardScheme getScheme() {
+        return new invokeMethod_resultStandardScheme();
       }
     }
 
-    private static class getResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_result> {
+    private static class invokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12928,7 +17367,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -12943,16 +17382,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_resultTupleScheme getScheme() {
-        return new getResource_resultTupleScheme();
+    private static class invokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_resultTupleScheme getScheme() {
+        return new invokeMethod_resultTupleScheme();
       }
     }
 
-    private static class getResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_result> {
+    private static class invokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -12965,7 +17404,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -12980,22 +17419,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class invokeMethod_args implements org.apache.thrift.TBase<invokeMethod_args, invokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_args");
+  public static class getResourceChunk_args implements org.apache.thrift.TBase<getResourceChunk_args, getResourceChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResourceChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourceChunk_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField INVOKE_METHOD_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMethodJson", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField TRANSFER_REQUEST_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("transferRequestJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResourceChunk_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResourceChunk_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String transferRequestJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       INTP_GROUP_ID((short)1, "intpGroupId"),
-      INVOKE_METHOD_JSON((short)2, "invokeMethodJson");
+      TRANSFER_REQUEST_JSON((short)2, "transferRequestJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13013,8 +17452,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // INVOKE_METHOD_JSON
-            return INVOKE_METHOD_JSON;
+          case 2: // TRANSFER_REQUEST_JSON
+            return TRANSFER_REQUEST_JSON;
           default:
             return null;
         }
@@ -13061,44 +17500,44 @@ public class RemoteInterpreterEventService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INVOKE_METHOD_JSON, new org.apache.thrift.meta_data.FieldMetaData("invokeMethodJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TRANSFER_REQUEST_JSON, new org.apache.thrift.meta_data.FieldMetaData("transferRequestJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourceChunk_args.class, metaDataMap);
     }
 
-    public invokeMethod_args() {
+    public getResourceChunk_args() {
     }
 
-    public invokeMethod_args(
+    public getResourceChunk_args(
       java.lang.String intpGroupId,
-      java.lang.String invokeMethodJson)
+      java.lang.String transferRequestJson)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.invokeMethodJson = invokeMethodJson;
+      this.transferRequestJson = transferRequestJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public invokeMethod_args(invokeMethod_args other) {
+    public getResourceChunk_args(getResourceChunk_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetInvokeMethodJson()) {
-        this.invokeMethodJson = other.invokeMethodJson;
+      if (other.isSetTransferRequestJson()) {
+        this.transferRequestJson = other.transferRequestJson;
       }
     }
 
-    public invokeMethod_args deepCopy() {
-      return new invokeMethod_args(this);
+    public getResourceChunk_args deepCopy() {
+      return new getResourceChunk_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.invokeMethodJson = null;
+      this.transferRequestJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -13106,7 +17545,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public invokeMethod_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public getResourceChunk_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -13127,27 +17566,27 @@ public class RemoteInterpreterEventService {
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getInvokeMethodJson() {
-      return this.invokeMethodJson;
+    public java.lang.String getTransferRequestJson() {
+      return this.transferRequestJson;
     }
 
-    public invokeMethod_args setInvokeMethodJson(@org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson) {
-      this.invokeMethodJson = invokeMethodJson;
+    public getResourceChunk_args setTransferRequestJson(@org.apache.thrift.annotation.Nullable java.lang.String transferRequestJson) {
+      this.transferRequestJson = transferRequestJson;
       return this;
     }
 
-    public void unsetInvokeMethodJson() {
-      this.invokeMethodJson = null;
+    public void unsetTransferRequestJson() {
+      this.transferRequestJson = null;
     }
 
-    /** Returns true if field invokeMethodJson is set (has been assigned a value) and false otherwise */
-    public boolean isSetInvokeMethodJson() {
-      return this.invokeMethodJson != null;
+    /** Returns true if field transferRequestJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferRequestJson() {
+      return this.transferRequestJson != null;
     }
 
-    public void setInvokeMethodJsonIsSet(boolean value) {
+    public void setTransferRequestJsonIsSet(boolean value) {
       if (!value) {
-        this.invokeMethodJson = null;
+        this.transferRequestJson = null;
       }
     }
 
@@ -13161,11 +17600,11 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case INVOKE_METHOD_JSON:
+      case TRANSFER_REQUEST_JSON:
         if (value == null) {
-          unsetInvokeMethodJson();
+          unsetTransferRequestJson();
         } else {
-          setInvokeMethodJson((java.lang.String)value);
+          setTransferRequestJson((java.lang.String)value);
         }
         break;
 
@@ -13178,8 +17617,8 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case INVOKE_METHOD_JSON:
-        return getInvokeMethodJson();
+      case TRANSFER_REQUEST_JSON:
+        return getTransferRequestJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -13194,8 +17633,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case INVOKE_METHOD_JSON:
-        return isSetInvokeMethodJson();
+      case TRANSFER_REQUEST_JSON:
+        return isSetTransferRequestJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13204,12 +17643,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof invokeMethod_args)
-        return this.equals((invokeMethod_args)that);
+      if (that instanceof getResourceChunk_args)
+        return this.equals((getResourceChunk_args)that);
       return false;
     }
 
-    public boolean equals(invokeMethod_args that) {
+    public boolean equals(getResourceChunk_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -13224,12 +17663,12 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_invokeMethodJson = true && this.isSetInvokeMethodJson();
-      boolean that_present_invokeMethodJson = true && that.isSetInvokeMethodJson();
-      if (this_present_invokeMethodJson || that_present_invokeMethodJson) {
-        if (!(this_present_invokeMethodJson && that_present_invokeMethodJson))
+      boolean this_present_transferRequestJson = true && this.isSetTransferRequestJson();
+      boolean that_present_transferRequestJson = true && that.isSetTransferRequestJson();
+      if (this_present_transferRequestJson || that_present_transferRequestJson) {
+        if (!(this_present_transferRequestJson && that_present_transferRequestJson))
           return false;
-        if (!this.invokeMethodJson.equals(that.invokeMethodJson))
+        if (!this.transferRequestJson.equals(that.transferRequestJson))
           return false;
       }
 
@@ -13244,15 +17683,15 @@ public class RemoteInterpreterEventService {
       if (isSetIntpGroupId())
         hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetInvokeMethodJson()) ? 131071 : 524287);
-      if (isSetInvokeMethodJson())
-        hashCode = hashCode * 8191 + invokeMethodJson.hashCode();
+      hashCode = hashCode * 8191 + ((isSetTransferRequestJson()) ? 131071 : 524287);
+      if (isSetTransferRequestJson())
+        hashCode = hashCode * 8191 + transferRequestJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(invokeMethod_args other) {
+    public int compareTo(getResourceChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13269,12 +17708,12 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMethodJson()).compareTo(other.isSetInvokeMethodJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetTransferRequestJson()).compareTo(other.isSetTransferRequestJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInvokeMethodJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMethodJson, other.invokeMethodJson);
+      if (isSetTransferRequestJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferRequestJson, other.transferRequestJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13297,7 +17736,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResourceChunk_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -13308,11 +17747,11 @@ public class RemoteInterpreterEventService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("invokeMethodJson:");
-      if (this.invokeMethodJson == null) {
+      sb.append("transferRequestJson:");
+      if (this.transferRequestJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.invokeMethodJson);
+        sb.append(this.transferRequestJson);
       }
       first = false;
       sb.append(")");
@@ -13340,15 +17779,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class invokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_argsStandardScheme getScheme() {
-        return new invokeMethod_argsStandardScheme();
+    private static class getResourceChunk_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_argsStandardScheme getScheme() {
+        return new getResourceChunk_argsStandardScheme();
       }
     }
 
-    private static class invokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_args> {
+    private static class getResourceChunk_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResourceChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13366,10 +17805,10 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // INVOKE_METHOD_JSON
+            case 2: // TRANSFER_REQUEST_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.invokeMethodJson = iprot.readString();
-                struct.setInvokeMethodJsonIsSet(true);
+                struct.transferRequestJson = iprot.readString();
+                struct.setTransferRequestJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -13385,7 +17824,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -13394,9 +17833,9 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.invokeMethodJson != null) {
-          oprot.writeFieldBegin(INVOKE_METHOD_JSON_FIELD_DESC);
-          oprot.writeString(struct.invokeMethodJson);
+        if (struct.transferRequestJson != null) {
+          oprot.writeFieldBegin(TRANSFER_REQUEST_JSON_FIELD_DESC);
+          oprot.writeString(struct.transferRequestJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -13405,35 +17844,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class invokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_argsTupleScheme getScheme() {
-        return new invokeMethod_argsTupleScheme();
+    private static class getResourceChunk_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_argsTupleScheme getScheme() {
+        return new getResourceChunk_argsTupleScheme();
       }
     }
 
-    private static class invokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_args> {
+    private static class getResourceChunk_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResourceChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetInvokeMethodJson()) {
+        if (struct.isSetTransferRequestJson()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetInvokeMethodJson()) {
-          oprot.writeString(struct.invokeMethodJson);
+        if (struct.isSetTransferRequestJson()) {
+          oprot.writeString(struct.transferRequestJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -13441,8 +17880,8 @@ public class RemoteInterpreterEventService {
           struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.invokeMethodJson = iprot.readString();
-          struct.setInvokeMethodJsonIsSet(true);
+          struct.transferRequestJson = iprot.readString();
+          struct.setTransferRequestJsonIsSet(true);
         }
       }
     }
@@ -13452,13 +17891,13 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class invokeMethod_result implements org.apache.thrift.TBase<invokeMethod_result, invokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_result");
+  public static class getResourceChunk_result implements org.apache.thrift.TBase<getResourceChunk_result, getResourceChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResourceChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourceChunk_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResourceChunk_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResourceChunk_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
@@ -13529,13 +17968,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourceChunk_result.class, metaDataMap);
     }
 
-    public invokeMethod_result() {
+    public getResourceChunk_result() {
     }
 
-    public invokeMethod_result(
+    public getResourceChunk_result(
       java.nio.ByteBuffer success)
     {
       this();
@@ -13545,14 +17984,14 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public invokeMethod_result(invokeMethod_result other) {
+    public getResourceChunk_result(getResourceChunk_result other) {
       if (other.isSetSuccess()) {
         this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
     }
 
-    public invokeMethod_result deepCopy() {
-      return new invokeMethod_result(this);
+    public getResourceChunk_result deepCopy() {
+      return new getResourceChunk_result(this);
     }
 
     @Override
@@ -13569,12 +18008,12 @@ public class RemoteInterpreterEventService {
       return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public invokeMethod_result setSuccess(byte[] success) {
+    public getResourceChunk_result setSuccess(byte[] success) {
       this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
       return this;
     }
 
-    public invokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+    public getResourceChunk_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
       this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
@@ -13638,12 +18077,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof invokeMethod_result)
-        return this.equals((invokeMethod_result)that);
+      if (that instanceof getResourceChunk_result)
+        return this.equals((getResourceChunk_result)that);
       return false;
     }
 
-    public boolean equals(invokeMethod_result that) {
+    public boolean equals(getResourceChunk_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -13673,7 +18112,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(invokeMethod_result other) {
+    public int compareTo(getResourceChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13708,7 +18147,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResourceChunk_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -13743,15 +18182,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class invokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_resultStandardScheme getScheme() {
-        return new invokeMethod_resultStandardScheme();
+    private static class getResourceChunk_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_resultStandardScheme getScheme() {
+        return new getResourceChunk_resultStandardScheme();
       }
     }
 
-    private static class invokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_result> {
+    private static class getResourceChunk_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResourceChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13780,7 +18219,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -13795,16 +18234,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class invokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_resultTupleScheme getScheme() {
-        return new invokeMethod_resultTupleScheme();
+    private static class getResourceChunk_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourceChunk_resultTupleScheme getScheme() {
+        return new getResourceChunk_resultTupleScheme();
       }
     }
 
-    private static class invokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_result> {
+    private static class getResourceChunk_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResourceChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -13817,7 +18256,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourceChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream over the chunks sent by {@link ChunkedResourceSender}.
+ * Chunks are fetched one by one when the previous one is consumed, an empty chunk means the end
+ * of the stream.
+ */
+public class ChunkedResourceInputStream extends InputStream {
+
+  /**
+   * Fetch the next chunk of the transfer.
+   */
+  public interface ChunkReader {
+    ByteBuffer readChunk() throws IOException;
+  }
+
+  private final ChunkReader chunkReader;
+  private ByteBuffer chunk;
+  private boolean eof = false;
+
+  public ChunkedResourceInputStream(ChunkReader chunkReader) {
+    this.chunkReader = chunkReader;
+  }
+
+  private boolean nextChunk() throws IOException {
+    while (!eof && (chunk == null || !chunk.hasRemaining())) {
+      chunk = chunkReader.readChunk();
+      if (chunk == null || !chunk.hasRemaining()) {
+        eof = true;
+        chunk = null;
+      }
+    }
+    return !eof;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunk()) {
+      return -1;
+    }
+    return chunk.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!nextChunk()) {
+      return -1;
+    }
+    len = Math.min(len, chunk.remaining());
+    chunk.get(bytes, off, len);
+    return len;
+  }
+
+  @Override
+  public int available() {
+    return chunk == null ? 0 : chunk.remaining();
+  }
+
+  /**
+   * Read the remaining chunks, so that the sender sees the end of the transfer.
+   */
+  @Override
+  public void close() throws IOException {
+    while (nextChunk()) {
+      chunk.position(chunk.limit());
+    }
+  }
+}
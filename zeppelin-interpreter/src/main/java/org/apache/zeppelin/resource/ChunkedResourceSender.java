@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Send the serialized value of a resource chunk by chunk, so that a large resource doesn't
+ * need to be serialized into one big buffer and sent in one rpc call.
+ *
+ * The first chunk request of a transfer starts serializing the value in a background thread.
+ * Serialized chunks are put into a small bounded queue and taken by the subsequent chunk
+ * requests, so the serialization can't run ahead of the reader and the memory used by a transfer
+ * is bounded by a few chunks. An empty chunk means the end of the transfer.
+ */
+public class ChunkedResourceSender {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedResourceSender.class);
+
+  public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+  // number of serialized chunks which can wait for the reader
+  static final int MAX_PENDING_CHUNKS = 2;
+
+  private static final ByteBuffer END_OF_TRANSFER = ByteBuffer.allocate(0);
+
+  private static final ExecutorService SERIALIZER = Executors.newCachedThreadPool(r -> {
+    Thread t = new Thread(r, "ChunkedResourceSender");
+    t.setDaemon(true);
+    return t;
+  });
+
+  private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+  private final long idleTimeoutMs;
+
+  public ChunkedResourceSender() {
+    this(60 * 1000);
+  }
+
+  ChunkedResourceSender(long idleTimeoutMs) {
+    this.idleTimeoutMs = idleTimeoutMs;
+  }
+
+  /**
+   * Read the next chunk of the transfer.
+   *
+   * @param transferId    id of the transfer, generated by the reader
+   * @param chunkSize     max size of chunk
+   * @param compress      whether to deflate the serialized value
+   * @param valueSupplier supplies the value to send, only called by the first chunk request
+   * @return next chunk, or empty buffer when the transfer is done or the value can't be sent
+   */
+  public ByteBuffer readChunk(String transferId, int chunkSize, boolean compress,
+                              Supplier<Object> valueSupplier) {
+    removeIdleTransfers();
+
+    Transfer transfer = transfers.get(transferId);
+    if (transfer == null) {
+      Object value = valueSupplier.get();
+      if (!(value instanceof Serializable)) {
+        return ByteBuffer.allocate(0);
+      }
+      transfer = new Transfer(transferId, value,
+          chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE, compress);
+      transfers.put(transferId, transfer);
+      SERIALIZER.execute(transfer);
+    }
+
+    ByteBuffer chunk = transfer.nextChunk();
+    if (chunk == END_OF_TRANSFER) {
+      transfers.remove(transferId);
+      return ByteBuffer.allocate(0);
+    }
+    return chunk;
+  }
+
+  int getNumTransfers() {
+    return transfers.size();
+  }
+
+  private void removeIdleTransfers() {
+    long now = System.currentTimeMillis();
+    Iterator<Transfer> iter = transfers.values().iterator();
+    while (iter.hasNext()) {
+      Transfer transfer = iter.next();
+      if (now - transfer.lastAccessTime > idleTimeoutMs) {
+        LOGGER.warn("Remove idle resource transfer {}", transfer.transferId);
+        iter.remove();
+      }
+    }
+  }
+
+  private class Transfer implements Runnable {
+    private final String transferId;
+    private final Object value;
+    private final int chunkSize;
+    private final boolean compress;
+    private final BlockingQueue<ByteBuffer> chunks = new ArrayBlockingQueue<>(MAX_PENDING_CHUNKS);
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    Transfer(String transferId, Object value, int chunkSize, boolean compress) {
+      this.transferId = transferId;
+      this.value = value;
+      this.chunkSize = chunkSize;
+      this.compress = compress;
+    }
+
+    ByteBuffer nextChunk() {
+      lastAccessTime = System.currentTimeMillis();
+      try {
+        ByteBuffer chunk = chunks.poll(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        lastAccessTime = System.currentTimeMillis();
+        if (chunk == null) {
+          LOGGER.warn("Timeout to serialize the next chunk of resource transfer {}", transferId);
+          return END_OF_TRANSFER;
+        }
+        return chunk;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return END_OF_TRANSFER;
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        OutputStream out = new ChunkOutputStream();
+        if (compress) {
+          out = new DeflaterOutputStream(out, true);
+        }
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(value);
+        oos.close();
+      } catch (IOException e) {
+        LOGGER.error("Fail to serialize resource transfer " + transferId, e);
+        // end the transfer, the reader gets a truncated stream and fails to deserialize it
+        chunks.clear();
+        chunks.offer(END_OF_TRANSFER);
+      }
+    }
+
+    private void enqueue(ByteBuffer chunk) throws IOException {
+      try {
+        if (!chunks.offer(chunk, idleTimeoutMs, TimeUnit.MILLISECONDS)) {
+          throw new IOException("Resource transfer " + transferId + " is abandoned by reader");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+
+    /**
+     * Cut the serialized bytes into chunks of chunkSize.
+     */
+    private class ChunkOutputStream extends OutputStream {
+      private byte[] buffer = new byte[chunkSize];
+      private int count = 0;
+      private boolean closed = false;
+
+      @Override
+      public void write(int b) throws IOException {
+        if (count == buffer.length) {
+          sendBuffer();
+        }
+        buffer[count++] = (byte) b;
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+          if (count == buffer.length) {
+            sendBuffer();
+          }
+          int n = Math.min(len, buffer.length - count);
+          System.arraycopy(b, off, buffer, count, n);
+          count += n;
+          off += n;
+          len -= n;
+        }
+      }
+
+      private void sendBuffer() throws IOException {
+        enqueue(ByteBuffer.wrap(buffer, 0, count));
+        buffer = new byte[chunkSize];
+        count = 0;
+      }
+
+      @Override
+      public void close() throws IOException {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        if (count > 0) {
+          sendBuffer();
+        }
+        enqueue(END_OF_TRANSFER);
+      }
+    }
+  }
+}
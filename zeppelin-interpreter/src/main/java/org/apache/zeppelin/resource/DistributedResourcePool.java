@@ -52,7 +52,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = connector.getResources(null, null, name);
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -79,10 +79,10 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
+      // null noteId/paragraphId means any in getResources, so filter again for exact match
+      ResourceSet resources = connector.getResources(noteId, paragraphId, name)
           .filterByNoteId(noteId)
-          .filterByParagraphId(paragraphId)
-          .filterByName(name);
+          .filterByParagraphId(paragraphId);
 
       if (resources.isEmpty()) {
         return null;
@@ -99,6 +99,36 @@ public class DistributedResourcePool extends LocalResourcePool {
     return getAll(true);
   }
 
+  @Override
+  public void put(String name, Object object) {
+    super.put(name, object);
+    connector.onResourcePut(super.get(name));
+  }
+
+  @Override
+  public void put(String noteId, String paragraphId, String name, Object object) {
+    super.put(noteId, paragraphId, name, object);
+    connector.onResourcePut(super.get(noteId, paragraphId, name));
+  }
+
+  @Override
+  public Resource remove(String name) {
+    Resource resource = super.remove(name);
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
+  @Override
+  public Resource remove(String noteId, String paragraphId, String name) {
+    Resource resource = super.remove(noteId, paragraphId, name);
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
   /**
    * Get all resource from the pool
    * @param remote false only return local resource
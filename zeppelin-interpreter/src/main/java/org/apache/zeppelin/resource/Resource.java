@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -340,6 +341,9 @@ public class Resource implements JsonSerializable, Serializable {
             paramTypes);
         method.setAccessible(true);
         Object ret = method.invoke(r, params);
+        if (pool != null && isClose(r, methodName, paramTypes)) {
+          pool.remove(resourceId.getNoteId(), resourceId.getParagraphId(), resourceId.getName());
+        }
         return ret;
       } catch (Exception e) {
         logException(e);
@@ -410,6 +414,11 @@ public class Resource implements JsonSerializable, Serializable {
       return null;
     }
     InputStream ins = ByteBufferInputStream.get(buf);
+    return deserializeObject(ins);
+  }
+
+  public static Object deserializeObject(InputStream ins)
+      throws IOException, ClassNotFoundException {
     ObjectInputStream oin;
     Object object = null;
 
@@ -421,6 +430,15 @@ public class Resource implements JsonSerializable, Serializable {
     return object;
   }
 
+  /**
+   * Whether the invoked method closes the object. A Closeable resource is removed from its
+   * resource pool once it is closed through {@link #invokeMethod(String)}.
+   */
+  public static boolean isClose(Object o, String methodName, Class[] paramTypes) {
+    return o instanceof Closeable && "close".equals(methodName)
+        && (paramTypes == null || paramTypes.length == 0);
+  }
+
   private void logException(Exception e) {
     Logger logger = LoggerFactory.getLogger(Resource.class);
     logger.error(e.getMessage(), e);
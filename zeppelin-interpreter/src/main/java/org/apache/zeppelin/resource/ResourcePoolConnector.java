@@ -26,6 +26,37 @@ public interface ResourcePoolConnector {
    */
   ResourceSet getAllResources();
 
+  /**
+   * Get resources from all other resource pools in remote processes by name,
+   * null noteId/paragraphId matches any noteId/paragraphId.
+   * @return
+   */
+  default ResourceSet getResources(String noteId, String paragraphId, String name) {
+    ResourceSet resources = getAllResources();
+    if (resources == null) {
+      return new ResourceSet();
+    }
+    if (noteId != null) {
+      resources = resources.filterByNoteId(noteId);
+    }
+    if (paragraphId != null) {
+      resources = resources.filterByParagraphId(paragraphId);
+    }
+    return resources.filterByName(name);
+  }
+
+  /**
+   * Notify that resource is put into the local resource pool
+   */
+  default void onResourcePut(Resource resource) {
+  }
+
+  /**
+   * Notify that resource is removed from the local resource pool
+   */
+  default void onResourceRemove(ResourceId id) {
+  }
+
   /**
    * Read remote object
    * @return
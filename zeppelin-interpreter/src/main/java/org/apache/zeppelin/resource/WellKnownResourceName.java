@@ -21,7 +21,8 @@ package org.apache.zeppelin.resource;
  */
 public enum WellKnownResourceName {
   ZeppelinReplResult("zeppelin.repl.result"),                 // last object of repl
-  ZeppelinTableResult("zeppelin.paragraph.result.table");     // paragraph run result
+  ZeppelinTableResult("zeppelin.paragraph.result.table"),     // paragraph run result
+  ZeppelinPagedTableResult("zeppelin.paragraph.result.table.paged"); // spooled table result
 
   String name;
   WellKnownResourceName(String name) {
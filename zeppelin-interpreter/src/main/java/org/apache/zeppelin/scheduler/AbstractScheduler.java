@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract class for scheduler implementation. Implementor just need to implement method
@@ -40,6 +41,7 @@ public abstract class AbstractScheduler implements Scheduler {
   protected volatile boolean terminate = false;
   protected BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
   protected Map<String, Job> jobs = new ConcurrentHashMap<>();
+  private final AtomicInteger runningJobCount = new AtomicInteger(0);
   private Thread schedulerThread;
 
   public AbstractScheduler(String name) {
@@ -96,6 +98,20 @@ public abstract class AbstractScheduler implements Scheduler {
 
   public abstract void runJobInScheduler(Job job);
 
+  /**
+   * Max number of jobs this scheduler runs at the same time.
+   */
+  protected int getMaxConcurrency() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Whether the next submitted job has to wait until one of the running jobs is finished.
+   */
+  public boolean isFull() {
+    return runningJobCount.get() >= getMaxConcurrency();
+  }
+
   @Override
   public void stop() {
     terminate = true;
@@ -123,11 +139,17 @@ public abstract class AbstractScheduler implements Scheduler {
     }
 
     LOGGER.info("Job " + runningJob.getId() + " started by scheduler " + name);
-    // Don't set RUNNING status when it is RemoteScheduler, update it via JobStatusPoller
-    if (!getClass().getSimpleName().equals("RemoteScheduler")) {
-      runningJob.setStatus(Job.Status.RUNNING);
+    // count the job before RUNNING is set, so that listeners of the status see it in isFull()
+    runningJobCount.incrementAndGet();
+    try {
+      // Don't set RUNNING status when it is RemoteScheduler, it is pushed by interpreter process
+      if (!getClass().getSimpleName().equals("RemoteScheduler")) {
+        runningJob.setStatus(Job.Status.RUNNING);
+      }
+      runningJob.run();
+    } finally {
+      runningJobCount.decrementAndGet();
     }
-    runningJob.run();
     Object jobResult = runningJob.getReturn();
     synchronized (runningJob) {
       if (runningJob.isAborted()) {
@@ -39,6 +39,11 @@ public class FIFOScheduler extends AbstractScheduler {
     executor.execute(() -> runJob(job));
   }
 
+  @Override
+  protected int getMaxConcurrency() {
+    return 1;
+  }
+
   @Override
   public void stop() {
     super.stop();
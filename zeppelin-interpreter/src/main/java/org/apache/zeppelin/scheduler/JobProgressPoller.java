@@ -17,51 +17,209 @@
 
 package org.apache.zeppelin.scheduler;
 
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Date;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
- * Polls job progress with given interval
+ * Polls job progress with given interval.
+ *
+ * All the pollers share a small fixed size thread pool (zeppelin.scheduler.progress.poller.threads)
+ * instead of owning one thread per job. A job is polled again only after its previous poll
+ * returned, so ticks are skipped while Job#progress() is in flight (e.g. a slow rpc to the
+ * interpreter process). A poll that takes longer than zeppelin.scheduler.progress.timeout is
+ * interrupted and the job backs off, so a slow job can't hold a pool thread and delay polling the
+ * other jobs.
+ * The listener is only notified when the progress changes. Polling backs off when the progress
+ * doesn't change (the interval is doubled up to MAX_INTERVAL_MSEC), and long running jobs are
+ * never polled more often than every 1% of their running time.
  *
  * @see Job#progress()
  * @see JobListener#onProgressUpdate(org.apache.zeppelin.scheduler.Job, int)
- *
- * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller implements Runnable {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
+  public static final long MAX_INTERVAL_MSEC = 5000;
   private static final Logger logger = LoggerFactory.getLogger(JobProgressPoller.class);
 
+  static volatile long progressTimeoutMs = ZeppelinConfiguration.create()
+      .getLong(ConfVars.ZEPPELIN_SCHEDULER_PROGRESS_TIMEOUT);
+  private static volatile ScheduledThreadPoolExecutor executor;
+  private static volatile ScheduledExecutorService timeoutExecutor;
+
   private Job job;
   private long intervalMs;
+  private long maxIntervalMs;
+  private long currentIntervalMs;
+  private int lastProgress = -1;
+  private volatile boolean stopped = false;
+  private ScheduledFuture<?> future;
+  // thread running Job#progress() of this poller, guarded by this
+  private Thread pollingThread;
+  private boolean pollTimedOut = false;
 
   public JobProgressPoller(Job job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
     this.job = job;
     if (intervalMs < 0) {
       throw new IllegalArgumentException("polling interval can't be " + intervalMs);
     }
     this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
+    this.maxIntervalMs = Math.max(MAX_INTERVAL_MSEC, this.intervalMs);
+    this.currentIntervalMs = this.intervalMs;
+  }
+
+  private static ScheduledThreadPoolExecutor getExecutor() {
+    if (executor == null) {
+      synchronized (JobProgressPoller.class) {
+        if (executor == null) {
+          int poolSize = Math.max(1, ZeppelinConfiguration.create()
+              .getInt(ConfVars.ZEPPELIN_SCHEDULER_PROGRESS_POLLER_THREADS));
+          ScheduledThreadPoolExecutor e =
+              new ScheduledThreadPoolExecutor(poolSize, newThreadFactory("JobProgressPoller-"));
+          e.setRemoveOnCancelPolicy(true);
+          executor = e;
+        }
+      }
+    }
+    return executor;
+  }
+
+  private static ScheduledExecutorService getTimeoutExecutor() {
+    if (timeoutExecutor == null) {
+      synchronized (JobProgressPoller.class) {
+        if (timeoutExecutor == null) {
+          ScheduledThreadPoolExecutor e =
+              new ScheduledThreadPoolExecutor(1, newThreadFactory("JobProgressPollerTimeout-"));
+          e.setRemoveOnCancelPolicy(true);
+          timeoutExecutor = e;
+        }
+      }
+    }
+    return timeoutExecutor;
+  }
+
+  private static ThreadFactory newThreadFactory(String prefix) {
+    AtomicLong count = new AtomicLong(1);
+    return r -> {
+      Thread thread = new Thread(r, prefix + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  static int getPoolSize() {
+    return getExecutor().getCorePoolSize();
+  }
+
+  public synchronized void start() {
+    stopped = false;
+    schedule(intervalMs);
+  }
+
+  public synchronized void stop() {
+    stopped = true;
+    if (future != null) {
+      future.cancel(false);
+      future = null;
+    }
+  }
+
+  public boolean isStopped() {
+    return stopped;
+  }
+
+  long getCurrentIntervalMs() {
+    return currentIntervalMs;
+  }
+
+  private synchronized void schedule(long delayMs) {
+    if (!stopped) {
+      currentIntervalMs = delayMs;
+      future = getExecutor().schedule(this, delayMs, TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
   public void run() {
-    try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
-          try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            logger.error("Can not get or update progress", e);
+    if (stopped) {
+      return;
+    }
+    long nextIntervalMs = currentIntervalMs;
+    JobListener listener = job.getListener();
+    if (listener != null) {
+      try {
+        if (job.isRunning()) {
+          int progress = pollProgress();
+          if (progress != lastProgress) {
+            lastProgress = progress;
+            listener.onProgressUpdate(job, progress);
+            nextIntervalMs = intervalMs;
+          } else {
+            nextIntervalMs = Math.min(currentIntervalMs * 2, maxIntervalMs);
           }
         }
-        Thread.sleep(intervalMs);
+      } catch (TimeoutException e) {
+        logger.warn("Progress of job {} didn't return in {} ms", job.getId(), progressTimeoutMs);
+        nextIntervalMs = maxIntervalMs;
+      } catch (Exception e) {
+        logger.error("Can not get or update progress", e);
+      }
+    }
+    Date dateStarted = job.getDateStarted();
+    if (dateStarted != null) {
+      long runningTimeMs = System.currentTimeMillis() - dateStarted.getTime();
+      nextIntervalMs = Math.max(nextIntervalMs, Math.min(runningTimeMs / 100, maxIntervalMs));
+    }
+    schedule(nextIntervalMs);
+  }
+
+  // calls Job#progress(), interrupting it when it takes longer than progressTimeoutMs
+  private int pollProgress() throws TimeoutException {
+    synchronized (this) {
+      pollingThread = Thread.currentThread();
+      pollTimedOut = false;
+    }
+    ScheduledFuture<?> timeout = getTimeoutExecutor().schedule(this::interruptPoll,
+        progressTimeoutMs, TimeUnit.MILLISECONDS);
+    int progress = 0;
+    RuntimeException error = null;
+    try {
+      progress = job.progress();
+    } catch (RuntimeException e) {
+      error = e;
+    } finally {
+      timeout.cancel(false);
+      synchronized (this) {
+        pollingThread = null;
       }
-    } catch (InterruptedException ignored) {
-      // just ignore this exception
+      // the interrupt is meant for this poll only, don't leak it to the next task of the pool
+      Thread.interrupted();
+    }
+    synchronized (this) {
+      if (pollTimedOut) {
+        throw new TimeoutException();
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
+    return progress;
+  }
+
+  private synchronized void interruptPoll() {
+    if (pollingThread != null) {
+      pollTimedOut = true;
+      pollingThread.interrupt();
     }
   }
 }
@@ -26,9 +26,11 @@ import java.util.concurrent.Executors;
 public class ParallelScheduler extends AbstractScheduler {
 
   private ExecutorService executor;
+  private int maxConcurrency;
 
   ParallelScheduler(String name, int maxConcurrency) {
     super(name);
+    this.maxConcurrency = maxConcurrency;
     this.executor = Executors.newFixedThreadPool(maxConcurrency,
         new SchedulerThreadFactory("ParallelScheduler-Worker-"));
   }
@@ -38,4 +40,9 @@ public class ParallelScheduler extends AbstractScheduler {
     // submit this job to a FixedThreadPool so that at most maxConcurrencyJobs running
     executor.execute(() -> runJob(runningJob));
   }
+
+  @Override
+  protected int getMaxConcurrency() {
+    return maxConcurrency;
+  }
 }
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Table data backed by tab separated text, the first line is the header.
+ *
+ * Only the offsets of lines are indexed when it's created. Cells are parsed when they are read,
+ * and a column read by {@link #column(int)} is parsed once into a typed column, so the cost
+ * scales with the columns actually read.
+ */
+public class ColumnarTableData implements TableData, Serializable {
+  private final String data;
+  private final ColumnDef[] columnDef;
+  // start offset of each row, plus the end of the last row (+1) at the end
+  private final int[] rowOffsets;
+  private transient TableColumn[] parsedColumns;
+
+  public ColumnarTableData(String data) {
+    this.data = data;
+
+    // ignore trailing new lines
+    int end = data.length();
+    while (end > 0 && data.charAt(end - 1) == '\n') {
+      end--;
+    }
+    if (end == 0) {
+      columnDef = null;
+      rowOffsets = new int[]{0};
+      return;
+    }
+
+    int headerEnd = data.indexOf('\n');
+    if (headerEnd < 0 || headerEnd > end) {
+      headerEnd = end;
+    }
+    String[] headerRow = data.substring(0, headerEnd).split("\t");
+    columnDef = new ColumnDef[headerRow.length];
+    for (int i = 0; i < headerRow.length; i++) {
+      columnDef[i] = new ColumnDef(headerRow[i], ColumnDef.TYPE.STRING);
+    }
+
+    int[] offsets = new int[16];
+    int numRows = 0;
+    int pos = headerEnd + 1;
+    while (pos <= end) {
+      if (numRows + 1 >= offsets.length) {
+        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      }
+      offsets[numRows++] = pos;
+      int lineEnd = data.indexOf('\n', pos);
+      pos = (lineEnd < 0 || lineEnd > end) ? end + 1 : lineEnd + 1;
+    }
+    offsets[numRows] = end + 1;
+    rowOffsets = Arrays.copyOf(offsets, numRows + 1);
+  }
+
+  @Override
+  public ColumnDef[] columns() {
+    return columnDef;
+  }
+
+  public int numRows() {
+    return rowOffsets.length - 1;
+  }
+
+  @Override
+  public Iterator<Row> rows() {
+    return new Iterator<Row>() {
+      private int row = 0;
+
+      @Override
+      public boolean hasNext() {
+        return row < numRows();
+      }
+
+      @Override
+      public Row next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Object[] cells = data.substring(rowOffsets[row], rowOffsets[row + 1] - 1).split("\t");
+        row++;
+        return new Row(cells);
+      }
+    };
+  }
+
+  /**
+   * Get the cell without parsing the other cells of the row
+   * @return null if the row doesn't have the column
+   */
+  public String cell(int row, int column) {
+    int pos = rowOffsets[row];
+    int end = rowOffsets[row + 1] - 1;
+    for (int c = 0; c < column; c++) {
+      int tab = data.indexOf('\t', pos);
+      if (tab < 0 || tab >= end) {
+        return null;
+      }
+      pos = tab + 1;
+    }
+    int tab = data.indexOf('\t', pos);
+    return data.substring(pos, (tab < 0 || tab >= end) ? end : tab);
+  }
+
+  public int columnIndex(String name) {
+    if (columnDef != null) {
+      for (int i = 0; i < columnDef.length; i++) {
+        if (columnDef[i].name().equals(name)) {
+          return i;
+        }
+      }
+    }
+    throw new IllegalArgumentException("No such column: " + name);
+  }
+
+  public TableColumn column(String name) {
+    return column(columnIndex(name));
+  }
+
+  /**
+   * Get the typed column, it is parsed on first access.
+   * Column is LONG or DOUBLE when all its cells are numbers which print back to the same value,
+   * otherwise STRING, so codes like "007" keep their text.
+   */
+  public synchronized TableColumn column(int index) {
+    if (columnDef == null || index < 0 || index >= columnDef.length) {
+      throw new IllegalArgumentException("No such column: " + index);
+    }
+    if (parsedColumns == null) {
+      parsedColumns = new TableColumn[columnDef.length];
+    }
+    if (parsedColumns[index] == null) {
+      parsedColumns[index] = parseColumn(index);
+    }
+    return parsedColumns[index];
+  }
+
+  private TableColumn parseColumn(int index) {
+    String name = columnDef[index].name();
+    int numRows = numRows();
+    String[] cells = new String[numRows];
+    boolean isLong = numRows > 0;
+    boolean isNumber = numRows > 0;
+    for (int r = 0; r < numRows; r++) {
+      String cell = cells[r] = cell(r, index);
+      if (isNumber) {
+        isNumber = isNumber(cell);
+        isLong = isLong && isNumber && isInteger(cell);
+      }
+    }
+
+    try {
+      if (isLong) {
+        long[] values = new long[numRows];
+        for (int r = 0; r < numRows; r++) {
+          values[r] = Long.parseLong(cells[r]);
+          if (!Long.toString(values[r]).equals(cells[r])) {
+            return new TableColumn(name, cells);
+          }
+        }
+        return new TableColumn(name, values);
+      } else if (isNumber) {
+        double[] values = new double[numRows];
+        for (int r = 0; r < numRows; r++) {
+          values[r] = Double.parseDouble(cells[r]);
+          if (!isSameNumber(cells[r], values[r])) {
+            return new TableColumn(name, cells);
+          }
+        }
+        return new TableColumn(name, values);
+      }
+    } catch (NumberFormatException e) {
+      // e.g. out of range of long, keep it as string
+    }
+    return new TableColumn(name, cells);
+  }
+
+  // whether the double is the number written in the cell, without losing precision,
+  // and the cell has no sign or leading zero that would be dropped when it's printed back
+  private static boolean isSameNumber(String cell, double value) {
+    if (Double.isInfinite(value) || cell.charAt(0) == '+') {
+      return false;
+    }
+    int start = cell.charAt(0) == '-' ? 1 : 0;
+    if (cell.length() > start + 1 && cell.charAt(start) == '0'
+        && Character.isDigit(cell.charAt(start + 1))) {
+      return false;
+    }
+    return new BigDecimal(cell).compareTo(BigDecimal.valueOf(value)) == 0;
+  }
+
+  private static boolean isInteger(String cell) {
+    for (int i = 0; i < cell.length(); i++) {
+      char c = cell.charAt(i);
+      if (!(c >= '0' && c <= '9') && !(i == 0 && c == '-')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isNumber(String cell) {
+    if (cell == null || cell.isEmpty()) {
+      return false;
+    }
+    boolean hasDigit = false;
+    for (int i = 0; i < cell.length(); i++) {
+      char c = cell.charAt(i);
+      if (c >= '0' && c <= '9') {
+        hasDigit = true;
+      } else if (c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+        return false;
+      }
+    }
+    return hasDigit;
+  }
+
+  /**
+   * Get table data which only has the given columns. Cells of the other columns are never parsed.
+   */
+  public TableData project(String... columnNames) {
+    int[] indices = new int[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      indices[i] = columnIndex(columnNames[i]);
+    }
+    return new ProjectedTableData(this, indices);
+  }
+
+  private static class ProjectedTableData implements TableData, Serializable {
+    private final ColumnarTableData table;
+    private final int[] indices;
+
+    ProjectedTableData(ColumnarTableData table, int[] indices) {
+      this.table = table;
+      this.indices = indices;
+    }
+
+    @Override
+    public ColumnDef[] columns() {
+      ColumnDef[] columns = new ColumnDef[indices.length];
+      for (int i = 0; i < indices.length; i++) {
+        columns[i] = table.columnDef[indices[i]];
+      }
+      return columns;
+    }
+
+    @Override
+    public Iterator<Row> rows() {
+      return new Iterator<Row>() {
+        private int row = 0;
+
+        @Override
+        public boolean hasNext() {
+          return row < table.numRows();
+        }
+
+        @Override
+        public Row next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          Object[] cells = new Object[indices.length];
+          for (int i = 0; i < indices.length; i++) {
+            cells[i] = table.cell(row, indices[i]);
+          }
+          row++;
+          return new Row(cells);
+        }
+      };
+    }
+  }
+}
@@ -18,32 +18,113 @@ package org.apache.zeppelin.tabledata;
 
 import org.apache.zeppelin.resource.Resource;
 
+import java.io.Closeable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
- * Proxy row iterator
+ * Proxy row iterator.
+ *
+ * Rows are read from the remote {@link RowCursor} page by page, and the next page is prefetched
+ * in background while the current page is iterated. The cursor is closed, which removes it from
+ * the resource pool, when the last page is read or the iterator is closed.
  */
-public class ProxyRowIterator implements Iterator<Row> {
+public class ProxyRowIterator implements Iterator<Row>, Closeable {
+
+  private static final ExecutorService PREFETCHER = Executors.newCachedThreadPool(r -> {
+    Thread t = new Thread(r, "ProxyRowIterator");
+    t.setDaemon(true);
+    return t;
+  });
+
+  private final Resource cursor;
+  private final int pageSize;
+  private Iterator<Row> page = Collections.emptyIterator();
+  // null when the last page is read
+  private Future<List<Row>> nextPage;
+  private boolean cursorClosed = false;
 
-  private final Resource rows;
+  public ProxyRowIterator(Resource cursor, int pageSize) {
+    this.cursor = cursor;
+    this.pageSize = pageSize;
+    if (cursor != null) {
+      this.nextPage = PREFETCHER.submit(this::readPage);
+    }
+  }
 
-  public ProxyRowIterator(Resource rows) {
-    this.rows = rows;
+  private List<Row> readPage() {
+    List<Row> rows = (List<Row>) cursor.invokeMethod(
+        "next", new Class[]{int.class}, new Object[]{pageSize});
+    if (rows == null) {
+      throw new IllegalStateException("Fail to read rows of " + cursor.getResourceId().getName());
+    }
+    return rows;
   }
 
   @Override
   public boolean hasNext() {
-    rows.invokeMethod("hasNext");
-    return false;
+    while (!page.hasNext()) {
+      if (nextPage == null) {
+        return false;
+      }
+
+      List<Row> rows;
+      try {
+        rows = nextPage.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+        throw new RuntimeException(e.getCause());
+      }
+
+      if (rows.size() < pageSize) {
+        nextPage = null;
+        closeCursor();
+      } else {
+        nextPage = PREFETCHER.submit(this::readPage);
+      }
+      page = rows.iterator();
+    }
+    return true;
   }
 
   @Override
   public Row next() {
-    return (Row) rows.invokeMethod("next");
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.next();
   }
 
   @Override
   public void remove() {
     // operation not supported
   }
+
+  /**
+   * Stop reading rows and release the remote cursor.
+   */
+  @Override
+  public void close() {
+    if (nextPage != null) {
+      nextPage.cancel(false);
+      nextPage = null;
+    }
+    page = Collections.emptyIterator();
+    closeCursor();
+  }
+
+  private void closeCursor() {
+    if (cursor != null && !cursorClosed) {
+      cursorClosed = true;
+      cursor.invokeMethod("close");
+    }
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Cursor over the rows of table data, which reads rows page by page.
+ * It lives next to the table data, so a remote reader gets one page in each call.
+ * Closing it through the resource pool removes it from the pool.
+ */
+public class RowCursor implements Closeable {
+  private Iterator<Row> rows;
+
+  public RowCursor(Iterator<Row> rows) {
+    this.rows = rows;
+  }
+
+  /**
+   * Get next page of rows
+   * @param maxRows max number of rows in the page
+   * @return rows, less than maxRows when the cursor reaches the end
+   */
+  public synchronized ArrayList<Row> next(int maxRows) {
+    ArrayList<Row> page = new ArrayList<>(Math.min(maxRows, 1024));
+    while (page.size() < maxRows && rows.hasNext()) {
+      page.add(rows.next());
+    }
+    return page;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (rows instanceof Closeable) {
+      ((Closeable) rows).close();
+    }
+    rows = Collections.emptyIterator();
+  }
+}
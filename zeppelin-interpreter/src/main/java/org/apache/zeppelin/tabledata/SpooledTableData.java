@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.zeppelin.resource.DistributedResourcePool;
+import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.resource.WellKnownResourceName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table data spooled to a local file of interpreter process, so that a large table result can
+ * be read page by page via {@link #page(int, int)} instead of being sent to zeppelin server
+ * at once. Interpreter writes only the first page into the paragraph output and puts the
+ * spooled table data into the ResourcePool (see {@link #putIntoResourcePool}), zeppelin server
+ * reads the other pages on demand.
+ *
+ * Rows are stored as tsv lines of normalized cells, the file offset of every
+ * INDEX_INTERVAL rows is kept in memory, so reading a page doesn't scan the rows before it.
+ * Spool files are deleted by {@link #close()}, files left by a killed interpreter process are
+ * deleted when the spool directory is used again (see {@link #getSpoolDir(String)}).
+ */
+public class SpooledTableData implements TableData, Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SpooledTableData.class);
+
+  /**
+   * Key of the paragraph config which lists the indexes of the paged table results of the run.
+   * Zeppelin server removes it once the results are marked as paged, so it is never saved.
+   */
+  public static final String PAGED_TABLES_CONFIG = "pagedTables";
+
+  private static final int INDEX_INTERVAL = 1024;
+  private static final String FILE_PREFIX = "zeppelin-table-";
+  private static final String FILE_SUFFIX = ".tsv";
+  // spool directories which are cleaned by this process
+  private static final Set<File> PREPARED_DIRS = ConcurrentHashMap.newKeySet();
+
+  private final String[] columns;
+  private final File file;
+  private OutputStream out;
+  private long position = 0;
+  // rowOffsets[i] is the file offset of row i * INDEX_INTERVAL
+  private long[] rowOffsets = new long[16];
+  private int size = 0;
+  private boolean closed = false;
+  // iterators of rows() whose reader is not closed yet, they are closed with the table data
+  private final Set<RowIterator> openIterators = new HashSet<>();
+
+  public SpooledTableData(String[] columns) throws IOException {
+    this(columns, null);
+  }
+
+  /**
+   * @param columns column names
+   * @param dir directory of the spool file, system temp directory if it is null
+   */
+  public SpooledTableData(String[] columns, File dir) throws IOException {
+    this.columns = columns;
+    this.file = File.createTempFile(FILE_PREFIX, FILE_SUFFIX, dir);
+    this.out = new BufferedOutputStream(new FileOutputStream(file));
+  }
+
+  /**
+   * Get the spool directory of the interpreter group under the system temp directory. The
+   * first call in this process deletes the stale spool files of the previous interpreter
+   * process of the same group, which can't be used by anyone anymore.
+   */
+  public static File getSpoolDir(String interpreterGroupId) throws IOException {
+    File dir = new File(System.getProperty("java.io.tmpdir"),
+        "zeppelin-table-spool" + File.separator
+            + interpreterGroupId.replaceAll("[^\\w.-]", "_"));
+    if (PREPARED_DIRS.add(dir)) {
+      if (!dir.isDirectory() && !dir.mkdirs()) {
+        PREPARED_DIRS.remove(dir);
+        throw new IOException("Fail to create spool directory " + dir);
+      }
+      File[] staleFiles = dir.listFiles((d, name) ->
+          name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX));
+      if (staleFiles != null) {
+        for (File staleFile : staleFiles) {
+          if (!staleFile.delete()) {
+            LOGGER.warn("Fail to delete stale spool file {}", staleFile);
+          }
+        }
+        LOGGER.info("Deleted {} stale spool files in {}", staleFiles.length, dir);
+      }
+    }
+    return dir;
+  }
+
+  public static String getResourceName(int tableIndex) {
+    return WellKnownResourceName.ZeppelinPagedTableResult + "." + tableIndex;
+  }
+
+  public synchronized void addRow(String[] cells) throws IOException {
+    if (out == null) {
+      throw new IOException("Can't add row to finished table data");
+    }
+    if (size % INDEX_INTERVAL == 0) {
+      int index = size / INDEX_INTERVAL;
+      if (index == rowOffsets.length) {
+        rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length * 2);
+      }
+      rowOffsets[index] = position;
+    }
+
+    StringBuilder line = new StringBuilder();
+    for (int i = 0; i < cells.length; ++i) {
+      if (i > 0) {
+        line.append('\t');
+      }
+      TableDataUtils.appendNormalizedColumn(line, cells[i]);
+    }
+    line.append('\n');
+    byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+    out.write(bytes);
+    position += bytes.length;
+    size++;
+  }
+
+  /**
+   * Finish adding rows.
+   */
+  public synchronized void finish() throws IOException {
+    if (out != null) {
+      out.close();
+      out = null;
+    }
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Read a page of rows.
+   *
+   * @param offset index of the first row
+   * @param limit max number of rows
+   */
+  public synchronized TablePage page(int offset, int limit) throws IOException {
+    List<String[]> rows = new ArrayList<>();
+    if (offset >= 0 && offset < size && limit > 0) {
+      if (out != null) {
+        out.flush();
+      }
+      try (BufferedReader reader = openReader(offset)) {
+        for (int i = 0; i < limit; ++i) {
+          String line = reader.readLine();
+          if (line == null) {
+            break;
+          }
+          rows.add(line.split("\t", -1));
+        }
+      }
+    }
+    return new TablePage(columns, offset, size, rows);
+  }
+
+  // open reader positioned at the row
+  private BufferedReader openReader(int row) throws IOException {
+    if (closed) {
+      throw new TableDataException("Table data is closed");
+    }
+    FileInputStream in = new FileInputStream(file);
+    in.getChannel().position(rowOffsets[row / INDEX_INTERVAL]);
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    for (int i = 0; i < row % INDEX_INTERVAL; ++i) {
+      reader.readLine();
+    }
+    return reader;
+  }
+
+  @Override
+  public ColumnDef[] columns() {
+    ColumnDef[] columnDefs = new ColumnDef[columns.length];
+    for (int i = 0; i < columns.length; ++i) {
+      columnDefs[i] = new ColumnDef(columns[i], ColumnDef.TYPE.STRING);
+    }
+    return columnDefs;
+  }
+
+  /**
+   * Iterate the rows added so far. The spool file is open until all the rows are read, or
+   * the iterator or this table data is closed, so close the iterator if it is not read to
+   * the end.
+   */
+  @Override
+  public synchronized RowIterator rows() {
+    try {
+      if (out != null) {
+        out.flush();
+      }
+      RowIterator iterator = new RowIterator(size == 0 ? null : openReader(0), size);
+      if (size > 0) {
+        openIterators.add(iterator);
+      }
+      return iterator;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int getNumOpenIterators() {
+    return openIterators.size();
+  }
+
+  /**
+   * Iterator of the rows which holds the spool file open, see {@link #rows()}.
+   */
+  public class RowIterator implements Iterator<Row>, Closeable {
+    private final BufferedReader reader;
+    private final int rowCount;
+    private int next = 0;
+
+    private RowIterator(BufferedReader reader, int rowCount) {
+      this.reader = reader;
+      this.rowCount = rowCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < rowCount;
+    }
+
+    @Override
+    public Row next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      String line;
+      try {
+        line = reader.readLine();
+        if (line == null) {
+          throw new TableDataException("Spool file " + file + " ends at row " + next);
+        }
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException(e);
+      }
+      if (++next == rowCount) {
+        close();
+      }
+      return new Row(line.split("\t", -1));
+    }
+
+    @Override
+    public void close() {
+      synchronized (SpooledTableData.this) {
+        openIterators.remove(this);
+      }
+      next = rowCount;
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (IOException e) {
+          LOGGER.warn("Fail to close spool file " + file, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Delete the spool file.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      finish();
+    } catch (IOException e) {
+      LOGGER.warn("Fail to close spool file " + file, e);
+    }
+    for (RowIterator iterator : new ArrayList<>(openIterators)) {
+      iterator.close();
+    }
+    if (!file.delete()) {
+      LOGGER.warn("Fail to delete spool file {}", file);
+    }
+  }
+
+  /**
+   * Put the table data into resource pool, so that zeppelin server can read its pages.
+   *
+   * @param tableIndex index of the table among the table results of the paragraph
+   */
+  public void putIntoResourcePool(ResourcePool pool, String noteId, String paragraphId,
+                                  int tableIndex) {
+    pool.put(noteId, paragraphId, getResourceName(tableIndex), this);
+  }
+
+  /**
+   * Record in the paragraph config that the table result is paged.
+   *
+   * @param tableIndex index of the table among the table results of the paragraph
+   */
+  @SuppressWarnings("unchecked")
+  public static void markPaged(Map<String, Object> config, int tableIndex) {
+    Object tables = config.get(PAGED_TABLES_CONFIG);
+    List<Object> pagedTables = tables instanceof List ? (List<Object>) tables : new ArrayList<>();
+    pagedTables.add(tableIndex);
+    config.put(PAGED_TABLES_CONFIG, pagedTables);
+  }
+
+  /**
+   * Remove the indexes of the paged table results recorded by {@link #markPaged} from the
+   * paragraph config.
+   */
+  public static Set<Integer> removePagedTables(Map<String, Object> config) {
+    Set<Integer> pagedTables = new HashSet<>();
+    Object tables = config.remove(PAGED_TABLES_CONFIG);
+    if (tables instanceof Collection) {
+      for (Object tableIndex : (Collection<?>) tables) {
+        // the numbers are doubles after the config is sent from interpreter process as json
+        if (tableIndex instanceof Number) {
+          pagedTables.add(((Number) tableIndex).intValue());
+        }
+      }
+    }
+    return pagedTables;
+  }
+
+  /**
+   * Remove the spooled table data of the paragraph from resource pool and delete their
+   * files, e.g. before the paragraph is run again.
+   */
+  public static void removeFromResourcePool(ResourcePool pool, String noteId,
+                                            String paragraphId) {
+    ResourceSet resources = pool instanceof DistributedResourcePool ?
+        ((DistributedResourcePool) pool).getAll(false) : pool.getAll();
+    resources = resources.filterByNoteId(noteId).filterByParagraphId(paragraphId)
+        .filterByNameRegex(WellKnownResourceName.ZeppelinPagedTableResult.toString()
+            .replace(".", "\\.") + "\\.\\d+");
+    for (Resource resource : resources) {
+      closeIfSpooled(pool.remove(noteId, paragraphId, resource.getResourceId().getName()));
+    }
+  }
+
+  /**
+   * Delete the spool file if the resource is a SpooledTableData.
+   */
+  public static void closeIfSpooled(Resource resource) {
+    if (resource != null && resource.isLocal() && resource.get() instanceof SpooledTableData) {
+      ((SpooledTableData) resource.get()).close();
+    }
+  }
+}
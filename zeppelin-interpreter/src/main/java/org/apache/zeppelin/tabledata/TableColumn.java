@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import java.io.Serializable;
+
+/**
+ * Values of one column of table data. Numeric columns are stored in primitive arrays.
+ */
+public class TableColumn implements Serializable {
+  private final ColumnDef columnDef;
+  private final long[] longs;
+  private final double[] doubles;
+  private final String[] strings;
+
+  TableColumn(String name, long[] values) {
+    this(new ColumnDef(name, ColumnDef.TYPE.LONG), values, null, null);
+  }
+
+  TableColumn(String name, double[] values) {
+    this(new ColumnDef(name, ColumnDef.TYPE.DOUBLE), null, values, null);
+  }
+
+  TableColumn(String name, String[] values) {
+    this(new ColumnDef(name, ColumnDef.TYPE.STRING), null, null, values);
+  }
+
+  private TableColumn(ColumnDef columnDef, long[] longs, double[] doubles, String[] strings) {
+    this.columnDef = columnDef;
+    this.longs = longs;
+    this.doubles = doubles;
+    this.strings = strings;
+  }
+
+  public ColumnDef columnDef() {
+    return columnDef;
+  }
+
+  public ColumnDef.TYPE type() {
+    return columnDef.type();
+  }
+
+  public int size() {
+    if (longs != null) {
+      return longs.length;
+    } else if (doubles != null) {
+      return doubles.length;
+    } else {
+      return strings.length;
+    }
+  }
+
+  public long getLong(int row) {
+    if (longs != null) {
+      return longs[row];
+    } else if (doubles != null) {
+      return (long) doubles[row];
+    } else {
+      return Long.parseLong(strings[row]);
+    }
+  }
+
+  public double getDouble(int row) {
+    if (longs != null) {
+      return longs[row];
+    } else if (doubles != null) {
+      return doubles[row];
+    } else {
+      return Double.parseDouble(strings[row]);
+    }
+  }
+
+  public String getString(int row) {
+    if (longs != null) {
+      return String.valueOf(longs[row]);
+    } else if (doubles != null) {
+      return String.valueOf(doubles[row]);
+    } else {
+      return strings[row];
+    }
+  }
+
+  /**
+   * Get value of the row, boxed when the column is numeric
+   */
+  public Object get(int row) {
+    if (longs != null) {
+      return longs[row];
+    } else if (doubles != null) {
+      return doubles[row];
+    } else {
+      return strings[row];
+    }
+  }
+
+  public long[] longValues() {
+    return longs;
+  }
+
+  public double[] doubleValues() {
+    return doubles;
+  }
+}
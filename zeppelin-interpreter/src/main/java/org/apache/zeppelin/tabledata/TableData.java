@@ -34,4 +34,12 @@ public interface TableData {
    * @return
    */
   Iterator<Row> rows();
+
+  /**
+   * Get row cursor, which reads rows page by page
+   * @return
+   */
+  default RowCursor cursor() {
+    return new RowCursor(rows());
+  }
 }
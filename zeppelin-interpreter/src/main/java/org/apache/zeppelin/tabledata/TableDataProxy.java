@@ -19,15 +19,28 @@ package org.apache.zeppelin.tabledata;
 import org.apache.zeppelin.resource.Resource;
 
 import java.util.Iterator;
+import java.util.UUID;
 
 /**
  * Proxy TableData for ResourcePool
  */
 public class TableDataProxy implements TableData {
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
   private final Resource resource;
+  private final int pageSize;
 
   public TableDataProxy(Resource tableDataRemoteResource) {
+    this(tableDataRemoteResource, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * @param tableDataRemoteResource
+   * @param pageSize number of rows read from remote table data in one call
+   */
+  public TableDataProxy(Resource tableDataRemoteResource, int pageSize) {
     this.resource = tableDataRemoteResource;
+    this.pageSize = pageSize;
   }
 
   @Override
@@ -38,10 +51,12 @@ public class TableDataProxy implements TableData {
 
   @Override
   public Iterator<Row> rows() {
-    String resourceName = resource.getResourceId().getName() + ".rows";
-    Resource rows = resource.invokeMethod("rows", resourceName);
+    // each iteration has its own cursor, removed from the pool when the iterator is
+    // exhausted or closed
+    String resourceName = resource.getResourceId().getName() + ".rows." + UUID.randomUUID();
+    Resource cursor = resource.invokeMethod("cursor", resourceName);
 
-    ProxyRowIterator it = new ProxyRowIterator(rows);
+    ProxyRowIterator it = new ProxyRowIterator(cursor, pageSize);
     return it;
   }
 }
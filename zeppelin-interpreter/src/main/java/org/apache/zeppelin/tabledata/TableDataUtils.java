@@ -33,7 +33,53 @@ public class TableDataUtils {
     if (column == null) {
       return "null";
     }
-    return column.replace("\t", " ").replace("\r\n", " ").replace("\n", " ");
+    int i = indexOfDelimiter(column);
+    if (i < 0) {
+      // most of the cells don't contain any delimiter, don't copy them
+      return column;
+    }
+    StringBuilder builder = new StringBuilder(column.length());
+    builder.append(column, 0, i);
+    appendNormalized(builder, column, i);
+    return builder.toString();
+  }
+
+  /**
+   * Append the normalized column to builder, without creating the intermediate string.
+   * @param builder
+   * @param column
+   */
+  public static void appendNormalizedColumn(StringBuilder builder, String column) {
+    if (column == null) {
+      builder.append("null");
+    } else {
+      appendNormalized(builder, column, 0);
+    }
+  }
+
+  private static int indexOfDelimiter(String column) {
+    for (int i = 0; i < column.length(); ++i) {
+      char c = column.charAt(i);
+      if (c == '\t' || c == '\n' || c == '\r') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void appendNormalized(StringBuilder builder, String column, int start) {
+    int length = column.length();
+    for (int i = start; i < length; ++i) {
+      char c = column.charAt(i);
+      if (c == '\t' || c == '\n') {
+        builder.append(' ');
+      } else if (c == '\r' && i + 1 < length && column.charAt(i + 1) == '\n') {
+        builder.append(' ');
+        ++i;
+      } else {
+        builder.append(c);
+      }
+    }
   }
 
   /**
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A page of rows of {@link SpooledTableData}
+ */
+public class TablePage implements Serializable {
+  private final String[] columns;
+  // index of the first row of this page
+  private final int offset;
+  // number of rows of the whole table
+  private final int total;
+  private final List<String[]> rows;
+
+  public TablePage(String[] columns, int offset, int total, List<String[]> rows) {
+    this.columns = columns;
+    this.offset = offset;
+    this.total = total;
+    this.rows = rows;
+  }
+
+  public String[] getColumns() {
+    return columns;
+  }
+
+  public int getOffset() {
+    return offset;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public List<String[]> getRows() {
+    return rows;
+  }
+}
@@ -86,6 +86,14 @@ struct AppStatusUpdateEvent {
   4: string status
 }
 
+struct ParagraphStatusUpdateEvent {
+  1: string noteId,
+  2: string paragraphId,
+  3: string intpGroupId,
+  4: string status,
+  5: bool schedulerFull
+}
+
 struct ParagraphInfo {
   1: string noteId,
   2: string paragraphId,
@@ -106,6 +114,7 @@ service RemoteInterpreterEventService {
   void appendAppOutput(1: AppOutputAppendEvent event);
   void updateAppOutput(1: AppOutputUpdateEvent event);
   void updateAppStatus(1: AppStatusUpdateEvent event);
+  void updateParagraphStatus(1: ParagraphStatusUpdateEvent event);
 
   void checkpointOutput(1: string noteId, 2: string paragraphId);
 
@@ -115,11 +124,17 @@ service RemoteInterpreterEventService {
   void updateAngularObject(1: string intpGroupId, 2: string json);
   void removeAngularObject(1: string intpGroupId, 2: string noteId, 3: string paragraphId, 4: string name);
 
+  void addResource(1: string intpGroupId, 2: string json);
+  void removeResource(1: string intpGroupId, 2: string json);
+
   void sendParagraphInfo(1: string intpGroupId, 2: string json);
 
   list<string> getAllResources(1: string intpGroupId);
+  list<string> findResources(1: string resourceIdJson);
   binary getResource(1: string resourceIdJson);
   binary invokeMethod(1: string intpGroupId, 2: string invokeMethodJson);
+  // read next chunk of a resource, empty chunk means end of the transfer
+  binary getResourceChunk(1: string intpGroupId, 2: string transferRequestJson);
 
   list<ParagraphInfo> getParagraphList(1: string user, 2: string noteId) throws (1: ServiceException e);
 }
\ No newline at end of file
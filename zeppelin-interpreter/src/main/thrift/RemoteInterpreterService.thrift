@@ -109,6 +109,8 @@ service RemoteInterpreterService {
   bool resourceRemove(1: string sessionId, 2: string paragraphId, 3:string resourceName);
   // invoke method on resource
   binary resourceInvokeMethod(1: string sessionId, 2: string paragraphId, 3:string resourceName, 4:string invokeMessage);
+  // get next chunk of the serialized value of resource, empty chunk means end of the transfer
+  binary resourceGetChunk(1: string sessionId, 2: string paragraphId, 3:string resourceName, 4:string transferRequest);
 
   void angularObjectUpdate(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object);
   void angularObjectAdd(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object);
@@ -18,6 +18,8 @@ package org.apache.zeppelin.cluster;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.meta.ClusterMetaEntity;
+import org.apache.zeppelin.cluster.meta.ClusterMetaOperation;
 import org.apache.zeppelin.cluster.meta.ClusterMetaType;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
@@ -28,9 +30,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 public class ClusterSingleNodeTest {
@@ -147,4 +157,55 @@ public class ClusterSingleNodeTest {
     assertNotNull(check.get(metaKey));
     assertEquals(true, check.get(metaKey).size()>0);
   }
+
+  @Test
+  public void watchIntpProcessMeta() throws Exception {
+    String watchedKey = "watchedIntpProcess";
+    CompletableFuture<HashMap<String, Object>> online = clusterServer.waitClusterMeta(
+        ClusterMetaType.INTP_PROCESS_META, watchedKey,
+        meta -> null != meta && ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS)),
+        30 * 1000);
+    List<ClusterMetaEntity> events = Collections.synchronizedList(new ArrayList<>());
+    Consumer<ClusterMetaEntity> listener = events::add;
+    clusterServer.addClusterMetaListener(ClusterMetaType.INTP_PROCESS_META, "", listener);
+    assertFalse(online.isDone());
+
+    // put IntpProcess Meta from another session
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.INTP_TSERVER_HOST, "INTP_TSERVER_HOST");
+    meta.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
+    clusterClient.putClusterMeta(ClusterMetaType.INTP_PROCESS_META, watchedKey, meta);
+
+    HashMap<String, Object> result = online.get(3, TimeUnit.SECONDS);
+    assertEquals("INTP_TSERVER_HOST", result.get(ClusterMeta.INTP_TSERVER_HOST));
+
+    clusterClient.deleteClusterMeta(ClusterMetaType.INTP_PROCESS_META, watchedKey);
+    long start = System.currentTimeMillis();
+    while (events.size() < 2 && System.currentTimeMillis() - start < 3000) {
+      Thread.sleep(10);
+    }
+    clusterServer.removeClusterMetaListener(ClusterMetaType.INTP_PROCESS_META, "", listener);
+    assertEquals(ClusterMetaOperation.PUT_OPERATION, events.get(0).getOperation());
+    assertEquals(watchedKey, events.get(0).getKey());
+    assertEquals(ClusterMetaOperation.DELETE_OPERATION, events.get(1).getOperation());
+    assertEquals(watchedKey, events.get(1).getKey());
+  }
+
+  @Test
+  public void waitClusterMetaCancelsTimeout() throws Exception {
+    int pendingTasks = clusterServer.getNumPendingMetaWatchTasks();
+    CompletableFuture<HashMap<String, Object>> waiting = clusterServer.waitClusterMeta(
+        ClusterMetaType.INTP_PROCESS_META, "neverOnlineIntpProcess", meta -> false, 60 * 1000);
+    assertEquals(pendingTasks + 1, clusterServer.getNumPendingMetaWatchTasks());
+
+    // the timeout is removed as soon as the wait completes, not after 60s
+    waiting.cancel(false);
+    assertEquals(pendingTasks, clusterServer.getNumPendingMetaWatchTasks());
+  }
+
+  @Test(expected = ExecutionException.class)
+  public void waitClusterMetaTimeout() throws Exception {
+    clusterServer.waitClusterMeta(ClusterMetaType.INTP_PROCESS_META, "notExistIntpProcess",
+        meta -> null != meta, 500).get(3, TimeUnit.SECONDS);
+  }
 }
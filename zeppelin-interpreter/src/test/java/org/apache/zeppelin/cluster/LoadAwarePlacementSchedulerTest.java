@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster;
+
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LoadAwarePlacementSchedulerTest {
+
+  private static final long GB = 1024L * 1024 * 1024;
+  private static final long RESERVED_MEMORY = GB;
+  private static final long RESERVATION_TIMEOUT = 60 * 1000;
+
+  private ClusterSimulator simulator = new ClusterSimulator();
+  private LoadAwarePlacementScheduler scheduler = new LoadAwarePlacementScheduler(
+      RESERVED_MEMORY, () -> simulator.now);
+
+  @Test
+  public void testBurstOfLaunchesIsSpread() {
+    simulator.addNode("node1", 16 * GB, 4 * GB, 800, 100);
+    simulator.addNode("node2", 16 * GB, 4 * GB, 800, 100);
+    simulator.addNode("node3", 16 * GB, 4 * GB, 800, 100);
+
+    Map<String, String> placements = simulator.replay(scheduler,
+        "0,python-user1,2,100",
+        "10,spark-user1,2,100",
+        "20,python-user2,2,100",
+        "30,jdbc-user1,2,100",
+        "40,spark-user2,2,100",
+        "50,python-user3,2,100");
+
+    Map<String, Integer> counts = countByNode(placements);
+    assertEquals(3, counts.size());
+    for (int count : counts.values()) {
+      assertEquals(2, count);
+    }
+    // interpreter groups of the same setting go to different nodes
+    assertNotEquals(placements.get("spark-user1"), placements.get("spark-user2"));
+    assertNotEquals(placements.get("python-user1"), placements.get("python-user2"));
+    assertNotEquals(placements.get("python-user2"), placements.get("python-user3"));
+  }
+
+  @Test
+  public void testMostFreeMemoryPilesUpOnOneNode() {
+    simulator.addNode("node1", 16 * GB, 4 * GB, 800, 100);
+    simulator.addNode("node2", 16 * GB, 5 * GB, 800, 100);
+    simulator.addNode("node3", 16 * GB, 6 * GB, 800, 100);
+
+    // the former placement, which only looks at the reported free memory
+    Map<String, String> placements = simulator.replay(new MostFreeMemoryScheduler(),
+        "0,python-user1,2,100",
+        "10,spark-user1,2,100",
+        "20,python-user2,2,100",
+        "30,jdbc-user1,2,100");
+    assertEquals(1, countByNode(placements).size());
+
+    simulator.reset();
+    placements = simulator.replay(scheduler,
+        "0,python-user1,2,100",
+        "10,spark-user1,2,100",
+        "20,python-user2,2,100",
+        "30,jdbc-user1,2,100");
+    assertEquals(3, countByNode(placements).size());
+  }
+
+  @Test
+  public void testBusyCpuNodeIsAvoided() {
+    simulator.addNode("node1", 16 * GB, 4 * GB, 800, 750);
+    simulator.addNode("node2", 16 * GB, 4 * GB, 800, 100);
+    simulator.addNode("node3", 16 * GB, 4 * GB, 800, 100);
+
+    Map<String, String> placements = simulator.replay(scheduler,
+        "0,python-user1,1,50",
+        "10,spark-user1,1,50",
+        "20,jdbc-user1,1,50",
+        "30,sh-user1,1,50");
+    assertEquals(0, countByNode(placements).getOrDefault("node1", 0).intValue());
+  }
+
+  @Test
+  public void testNodeWithoutMemoryIsAvoided() {
+    // node1 is idle but can not hold another process
+    simulator.addNode("node1", 2 * GB, GB + GB / 2, 400, 0);
+    simulator.addNode("node2", 16 * GB, 12 * GB, 800, 400);
+
+    Map<String, String> placements = simulator.replay(scheduler, "0,python-user1,1,50");
+    assertEquals("node2", placements.get("python-user1"));
+  }
+
+  @Test
+  public void testOfflineNodeIsSkipped() {
+    simulator.addNode("node1", 16 * GB, 4 * GB, 800, 100);
+    simulator.addNode("node2", 16 * GB, 12 * GB, 800, 600);
+    simulator.nodes.get("node1").online = false;
+
+    Map<String, String> placements = simulator.replay(scheduler, "0,python-user1,1,50");
+    assertEquals("node2", placements.get("python-user1"));
+
+    simulator.nodes.get("node2").online = false;
+    assertNull(scheduler.selectNode("python-user2", "python",
+        simulator.getServerMetas(), simulator.getIntpProcessMetas(), simulator.placementMetas));
+  }
+
+  @Test
+  public void testReservation() {
+    simulator.addNode("node1", 16 * GB, 4 * GB, 800, 100);
+    simulator.addNode("node2", 16 * GB, 5 * GB, 800, 100);
+
+    // node1 is reserved by the launch of another zeppelin-server
+    simulator.now = 0;
+    simulator.reserve("python-user1", "node1");
+    assertEquals("node2", scheduler.selectNode("spark-user1", "spark",
+        simulator.getServerMetas(), simulator.getIntpProcessMetas(), simulator.placementMetas));
+
+    // the reservation of the interpreter group itself is not counted when it is launched again
+    assertEquals("node1", scheduler.selectNode("python-user1", "python",
+        simulator.getServerMetas(), simulator.getIntpProcessMetas(), simulator.placementMetas));
+
+    // expired reservation is ignored
+    simulator.now = RESERVATION_TIMEOUT;
+    assertEquals("node1", scheduler.selectNode("spark-user1", "spark",
+        simulator.getServerMetas(), simulator.getIntpProcessMetas(), simulator.placementMetas));
+  }
+
+  @Test
+  public void testReplayLongTrace() {
+    simulator.addNode("node1", 64 * GB, 8 * GB, 3200, 400);
+    simulator.addNode("node2", 32 * GB, 4 * GB, 1600, 200);
+    simulator.addNode("node3", 32 * GB, 16 * GB, 1600, 1200);
+    simulator.addNode("node4", 16 * GB, 2 * GB, 800, 100);
+
+    // bursts of launches every 30 seconds
+    List<String> trace = new ArrayList<>();
+    String[] settings = {"spark", "python", "jdbc", "sh"};
+    for (int i = 0; i < 40; i++) {
+      long time = (i / 8) * 30 * 1000 + (i % 8) * 100;
+      trace.add(time + "," + settings[i % settings.length] + "-user" + i + ",1,50");
+    }
+    Map<String, String> placements = simulator.replay(scheduler, trace.toArray(new String[0]));
+    assertEquals(40, placements.size());
+
+    for (ClusterSimulator.SimNode node : simulator.nodes.values()) {
+      assertTrue(node.name + " is out of memory",
+          simulator.memoryUsed(node, Long.MAX_VALUE) <= node.memoryCapacity);
+    }
+    // the biggest node gets the most processes, the most loaded node gets the fewest
+    Map<String, Integer> counts = countByNode(placements);
+    for (String node : new String[]{"node2", "node3", "node4"}) {
+      assertTrue(counts.get("node1") >= counts.getOrDefault(node, 0));
+    }
+    assertTrue(counts.getOrDefault("node3", 0) <= counts.get("node2"));
+  }
+
+  private static Map<String, Integer> countByNode(Map<String, String> placements) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (String node : placements.values()) {
+      counts.merge(node, 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  /**
+   * Place the process on the node with the most free memory reported.
+   */
+  private static class MostFreeMemoryScheduler implements ClusterPlacementScheduler {
+    @Override
+    public String selectNode(String intpGroupId, String intpSettingName,
+                             Map<String, HashMap<String, Object>> serverMetas,
+                             Map<String, HashMap<String, Object>> intpProcessMetas,
+                             Map<String, HashMap<String, Object>> placementMetas) {
+      String selected = null;
+      long memoryIdle = 0;
+      for (Map.Entry<String, HashMap<String, Object>> entry : serverMetas.entrySet()) {
+        long idle = (long) entry.getValue().get(ClusterMeta.MEMORY_CAPACITY)
+            - (long) entry.getValue().get(ClusterMeta.MEMORY_USED);
+        if (idle > memoryIdle) {
+          memoryIdle = idle;
+          selected = entry.getKey();
+        }
+      }
+      return selected;
+    }
+  }
+
+  /**
+   * Replay launch traces against a ClusterPlacementScheduler. Each line of a trace is
+   * "time in ms,interpreter group id,memory in GB,cpu", the launched process registers itself
+   * in the cluster meta after PROCESS_STARTUP_MS, and its usage shows up in the
+   * usage reported by the node after USAGE_LAG_MS, like ClusterMonitor which reports the
+   * average usage of the last few minutes. Each selected node is reserved in the placement
+   * meta for RESERVATION_TIMEOUT, like ClusterManagerServer does.
+   */
+  private static class ClusterSimulator {
+    private static final long PROCESS_STARTUP_MS = 5 * 1000;
+    private static final long USAGE_LAG_MS = 45 * 1000;
+
+    private long now = 0;
+    private final Map<String, SimNode> nodes = new LinkedHashMap<>();
+    private final List<SimProcess> processes = new ArrayList<>();
+    private final HashMap<String, HashMap<String, Object>> placementMetas = new HashMap<>();
+
+    void addNode(String name, long memoryCapacity, long memoryUsed,
+                 long cpuCapacity, long cpuUsed) {
+      nodes.put(name, new SimNode(name, memoryCapacity, memoryUsed, cpuCapacity, cpuUsed));
+    }
+
+    void reset() {
+      now = 0;
+      processes.clear();
+      placementMetas.clear();
+    }
+
+    void reserve(String intpGroupId, String node) {
+      HashMap<String, Object> meta = new HashMap<>();
+      meta.put(ClusterMeta.NODE_NAME, node);
+      meta.put(ClusterMeta.PLACEMENT_EXPIRE_TIME, now + RESERVATION_TIMEOUT);
+      placementMetas.put(intpGroupId, meta);
+    }
+
+    Map<String, String> replay(ClusterPlacementScheduler scheduler, String... trace) {
+      Map<String, String> placements = new LinkedHashMap<>();
+      for (String line : trace) {
+        String[] fields = line.split(",");
+        now = Long.parseLong(fields[0]);
+
+        String intpGroupId = fields[1];
+        String intpSettingName = intpGroupId.substring(0, intpGroupId.indexOf('-'));
+        String node = scheduler.selectNode(intpGroupId, intpSettingName,
+            getServerMetas(), getIntpProcessMetas(), placementMetas);
+        if (null != node) {
+          reserve(intpGroupId, node);
+          placements.put(intpGroupId, node);
+          processes.add(new SimProcess(intpGroupId, node, now,
+              Long.parseLong(fields[2]) * GB, Long.parseLong(fields[3])));
+        }
+      }
+      return placements;
+    }
+
+    long memoryUsed(SimNode node, long time) {
+      long used = node.memoryUsed;
+      for (SimProcess process : processes) {
+        if (process.node.equals(node.name) && process.launchTime + USAGE_LAG_MS <= time) {
+          used += process.memory;
+        }
+      }
+      return used;
+    }
+
+    private long cpuUsed(SimNode node, long time) {
+      long used = node.cpuUsed;
+      for (SimProcess process : processes) {
+        if (process.node.equals(node.name) && process.launchTime + USAGE_LAG_MS <= time) {
+          used += process.cpu;
+        }
+      }
+      return used;
+    }
+
+    HashMap<String, HashMap<String, Object>> getServerMetas() {
+      HashMap<String, HashMap<String, Object>> metas = new HashMap<>();
+      for (SimNode node : nodes.values()) {
+        HashMap<String, Object> meta = new HashMap<>();
+        meta.put(ClusterMeta.NODE_NAME, node.name);
+        meta.put(ClusterMeta.STATUS,
+            node.online ? ClusterMeta.ONLINE_STATUS : ClusterMeta.OFFLINE_STATUS);
+        meta.put(ClusterMeta.MEMORY_CAPACITY, node.memoryCapacity);
+        meta.put(ClusterMeta.MEMORY_USED, memoryUsed(node, now));
+        meta.put(ClusterMeta.CPU_CAPACITY, node.cpuCapacity);
+        meta.put(ClusterMeta.CPU_USED, cpuUsed(node, now));
+        metas.put(node.name, meta);
+      }
+      return metas;
+    }
+
+    HashMap<String, HashMap<String, Object>> getIntpProcessMetas() {
+      HashMap<String, HashMap<String, Object>> metas = new HashMap<>();
+      for (SimProcess process : processes) {
+        if (process.launchTime + PROCESS_STARTUP_MS <= now) {
+          HashMap<String, Object> meta = new HashMap<>();
+          meta.put(ClusterMeta.NODE_NAME, process.node);
+          meta.put(ClusterMeta.INTP_PROCESS_NAME, process.intpGroupId);
+          meta.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
+          metas.put(process.intpGroupId, meta);
+        }
+      }
+      return metas;
+    }
+
+    private static class SimNode {
+      private final String name;
+      private final long memoryCapacity;
+      private final long memoryUsed;
+      private final long cpuCapacity;
+      private final long cpuUsed;
+      private boolean online = true;
+
+      SimNode(String name, long memoryCapacity, long memoryUsed,
+              long cpuCapacity, long cpuUsed) {
+        this.name = name;
+        this.memoryCapacity = memoryCapacity;
+        this.memoryUsed = memoryUsed;
+        this.cpuCapacity = cpuCapacity;
+        this.cpuUsed = cpuUsed;
+      }
+    }
+
+    private static class SimProcess {
+      private final String intpGroupId;
+      private final String node;
+      private final long launchTime;
+      private final long memory;
+      private final long cpu;
+
+      SimProcess(String intpGroupId, String node, long launchTime, long memory, long cpu) {
+        this.intpGroupId = intpGroupId;
+        this.node = node;
+        this.launchTime = launchTime;
+        this.memory = memory;
+        this.cpu = cpu;
+      }
+    }
+  }
+}
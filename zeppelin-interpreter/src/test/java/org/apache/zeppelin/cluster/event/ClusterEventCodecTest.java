@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.event;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterEventCodecTest {
+
+  @Test
+  public void testBatch() {
+    ClusterMessage message = new ClusterMessage(ClusterEvent.BROADCAST_PARAGRAPH)
+        .put("NoteId", "note_1");
+    List<String> messages = Arrays.asList(ClusterMessage.serializeMessage(message), "[\"a\"]");
+    byte[] data = ClusterEventCodec.encode(messages);
+    assertTrue(data.length <= ClusterEventCodec.COMPRESS_THRESHOLD);
+    assertEquals(messages, ClusterEventCodec.decode(data));
+  }
+
+  @Test
+  public void testCompress() {
+    List<String> messages = Collections.nCopies(100, StringUtils.repeat("paragraph text ", 10));
+    byte[] data = ClusterEventCodec.encode(messages);
+    int uncompressedSize = StringUtils.join(messages, "").length();
+    assertTrue(data.length < uncompressedSize / 10);
+    assertEquals(messages, ClusterEventCodec.decode(data));
+  }
+
+  @Test
+  public void testSingleMessage() {
+    // message sent by zeppelin server which doesn't batch events
+    String message = ClusterMessage.serializeMessage(
+        new ClusterMessage(ClusterEvent.BROADCAST_NOTE).put("Note", "{}"));
+    assertEquals(Collections.singletonList(message),
+        ClusterEventCodec.decode(message.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void testLegacy() {
+    // servers which don't advertise the protocol version read the message as a plain string
+    String message = ClusterMessage.serializeMessage(new ClusterMessage(ClusterEvent.BROADCAST_NOTE)
+        .put("Note", StringUtils.repeat("{}", 1000)));
+    byte[] data = ClusterEventCodec.encodeLegacy(message);
+    assertEquals(message, new String(data, StandardCharsets.UTF_8));
+    assertEquals(Collections.singletonList(message), ClusterEventCodec.decode(data));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmark which compares the per-byte write path and the bulk write path of
+ * InterpreterOutput. Run it via the main method from the test classpath, e.g.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.apache.zeppelin.interpreter.InterpreterOutputBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpreterOutputBenchmark {
+
+  @Param({"TEXT", "TABLE"})
+  private String payloadType;
+
+  private byte[] payload;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    StringBuilder builder = new StringBuilder();
+    if ("TABLE".equals(payloadType)) {
+      builder.append("%table id\tname\tvalue\tdescription\n");
+      for (int i = 0; i < 10000; i++) {
+        builder.append(i).append("\tname_").append(i).append("\t").append(i * 1.5)
+            .append("\tsome description of row ").append(i).append("\n");
+      }
+    } else {
+      for (int i = 0; i < 10000; i++) {
+        builder.append("20/05/01 10:00:00 INFO TaskSetManager: Finished task ").append(i)
+            .append(".0 in stage 1.0 (TID ").append(i).append(") in 25 ms on localhost\n");
+      }
+    }
+    payload = builder.toString().getBytes();
+  }
+
+  @Benchmark
+  public void perByteWrite(Blackhole blackhole) throws IOException {
+    InterpreterOutput out = new InterpreterOutput(null);
+    for (byte b : payload) {
+      out.write(b);
+    }
+    out.flush();
+    blackhole.consume(out);
+  }
+
+  @Benchmark
+  public void bulkWrite(Blackhole blackhole) throws IOException {
+    InterpreterOutput out = new InterpreterOutput(null);
+    out.write(payload);
+    out.flush();
+    blackhole.consume(out);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(InterpreterOutputBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
@@ -192,6 +192,36 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
     InterpreterOutput.limit = Constants.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
   }
 
+  @Test
+  public void testBulkWriteIsSameAsPerByteWrite() throws IOException {
+    String[] payloads = new String[] {
+        "hello\nworld",
+        "%table col1\tcol2\nval1\tval2\n\n%html <h3>hello</h3>\n",
+        "progress 10%\rprogress 50%\rprogress 100%\ndone\n",
+        "%text line1\n%unknown line2\n%html line3",
+        "\n\n%table a\tb\n1\t2\n\n\n"
+    };
+    for (String payload : payloads) {
+      byte[] bytes = ("xx" + payload + "yy").getBytes();
+      InterpreterOutput bulkOut = new InterpreterOutput(null);
+      bulkOut.write(bytes, 2, bytes.length - 4);
+      bulkOut.flush();
+
+      InterpreterOutput perByteOut = new InterpreterOutput(null);
+      for (int i = 2; i < bytes.length - 2; i++) {
+        perByteOut.write(bytes[i]);
+      }
+      perByteOut.flush();
+
+      assertEquals(payload, perByteOut.size(), bulkOut.size());
+      for (int i = 0; i < perByteOut.size(); i++) {
+        assertEquals(payload, perByteOut.getOutputAt(i).getType(),
+            bulkOut.getOutputAt(i).getType());
+        assertEquals(payload, new String(perByteOut.getOutputAt(i).toByteArray()),
+            new String(bulkOut.getOutputAt(i).toByteArray()));
+      }
+    }
+  }
 
   @Override
   public void onUpdateAll(InterpreterOutput out) {
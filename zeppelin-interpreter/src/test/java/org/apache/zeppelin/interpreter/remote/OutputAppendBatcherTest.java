@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutputAppendBatcherTest {
+
+  private List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+  private void send(String noteId, String paragraphId, int index, String output) {
+    sent.add(noteId + ":" + paragraphId + ":" + index + ":" + output);
+  }
+
+  @Test
+  public void testCoalesce() throws InterruptedException {
+    OutputAppendBatcher batcher = new OutputAppendBatcher(this::send, 100, 1024);
+    batcher.append("note_1", "paragraph_1", 0, "line1\n");
+    batcher.append("note_1", "paragraph_1", 0, "line2\n");
+    batcher.append("note_1", "paragraph_2", 0, "line3\n");
+    batcher.append("note_1", "paragraph_1", 1, "line4\n");
+    assertEquals(0, sent.size());
+
+    Thread.sleep(500);
+    assertEquals(3, sent.size());
+    assertEquals("note_1:paragraph_1:0:line1\nline2\n", sent.get(0));
+    assertEquals("note_1:paragraph_2:0:line3\n", sent.get(1));
+    assertEquals("note_1:paragraph_1:1:line4\n", sent.get(2));
+    batcher.close();
+  }
+
+  @Test
+  public void testFlushBySize() {
+    OutputAppendBatcher batcher = new OutputAppendBatcher(this::send, 60 * 1000, 10);
+    batcher.append("note_1", "paragraph_1", 0, "12345");
+    assertEquals(0, sent.size());
+    batcher.append("note_1", "paragraph_1", 0, "67890");
+    assertEquals(1, sent.size());
+    assertEquals("note_1:paragraph_1:0:1234567890", sent.get(0));
+    batcher.close();
+  }
+
+  @Test
+  public void testFlushParagraph() {
+    OutputAppendBatcher batcher = new OutputAppendBatcher(this::send, 60 * 1000, 1024);
+    batcher.append("note_1", "paragraph_1", 0, "a");
+    batcher.append("note_1", "paragraph_2", 0, "b");
+    batcher.flush("note_1", "paragraph_2");
+    assertEquals(1, sent.size());
+    assertEquals("note_1:paragraph_2:0:b", sent.get(0));
+
+    batcher.close();
+    assertEquals(2, sent.size());
+    assertEquals("note_1:paragraph_1:0:a", sent.get(1));
+  }
+
+  @Test
+  public void testBatchingDisabled() {
+    OutputAppendBatcher batcher = new OutputAppendBatcher(this::send, 0, 1024);
+    batcher.append("note_1", "paragraph_1", 0, "a");
+    batcher.append("note_1", "paragraph_1", 0, "b");
+    assertEquals(2, sent.size());
+    batcher.close();
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.apache.zeppelin.resource.ResourceId;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class RemoteInterpreterEventClientTest {
+
+  private TThreadPoolServer server;
+  private RemoteInterpreterEventService.Iface handler;
+  private RemoteInterpreterEventClient eventClient;
+  private List<String> appendedOutput = Collections.synchronizedList(new ArrayList<>());
+  private CountDownLatch releaseGetResource = new CountDownLatch(1);
+  private CountDownLatch getResourceStarted =
+      new CountDownLatch(RemoteInterpreterEventClient.MAX_CLIENTS);
+  private CountDownLatch appendOutputStarted = new CountDownLatch(1);
+  private CountDownLatch releaseAppendOutput = new CountDownLatch(0);
+  private int port;
+
+  @Before
+  public void setUp() throws Exception {
+    handler = mock(RemoteInterpreterEventService.Iface.class);
+    doAnswer(invocation -> {
+      // simulate the transfer of a large resource chunk
+      getResourceStarted.countDown();
+      releaseGetResource.await(30, TimeUnit.SECONDS);
+      return null;
+    }).when(handler).getResourceChunk(anyString(), anyString());
+    doAnswer(invocation -> {
+      // simulate a slow zeppelin server
+      appendOutputStarted.countDown();
+      releaseAppendOutput.await(30, TimeUnit.SECONDS);
+      appendedOutput.add(((OutputAppendEvent) invocation.getArguments()[0]).getData());
+      return null;
+    }).when(handler).appendOutput(any(OutputAppendEvent.class));
+
+    TServerSocket serverSocket = RemoteInterpreterUtils.createTServerSocket(":");
+    port = serverSocket.getServerSocket().getLocalPort();
+    server = new TThreadPoolServer(new TThreadPoolServer.Args(serverSocket)
+        .processor(new RemoteInterpreterEventService.Processor<>(handler)));
+    new Thread(() -> server.serve()).start();
+    while (!server.isServing()) {
+      Thread.sleep(100);
+    }
+
+    eventClient = new RemoteInterpreterEventClient("localhost", port);
+    eventClient.setOutputFlushConfig(0, 1024);
+  }
+
+  @After
+  public void tearDown() {
+    releaseGetResource.countDown();
+    releaseAppendOutput.countDown();
+    eventClient.close();
+    server.stop();
+  }
+
+  @Test
+  public void testEventsAreNotBlockedByRequest() throws Exception {
+    ResourceId resourceId = ResourceId.fromJson(
+        "{\"resourcePoolId\":\"pool_1\",\"name\":\"resource_1\"}");
+    Thread readResourceThread = new Thread(() -> eventClient.readResource(resourceId));
+    readResourceThread.start();
+    Thread.sleep(500);
+
+    // getResourceChunk is still running, output can still be sent
+    eventClient.onInterpreterOutputAppend("note_1", "paragraph_1", 0, "line1\n");
+    eventClient.onInterpreterOutputAppend("note_1", "paragraph_1", 0, "line2\n");
+    eventClient.flushOutput("note_1", "paragraph_1");
+    assertEquals(2, appendedOutput.size());
+    assertEquals("line1\n", appendedOutput.get(0));
+    assertEquals("line2\n", appendedOutput.get(1));
+    assertTrue(readResourceThread.isAlive());
+
+    releaseGetResource.countDown();
+    readResourceThread.join(10 * 1000);
+  }
+
+  @Test
+  public void testEventsAreSentWhenClientPoolIsExhausted() throws Exception {
+    ResourceId resourceId = ResourceId.fromJson(
+        "{\"resourcePoolId\":\"pool_1\",\"name\":\"resource_1\"}");
+    List<Thread> readResourceThreads = new ArrayList<>();
+    for (int i = 0; i < RemoteInterpreterEventClient.MAX_CLIENTS; i++) {
+      Thread readResourceThread = new Thread(() -> eventClient.readResource(resourceId));
+      readResourceThread.start();
+      readResourceThreads.add(readResourceThread);
+    }
+    // every client of the pool is busy with getResourceChunk
+    assertTrue(getResourceStarted.await(30, TimeUnit.SECONDS));
+
+    eventClient.onInterpreterOutputAppend("note_1", "paragraph_1", 0, "line1\n");
+    eventClient.onInterpreterOutputAppend("note_1", "paragraph_1", 0, "line2\n");
+    eventClient.flushOutput("note_1", "paragraph_1");
+    assertEquals(2, appendedOutput.size());
+    assertEquals("line1\n", appendedOutput.get(0));
+    assertEquals("line2\n", appendedOutput.get(1));
+    for (Thread readResourceThread : readResourceThreads) {
+      assertTrue(readResourceThread.isAlive());
+    }
+
+    releaseGetResource.countDown();
+    for (Thread readResourceThread : readResourceThreads) {
+      readResourceThread.join(10 * 1000);
+    }
+  }
+
+  @Test
+  public void testEventQueueIsBounded() throws Exception {
+    releaseAppendOutput = new CountDownLatch(1);
+    RemoteInterpreterEventClient boundedClient = new RemoteInterpreterEventClient(
+        "localhost", port, 2);
+    boundedClient.setOutputFlushConfig(0, 1024);
+    try {
+      Thread producer = new Thread(() -> {
+        for (int i = 0; i < 5; i++) {
+          boundedClient.onInterpreterOutputAppend("note_1", "paragraph_1", 0, "line" + i + "\n");
+        }
+      });
+      producer.start();
+      assertTrue(appendOutputStarted.await(30, TimeUnit.SECONDS));
+
+      // one event is being sent, two are queued, the producer waits for room in the queue
+      long deadline = System.currentTimeMillis() + 30 * 1000;
+      while ((producer.getState() != Thread.State.WAITING
+          || boundedClient.getPendingEventCount() < 2)
+          && System.currentTimeMillis() < deadline) {
+        Thread.yield();
+      }
+      assertEquals(Thread.State.WAITING, producer.getState());
+      assertEquals(2, boundedClient.getPendingEventCount());
+
+      // nothing is dropped, events arrive in order once the server catches up
+      releaseAppendOutput.countDown();
+      producer.join(30 * 1000);
+      boundedClient.flushOutput("note_1", "paragraph_1");
+      assertEquals(5, appendedOutput.size());
+      for (int i = 0; i < 5; i++) {
+        assertEquals("line" + i + "\n", appendedOutput.get(i));
+      }
+    } finally {
+      boundedClient.close();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedResourceSenderTest {
+
+  private ArrayList<String> createValue(int size) {
+    ArrayList<String> value = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      value.add("value_" + i);
+    }
+    return value;
+  }
+
+  private Object transfer(ChunkedResourceSender sender, String transferId, Object value,
+                          int chunkSize, boolean compress, List<ByteBuffer> chunks)
+      throws Exception {
+    InputStream ins = new ChunkedResourceInputStream(() -> {
+      ByteBuffer chunk = sender.readChunk(transferId, chunkSize, compress, () -> value);
+      chunks.add(chunk);
+      return chunk;
+    });
+    if (compress) {
+      ins = new InflaterInputStream(ins);
+    }
+    return Resource.deserializeObject(ins);
+  }
+
+  @Test
+  public void testTransferInChunks() throws Exception {
+    ChunkedResourceSender sender = new ChunkedResourceSender();
+    ArrayList<String> value = createValue(10000);
+    List<ByteBuffer> chunks = new ArrayList<>();
+
+    assertEquals(value, transfer(sender, "transfer_1", value, 1024, false, chunks));
+    assertTrue(chunks.size() > 10);
+    for (ByteBuffer chunk : chunks) {
+      assertTrue(chunk.limit() <= 1024);
+    }
+    // empty chunk ends the transfer
+    assertEquals(0, chunks.get(chunks.size() - 1).remaining());
+    assertEquals(0, sender.getNumTransfers());
+  }
+
+  @Test
+  public void testCompress() throws Exception {
+    ChunkedResourceSender sender = new ChunkedResourceSender();
+    ArrayList<String> value = createValue(10000);
+    List<ByteBuffer> chunks = new ArrayList<>();
+    List<ByteBuffer> compressedChunks = new ArrayList<>();
+
+    assertEquals(value, transfer(sender, "transfer_1", value, 1024, false, chunks));
+    assertEquals(value, transfer(sender, "transfer_2", value, 1024, true, compressedChunks));
+    assertTrue(compressedChunks.size() < chunks.size());
+  }
+
+  @Test
+  public void testNotSerializable() throws Exception {
+    ChunkedResourceSender sender = new ChunkedResourceSender();
+    assertEquals(0, sender.readChunk("transfer_1", 1024, false, () -> new Object()).remaining());
+    assertEquals(0, sender.readChunk("transfer_2", 1024, false, () -> null).remaining());
+    assertEquals(0, sender.getNumTransfers());
+  }
+
+  @Test
+  public void testSerializationIsBoundedByReader() throws Exception {
+    ChunkedResourceSender sender = new ChunkedResourceSender(500);
+    List<String> serialized = Collections.synchronizedList(new ArrayList<>());
+    ArrayList<CountingValue> value = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      value.add(new CountingValue(i, serialized));
+    }
+
+    // read only the first chunk
+    assertTrue(sender.readChunk("transfer_1", 256, false, () -> value).remaining() > 0);
+    Thread.sleep(200);
+    // serialization waits for the reader after a few chunks
+    int numSerialized = serialized.size();
+    assertTrue(numSerialized < value.size());
+    Thread.sleep(200);
+    assertEquals(numSerialized, serialized.size());
+
+    // abandoned transfer is removed
+    Thread.sleep(1000);
+    assertEquals(0, sender.readChunk("transfer_2", 256, false, () -> null).remaining());
+    assertEquals(0, sender.getNumTransfers());
+  }
+
+  @Test
+  public void testEmptyStream() throws Exception {
+    ChunkedResourceInputStream ins =
+        new ChunkedResourceInputStream(() -> ByteBuffer.allocate(0));
+    assertEquals(-1, ins.read());
+    assertEquals(-1, ins.read(new byte[10], 0, 10));
+  }
+
+  private static class CountingValue implements Serializable {
+    private final int id;
+    private final transient List<String> serialized;
+
+    CountingValue(int id, List<String> serialized) {
+      this.id = id;
+      this.serialized = serialized;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      serialized.add("value_" + id);
+      out.defaultWriteObject();
+    }
+  }
+}
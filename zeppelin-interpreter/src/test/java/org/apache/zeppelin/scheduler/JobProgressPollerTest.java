@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JobProgressPollerTest {
+
+  private List<Integer> progressUpdates = Collections.synchronizedList(new ArrayList<>());
+
+  private JobListener listener = new JobListener() {
+    @Override
+    public void onProgressUpdate(Job job, int progress) {
+      progressUpdates.add(progress);
+    }
+
+    @Override
+    public void onStatusChange(Job job, Job.Status before, Job.Status after) {
+    }
+  };
+
+  private class ProgressJob extends Job<Object> {
+    private volatile int progress = 0;
+
+    ProgressJob() {
+      super("job_1", listener);
+    }
+
+    @Override
+    public Object getReturn() {
+      return null;
+    }
+
+    @Override
+    public int progress() {
+      return progress;
+    }
+
+    @Override
+    public Map<String, Object> info() {
+      return null;
+    }
+
+    @Override
+    protected Object jobRun() throws Throwable {
+      return null;
+    }
+
+    @Override
+    protected boolean jobAbort() {
+      return false;
+    }
+
+    @Override
+    public void setResult(Object result) {
+    }
+  }
+
+  @Test
+  public void testOnlyNotifyChangedProgress() throws InterruptedException {
+    ProgressJob job = new ProgressJob();
+    job.setStatus(Job.Status.RUNNING);
+    JobProgressPoller poller = new JobProgressPoller(job, 10);
+    poller.start();
+
+    Thread.sleep(200);
+    assertEquals(1, progressUpdates.size());
+    assertEquals(0, (int) progressUpdates.get(0));
+    // progress doesn't change, so polling backs off
+    assertTrue(poller.getCurrentIntervalMs() > 10);
+
+    job.progress = 50;
+    Thread.sleep(1000);
+    assertEquals(2, progressUpdates.size());
+    assertEquals(50, (int) progressUpdates.get(1));
+
+    poller.stop();
+    job.progress = 100;
+    Thread.sleep(500);
+    assertEquals(2, progressUpdates.size());
+  }
+
+  @Test
+  public void testBlockedProgressDoesNotDelayOtherJobs() throws InterruptedException {
+    // more blocked jobs than the threads of the pool, their polls are interrupted by the timeout
+    long progressTimeoutMs = JobProgressPoller.progressTimeoutMs;
+    JobProgressPoller.progressTimeoutMs = 100;
+    int numBlockedJobs = JobProgressPoller.getPoolSize() + 2;
+    CountDownLatch unblock = new CountDownLatch(1);
+    CountDownLatch interruptedPolls = new CountDownLatch(numBlockedJobs);
+    List<JobProgressPoller> pollers = new ArrayList<>();
+    for (int i = 0; i < numBlockedJobs; i++) {
+      ProgressJob blockedJob = new ProgressJob() {
+        @Override
+        public int progress() {
+          try {
+            unblock.await();
+          } catch (InterruptedException e) {
+            interruptedPolls.countDown();
+          }
+          return 0;
+        }
+      };
+      blockedJob.setStatus(Job.Status.RUNNING);
+      pollers.add(new JobProgressPoller(blockedJob, 10));
+    }
+    ProgressJob job = new ProgressJob();
+    job.setStatus(Job.Status.RUNNING);
+    job.progress = 30;
+    pollers.add(new JobProgressPoller(job, 10));
+    for (JobProgressPoller poller : pollers) {
+      poller.start();
+    }
+
+    try {
+      assertTrue(interruptedPolls.await(10, TimeUnit.SECONDS));
+      int cycles = 0;
+      while (!progressUpdates.contains(30) && cycles++ < 500) {
+        Thread.sleep(10);
+      }
+      assertTrue(progressUpdates.contains(30));
+      // timed out polls never notify the listener
+      assertEquals(Collections.singletonList(30), progressUpdates);
+    } finally {
+      for (JobProgressPoller poller : pollers) {
+        poller.stop();
+      }
+      unblock.countDown();
+      JobProgressPoller.progressTimeoutMs = progressTimeoutMs;
+    }
+  }
+
+  @Test
+  public void testSkipJobNotRunning() throws InterruptedException {
+    ProgressJob job = new ProgressJob();
+    JobProgressPoller poller = new JobProgressPoller(job, 10);
+    poller.start();
+    Thread.sleep(200);
+    assertEquals(0, progressUpdates.size());
+    poller.stop();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ColumnarTableDataTest {
+
+  @Test
+  public void testTypedColumns() {
+    ColumnarTableData table = new ColumnarTableData(
+        "name\tcount\tprice\tcode\nsun\t100\t1.5\t01a\nmoon\t-200\t2e3\t02\n\n");
+    assertEquals(2, table.numRows());
+
+    TableColumn name = table.column("name");
+    assertEquals(ColumnDef.TYPE.STRING, name.type());
+    assertEquals("moon", name.getString(1));
+
+    TableColumn count = table.column("count");
+    assertEquals(ColumnDef.TYPE.LONG, count.type());
+    assertArrayEquals(new long[]{100, -200}, count.longValues());
+    assertEquals(100L, count.get(0));
+
+    TableColumn price = table.column(2);
+    assertEquals(ColumnDef.TYPE.DOUBLE, price.type());
+    assertArrayEquals(new double[]{1.5, 2000}, price.doubleValues(), 0);
+
+    assertEquals(ColumnDef.TYPE.STRING, table.column("code").type());
+    // column is parsed only once
+    assertSame(count, table.column(1));
+  }
+
+  @Test
+  public void testNumbersWhichDontPrintBack() {
+    ColumnarTableData table = new ColumnarTableData(
+        "zip\tid\tratio\tprecise\tsigned\tprice\n"
+            + "02134\t12345678901234567890\t00.5\t0.10000000000000000001\t+1\t1.50\n"
+            + "10001\t1\t1.5\t0.2\t2\t1e3\n");
+    assertEquals(ColumnDef.TYPE.STRING, table.column("zip").type());
+    assertEquals("02134", table.column("zip").getString(0));
+    assertEquals(ColumnDef.TYPE.STRING, table.column("id").type());
+    assertEquals(ColumnDef.TYPE.STRING, table.column("ratio").type());
+    assertEquals(ColumnDef.TYPE.STRING, table.column("precise").type());
+    assertEquals(ColumnDef.TYPE.STRING, table.column("signed").type());
+    // trailing zeros and exponents don't change the value
+    assertEquals(ColumnDef.TYPE.DOUBLE, table.column("price").type());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testColumnOfEmptyTable() {
+    new ColumnarTableData("\n").column(0);
+  }
+
+  @Test
+  public void testCell() {
+    ColumnarTableData table = new ColumnarTableData("a\tb\tc\n1\t2\t3\n4\t5\n");
+    assertEquals("1", table.cell(0, 0));
+    assertEquals("3", table.cell(0, 2));
+    assertEquals("5", table.cell(1, 1));
+    assertNull(table.cell(1, 2));
+    assertEquals(ColumnDef.TYPE.STRING, table.column("c").type());
+  }
+
+  @Test
+  public void testProjection() {
+    ColumnarTableData table = new ColumnarTableData("a\tb\tc\n1\t2\t3\n4\t5\t6\n");
+    TableData projected = table.project("c", "a");
+
+    ColumnDef[] columns = projected.columns();
+    assertEquals(2, columns.length);
+    assertEquals("c", columns[0].name());
+    assertEquals("a", columns[1].name());
+
+    Iterator<Row> it = projected.rows();
+    assertArrayEquals(new Object[]{"3", "1"}, it.next().get());
+    assertArrayEquals(new Object[]{"6", "4"}, it.next().get());
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  public void testEmpty() {
+    ColumnarTableData table = new ColumnarTableData("a\tb\n");
+    assertEquals(2, table.columns().length);
+    assertEquals(0, table.numRows());
+    assertFalse(table.rows().hasNext());
+
+    table = new ColumnarTableData("\n");
+    assertNull(table.columns());
+    assertFalse(table.rows().hasNext());
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SpooledTableDataTest {
+  private File dir;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("SpooledTableDataTest").toFile();
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = dir.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        f.delete();
+      }
+    }
+    dir.delete();
+  }
+
+  private SpooledTableData createTable(int numRows) throws IOException {
+    SpooledTableData table = new SpooledTableData(new String[]{"key", "value"}, dir);
+    for (int i = 0; i < numRows; ++i) {
+      table.addRow(new String[]{"key_" + i, String.valueOf(i)});
+    }
+    return table;
+  }
+
+  @Test
+  public void testPage() throws IOException {
+    SpooledTableData table = createTable(5000);
+    table.finish();
+    assertEquals(5000, table.size());
+
+    TablePage page = table.page(0, 10);
+    assertArrayEquals(new String[]{"key", "value"}, page.getColumns());
+    assertEquals(0, page.getOffset());
+    assertEquals(5000, page.getTotal());
+    assertEquals(10, page.getRows().size());
+    assertArrayEquals(new String[]{"key_0", "0"}, page.getRows().get(0));
+
+    // page across the row index interval
+    page = table.page(2040, 20);
+    assertEquals(20, page.getRows().size());
+    assertArrayEquals(new String[]{"key_2040", "2040"}, page.getRows().get(0));
+    assertArrayEquals(new String[]{"key_2059", "2059"}, page.getRows().get(19));
+
+    // last page
+    page = table.page(4990, 100);
+    assertEquals(10, page.getRows().size());
+    assertArrayEquals(new String[]{"key_4999", "4999"}, page.getRows().get(9));
+
+    // out of range
+    assertEquals(0, table.page(5000, 10).getRows().size());
+    table.close();
+  }
+
+  @Test
+  public void testPageBeforeFinish() throws IOException {
+    SpooledTableData table = createTable(3);
+    assertEquals(3, table.page(0, 10).getRows().size());
+    table.addRow(new String[]{"key_3", "3"});
+    assertArrayEquals(new String[]{"key_3", "3"}, table.page(3, 10).getRows().get(0));
+    table.close();
+  }
+
+  @Test
+  public void testNormalizeCells() throws IOException {
+    SpooledTableData table = new SpooledTableData(new String[]{"a", "b", "c"}, dir);
+    table.addRow(new String[]{"x\ty", "line1\nline2", ""});
+    TablePage page = table.page(0, 10);
+    assertArrayEquals(new String[]{"x y", "line1 line2", ""}, page.getRows().get(0));
+    table.close();
+  }
+
+  @Test
+  public void testRows() throws IOException {
+    SpooledTableData table = createTable(3);
+    table.finish();
+    ColumnDef[] columns = table.columns();
+    assertEquals(2, columns.length);
+    assertEquals("value", columns[1].name());
+
+    Iterator<Row> it = table.rows();
+    for (int i = 0; i < 3; ++i) {
+      assertTrue(it.hasNext());
+      assertEquals("key_" + i, it.next().get()[0]);
+    }
+    assertFalse(it.hasNext());
+    // reader is closed once all the rows are read
+    assertEquals(0, table.getNumOpenIterators());
+    table.close();
+  }
+
+  @Test
+  public void testMarkPaged() {
+    Map<String, Object> config = new HashMap<>();
+    config.put("editorMode", "ace/mode/sql");
+    SpooledTableData.markPaged(config, 0);
+    SpooledTableData.markPaged(config, 2);
+    // as the config is received from interpreter process
+    config = new Gson().fromJson(new Gson().toJson(config),
+        new TypeToken<Map<String, Object>>() {}.getType());
+
+    assertEquals(new HashSet<>(Arrays.asList(0, 2)),
+        SpooledTableData.removePagedTables(config));
+    assertEquals(Collections.singletonMap("editorMode", "ace/mode/sql"), config);
+    assertTrue(SpooledTableData.removePagedTables(config).isEmpty());
+  }
+
+  @Test
+  public void testCloseRows() throws IOException {
+    SpooledTableData table = createTable(3);
+    table.finish();
+
+    SpooledTableData.RowIterator it = table.rows();
+    it.next();
+    assertEquals(1, table.getNumOpenIterators());
+    it.close();
+    assertFalse(it.hasNext());
+    assertEquals(0, table.getNumOpenIterators());
+
+    // iterators not read to the end are closed with the table data
+    table.rows().next();
+    assertEquals(1, table.getNumOpenIterators());
+    table.close();
+    assertEquals(0, table.getNumOpenIterators());
+  }
+
+  @Test
+  public void testGetSpoolDirDeletesStaleFiles() throws IOException {
+    String groupId = "SpooledTableDataTest-" + System.nanoTime();
+    File spoolDir = new File(System.getProperty("java.io.tmpdir"),
+        "zeppelin-table-spool" + File.separator + groupId);
+    assertTrue(spoolDir.mkdirs());
+    File staleFile = new File(spoolDir, "zeppelin-table-1.tsv");
+    File otherFile = new File(spoolDir, "other.txt");
+    assertTrue(staleFile.createNewFile());
+    assertTrue(otherFile.createNewFile());
+
+    assertEquals(spoolDir, SpooledTableData.getSpoolDir(groupId));
+    assertFalse(staleFile.exists());
+    assertTrue(otherFile.exists());
+
+    // spool files of this process are kept when the spool dir is used again
+    SpooledTableData table = new SpooledTableData(new String[]{"key"}, spoolDir);
+    assertEquals(spoolDir, SpooledTableData.getSpoolDir(groupId));
+    assertEquals(2, spoolDir.listFiles().length);
+    table.close();
+    assertEquals(1, spoolDir.listFiles().length);
+
+    otherFile.delete();
+    spoolDir.delete();
+  }
+
+  @Test
+  public void testRemoveFromResourcePool() throws IOException {
+    LocalResourcePool pool = new LocalResourcePool("pool_1");
+    SpooledTableData table = createTable(10);
+    table.putIntoResourcePool(pool, "note_1", "paragraph_1", 0);
+    pool.put("note_1", "paragraph_1", "other", "value");
+    assertEquals(1, dir.listFiles().length);
+
+    SpooledTableData.removeFromResourcePool(pool, "note_1", "paragraph_1");
+    assertNull(pool.get("note_1", "paragraph_1", SpooledTableData.getResourceName(0)));
+    assertEquals("value", pool.get("note_1", "paragraph_1", "other").get());
+    // spool file is deleted
+    assertEquals(0, dir.listFiles().length);
+  }
+}
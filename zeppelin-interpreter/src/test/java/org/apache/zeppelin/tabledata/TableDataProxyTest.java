@@ -18,6 +18,7 @@ package org.apache.zeppelin.tabledata;
 
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.remote.InvokeResourceMethodEventMessage;
 import org.apache.zeppelin.resource.LocalResourcePool;
 import org.junit.Before;
 import org.junit.Test;
@@ -63,4 +64,56 @@ public class TableDataProxyTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testReadRowsInPages() {
+    StringBuilder data = new StringBuilder("key\tvalue\n");
+    for (int i = 0; i < 100; i++) {
+      data.append("key_" + i + "\t" + i + "\n");
+    }
+    InterpreterResultTableData table = new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, data.toString()));
+    pool.put("table", table);
+
+    for (int pageSize : new int[]{1, 7, 50, 100, 1000}) {
+      Iterator<Row> it = new TableDataProxy(pool.get("table"), pageSize).rows();
+      int count = 0;
+      while (it.hasNext()) {
+        Row row = it.next();
+        assertEquals("key_" + count, row.get()[0]);
+        assertEquals(String.valueOf(count), row.get()[1]);
+        count++;
+      }
+      assertEquals(100, count);
+      // the cursor is removed from the pool once all rows are read
+      assertEquals(1, pool.getAll().size());
+    }
+  }
+
+  @Test
+  public void testCloseRows() {
+    StringBuilder data = new StringBuilder("key\tvalue\n");
+    for (int i = 0; i < 100; i++) {
+      data.append("key_" + i + "\t" + i + "\n");
+    }
+    pool.put("table", new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, data.toString())));
+
+    ProxyRowIterator it = (ProxyRowIterator) new TableDataProxy(pool.get("table"), 10).rows();
+    assertEquals("key_0", it.next().get()[0]);
+    assertEquals(2, pool.getAll().size());
+
+    it.close();
+    assertFalse(it.hasNext());
+    assertEquals(1, pool.getAll().size());
+  }
+
+  @Test
+  public void testInvokeMessageParams() throws ClassNotFoundException {
+    InvokeResourceMethodEventMessage message = InvokeResourceMethodEventMessage.fromJson(
+        new InvokeResourceMethodEventMessage(null, "next", new Class[]{int.class},
+            new Object[]{1000}, null).toJson());
+    assertEquals(int.class, message.getParamTypes()[0]);
+    assertEquals(1000, message.getParams()[0]);
+  }
 }
@@ -32,6 +32,19 @@ public class TableDataUtilsTest {
     assertEquals("hello  world", TableDataUtils.normalizeColumn("hello\t\nworld"));
 
     assertEquals("null", TableDataUtils.normalizeColumn(null));
+    // a single \r is not a row delimiter
+    assertEquals("a\rb", TableDataUtils.normalizeColumn("a\rb"));
+    assertEquals("a\r b", TableDataUtils.normalizeColumn("a\r\r\nb"));
+    assertEquals("a b ", TableDataUtils.normalizeColumn("a\r\nb\n"));
+  }
+
+  @Test
+  public void testAppendColumn() {
+    StringBuilder builder = new StringBuilder("row:");
+    TableDataUtils.appendNormalizedColumn(builder, "hello\tworld\r\n");
+    TableDataUtils.appendNormalizedColumn(builder, null);
+    TableDataUtils.appendNormalizedColumn(builder, "plain");
+    assertEquals("row:hello world nullplain", builder.toString());
   }
 
   @Test
@@ -68,34 +68,23 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
     int connectTimeout = getConnectTimeout();
     String intpGroupId = context.getInterpreterGroupId();
 
-    // connect exist Interpreter Process
-    InterpreterClient intpClient = clusterServer.getIntpProcessStatus(
-        intpGroupId, 3000, new ClusterCallback<HashMap<String, Object>>() {
-          @Override
-          public InterpreterClient online(HashMap<String, Object> result) {
-            String intpTserverHost = (String) result.get(INTP_TSERVER_HOST);
-            int intpTserverPort = (int) result.get(INTP_TSERVER_PORT);
-
-            return new RemoteInterpreterRunningProcess(
-                context.getInterpreterSettingName(),
-                connectTimeout,
-                intpTserverHost,
-                intpTserverPort);
-          }
-
-          @Override
-          public void offline() {
-            LOGGER.info("interpreter {} is not exist!", intpGroupId);
-          }
-        });
-    if (null != intpClient) {
-      return intpClient;
+    // connect exist Interpreter Process, a single read of the cluster metadata without
+    // waiting for it, as a fresh launch has no process yet
+    HashMap<String, Object> intpMeta = clusterServer.getOnlineIntpProcessMeta(intpGroupId);
+    if (null != intpMeta) {
+      return new RemoteInterpreterRunningProcess(
+          context.getInterpreterSettingName(),
+          connectTimeout,
+          (String) intpMeta.get(INTP_TSERVER_HOST),
+          (int) intpMeta.get(INTP_TSERVER_PORT));
     }
+    LOGGER.info("interpreter {} is not exist!", intpGroupId);
 
     // No process was found for the InterpreterGroup ID
     String srvHost = null;
     int srvPort = 0;
-    HashMap<String, Object> meta = clusterServer.getIdleNodeMeta();
+    HashMap<String, Object> meta = clusterServer.getIdleNodeMeta(
+        intpGroupId, context.getInterpreterSettingName());
     if (null == meta) {
       LOGGER.error("Don't get idle node meta, launch interpreter on local.");
       InterpreterClient clusterIntpProcess = createInterpreterProcess(context);
@@ -116,6 +105,7 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
           clusterIntpProcess.start(context.getUserName());
         } catch (IOException e) {
           LOGGER.error(e.getMessage(), e);
+          clusterServer.finishIntpProcessLaunch(intpGroupId, false);
           return clusterIntpProcess;
         }
       } else {
@@ -139,7 +129,7 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
     // through the cluster metadata
     String finalSrvHost = srvHost;
     int finalSrvPort = srvPort;
-    intpClient = clusterServer.getIntpProcessStatus(intpGroupId, connectTimeout,
+    InterpreterClient intpClient = clusterServer.getIntpProcessStatus(intpGroupId, connectTimeout,
         new ClusterCallback<HashMap<String, Object>>() {
           @Override
           public InterpreterClient online(HashMap<String, Object> result) {
@@ -161,6 +151,9 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
             LOGGER.error(errorInfo);
           }
         });
+    if (null != meta) {
+      clusterServer.finishIntpProcessLaunch(intpGroupId, null != intpClient);
+    }
     if (null == intpClient) {
       String errorInfo = String.format("Creating process %s failed on remote server %s:%d",
           intpGroupId, srvHost, srvPort);
@@ -221,14 +214,35 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
       intpProcess = createClusterIntpProcess();
     }
 
-    // must first step start check interpreter thread
-    ClusterInterpreterCheckThread intpCheckThread = new ClusterInterpreterCheckThread(
-        intpProcess, context.getInterpreterGroupId(), getConnectTimeout());
-    intpCheckThread.start();
+    // Metadata registered in the cluster by the interpreter process,
+    // notify the process that it is started
+    InterpreterClient startingIntpProcess = intpProcess;
+    clusterServer.getIntpProcessStatusAsync(context.getInterpreterGroupId(), getConnectTimeout())
+        .whenComplete((intpMeta, e) -> {
+          if (null != e) {
+            LOGGER.error("Can not found cluster interpreter!", e);
+          } else {
+            processStarted(startingIntpProcess, intpMeta);
+          }
+        });
 
     return intpProcess;
   }
 
+  private void processStarted(InterpreterClient intpProcess, HashMap<String, Object> intpMeta) {
+    String intpTSrvHost = (String) intpMeta.get(INTP_TSERVER_HOST);
+    int intpTSrvPort = (int) intpMeta.get(INTP_TSERVER_PORT);
+    LOGGER.info("Found cluster interpreter {}:{}", intpTSrvHost, intpTSrvPort);
+
+    if (intpProcess instanceof DockerInterpreterProcess) {
+      ((DockerInterpreterProcess) intpProcess).processStarted(intpTSrvPort, intpTSrvHost);
+    } else if (intpProcess instanceof ClusterInterpreterProcess) {
+      ((ClusterInterpreterProcess) intpProcess).processStarted(intpTSrvPort, intpTSrvHost);
+    } else {
+      LOGGER.error("Unknown type !");
+    }
+  }
+
   private RemoteInterpreterProcess createClusterIntpProcess() {
     ClusterInterpreterProcess clusterIntpProcess = null;
     try {
@@ -34,7 +34,9 @@ import com.google.gson.JsonParseException;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -158,7 +160,13 @@ public class GCSNotebookRepo implements NotebookRepo {
           try {
             String noteId = getNoteId(noteFileName);
             String notePath = getNotePath("", noteFileName);
-            infos.put(noteId, new NoteInfo(noteId, notePath));
+            NoteInfo info = new NoteInfo(noteId, notePath);
+            if (b.getMd5() != null) {
+              // md5 of blob is base64 encoded, NoteInfo expects it hex encoded
+              info.setChecksum(String.format("%032x",
+                  new BigInteger(1, Base64.getDecoder().decode(b.getMd5()))));
+            }
+            infos.put(noteId, info);
           } catch (IOException e) {
             LOGGER.warn(e.getMessage());
           }
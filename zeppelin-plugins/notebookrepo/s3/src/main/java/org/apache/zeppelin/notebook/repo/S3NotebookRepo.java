@@ -187,6 +187,11 @@ public class S3NotebookRepo implements NotebookRepo {
           if (objectSummary.getKey().endsWith(".zpln")) {
             try {
               NoteInfo info = getNoteInfo(objectSummary.getKey());
+              // etag is the md5 of object unless it is uploaded in multiple parts
+              String etag = objectSummary.getETag();
+              if (etag != null && !etag.contains("-")) {
+                info.setChecksum(etag.toLowerCase());
+              }
               notesInfo.put(info.getId(), info);
             } catch (IOException e) {
               LOGGER.warn(e.getMessage());
@@ -21,6 +21,7 @@ import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -38,11 +39,14 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.Response.Status;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.annotation.ZeppelinApi;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Notebook;
@@ -66,6 +70,7 @@ import org.apache.zeppelin.service.JobManagerService;
 import org.apache.zeppelin.service.NotebookService;
 import org.apache.zeppelin.service.ServiceContext;
 import org.apache.zeppelin.socket.NotebookServer;
+import org.apache.zeppelin.tabledata.TablePage;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.quartz.CronExpression;
 import org.slf4j.Logger;
@@ -81,6 +86,9 @@ public class NotebookRestApi extends AbstractRestApi {
   private static final Logger LOG = LoggerFactory.getLogger(NotebookRestApi.class);
   private static Gson gson = new Gson();
 
+  private static final int DEFAULT_RESULT_PAGE_SIZE = 1000;
+  private static final int MAX_RESULT_PAGE_SIZE = 10000;
+
   private ZeppelinConfiguration zConf;
   private Notebook notebook;
   private NotebookServer notebookServer;
@@ -315,7 +323,7 @@ public class NotebookRestApi extends AbstractRestApi {
   public Response getNote(@PathParam("noteId") String noteId) throws IOException {
     Note note =
         notebookService.getNote(noteId, getServiceContext(), new RestServiceCallback());
-    return new JsonResponse<>(Status.OK, "", note).build();
+    return new JsonResponse<>(Status.OK, "", notebook.inlineResultBlobs(note)).build();
   }
 
   /**
@@ -519,7 +527,108 @@ public class NotebookRestApi extends AbstractRestApi {
     Paragraph p = note.getParagraph(paragraphId);
     checkIfParagraphIsNotNull(p);
 
-    return new JsonResponse<>(Status.OK, "", p).build();
+    return new JsonResponse<>(Status.OK, "", notebook.inlineResultBlobs(p)).build();
+  }
+
+  /**
+   * Get the data of paragraph result REST API, it is streamed as plain text. This is used to
+   * load lazily the result which is stored separately from note file.
+   *
+   * @param noteId ID of Note
+   * @param paragraphId ID of paragraph
+   * @param index index of the result message in paragraph
+   * @return data of the paragraph result
+   * @throws IOException
+   */
+  @GET
+  @Path("{noteId}/paragraph/{paragraphId}/result/{index}")
+  @Produces("text/plain")
+  @ZeppelinApi
+  public Response getParagraphResult(@PathParam("noteId") String noteId,
+                                     @PathParam("paragraphId") String paragraphId,
+                                     @PathParam("index") int index) throws IOException {
+    LOG.info("get paragraph result {} {} {}", noteId, paragraphId, index);
+
+    Note note = notebook.getNote(noteId);
+    checkIfNoteIsNotNull(note);
+    checkIfUserCanRead(noteId, "Insufficient privileges you cannot get this paragraph");
+    Paragraph p = note.getParagraph(paragraphId);
+    checkIfParagraphIsNotNull(p);
+    InterpreterResult result = p.getReturn();
+    if (result == null || index < 0 || index >= result.message().size()) {
+      throw new BadRequestException("paragraph " + paragraphId + " has no result " + index);
+    }
+
+    String mediaType = "text/plain; charset="
+        + zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING);
+    InterpreterResultMessage msg = result.message().get(index);
+    if (msg.getBlobId() == null) {
+      return Response.ok(msg.getData(), mediaType).build();
+    }
+    InputStream blob = notebook.getResultBlob(msg.getBlobId(),
+        new AuthenticationInfo(authenticationService.getPrincipal()));
+    StreamingOutput output = out -> {
+      try (InputStream in = blob) {
+        IOUtils.copy(in, out);
+      }
+    };
+    return Response.ok(output, mediaType).build();
+  }
+
+  /**
+   * Get a page of the rows of a paged table result REST API. Only the first page of a paged
+   * table result is stored in paragraph, the other pages are read from the interpreter
+   * process which spooled them.
+   *
+   * @param noteId ID of Note
+   * @param paragraphId ID of paragraph
+   * @param index index of the result message in paragraph
+   * @param offset index of the first row of the page
+   * @param limit max number of rows of the page
+   * @return JSON with the columns, offset, total number of rows and rows of the page
+   * @throws IOException
+   */
+  @GET
+  @Path("{noteId}/paragraph/{paragraphId}/result/{index}/page")
+  @ZeppelinApi
+  public Response getParagraphResultPage(@PathParam("noteId") String noteId,
+                                         @PathParam("paragraphId") String paragraphId,
+                                         @PathParam("index") int index,
+                                         @QueryParam("offset") Integer offset,
+                                         @QueryParam("limit") Integer limit)
+      throws IOException {
+    LOG.info("get paragraph result page {} {} {} {} {}", noteId, paragraphId, index, offset,
+        limit);
+
+    Note note = notebook.getNote(noteId);
+    checkIfNoteIsNotNull(note);
+    checkIfUserCanRead(noteId, "Insufficient privileges you cannot get this paragraph");
+    Paragraph p = note.getParagraph(paragraphId);
+    checkIfParagraphIsNotNull(p);
+    InterpreterResult result = p.getReturn();
+    if (result == null || index < 0 || index >= result.message().size() ||
+        result.message().get(index).getPagedRowCount() == null) {
+      throw new BadRequestException("paragraph " + paragraphId + " has no paged table result "
+          + index);
+    }
+
+    // index of the table among the table results of paragraph
+    int tableIndex = 0;
+    for (int i = 0; i < index; ++i) {
+      if (result.message().get(i).getType() == InterpreterResult.Type.TABLE) {
+        tableIndex++;
+      }
+    }
+    int pageOffset = offset == null ? 0 : Math.max(0, offset);
+    int pageLimit = limit == null ? DEFAULT_RESULT_PAGE_SIZE :
+        Math.min(Math.max(1, limit), MAX_RESULT_PAGE_SIZE);
+    TablePage page = notebook.getInterpreterSettingManager()
+        .readPagedTableResult(noteId, paragraphId, tableIndex, pageOffset, pageLimit);
+    if (page == null) {
+      throw new BadRequestException("paged table result " + index + " of paragraph "
+          + paragraphId + " is no longer available, run the paragraph again");
+    }
+    return new JsonResponse<>(Status.OK, "", page).build();
   }
 
   /**
@@ -575,7 +684,7 @@ public class NotebookRestApi extends AbstractRestApi {
     configureParagraph(p, newConfig, user);
     AuthenticationInfo subject = new AuthenticationInfo(user);
     notebook.saveNote(note, subject);
-    return new JsonResponse<>(Status.OK, "", p).build();
+    return new JsonResponse<>(Status.OK, "", notebook.inlineResultBlobs(p)).build();
   }
 
   /**
@@ -21,6 +21,7 @@ import javax.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.scheduler.Job;
@@ -29,19 +30,43 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Service class for JobManager Page
+ *
+ * NoteJobInfo is kept in an in-memory index which is updated incrementally from paragraph
+ * events, so that querying the job list won't load all the notes from NotebookRepo.
+ * The index is seeded by the first query with all the notes: the loaded notes, and the others
+ * read once from NotebookRepo without keeping them in memory.
  */
 public class JobManagerService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobManagerService.class);
 
+  private static final Comparator<NoteJobInfo> LAST_RUN_COMPARATOR =
+      Comparator.comparingLong((NoteJobInfo info) -> info.unixTimeLastRun)
+          .thenComparing(info -> info.noteId);
+
   private Notebook notebook;
   private ZeppelinConfiguration conf;
 
+  // noteId -> NoteJobInfo
+  private final Map<String, NoteJobInfo> noteJobInfos = new HashMap<>();
+  // NoteJobInfo sorted by unixTimeLastRun
+  private final TreeSet<NoteJobInfo> noteJobInfosByLastRun = new TreeSet<>(LAST_RUN_COMPARATOR);
+  // noteIds of notes which have running paragraphs
+  private final Set<String> runningNoteIds = new HashSet<>();
+  private final Object indexInitLock = new Object();
+  private volatile boolean indexInitialized = false;
+
   @Inject
   public JobManagerService(Notebook notebook, ZeppelinConfiguration conf) {
     this.notebook = notebook;
@@ -59,8 +84,9 @@ public class JobManagerService {
     Note jobNote = notebook.getNote(noteId);
     if (jobNote == null) {
       callback.onFailure(new IOException("Note " + noteId + " not found"), context);
+      return notesJobInfo;
     }
-    notesJobInfo.add(new NoteJobInfo(jobNote));
+    notesJobInfo.add(updateNoteJobInfo(jobNote));
     callback.onSuccess(notesJobInfo, context);
     return notesJobInfo;
   }
@@ -75,14 +101,7 @@ public class JobManagerService {
     if (!conf.isJobManagerEnabled()) {
       return new ArrayList<>();
     }
-    List<Note> notes = notebook.getAllNotes();
-    List<NoteJobInfo> notesJobInfo = new ArrayList<>();
-    for (Note note : notes) {
-      NoteJobInfo noteJobInfo = new NoteJobInfo(note);
-      if (noteJobInfo.unixTimeLastRun > lastUpdateServerUnixTime) {
-        notesJobInfo.add(noteJobInfo);
-      }
-    }
+    List<NoteJobInfo> notesJobInfo = queryNoteJobInfo(lastUpdateServerUnixTime);
     callback.onSuccess(notesJobInfo, context);
     return notesJobInfo;
   }
@@ -93,11 +112,144 @@ public class JobManagerService {
     if (!conf.isJobManagerEnabled()) {
       return;
     }
+    removeFromIndex(noteId);
     List<NoteJobInfo> notesJobInfo = new ArrayList<>();
     notesJobInfo.add(new NoteJobInfo(noteId, true));
     callback.onSuccess(notesJobInfo, context);
   }
 
+  /**
+   * Update the index entry of this note, it should be called when the status of any paragraph
+   * of this note is changed, or any paragraph is added/removed.
+   */
+  public NoteJobInfo updateNoteJobInfo(Note note) {
+    NoteJobInfo noteJobInfo = new NoteJobInfo(note);
+    if (!conf.isJobManagerEnabled()) {
+      return noteJobInfo;
+    }
+    synchronized (noteJobInfos) {
+      putIntoIndex(noteJobInfo);
+    }
+    return noteJobInfo;
+  }
+
+  private void putIntoIndex(NoteJobInfo noteJobInfo) {
+    NoteJobInfo oldNoteJobInfo = noteJobInfos.put(noteJobInfo.noteId, noteJobInfo);
+    if (oldNoteJobInfo != null) {
+      noteJobInfosByLastRun.remove(oldNoteJobInfo);
+    }
+    noteJobInfosByLastRun.add(noteJobInfo);
+    if (noteJobInfo.isRunningJob) {
+      runningNoteIds.add(noteJobInfo.noteId);
+    } else {
+      runningNoteIds.remove(noteJobInfo.noteId);
+    }
+  }
+
+  // the entry updated from paragraph events in the meantime is newer, keep it
+  private void putIntoIndexIfAbsent(Note note) {
+    NoteJobInfo noteJobInfo = new NoteJobInfo(note);
+    synchronized (noteJobInfos) {
+      if (!noteJobInfos.containsKey(noteJobInfo.noteId)) {
+        putIntoIndex(noteJobInfo);
+      }
+    }
+  }
+
+  /**
+   * Update the note name of the index entry of this note after it is renamed or moved.
+   *
+   * @return the updated NoteJobInfo, null if this note is not indexed
+   */
+  public NoteJobInfo updateNoteJobInfoName(Note note) {
+    if (!conf.isJobManagerEnabled()) {
+      return null;
+    }
+    synchronized (noteJobInfos) {
+      NoteJobInfo noteJobInfo = noteJobInfos.get(note.getId());
+      if (noteJobInfo == null) {
+        return null;
+      }
+      // unixTimeLastRun is unchanged, so its position in noteJobInfosByLastRun is kept
+      noteJobInfo.noteName = note.getName();
+      return noteJobInfo;
+    }
+  }
+
+  private void removeFromIndex(String noteId) {
+    synchronized (noteJobInfos) {
+      NoteJobInfo oldNoteJobInfo = noteJobInfos.remove(noteId);
+      if (oldNoteJobInfo != null) {
+        noteJobInfosByLastRun.remove(oldNoteJobInfo);
+      }
+      runningNoteIds.remove(noteId);
+    }
+  }
+
+  /**
+   * Return NoteJobInfo whose unixTimeLastRun is after lastUpdateServerUnixTime together with
+   * the NoteJobInfo of notes which are still running.
+   */
+  private List<NoteJobInfo> queryNoteJobInfo(long lastUpdateServerUnixTime) {
+    initIndexIfNecessary();
+    synchronized (noteJobInfos) {
+      List<NoteJobInfo> notesJobInfo = new ArrayList<>();
+      Set<String> noteIds = new HashSet<>();
+      NoteJobInfo fromKey = new NoteJobInfo(lastUpdateServerUnixTime);
+      for (NoteJobInfo noteJobInfo : noteJobInfosByLastRun.tailSet(fromKey, false)) {
+        if (noteJobInfo.unixTimeLastRun > lastUpdateServerUnixTime) {
+          notesJobInfo.add(noteJobInfo);
+          noteIds.add(noteJobInfo.noteId);
+        }
+      }
+      for (String noteId : runningNoteIds) {
+        if (!noteIds.contains(noteId)) {
+          notesJobInfo.add(noteJobInfos.get(noteId));
+        }
+      }
+      return notesJobInfo;
+    }
+  }
+
+  /**
+   * Seed the index with all the notes once. The loaded notes are used as they are, the other
+   * notes are read from NotebookRepo without loading them into the notebook, so that seeding
+   * doesn't evict the notes in use. Concurrent queries wait until seeding is done.
+   */
+  private void initIndexIfNecessary() {
+    if (indexInitialized) {
+      return;
+    }
+    synchronized (indexInitLock) {
+      if (indexInitialized) {
+        return;
+      }
+      Set<String> loadedNoteIds = new HashSet<>();
+      for (Note note : notebook.getLoadedNotes()) {
+        loadedNoteIds.add(note.getId());
+        try {
+          putIntoIndexIfAbsent(note);
+        } catch (Exception e) {
+          LOGGER.warn("Fail to build NoteJobInfo for note: " + note.getId(), e);
+        }
+      }
+      for (NoteInfo noteInfo : notebook.getNotesInfo()) {
+        if (loadedNoteIds.contains(noteInfo.getId())) {
+          continue;
+        }
+        try {
+          Note note = notebook.readStoredNote(noteInfo.getId(), noteInfo.getPath());
+          if (note != null) {
+            putIntoIndexIfAbsent(note);
+          }
+        } catch (Exception e) {
+          LOGGER.warn("Fail to build NoteJobInfo for note: " + noteInfo.getId(), e);
+        }
+      }
+      indexInitialized = true;
+    }
+  }
+
   private static long getUnixTimeLastRunParagraph(Paragraph paragraph) {
     if (paragraph.isTerminated() && paragraph.getDateFinished() != null) {
       return paragraph.getDateFinished().getTime();
@@ -165,6 +317,10 @@ public class JobManagerService {
       this.unixTimeLastRun = lastRunningUnixTime;
     }
 
+    public String getNoteName() {
+      return noteName;
+    }
+
     private boolean isCron(Note note) {
       return note.getConfig().containsKey("cron") &&
           !StringUtils.isBlank(note.getConfig().get("cron").toString());
@@ -174,5 +330,13 @@ public class JobManagerService {
       this.noteId = noteId;
       this.isRemoved = isRemoved;
     }
+
+    /**
+     * Only used as the search key of the index.
+     */
+    private NoteJobInfo(long unixTimeLastRun) {
+      this.noteId = "";
+      this.unixTimeLastRun = unixTimeLastRun;
+    }
   }
 }
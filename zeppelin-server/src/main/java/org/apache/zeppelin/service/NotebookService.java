@@ -843,6 +843,10 @@ public class NotebookService {
     }
     Note revisionNote = notebook.getNoteByRevision(noteId, note.getPath(), revisionId,
         context.getAutheInfo());
+    // results of revision are not loaded lazily, the web UI would fetch the current ones
+    if (revisionNote != null) {
+      revisionNote = notebook.inlineResultBlobs(revisionNote);
+    }
     callback.onSuccess(revisionNote, context);
   }
 
@@ -867,6 +871,9 @@ public class NotebookService {
     } else {
       revisionNote = notebook.getNoteByRevision(noteId, note.getPath(), revisionId,
           context.getAutheInfo());
+      if (revisionNote != null) {
+        revisionNote = notebook.inlineResultBlobs(revisionNote);
+      }
     }
     callback.onSuccess(revisionNote, context);
   }
@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Keep track of the paragraph state replicated to the other zeppelin servers of the cluster,
+ * so that only the changed fields of a paragraph are broadcast.
+ *
+ * Sender side: every note event carries a version which is increased by one per event of the
+ * note. Only the hashes of the paragraph fields sent last time are kept, a paragraph event
+ * carries the fields whose hash is changed (a removed field is sent as json null). The result
+ * messages are compared one by one, so that only the changed messages of the results are sent.
+ * The delta also carries the hash of the paragraph it is based on.
+ *
+ * Receiver side: the paragraph is rebuilt from the paragraph of the local note, plus the fields
+ * received before which are different from the local note. The delta is applied only if the
+ * hash of the rebuilt paragraph matches the base hash of the delta. When a version gap is
+ * detected (an event is lost, or this server was restarted) or the base doesn't match, the
+ * sender is asked to broadcast the whole note again.
+ */
+public class ClusterNoteDeltaTracker {
+
+  // keys of the delta which are not the fields of paragraph
+  @VisibleForTesting
+  static final String BASE_HASH = "$base";
+  @VisibleForTesting
+  static final String RESULTS_DELTA = "$results";
+
+  private static final String RESULTS = "results";
+  private static final String RESULTS_CODE = "code";
+  private static final String RESULTS_MSG = "msg";
+  private static final String RESULTS_SIZE = "size";
+
+  private static final int MAX_NOTES = 1000;
+  // don't ask the sender to sync the same note again within this interval
+  private static final long SYNC_RETRY_INTERVAL_MS = 5000;
+
+  private final Cache<String, SentNote> sentNotes =
+      CacheBuilder.newBuilder().maximumSize(MAX_NOTES).build();
+  private final Cache<String, ReceivedNote> receivedNotes =
+      CacheBuilder.newBuilder().maximumSize(MAX_NOTES).build();
+  private final LongSupplier clock;
+
+  public ClusterNoteDeltaTracker() {
+    this(System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  ClusterNoteDeltaTracker(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Sender side, start a new version of the note which carries the whole note.
+   */
+  public synchronized long nextNoteVersion(String noteId, Map<String, JsonObject> paragraphs) {
+    SentNote state = getState(sentNotes, noteId, SentNote::new);
+    state.paragraphs.clear();
+    for (Map.Entry<String, JsonObject> entry : paragraphs.entrySet()) {
+      state.paragraphs.put(entry.getKey(), new ParagraphHashes(entry.getValue()));
+    }
+    return ++state.version;
+  }
+
+  /**
+   * Sender side, start a new version of the note which carries the paragraph.
+   *
+   * @return the fields of the paragraph which are changed since last sent,
+   *         or null if the whole paragraph need to be sent
+   */
+  public synchronized JsonObject nextParagraphVersion(String noteId, String paragraphId,
+                                                      JsonObject paragraph, boolean full) {
+    SentNote state = getState(sentNotes, noteId, SentNote::new);
+    state.version++;
+    ParagraphHashes hashes = new ParagraphHashes(paragraph);
+    ParagraphHashes last = state.paragraphs.put(paragraphId, hashes);
+    return full || last == null ? null : diff(last, hashes, paragraph);
+  }
+
+  public synchronized long getNoteVersion(String noteId) {
+    SentNote state = sentNotes.getIfPresent(noteId);
+    return state == null ? 0 : state.version;
+  }
+
+  /**
+   * Receiver side, the whole note is received.
+   *
+   * @param localParagraphs the paragraphs of the note of this server
+   */
+  public synchronized void applyNote(String sender, String noteId, long version,
+                                     Map<String, JsonObject> paragraphs,
+                                     Map<String, JsonObject> localParagraphs) {
+    ReceivedNote state = getState(receivedNotes, replicaKey(sender, noteId), ReceivedNote::new);
+    state.version = version;
+    state.overlays.clear();
+    for (Map.Entry<String, JsonObject> entry : paragraphs.entrySet()) {
+      putOverlay(state, entry.getKey(), localParagraphs.get(entry.getKey()), entry.getValue());
+    }
+    state.needSync = false;
+    state.syncRequestTime = 0;
+  }
+
+  /**
+   * Receiver side, the note event is not applied because nobody watches the note on this
+   * server. The note will be synced when a delta can't be applied after the note is opened.
+   */
+  public synchronized void skip(String sender, String noteId, long version) {
+    ReceivedNote state = getState(receivedNotes, replicaKey(sender, noteId), ReceivedNote::new);
+    state.version = version;
+    state.overlays.clear();
+    state.needSync = false;
+  }
+
+  /**
+   * Receiver side, apply the paragraph event.
+   *
+   * @param delta the changed fields of paragraph, or the whole paragraph if full is true
+   * @param local the paragraph of the note of this server, null if there's no such paragraph
+   * @return the paragraph after the delta is applied,
+   *         or null if it can't be rebuilt before the note is synced
+   */
+  public synchronized JsonObject applyParagraph(String sender, String noteId, long version,
+                                                String paragraphId, JsonObject delta,
+                                                boolean full, JsonObject local) {
+    ReceivedNote state = getState(receivedNotes, replicaKey(sender, noteId), ReceivedNote::new);
+    if (state.version + 1 != version) {
+      // the fields we have may miss some of the changes
+      state.overlays.clear();
+      state.needSync = true;
+    }
+    state.version = version;
+
+    JsonObject paragraph;
+    if (full) {
+      paragraph = delta;
+    } else {
+      paragraph = apply(overlay(local, state.overlays.get(paragraphId)), delta);
+      if (paragraph == null) {
+        state.overlays.remove(paragraphId);
+        state.needSync = true;
+        return null;
+      }
+    }
+    putOverlay(state, paragraphId, local, paragraph);
+    return paragraph;
+  }
+
+  /**
+   * Receiver side, whether the sender should be asked to broadcast the whole note.
+   * Return true at most once per SYNC_RETRY_INTERVAL_MS until the note is synced.
+   */
+  public synchronized boolean shouldRequestSync(String sender, String noteId) {
+    ReceivedNote state = receivedNotes.getIfPresent(replicaKey(sender, noteId));
+    if (state == null || !state.needSync) {
+      return false;
+    }
+    long now = clock.getAsLong();
+    if (state.syncRequestTime > 0 && now - state.syncRequestTime < SYNC_RETRY_INTERVAL_MS) {
+      return false;
+    }
+    state.syncRequestTime = now;
+    return true;
+  }
+
+  private static void putOverlay(ReceivedNote state, String paragraphId, JsonObject local,
+                                 JsonObject paragraph) {
+    JsonObject overlay = diff(local, paragraph);
+    if (overlay.size() == 0) {
+      state.overlays.remove(paragraphId);
+    } else {
+      state.overlays.put(paragraphId, overlay);
+    }
+  }
+
+  /**
+   * The fields of to which are different from from, a removed field is json null.
+   * Fields are compared by hash.
+   */
+  @VisibleForTesting
+  static JsonObject diff(JsonObject from, JsonObject to) {
+    if (from == null) {
+      from = new JsonObject();
+    }
+    JsonObject delta = new JsonObject();
+    for (Map.Entry<String, JsonElement> entry : to.entrySet()) {
+      JsonElement value = from.get(entry.getKey());
+      if (value == null || value.hashCode() != entry.getValue().hashCode()) {
+        delta.add(entry.getKey(), entry.getValue());
+      }
+    }
+    for (Map.Entry<String, JsonElement> entry : from.entrySet()) {
+      if (!to.has(entry.getKey())) {
+        delta.add(entry.getKey(), JsonNull.INSTANCE);
+      }
+    }
+    return delta;
+  }
+
+  private static JsonObject diff(ParagraphHashes last, ParagraphHashes hashes,
+                                 JsonObject paragraph) {
+    JsonObject delta = new JsonObject();
+    delta.addProperty(BASE_HASH, last.hash);
+    for (Map.Entry<String, JsonElement> entry : paragraph.entrySet()) {
+      String name = entry.getKey();
+      Integer lastHash = last.fields.get(name);
+      if (Objects.equals(lastHash, hashes.fields.get(name))) {
+        continue;
+      }
+      if (RESULTS.equals(name) && last.results != null && hashes.results != null) {
+        delta.add(RESULTS_DELTA,
+            diffResults(last.results, hashes.results, entry.getValue().getAsJsonObject()));
+      } else {
+        delta.add(name, entry.getValue());
+      }
+    }
+    for (String name : last.fields.keySet()) {
+      if (!hashes.fields.containsKey(name)) {
+        delta.add(name, JsonNull.INSTANCE);
+      }
+    }
+    return delta;
+  }
+
+  // only the result messages which are changed are sent, with the number of messages
+  private static JsonObject diffResults(ResultsHashes last, ResultsHashes hashes,
+                                        JsonObject results) {
+    JsonObject delta = new JsonObject();
+    if (!Objects.equals(last.code, hashes.code)) {
+      JsonElement code = results.get(RESULTS_CODE);
+      delta.add(RESULTS_CODE, code == null ? JsonNull.INSTANCE : code);
+    }
+    JsonArray msg = results.getAsJsonArray(RESULTS_MSG);
+    JsonObject changed = new JsonObject();
+    for (int i = 0; i < msg.size(); i++) {
+      if (i >= last.msg.length || last.msg[i] != hashes.msg[i]) {
+        changed.add(String.valueOf(i), msg.get(i));
+      }
+    }
+    delta.addProperty(RESULTS_SIZE, msg.size());
+    delta.add(RESULTS_MSG, changed);
+    return delta;
+  }
+
+  /**
+   * Apply the delta made by the sender to base.
+   *
+   * @return the paragraph after the delta is applied, or null if base is not the paragraph
+   *         the delta is based on
+   */
+  @VisibleForTesting
+  static JsonObject apply(JsonObject base, JsonObject delta) {
+    JsonElement baseHash = delta.get(BASE_HASH);
+    if (baseHash == null || hash(base) != baseHash.getAsInt()) {
+      return null;
+    }
+    JsonObject result = overlay(base, delta);
+    result.remove(BASE_HASH);
+    JsonElement resultsDelta = result.remove(RESULTS_DELTA);
+    if (resultsDelta != null) {
+      JsonElement results = applyResults(base.get(RESULTS), resultsDelta.getAsJsonObject());
+      if (results == null) {
+        return null;
+      }
+      result.add(RESULTS, results);
+    }
+    return result;
+  }
+
+  private static JsonElement applyResults(JsonElement base, JsonObject delta) {
+    if (!isMessageResults(base)) {
+      return null;
+    }
+    JsonObject baseResults = base.getAsJsonObject();
+    JsonObject results = new JsonObject();
+    JsonElement code = delta.has(RESULTS_CODE) ? delta.get(RESULTS_CODE)
+        : baseResults.get(RESULTS_CODE);
+    if (code != null && !code.isJsonNull()) {
+      results.add(RESULTS_CODE, code);
+    }
+    JsonArray baseMsg = baseResults.getAsJsonArray(RESULTS_MSG);
+    JsonObject changed = delta.getAsJsonObject(RESULTS_MSG);
+    JsonArray msg = new JsonArray();
+    int size = delta.get(RESULTS_SIZE).getAsInt();
+    for (int i = 0; i < size; i++) {
+      JsonElement entry = changed.get(String.valueOf(i));
+      if (entry == null) {
+        if (i >= baseMsg.size()) {
+          return null;
+        }
+        entry = baseMsg.get(i);
+      }
+      msg.add(entry);
+    }
+    results.add(RESULTS_MSG, msg);
+    return results;
+  }
+
+  // shallow copy of base with the changes, json null of changes removes the field
+  private static JsonObject overlay(JsonObject base, JsonObject changes) {
+    // the values are never modified, so a shallow copy is enough
+    JsonObject result = new JsonObject();
+    if (base != null) {
+      for (Map.Entry<String, JsonElement> entry : base.entrySet()) {
+        result.add(entry.getKey(), entry.getValue());
+      }
+    }
+    if (changes != null) {
+      for (Map.Entry<String, JsonElement> entry : changes.entrySet()) {
+        if (entry.getValue().isJsonNull()) {
+          result.remove(entry.getKey());
+        } else {
+          result.add(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    return result;
+  }
+
+  // same on sender and receiver, independent of the order of fields
+  @VisibleForTesting
+  static int hash(JsonObject paragraph) {
+    int hash = 0;
+    for (Map.Entry<String, JsonElement> entry : paragraph.entrySet()) {
+      hash += fieldHash(entry.getKey(), entry.getValue().hashCode());
+    }
+    return hash;
+  }
+
+  private static int fieldHash(String name, int valueHash) {
+    return name.hashCode() ^ valueHash;
+  }
+
+  // results made of code and msg only, which can be diffed per message
+  private static boolean isMessageResults(JsonElement results) {
+    if (results == null || !results.isJsonObject()) {
+      return false;
+    }
+    for (Map.Entry<String, JsonElement> entry : results.getAsJsonObject().entrySet()) {
+      if (RESULTS_MSG.equals(entry.getKey())) {
+        if (!entry.getValue().isJsonArray()) {
+          return false;
+        }
+      } else if (!RESULTS_CODE.equals(entry.getKey())) {
+        return false;
+      }
+    }
+    return results.getAsJsonObject().has(RESULTS_MSG);
+  }
+
+  private static String replicaKey(String sender, String noteId) {
+    return sender + "/" + noteId;
+  }
+
+  private static <T> T getState(Cache<String, T> cache, String key, Callable<T> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException e) {
+      // the constructors never throw
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // hashes of the paragraph fields, the paragraph itself is not kept
+  private static class ParagraphHashes {
+    private final Map<String, Integer> fields = new HashMap<>();
+    private final ResultsHashes results;
+    private int hash = 0;
+
+    ParagraphHashes(JsonObject paragraph) {
+      for (Map.Entry<String, JsonElement> entry : paragraph.entrySet()) {
+        int valueHash = entry.getValue().hashCode();
+        fields.put(entry.getKey(), valueHash);
+        hash += fieldHash(entry.getKey(), valueHash);
+      }
+      JsonElement resultsJson = paragraph.get(RESULTS);
+      results = isMessageResults(resultsJson)
+          ? new ResultsHashes(resultsJson.getAsJsonObject()) : null;
+    }
+  }
+
+  private static class ResultsHashes {
+    private final Integer code;
+    private final int[] msg;
+
+    ResultsHashes(JsonObject results) {
+      JsonElement codeJson = results.get(RESULTS_CODE);
+      code = codeJson == null ? null : codeJson.hashCode();
+      JsonArray msgJson = results.getAsJsonArray(RESULTS_MSG);
+      msg = new int[msgJson.size()];
+      for (int i = 0; i < msg.length; i++) {
+        msg[i] = msgJson.get(i).hashCode();
+      }
+    }
+  }
+
+  private static class SentNote {
+    private long version = 0;
+    private final Map<String, ParagraphHashes> paragraphs = new HashMap<>();
+  }
+
+  private static class ReceivedNote {
+    private long version = 0;
+    // paragraph id -> fields which are different from the paragraph of local note
+    private final Map<String, JsonObject> overlays = new HashMap<>();
+    private boolean needSync = false;
+    private long syncRequestTime = 0;
+  }
+}
@@ -28,6 +28,7 @@ import org.apache.zeppelin.display.GUI;
 import org.apache.zeppelin.display.Input;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.NoteManager;
 import org.apache.zeppelin.notebook.NotebookImportDeserializer;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.notebook.AuthorizationService;
@@ -88,8 +89,10 @@ public class ConnectionManager {
   private AuthorizationService authorizationService;
 
   @Inject
-  public ConnectionManager(AuthorizationService authorizationService) {
+  public ConnectionManager(AuthorizationService authorizationService, NoteManager noteManager) {
     this.authorizationService = authorizationService;
+    // notes opened by websocket won't be unloaded from NoteManager
+    noteManager.setNotePinnedChecker(this::isNoteOpened);
   }
 
   public void addConnection(NotebookSocket conn) {
@@ -117,6 +120,11 @@ public class ConnectionManager {
     }
   }
 
+  public boolean isNoteOpened(String noteId) {
+    List<NotebookSocket> socketList = noteSocketMap.get(noteId);
+    return socketList != null && !socketList.isEmpty();
+  }
+
   public void removeNoteConnection(String noteId) {
     synchronized (noteSocketMap) {
       noteSocketMap.remove(noteId);
@@ -231,6 +239,14 @@ public class ConnectionManager {
   }
 
   public void broadcast(String noteId, Message m) {
+    broadcast(noteId, m, false);
+  }
+
+  /**
+   * @param stream serialize the message directly into each connection instead of building
+   *               one json string, for large messages such as a whole note
+   */
+  private void broadcast(String noteId, Message m, boolean stream) {
     List<NotebookSocket> socketsToBroadcast = Collections.emptyList();
     synchronized (noteSocketMap) {
       broadcastToWatchers(noteId, StringUtils.EMPTY, m);
@@ -240,16 +256,52 @@ public class ConnectionManager {
       }
       socketsToBroadcast = new ArrayList<>(socketLists);
     }
-    LOGGER.debug("SEND >> " + m);
+    String serialized = null;
+    if (!stream) {
+      LOGGER.debug("SEND >> " + m);
+      serialized = serializeMessage(m);
+    }
     for (NotebookSocket conn : socketsToBroadcast) {
       try {
-        conn.send(serializeMessage(m));
+        if (stream) {
+          conn.send(m, gson);
+        } else {
+          conn.send(serialized);
+        }
       } catch (IOException | WebSocketException e) {
         LOGGER.error("socket error", e);
       }
     }
   }
 
+  /**
+   * Broadcast a batch of messages of one note, the connections of the note are looked up once.
+   */
+  public void broadcast(String noteId, List<Message> messages) {
+    List<NotebookSocket> socketsToBroadcast = Collections.emptyList();
+    synchronized (noteSocketMap) {
+      for (Message m : messages) {
+        broadcastToWatchers(noteId, StringUtils.EMPTY, m);
+      }
+      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
+      if (socketLists == null || socketLists.size() == 0) {
+        return;
+      }
+      socketsToBroadcast = new ArrayList<>(socketLists);
+    }
+    for (Message m : messages) {
+      LOGGER.debug("SEND >> " + m);
+      String serialized = serializeMessage(m);
+      for (NotebookSocket conn : socketsToBroadcast) {
+        try {
+          conn.send(serialized);
+        } catch (IOException | WebSocketException e) {
+          LOGGER.error("socket error", e);
+        }
+      }
+    }
+  }
+
   private void broadcastToWatchers(String noteId, String subject, Message message) {
     synchronized (watcherSockets) {
       for (NotebookSocket watcher : watcherSockets) {
@@ -376,7 +428,8 @@ public class ConnectionManager {
   }
 
   public void broadcastNote(Note note) {
-    broadcast(note.getId(), new Message(Message.OP.NOTE).put("note", note));
+    // note may be large, stream it into each connection instead of serializing it to string
+    broadcast(note.getId(), new Message(Message.OP.NOTE).put("note", note), true);
   }
 
   public void broadcastParagraph(Note note, Paragraph p) {
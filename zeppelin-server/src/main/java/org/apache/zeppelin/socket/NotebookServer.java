@@ -19,6 +19,9 @@ package org.apache.zeppelin.socket;
 import com.google.common.base.Strings;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
 import java.lang.reflect.Type;
@@ -30,11 +33,14 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -44,6 +50,7 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.cluster.ClusterManagerServer;
 import org.apache.zeppelin.cluster.event.ClusterEvent;
+import org.apache.zeppelin.cluster.event.ClusterEventCodec;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.event.ClusterMessage;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -141,6 +148,20 @@ public class NotebookServer extends WebSocketServlet
 
   private ExecutorService executorService = Executors.newFixedThreadPool(10);
 
+  private static final long PROGRESS_BROADCAST_INTERVAL_MS = 100;
+  // noteId -> (paragraphId -> latest progress). Progress updates are coalesced per note, and
+  // broadcast at most once every PROGRESS_BROADCAST_INTERVAL_MS.
+  private final Map<String, Map<String, Integer>> pendingProgressUpdates = new HashMap<>();
+  private final ScheduledExecutorService progressBroadcaster =
+      Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ProgressBroadcaster");
+        t.setDaemon(true);
+        return t;
+      });
+
+  // versions and field hashes of the notes replicated to other nodes in cluster mode
+  private final ClusterNoteDeltaTracker clusterNoteDeltaTracker = new ClusterNoteDeltaTracker();
+
   private Provider<Notebook> notebookProvider;
   private Provider<NotebookService> notebookServiceProvider;
   private Provider<AuthorizationService> authorizationServiceProvider;
@@ -229,6 +250,12 @@ public class NotebookServer extends WebSocketServlet
     factory.setCreator(new NotebookWebSocketCreator(this));
   }
 
+  @Override
+  public void destroy() {
+    super.destroy();
+    progressBroadcaster.shutdownNow();
+  }
+
   public boolean checkOrigin(HttpServletRequest request, String origin) {
     try {
       return CorsUtils.isValidOrigin(origin, ZeppelinConfiguration.create());
@@ -577,7 +604,7 @@ public class NotebookServer extends WebSocketServlet
 
   public void broadcastNote(Note note) {
     inlineBroadcastNote(note);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_NOTE, note);
+    broadcastClusterNote(note);
   }
 
   private void inlineBroadcastNote(Note note) {
@@ -596,9 +623,21 @@ public class NotebookServer extends WebSocketServlet
     }
   }
 
+  // broadcast the paragraph received from other node of the cluster
+  private void inlineBroadcastParagraph(String noteId, GUI noteForms, boolean personalizedMode,
+                                        Paragraph p) {
+    broadcastNoteForms(noteId, noteForms);
+
+    // in personalized mode, the paragraphs of users come with BROADCAST_PARAGRAPHS
+    if (!personalizedMode) {
+      Message message = new Message(OP.PARAGRAPH).put("paragraph", p);
+      getConnectionManager().broadcast(noteId, message);
+    }
+  }
+
   public void broadcastParagraph(Note note, Paragraph p) {
     inlineBroadcastParagraph(note, p);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_PARAGRAPH, note, p);
+    broadcastClusterParagraph(ClusterEvent.BROADCAST_PARAGRAPH, note, p);
   }
 
   private void inlineBroadcastParagraphs(Map<String, Paragraph> userParagraphMap,
@@ -617,17 +656,15 @@ public class NotebookServer extends WebSocketServlet
     broadcastClusterEvent(ClusterEvent.BROADCAST_PARAGRAPHS, userParagraphMap, defaultParagraph);
   }
 
-  private void inlineBroadcastNewParagraph(Note note, Paragraph para) {
+  private void inlineBroadcastNewParagraph(String noteId, Paragraph para, int paraIndex) {
     LOG.info("Broadcasting paragraph on run call instead of note.");
-    int paraIndex = note.getParagraphs().indexOf(para);
-
     Message message = new Message(OP.PARAGRAPH_ADDED).put("paragraph", para).put("index", paraIndex);
-    getConnectionManager().broadcast(note.getId(), message);
+    getConnectionManager().broadcast(noteId, message);
   }
 
   private void broadcastNewParagraph(Note note, Paragraph para) {
-    inlineBroadcastNewParagraph(note, para);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_NEW_PARAGRAPH, note, para);
+    inlineBroadcastNewParagraph(note.getId(), para, note.getParagraphs().indexOf(para));
+    broadcastClusterParagraph(ClusterEvent.BROADCAST_NEW_PARAGRAPH, note, para);
   }
 
   public void inlineBroadcastNoteList(AuthenticationInfo subject, Set<String> userAndRoles) {
@@ -649,6 +686,117 @@ public class NotebookServer extends WebSocketServlet
     broadcastClusterEvent(ClusterEvent.BROADCAST_NOTE_LIST, subject, userAndRoles);
   }
 
+  // broadcast the whole note, other nodes reset their replica of the note
+  private void broadcastClusterNote(Note note) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return;
+    }
+
+    ClusterManagerServer clusterServer = ClusterManagerServer.getInstance(conf);
+    if (clusterServer.getClusterEventProtocolVersion() < ClusterEventCodec.PROTOCOL_VERSION) {
+      // some servers of the cluster don't accept the versioned note events
+      broadcastClusterEvent(ClusterEvent.BROADCAST_NOTE, note);
+      return;
+    }
+
+    JsonObject noteJson = Note.getGson().toJsonTree(note).getAsJsonObject();
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.BROADCAST_NOTE)
+        .put("NoteId", note.getId())
+        .put("Note", noteJson.toString())
+        .put("Sender", clusterServer.getClusterEventAddress());
+    synchronized (clusterNoteDeltaTracker) {
+      long version = clusterNoteDeltaTracker.nextNoteVersion(note.getId(),
+          getParagraphJsons(noteJson));
+      clusterMessage.put("Version", String.valueOf(version));
+      clusterServer.broadcastClusterEvent(ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC,
+          ClusterMessage.serializeMessage(clusterMessage));
+    }
+  }
+
+  // broadcast the paragraph, only the changed fields are sent for BROADCAST_PARAGRAPH
+  private void broadcastClusterParagraph(ClusterEvent event, Note note, Paragraph p) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return;
+    }
+
+    ClusterManagerServer clusterServer = ClusterManagerServer.getInstance(conf);
+    if (clusterServer.getClusterEventProtocolVersion() < ClusterEventCodec.PROTOCOL_VERSION) {
+      // some servers of the cluster don't accept the versioned note events
+      broadcastClusterEvent(event, note, p);
+      return;
+    }
+
+    // only the changed fields are serialized to string
+    JsonObject paragraphJson = Note.getGson().toJsonTree(p).getAsJsonObject();
+    ClusterMessage clusterMessage = new ClusterMessage(event)
+        .put("NoteId", note.getId())
+        .put("ParagraphId", p.getId())
+        .put("Sender", clusterServer.getClusterEventAddress());
+    if (event == ClusterEvent.BROADCAST_NEW_PARAGRAPH) {
+      clusterMessage.put("Index", String.valueOf(note.getParagraphs().indexOf(p)));
+    } else {
+      clusterMessage.put("NoteForms", getNoteForms(note).toJson())
+          .put("PersonalizedMode", String.valueOf(note.isPersonalizedMode()));
+    }
+    synchronized (clusterNoteDeltaTracker) {
+      JsonObject delta = clusterNoteDeltaTracker.nextParagraphVersion(note.getId(), p.getId(),
+          paragraphJson, event == ClusterEvent.BROADCAST_NEW_PARAGRAPH);
+      if (delta == null) {
+        clusterMessage.put("Paragraph", paragraphJson.toString());
+      } else {
+        clusterMessage.put("ParagraphDelta", delta.toString());
+      }
+      clusterMessage.put("Version",
+          String.valueOf(clusterNoteDeltaTracker.getNoteVersion(note.getId())));
+      clusterServer.broadcastClusterEvent(ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC,
+          ClusterMessage.serializeMessage(clusterMessage));
+    }
+  }
+
+  private static JsonObject parseJsonObject(String json) {
+    return new JsonParser().parse(json).getAsJsonObject();
+  }
+
+  // paragraphs of the note of this server, which are the base of the received deltas
+  private Map<String, JsonObject> getLocalParagraphJsons(String noteId) {
+    Map<String, JsonObject> paragraphs = new HashMap<>();
+    Note note = getLocalNote(noteId);
+    if (note != null) {
+      for (Paragraph p : note.getParagraphs()) {
+        paragraphs.put(p.getId(), Note.getGson().toJsonTree(p).getAsJsonObject());
+      }
+    }
+    return paragraphs;
+  }
+
+  private JsonObject getLocalParagraphJson(String noteId, String paragraphId) {
+    Note note = getLocalNote(noteId);
+    Paragraph p = note == null ? null : note.getParagraph(paragraphId);
+    return p == null ? null : Note.getGson().toJsonTree(p).getAsJsonObject();
+  }
+
+  private Note getLocalNote(String noteId) {
+    try {
+      return getNotebook().getNote(noteId);
+    } catch (IOException e) {
+      LOG.warn("Fail to get note " + noteId, e);
+      return null;
+    }
+  }
+
+  private static Map<String, JsonObject> getParagraphJsons(JsonObject noteJson) {
+    Map<String, JsonObject> paragraphs = new HashMap<>();
+    if (noteJson.has("paragraphs")) {
+      for (JsonElement paragraph : noteJson.getAsJsonArray("paragraphs")) {
+        JsonObject paragraphJson = paragraph.getAsJsonObject();
+        paragraphs.put(paragraphJson.get("id").getAsString(), paragraphJson);
+      }
+    }
+    return paragraphs;
+  }
+
   // broadcast ClusterEvent
   private void broadcastClusterEvent(ClusterEvent event, Object... objects) {
     ZeppelinConfiguration conf = ZeppelinConfiguration.create();
@@ -693,6 +841,23 @@ public class NotebookServer extends WebSocketServlet
       LOG.debug("onClusterEvent : {}", msg);
     }
     ClusterMessage message = ClusterMessage.deserializeMessage(msg);
+    switch (message.clusterEvent) {
+      case BROADCAST_NOTE:
+      case BROADCAST_PARAGRAPH:
+      case BROADCAST_NEW_PARAGRAPH:
+        // the note events of the servers which don't know the versioned note events
+        // carry the whole note, and are handled below
+        if (message.get("Version") == null) {
+          break;
+        }
+        onClusterNoteEvent(message);
+        return;
+      case SYNC_NOTE:
+        onClusterNoteEvent(message);
+        return;
+      default:
+        break;
+    }
 
     Note note = null;
     Paragraph paragraph = null;
@@ -744,7 +909,8 @@ public class NotebookServer extends WebSocketServlet
         inlineBroadcastParagraphs(userParagraphMap, paragraph);
         break;
       case BROADCAST_NEW_PARAGRAPH:
-        inlineBroadcastNewParagraph(note, paragraph);
+        inlineBroadcastNewParagraph(note.getId(), paragraph,
+            note.getParagraphs().indexOf(paragraph));
         break;
       default:
         LOG.error("Unknown clusterEvent:{}, msg:{} ", message.clusterEvent, msg);
@@ -752,6 +918,84 @@ public class NotebookServer extends WebSocketServlet
     }
   }
 
+  // handle the versioned note events, see ClusterNoteDeltaTracker
+  private void onClusterNoteEvent(ClusterMessage message) {
+    String sender = message.get("Sender");
+    String noteId = message.get("NoteId");
+    if (message.clusterEvent != ClusterEvent.SYNC_NOTE
+        && !getConnectionManager().isNoteOpened(noteId)) {
+      // nobody watches the note on this server, no need to rebuild the paragraphs
+      clusterNoteDeltaTracker.skip(sender, noteId, Long.parseLong(message.get("Version")));
+      return;
+    }
+    switch (message.clusterEvent) {
+      case SYNC_NOTE:
+        try {
+          Note syncNote = getNotebook().getNote(noteId);
+          if (syncNote != null) {
+            broadcastClusterNote(syncNote);
+          } else {
+            LOG.warn("Note {} to sync is not found", noteId);
+          }
+        } catch (IOException e) {
+          LOG.warn("Fail to get note " + noteId + " to sync", e);
+        }
+        return;
+      case BROADCAST_NOTE:
+        String noteJson = message.get("Note");
+        Note note;
+        try {
+          note = Note.fromJson(noteJson);
+        } catch (IOException e) {
+          LOG.warn("Fail to parse note json", e);
+          return;
+        }
+        clusterNoteDeltaTracker.applyNote(sender, noteId, Long.parseLong(message.get("Version")),
+            getParagraphJsons(parseJsonObject(noteJson)), getLocalParagraphJsons(noteId));
+        inlineBroadcastNote(note);
+        break;
+      case BROADCAST_NEW_PARAGRAPH:
+      case BROADCAST_PARAGRAPH:
+        boolean full = message.get("Paragraph") != null;
+        String paragraphId = message.get("ParagraphId");
+        JsonObject paragraphJson = clusterNoteDeltaTracker.applyParagraph(sender, noteId,
+            Long.parseLong(message.get("Version")), paragraphId,
+            parseJsonObject(full ? message.get("Paragraph") : message.get("ParagraphDelta")),
+            full, getLocalParagraphJson(noteId, paragraphId));
+        if (paragraphJson == null) {
+          LOG.info("Skip paragraph {} of note {} from {} until the note is synced",
+              paragraphId, noteId, sender);
+        } else if (message.clusterEvent == ClusterEvent.BROADCAST_NEW_PARAGRAPH) {
+          inlineBroadcastNewParagraph(noteId,
+              Note.getGson().fromJson(paragraphJson, Paragraph.class),
+              Integer.parseInt(message.get("Index")));
+        } else {
+          inlineBroadcastParagraph(noteId, GUI.fromJson(message.get("NoteForms")),
+              Boolean.parseBoolean(message.get("PersonalizedMode")),
+              Note.getGson().fromJson(paragraphJson, Paragraph.class));
+        }
+        break;
+      default:
+        break;
+    }
+
+    if (clusterNoteDeltaTracker.shouldRequestSync(sender, noteId)) {
+      requestClusterNoteSync(sender, noteId);
+    }
+  }
+
+  // ask the sender of the note events to broadcast the whole note again
+  private void requestClusterNoteSync(String sender, String noteId) {
+    LOG.info("Note {} from {} is out of sync, request to sync the note", noteId, sender);
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.SYNC_NOTE)
+        .put("NoteId", noteId);
+    String[] hostAndPort = sender.split(":");
+    ClusterManagerServer.getInstance(ZeppelinConfiguration.create()).unicastClusterEvent(
+        hostAndPort[0], Integer.parseInt(hostAndPort[1]),
+        ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC,
+        ClusterMessage.serializeMessage(clusterMessage));
+  }
+
   public void listNotesInfo(NotebookSocket conn, Message message) throws IOException {
     getNotebookService().listNotesInfo(false, getServiceContext(message),
         new WebSocketServiceCallback<List<NoteInfo>>(conn) {
@@ -819,7 +1063,7 @@ public class NotebookServer extends WebSocketServlet
           @Override
           public void onSuccess(Note note, ServiceContext context) throws IOException {
             getConnectionManager().addNoteConnection(note.getId(), conn);
-            conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
+            conn.send(new Message(OP.NOTE).put("note", note), gson);
             updateAngularObjectRegistry(conn, note);
             sendAllAngularObjects(note, context.getAutheInfo().getUser(), conn);
           }
@@ -864,7 +1108,7 @@ public class NotebookServer extends WebSocketServlet
             super.onSuccess(note, context);
             if (note != null) {
               getConnectionManager().addNoteConnection(note.getId(), conn);
-              conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
+              conn.send(new Message(OP.NOTE).put("note", note), gson);
               sendAllAngularObjects(note, context.getAutheInfo().getUser(), conn);
             } else {
               getConnectionManager().removeConnectionFromAllNote(conn);
@@ -1166,7 +1410,7 @@ public class NotebookServer extends WebSocketServlet
           public void onSuccess(Note newNote, ServiceContext context) throws IOException {
             super.onSuccess(newNote, context);
             getConnectionManager().addNoteConnection(newNote.getId(), conn);
-            conn.send(serializeMessage(new Message(OP.NEW_NOTE).put("note", newNote)));
+            conn.send(new Message(OP.NEW_NOTE).put("note", newNote), gson);
             broadcastNoteList(context.getAutheInfo(), context.getUserAndRoles());
           }
         });
@@ -1800,6 +2044,7 @@ public class NotebookServer extends WebSocketServlet
   @Override
   public void onParagraphRemove(Paragraph p) {
     try {
+      getJobManagerService().updateNoteJobInfo(p.getNote());
       getJobManagerService().getNoteJobInfoByUnixTime(System.currentTimeMillis() - 5000, null,
           new JobManagerServiceCallback());
     } catch (IOException e) {
@@ -1854,6 +2099,20 @@ public class NotebookServer extends WebSocketServlet
 
   }
 
+  @Override
+  public void onNoteMove(Note note, AuthenticationInfo subject) {
+    JobManagerService.NoteJobInfo noteJobInfo =
+        getJobManagerService().updateNoteJobInfoName(note);
+    if (noteJobInfo == null) {
+      return;
+    }
+    try {
+      new JobManagerServiceCallback().onSuccess(Arrays.asList(noteJobInfo), null);
+    } catch (IOException e) {
+      LOG.warn("can not broadcast for job manager: " + e.getMessage(), e);
+    }
+  }
+
   @Override
   public void onParagraphStatusChange(Paragraph p, Status status) {
     try {
@@ -1882,8 +2141,45 @@ public class NotebookServer extends WebSocketServlet
 
   @Override
   public void onProgressUpdate(Paragraph p, int progress) {
-    getConnectionManager().broadcast(p.getNote().getId(),
-        new Message(OP.PROGRESS).put("id", p.getId()).put("progress", progress));
+    boolean scheduleBroadcast;
+    synchronized (pendingProgressUpdates) {
+      scheduleBroadcast = pendingProgressUpdates.isEmpty();
+      pendingProgressUpdates.computeIfAbsent(p.getNote().getId(), k -> new LinkedHashMap<>())
+          .put(p.getId(), progress);
+    }
+    if (scheduleBroadcast && !progressBroadcaster.isShutdown()) {
+      progressBroadcaster.schedule(this::broadcastProgressUpdates,
+          PROGRESS_BROADCAST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void broadcastProgressUpdates() {
+    Map<String, Map<String, Integer>> progressUpdates;
+    synchronized (pendingProgressUpdates) {
+      progressUpdates = new HashMap<>(pendingProgressUpdates);
+      pendingProgressUpdates.clear();
+    }
+    for (Map.Entry<String, Map<String, Integer>> noteEntry : progressUpdates.entrySet()) {
+      List<Message> messages = new ArrayList<>();
+      for (Map.Entry<String, Integer> entry : noteEntry.getValue().entrySet()) {
+        messages.add(new Message(OP.PROGRESS).put("id", entry.getKey())
+            .put("progress", entry.getValue()));
+      }
+      try {
+        getConnectionManager().broadcast(noteEntry.getKey(), messages);
+      } catch (Exception e) {
+        LOG.warn("Fail to broadcast progress of note: " + noteEntry.getKey(), e);
+      }
+    }
+  }
+
+  private void removePendingProgressUpdate(Paragraph p) {
+    synchronized (pendingProgressUpdates) {
+      Map<String, Integer> noteProgress = pendingProgressUpdates.get(p.getNote().getId());
+      if (noteProgress != null) {
+        noteProgress.remove(p.getId());
+      }
+    }
   }
 
   @Override
@@ -1895,6 +2191,8 @@ public class NotebookServer extends WebSocketServlet
     }
 
     if (p.isTerminated()) {
+      // don't broadcast the progress of a finished paragraph
+      removePendingProgressUpdate(p);
       if (p.getStatus() == Status.FINISHED) {
         LOG.info("Job {} is finished successfully, status: {}", p.getId(), p.getStatus());
       } else {
@@ -1917,6 +2215,7 @@ public class NotebookServer extends WebSocketServlet
     p.setStatusToUserParagraph(p.getStatus());
     broadcastParagraph(p.getNote(), p);
     try {
+      getJobManagerService().updateNoteJobInfo(p.getNote());
       broadcastUpdateNoteJobInfo(System.currentTimeMillis() - 5000);
     } catch (IOException e) {
       LOG.error("can not broadcast for job manager {}", e);
@@ -2124,11 +2423,19 @@ public class NotebookServer extends WebSocketServlet
   }
 
   private void broadcastNoteForms(Note note) {
+    broadcastNoteForms(note.getId(), getNoteForms(note));
+  }
+
+  private void broadcastNoteForms(String noteId, GUI formsSettings) {
+    getConnectionManager().broadcast(noteId,
+        new Message(OP.SAVE_NOTE_FORMS).put("formsData", formsSettings));
+  }
+
+  private static GUI getNoteForms(Note note) {
     GUI formsSettings = new GUI();
     formsSettings.setForms(note.getNoteForms());
     formsSettings.setParams(note.getNoteParams());
-    getConnectionManager().broadcast(note.getId(),
-        new Message(OP.SAVE_NOTE_FORMS).put("formsData", formsSettings));
+    return formsSettings;
   }
 
   private void saveNoteForms(NotebookSocket conn,
@@ -16,11 +16,17 @@
  */
 package org.apache.zeppelin.socket;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.notebook.socket.Message;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
 
 import java.io.IOException;
+import java.io.Writer;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -28,6 +34,8 @@ import javax.servlet.http.HttpServletRequest;
  * Notebook websocket.
  */
 public class NotebookSocket extends WebSocketAdapter {
+  private static final int PARTIAL_MESSAGE_SIZE = 64 * 1024;
+
   private Session connection;
   private NotebookSocketListener listener;
   private HttpServletRequest request;
@@ -70,6 +78,29 @@ public class NotebookSocket extends WebSocketAdapter {
     connection.getRemote().sendString(serializeMessage);
   }
 
+  /**
+   * Serialize the message directly into the websocket. Large messages (e.g. a note with big
+   * paragraph results) are sent as a sequence of partial frames, instead of being built as
+   * one string in memory first. If the serialization fails after some frames are sent, the
+   * message can't be completed, so the session is closed and the client reconnects.
+   */
+  public synchronized void send(Message message, Gson gson) throws IOException {
+    PartialMessageWriter writer = new PartialMessageWriter(connection.getRemote());
+    boolean serialized = false;
+    try {
+      gson.toJson(message, writer);
+      serialized = true;
+    } catch (JsonIOException e) {
+      throw new IOException("Fail to send message " + message.op, e);
+    } finally {
+      if (serialized) {
+        writer.close();
+      } else if (writer.isPartialSent()) {
+        connection.close(StatusCode.SERVER_ERROR, "Fail to send message " + message.op);
+      }
+    }
+  }
+
   public String getUser() {
     return user;
   }
@@ -82,4 +113,54 @@ public class NotebookSocket extends WebSocketAdapter {
   public String toString() {
     return request.getRemoteHost() + ":" + request.getRemotePort();
   }
+
+  /**
+   * Writer which sends every PARTIAL_MESSAGE_SIZE chars as one partial frame of a websocket
+   * text message, the last frame is sent when the writer is closed.
+   */
+  static class PartialMessageWriter extends Writer {
+    private final RemoteEndpoint remote;
+    private final char[] buffer = new char[PARTIAL_MESSAGE_SIZE];
+    private int count = 0;
+    private boolean partialSent = false;
+
+    PartialMessageWriter(RemoteEndpoint remote) {
+      this.remote = remote;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      while (len > 0) {
+        if (count == buffer.length) {
+          partialSent = true;
+          remote.sendPartialString(new String(buffer, 0, count), false);
+          count = 0;
+        }
+        int n = Math.min(len, buffer.length - count);
+        System.arraycopy(cbuf, off, buffer, count, n);
+        count += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    /**
+     * @return true if any frame of the message has been sent to the client
+     */
+    boolean isPartialSent() {
+      return partialSent;
+    }
+
+    @Override
+    public void flush() {
+      // a partial frame is only sent when the buffer is full, so that the message
+      // is not split into many tiny frames
+    }
+
+    @Override
+    public void close() throws IOException {
+      remote.sendPartialString(new String(buffer, 0, count), true);
+      count = 0;
+    }
+  }
 }
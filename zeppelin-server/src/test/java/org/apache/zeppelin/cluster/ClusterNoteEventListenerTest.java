@@ -75,6 +75,10 @@ public class ClusterNoteEventListenerTest implements ClusterEventListener {
         userParagraphMap = gson.fromJson(json, new TypeToken<Map<String, Paragraph>>() {
         }.getType());
         LOGGER.debug(userParagraphMap.toString());
+      } else if (key.equals("ParagraphDelta") || key.equals("NoteForms")
+          || key.equals("NoteId") || key.equals("ParagraphId") || key.equals("Sender")
+          || key.equals("Version") || key.equals("Index") || key.equals("PersonalizedMode")) {
+        LOGGER.debug("{} : {}", key, json);
       } else {
         receiveMsg = null;
         fail("Unknown clusterEvent : " + message.clusterEvent);
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JobManagerServiceTest {
+
+  private Notebook notebook;
+  private JobManagerService jobManagerService;
+  private ServiceContext context =
+      new ServiceContext(AuthenticationInfo.ANONYMOUS, new HashSet<>());
+
+  @Before
+  public void setUp() {
+    notebook = mock(Notebook.class);
+    ZeppelinConfiguration conf = mock(ZeppelinConfiguration.class);
+    when(conf.isJobManagerEnabled()).thenReturn(true);
+    jobManagerService = new JobManagerService(notebook, conf);
+  }
+
+  @Test
+  public void testQueryFromIndex() throws Exception {
+    Note note1 = createNote("note1", Job.Status.FINISHED, 1000);
+    Note note2 = createNote("note2", Job.Status.FINISHED, 2000);
+    when(notebook.getLoadedNotes()).thenReturn(Arrays.asList(note1, note2));
+
+    List<JobManagerService.NoteJobInfo> jobs = jobManagerService.getNoteJobInfoByUnixTime(0,
+        context, new SimpleServiceCallback<>());
+    assertEquals(2, jobs.size());
+
+    jobs = jobManagerService.getNoteJobInfoByUnixTime(1000, context,
+        new SimpleServiceCallback<>());
+    assertEquals(1, jobs.size());
+    // notes are never loaded from NotebookRepo by the query
+    verify(notebook, never()).getAllNotes();
+
+    // paragraph of note1 is finished again
+    Note updatedNote1 = createNote("note1", Job.Status.FINISHED, 3000);
+    jobManagerService.updateNoteJobInfo(updatedNote1);
+    jobs = jobManagerService.getNoteJobInfoByUnixTime(2000, context,
+        new SimpleServiceCallback<>());
+    assertEquals(1, jobs.size());
+    jobs = jobManagerService.getNoteJobInfoByUnixTime(0, context,
+        new SimpleServiceCallback<>());
+    assertEquals(2, jobs.size());
+
+    jobManagerService.removeNoteJobInfo("note1", context, new SimpleServiceCallback<>());
+    jobs = jobManagerService.getNoteJobInfoByUnixTime(0, context,
+        new SimpleServiceCallback<>());
+    assertEquals(1, jobs.size());
+  }
+
+  @Test
+  public void testNotesNotLoadedAreIndexed() throws Exception {
+    Note note1 = createNote("note1", Job.Status.FINISHED, 1000);
+    Note note2 = createNote("note2", Job.Status.FINISHED, 2000);
+    when(notebook.getLoadedNotes()).thenReturn(Arrays.asList(note1));
+    when(notebook.getNotesInfo()).thenReturn(Arrays.asList(
+        new NoteInfo("note1", "/note1"), new NoteInfo("note2", "/note2")));
+    when(notebook.readStoredNote("note2", "/note2")).thenReturn(note2);
+
+    List<JobManagerService.NoteJobInfo> jobs = jobManagerService.getNoteJobInfoByUnixTime(0,
+        context, new SimpleServiceCallback<>());
+    assertEquals(2, jobs.size());
+    // loaded note is not read again, and the notes are read only once
+    verify(notebook, never()).readStoredNote("note1", "/note1");
+    jobManagerService.getNoteJobInfoByUnixTime(0, context, new SimpleServiceCallback<>());
+    verify(notebook, times(1)).readStoredNote("note2", "/note2");
+    verify(notebook, never()).getAllNotes();
+  }
+
+  @Test
+  public void testRunningNoteIsAlwaysReturned() throws Exception {
+    when(notebook.getLoadedNotes()).thenReturn(Arrays.asList());
+    Note note = createNote("note1", Job.Status.RUNNING, 1000);
+    jobManagerService.updateNoteJobInfo(note);
+
+    List<JobManagerService.NoteJobInfo> jobs = jobManagerService.getNoteJobInfoByUnixTime(
+        System.currentTimeMillis() + 10000, context, new SimpleServiceCallback<>());
+    assertEquals(1, jobs.size());
+
+    jobManagerService.updateNoteJobInfo(createNote("note1", Job.Status.FINISHED, 1000));
+    jobs = jobManagerService.getNoteJobInfoByUnixTime(
+        System.currentTimeMillis() + 10000, context, new SimpleServiceCallback<>());
+    assertEquals(0, jobs.size());
+  }
+
+  @Test
+  public void testNoteMoved() throws Exception {
+    Note note = createNote("note1", Job.Status.FINISHED, 1000);
+    jobManagerService.updateNoteJobInfo(note);
+
+    when(note.getName()).thenReturn("renamed_note1");
+    JobManagerService.NoteJobInfo noteJobInfo = jobManagerService.updateNoteJobInfoName(note);
+    assertEquals("renamed_note1", noteJobInfo.getNoteName());
+    when(notebook.getLoadedNotes()).thenReturn(Arrays.asList());
+    List<JobManagerService.NoteJobInfo> jobs = jobManagerService.getNoteJobInfoByUnixTime(0,
+        context, new SimpleServiceCallback<>());
+    assertEquals(1, jobs.size());
+    assertEquals("renamed_note1", jobs.get(0).getNoteName());
+
+    // note which is not indexed
+    assertNull(jobManagerService.updateNoteJobInfoName(
+        createNote("note2", Job.Status.FINISHED, 1000)));
+  }
+
+  private Note createNote(String noteId, Job.Status status, long dateFinished) {
+    Paragraph p = mock(Paragraph.class);
+    when(p.getId()).thenReturn(noteId + "_paragraph");
+    when(p.getStatus()).thenReturn(status);
+    when(p.isRunning()).thenReturn(status.isRunning());
+    when(p.isTerminated()).thenReturn(status.isCompleted());
+    when(p.getDateFinished()).thenReturn(new Date(dateFinished));
+    when(p.getDateCreated()).thenReturn(new Date(0));
+
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(noteId);
+    when(note.getName()).thenReturn(noteId);
+    when(note.getConfig()).thenReturn(new HashMap<>());
+    when(note.getParagraphs()).thenReturn(Arrays.asList(p));
+    return note;
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterNoteDeltaTrackerTest {
+
+  private long now = 1000;
+
+  private static JsonObject json(String json) {
+    return new JsonParser().parse(json).getAsJsonObject();
+  }
+
+  @Test
+  public void testDiffAndApply() {
+    JsonObject from = json("{\"id\":\"p1\",\"text\":\"a\",\"title\":\"t\",\"results\":{\"code\":\"SUCCESS\"}}");
+    JsonObject to = json("{\"id\":\"p1\",\"text\":\"b\",\"results\":{\"code\":\"SUCCESS\"},\"status\":\"FINISHED\"}");
+    JsonObject delta = ClusterNoteDeltaTracker.diff(from, to);
+    assertEquals(json("{\"text\":\"b\",\"status\":\"FINISHED\",\"title\":null}"), delta);
+    // json null of removed field is kept in the message
+    assertEquals(delta, json(delta.toString()));
+
+    // delta is applied only on the paragraph it is based on
+    delta.addProperty(ClusterNoteDeltaTracker.BASE_HASH, ClusterNoteDeltaTracker.hash(from));
+    assertEquals(to, ClusterNoteDeltaTracker.apply(from, delta));
+    assertNull(ClusterNoteDeltaTracker.apply(to, delta));
+    assertEquals(json("{\"id\":\"p1\",\"text\":\"a\",\"title\":\"t\",\"results\":{\"code\":\"SUCCESS\"}}"),
+        from);
+  }
+
+  @Test
+  public void testReplicate() {
+    ClusterNoteDeltaTracker sender = new ClusterNoteDeltaTracker(() -> now);
+    ClusterNoteDeltaTracker receiver = new ClusterNoteDeltaTracker(() -> now);
+
+    Map<String, JsonObject> paragraphs = new HashMap<>();
+    paragraphs.put("p1", json("{\"id\":\"p1\",\"text\":\"a\"}"));
+    long version = sender.nextNoteVersion("note_1", paragraphs);
+    // the note of receiver doesn't have the paragraph yet
+    receiver.applyNote("server_1", "note_1", version, paragraphs, Collections.emptyMap());
+
+    JsonObject p1 = json("{\"id\":\"p1\",\"text\":\"b\"}");
+    JsonObject delta = sender.nextParagraphVersion("note_1", "p1", p1, false);
+    assertEquals(json("{\"text\":\"b\"}"), withoutBaseHash(delta));
+    assertEquals(p1, receiver.applyParagraph("server_1", "note_1",
+        sender.getNoteVersion("note_1"), "p1", delta, false, null));
+
+    // paragraph never sent before is sent as a whole
+    JsonObject p2 = json("{\"id\":\"p2\",\"text\":\"c\"}");
+    assertNull(sender.nextParagraphVersion("note_1", "p2", p2, false));
+    assertEquals(p2, receiver.applyParagraph("server_1", "note_1",
+        sender.getNoteVersion("note_1"), "p2", p2, true, null));
+    assertFalse(receiver.shouldRequestSync("server_1", "note_1"));
+  }
+
+  @Test
+  public void testLocalParagraphAsBase() {
+    ClusterNoteDeltaTracker sender = new ClusterNoteDeltaTracker(() -> now);
+    ClusterNoteDeltaTracker receiver = new ClusterNoteDeltaTracker(() -> now);
+
+    JsonObject p1 = json("{\"id\":\"p1\",\"text\":\"a\",\"title\":\"t\"}");
+    long version = sender.nextNoteVersion("note_1", Collections.singletonMap("p1", p1));
+    // title is changed on the receiver only
+    JsonObject local = json("{\"id\":\"p1\",\"text\":\"a\",\"title\":\"local\"}");
+    receiver.applyNote("server_1", "note_1", version, Collections.singletonMap("p1", p1),
+        Collections.singletonMap("p1", local));
+
+    JsonObject delta = sender.nextParagraphVersion("note_1", "p1",
+        json("{\"id\":\"p1\",\"text\":\"b\",\"title\":\"t\"}"), false);
+    assertEquals(json("{\"id\":\"p1\",\"text\":\"b\",\"title\":\"t\"}"),
+        receiver.applyParagraph("server_1", "note_1", sender.getNoteVersion("note_1"), "p1",
+            delta, false, local));
+    assertFalse(receiver.shouldRequestSync("server_1", "note_1"));
+  }
+
+  @Test
+  public void testResultsDelta() {
+    ClusterNoteDeltaTracker sender = new ClusterNoteDeltaTracker(() -> now);
+    ClusterNoteDeltaTracker receiver = new ClusterNoteDeltaTracker(() -> now);
+
+    JsonObject p1 = json("{\"id\":\"p1\",\"results\":{\"code\":\"SUCCESS\",\"msg\":["
+        + "{\"type\":\"TEXT\",\"data\":\"1\"},{\"type\":\"TEXT\",\"data\":\"2\"}]}}");
+    long version = sender.nextNoteVersion("note_1", Collections.singletonMap("p1", p1));
+    receiver.applyNote("server_1", "note_1", version, Collections.singletonMap("p1", p1),
+        Collections.singletonMap("p1", p1));
+
+    // 2nd message is changed and 3rd message is appended
+    JsonObject updated = json("{\"id\":\"p1\",\"results\":{\"code\":\"SUCCESS\",\"msg\":["
+        + "{\"type\":\"TEXT\",\"data\":\"1\"},{\"type\":\"TEXT\",\"data\":\"2+\"},"
+        + "{\"type\":\"TABLE\",\"data\":\"3\"}]}}");
+    JsonObject delta = sender.nextParagraphVersion("note_1", "p1", updated, false);
+    assertEquals(json("{\"" + ClusterNoteDeltaTracker.RESULTS_DELTA + "\":{\"size\":3,\"msg\":{"
+        + "\"1\":{\"type\":\"TEXT\",\"data\":\"2+\"},\"2\":{\"type\":\"TABLE\",\"data\":\"3\"}}}}"),
+        withoutBaseHash(delta));
+    assertEquals(updated, receiver.applyParagraph("server_1", "note_1",
+        sender.getNoteVersion("note_1"), "p1", delta, false, p1));
+
+    // messages are removed and code is changed
+    JsonObject failed = json("{\"id\":\"p1\",\"results\":{\"code\":\"ERROR\",\"msg\":["
+        + "{\"type\":\"TEXT\",\"data\":\"1\"}]}}");
+    delta = sender.nextParagraphVersion("note_1", "p1", failed, false);
+    assertEquals(json("{\"" + ClusterNoteDeltaTracker.RESULTS_DELTA
+        + "\":{\"code\":\"ERROR\",\"size\":1,\"msg\":{}}}"), withoutBaseHash(delta));
+    assertEquals(failed, receiver.applyParagraph("server_1", "note_1",
+        sender.getNoteVersion("note_1"), "p1", delta, false, p1));
+    assertFalse(receiver.shouldRequestSync("server_1", "note_1"));
+  }
+
+  @Test
+  public void testBaseMismatch() {
+    ClusterNoteDeltaTracker sender = new ClusterNoteDeltaTracker(() -> now);
+    ClusterNoteDeltaTracker receiver = new ClusterNoteDeltaTracker(() -> now);
+
+    JsonObject p1 = json("{\"id\":\"p1\",\"text\":\"a\"}");
+    long version = sender.nextNoteVersion("note_1", Collections.singletonMap("p1", p1));
+    // nobody watched the note on receiver when the note is received
+    receiver.skip("server_1", "note_1", version);
+    assertFalse(receiver.shouldRequestSync("server_1", "note_1"));
+
+    JsonObject delta = sender.nextParagraphVersion("note_1", "p1",
+        json("{\"id\":\"p1\",\"text\":\"b\"}"), false);
+    assertNull(receiver.applyParagraph("server_1", "note_1", sender.getNoteVersion("note_1"),
+        "p1", delta, false, json("{\"id\":\"p1\",\"text\":\"old\"}")));
+    assertTrue(receiver.shouldRequestSync("server_1", "note_1"));
+  }
+
+  @Test
+  public void testVersionGap() {
+    ClusterNoteDeltaTracker sender = new ClusterNoteDeltaTracker(() -> now);
+    ClusterNoteDeltaTracker receiver = new ClusterNoteDeltaTracker(() -> now);
+    JsonObject p1 = json("{\"id\":\"p1\",\"text\":\"a\"}");
+    receiver.applyNote("server_1", "note_1",
+        sender.nextNoteVersion("note_1", Collections.singletonMap("p1", p1)),
+        Collections.singletonMap("p1", p1), Collections.emptyMap());
+
+    // version 2 is lost
+    sender.nextParagraphVersion("note_1", "p1", json("{\"id\":\"p1\",\"text\":\"b\"}"), false);
+    JsonObject delta = sender.nextParagraphVersion("note_1", "p1",
+        json("{\"id\":\"p1\",\"text\":\"c\"}"), false);
+    assertNull(receiver.applyParagraph("server_1", "note_1", 3, "p1", delta, false, null));
+    assertTrue(receiver.shouldRequestSync("server_1", "note_1"));
+    // don't request again before the retry interval
+    delta = sender.nextParagraphVersion("note_1", "p1",
+        json("{\"id\":\"p1\",\"text\":\"d\"}"), false);
+    assertNull(receiver.applyParagraph("server_1", "note_1", 4, "p1", delta, false, null));
+    assertFalse(receiver.shouldRequestSync("server_1", "note_1"));
+    now += 10 * 1000;
+    assertTrue(receiver.shouldRequestSync("server_1", "note_1"));
+
+    // the whole note is received
+    JsonObject synced = json("{\"id\":\"p1\",\"text\":\"d\"}");
+    receiver.applyNote("server_1", "note_1",
+        sender.nextNoteVersion("note_1", Collections.singletonMap("p1", synced)),
+        Collections.singletonMap("p1", synced), Collections.emptyMap());
+    assertFalse(receiver.shouldRequestSync("server_1", "note_1"));
+    delta = sender.nextParagraphVersion("note_1", "p1",
+        json("{\"id\":\"p1\",\"text\":\"f\"}"), false);
+    assertEquals(json("{\"id\":\"p1\",\"text\":\"f\"}"), receiver.applyParagraph(
+        "server_1", "note_1", sender.getNoteVersion("note_1"), "p1", delta, false, null));
+  }
+
+  @Test
+  public void testUnknownSender() {
+    ClusterNoteDeltaTracker receiver = new ClusterNoteDeltaTracker(() -> now);
+    // e.g. this server is restarted
+    JsonObject delta = json("{\"text\":\"a\"}");
+    delta.addProperty(ClusterNoteDeltaTracker.BASE_HASH, 1);
+    assertNull(receiver.applyParagraph("server_1", "note_1", 10, "p1", delta, false, null));
+    assertTrue(receiver.shouldRequestSync("server_1", "note_1"));
+    assertFalse(receiver.shouldRequestSync("server_2", "note_1"));
+  }
+
+  private static JsonObject withoutBaseHash(JsonObject delta) {
+    JsonObject copy = json(delta.toString());
+    copy.remove(ClusterNoteDeltaTracker.BASE_HASH);
+    return copy;
+  }
+}
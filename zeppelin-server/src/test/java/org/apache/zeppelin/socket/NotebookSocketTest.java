@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.apache.zeppelin.notebook.socket.Message;
+import org.apache.zeppelin.notebook.socket.Message.OP;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NotebookSocketTest {
+
+  private RemoteEndpoint remote;
+  private Session session;
+  private NotebookSocket socket;
+
+  @Before
+  public void setUp() {
+    remote = mock(RemoteEndpoint.class);
+    session = mock(Session.class);
+    when(session.getRemote()).thenReturn(remote);
+    socket = new NotebookSocket(mock(HttpServletRequest.class), "",
+        mock(NotebookSocketListener.class));
+    socket.onWebSocketConnect(session);
+  }
+
+  @Test
+  public void testSendLargeMessageInPartialFrames() throws IOException {
+    StringBuilder data = new StringBuilder();
+    for (int i = 0; i < 200 * 1024; i++) {
+      data.append((char) ('a' + i % 26));
+    }
+    Message message = new Message(OP.NOTE).put("data", data.toString());
+    socket.send(message, new Gson());
+
+    ArgumentCaptor<String> fragments = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<Boolean> isLast = ArgumentCaptor.forClass(Boolean.class);
+    verify(remote, times(4)).sendPartialString(fragments.capture(), isLast.capture());
+    verify(remote, never()).sendString(anyString());
+
+    StringBuilder received = new StringBuilder();
+    List<Boolean> lastFlags = isLast.getAllValues();
+    for (int i = 0; i < lastFlags.size(); i++) {
+      assertEquals(i == lastFlags.size() - 1, lastFlags.get(i));
+      assertTrue(fragments.getAllValues().get(i).length() <= 64 * 1024);
+      received.append(fragments.getAllValues().get(i));
+    }
+    assertEquals(message.toJson(), received.toString());
+  }
+
+  @Test
+  public void testSendSmallMessageInOneFrame() throws IOException {
+    Message message = new Message(OP.NOTE).put("note", null);
+    socket.send(message, new Gson());
+    verify(remote, times(1)).sendPartialString(message.toJson(), true);
+  }
+
+  @Test
+  public void testCloseSessionWhenSerializationFailsAfterPartialFrames() throws IOException {
+    Message message = new Message(OP.NOTE).put("data", new FailingValue(200 * 1024));
+    try {
+      socket.send(message, failingGson());
+      fail("Should fail to serialize the message");
+    } catch (ConcurrentModificationException e) {
+      // expected
+    }
+    verify(remote, atLeastOnce()).sendPartialString(anyString(), eq(false));
+    verify(remote, never()).sendPartialString(anyString(), eq(true));
+    verify(session).close(eq(StatusCode.SERVER_ERROR), anyString());
+  }
+
+  @Test
+  public void testKeepSessionWhenSerializationFailsBeforeAnyFrame() throws IOException {
+    Message message = new Message(OP.NOTE).put("data", new FailingValue(10));
+    try {
+      socket.send(message, failingGson());
+      fail("Should fail to serialize the message");
+    } catch (ConcurrentModificationException e) {
+      // expected
+    }
+    verify(remote, never()).sendPartialString(anyString(), anyBoolean());
+    verify(session, never()).close(anyInt(), anyString());
+
+    // session is still usable for the next message
+    Message nextMessage = new Message(OP.NOTE).put("note", null);
+    socket.send(nextMessage, new Gson());
+    verify(remote, times(1)).sendPartialString(nextMessage.toJson(), true);
+  }
+
+  private Gson failingGson() {
+    return new GsonBuilder().registerTypeAdapter(FailingValue.class,
+        new TypeAdapter<FailingValue>() {
+          @Override
+          public void write(JsonWriter out, FailingValue value) throws IOException {
+            StringBuilder data = new StringBuilder();
+            for (int i = 0; i < value.size; i++) {
+              data.append('a');
+            }
+            out.value(data.toString());
+            // e.g. the note is modified while it is serialized
+            throw new ConcurrentModificationException();
+          }
+
+          @Override
+          public FailingValue read(JsonReader in) {
+            throw new UnsupportedOperationException();
+          }
+        }).create();
+  }
+
+  private static class FailingValue {
+    private final int size;
+
+    FailingValue(int size) {
+      this.size = size;
+    }
+  }
+}
@@ -95,6 +95,8 @@ export enum DatasetType {
 export class ParagraphIResultsMsgItem {
   type: DatasetType = DatasetType.TEXT;
   data = '';
+  // set instead of data when the result is stored separately from note
+  blobId?: string;
 }
 
 export interface ParasInfo {
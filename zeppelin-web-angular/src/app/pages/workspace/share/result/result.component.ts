@@ -50,7 +50,7 @@ import { ZeppelinHeliumService } from '@zeppelin/helium';
 import { TableData, Visualization } from '@zeppelin/visualization';
 
 import { HeliumManagerService } from '@zeppelin/helium-manager';
-import { DynamicTemplate, NgZService, RuntimeCompilerService } from '@zeppelin/services';
+import { DynamicTemplate, NgZService, ParagraphResultService, RuntimeCompilerService } from '@zeppelin/services';
 import { AreaChartVisualization } from '@zeppelin/visualizations/area-chart/area-chart-visualization';
 import { BarChartVisualization } from '@zeppelin/visualizations/bar-chart/bar-chart-visualization';
 import { LineChartVisualization } from '@zeppelin/visualizations/line-chart/line-chart-visualization';
@@ -68,6 +68,8 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
   @Input() result: ParagraphIResultsMsgItem;
   @Input() config: ParagraphConfigResult;
   @Input() id: string;
+  @Input() noteId: string;
+  @Input() index: number;
   @Input() published = false;
   @Input() currentCol = 12;
   @Output() readonly configChange = new EventEmitter<ParagraphConfigResult>();
@@ -142,7 +144,8 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
     private injector: Injector,
     private ngZService: NgZService,
     private zeppelinHeliumService: ZeppelinHeliumService,
-    private heliumManagerService: HeliumManagerService
+    private heliumManagerService: HeliumManagerService,
+    private paragraphResultService: ParagraphResultService
   ) {
     this.heliumManagerService
       .packagesLoadChange()
@@ -206,6 +209,10 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
   }
 
   renderDefaultDisplay() {
+    if (this.result.blobId && this.result.data === undefined) {
+      this.loadResultData();
+      return;
+    }
     this.frontEndError = '';
     switch (this.result.type) {
       case DatasetType.TABLE:
@@ -361,6 +368,23 @@ export class NotebookParagraphResultComponent implements OnInit, AfterViewInit,
     this.sizeChange.emit({ width, height, col });
   }
 
+  /**
+   * Large result is sent without its data, which is loaded only when the result is displayed.
+   */
+  loadResultData() {
+    const result = this.result;
+    this.paragraphResultService
+      .getResultData(this.noteId, this.id, this.index)
+      .pipe(takeUntil(this.destroy$))
+      .subscribe(data => {
+        result.data = data;
+        if (this.result === result) {
+          this.renderDefaultDisplay();
+          this.cdr.markForCheck();
+        }
+      });
+  }
+
   ngAfterViewInit(): void {
     this.renderDefaultDisplay();
   }
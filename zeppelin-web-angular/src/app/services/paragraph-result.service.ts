@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import { HttpClient } from '@angular/common/http';
+import { Injectable } from '@angular/core';
+import { Observable } from 'rxjs';
+import { map } from 'rxjs/operators';
+
+import { ParagraphItem } from '@zeppelin/sdk';
+
+import { BaseRest } from './base-rest';
+import { BaseUrlService } from './base-url.service';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class ParagraphResultService extends BaseRest {
+  constructor(baseUrlService: BaseUrlService, private http: HttpClient) {
+    super(baseUrlService);
+  }
+
+  /**
+   * The data of large result can be stored separately from note (see
+   * zeppelin.notebook.result.blob.threshold), the REST API returns the paragraph with it.
+   */
+  getResultData(noteId: string, paragraphId: string, index: number): Observable<string> {
+    return this.http
+      .get<ParagraphItem>(this.restUrl`/notebook/${noteId}/paragraph/${paragraphId}`)
+      .pipe(map(paragraph => paragraph.results.msg[index].data));
+  }
+}
@@ -30,3 +30,4 @@ export * from './shortcut.service';
 export * from './configuration.service';
 export * from './credential.service';
 export * from './notebook-repos.service';
+export * from './paragraph-result.service';
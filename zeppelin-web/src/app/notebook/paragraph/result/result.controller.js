@@ -148,6 +148,9 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
   // available columns in tabledata
   $scope.tableDataColumns = [];
 
+  // current page of a paged table result, null if the result is not paged
+  $scope.resultPage = null;
+
   // enable helium
   let enableHelium = false;
 
@@ -197,8 +200,95 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
       });
     });
 
-    updateData(result, config, paragraph, index);
-    renderResult($scope.type);
+    withResultData(result, paragraph, index, function() {
+      updateData(result, config, paragraph, index);
+      initResultPage(result);
+      renderResult($scope.type);
+    });
+  };
+
+  /**
+   * The data of large result can be stored separately from note (see
+   * zeppelin.notebook.result.blob.threshold), it is loaded only when the result is displayed.
+   */
+  function withResultData(result, paragraphRef, index, callback) {
+    if (!result.blobId || result.data !== undefined) {
+      callback();
+      return;
+    }
+    const noteId = $route.current.pathParams.noteId;
+    $http.get(baseUrlSrv.getRestApiBase() + '/notebook/' + noteId + '/paragraph/' +
+      paragraphRef.id + '/result/' + index, {transformResponse: (data) => data})
+      .success(function(data) {
+        result.data = data;
+        callback();
+      })
+      .error(function(err, status) {
+        console.log('Error %o %o', status, err);
+      });
+  }
+
+  /**
+   * Only the first page of a paged table result is stored in paragraph (see
+   * zeppelin.jdbc.pagedResult), the other pages are loaded from interpreter on demand.
+   */
+  function initResultPage(result) {
+    if (!result.pagedRowCount || $scope.type !== DefaultDisplayType.TABLE) {
+      $scope.resultPage = null;
+      return;
+    }
+    $scope.resultPage = {
+      result: result,
+      offset: 0,
+      // number of rows of the current page
+      count: tableData.rows.length,
+      size: Math.max(1, tableData.rows.length),
+      total: result.pagedRowCount,
+    };
+  }
+
+  $scope.loadResultPage = function(offset) {
+    const page = $scope.resultPage;
+    if (!page || offset < 0 || offset >= page.total) {
+      return;
+    }
+    if (offset === 0) {
+      updateData(page.result, $scope.config, paragraph, resultIndex);
+      page.offset = 0;
+      page.count = tableData.rows.length;
+      renderResult($scope.type, true);
+      return;
+    }
+    const noteId = $route.current.pathParams.noteId;
+    $http.get(baseUrlSrv.getRestApiBase() + '/notebook/' + noteId + '/paragraph/' +
+      paragraph.id + '/result/' + resultIndex + '/page?offset=' + offset + '&limit=' + page.size)
+      .success(function(response) {
+        const tablePage = response.body;
+        const lines = [tablePage.columns.join('\t')];
+        tablePage.rows.forEach((row) => lines.push(row.join('\t')));
+        updateData(angular.extend({}, page.result, {data: lines.join('\n') + '\n'}),
+          $scope.config, paragraph, resultIndex);
+        page.offset = tablePage.offset;
+        page.count = tablePage.rows.length;
+        page.total = tablePage.total;
+        renderResult($scope.type, true);
+      })
+      .error(function(err, status) {
+        console.log('Error %o %o', status, err);
+        ngToast.danger({
+          content: err && err.message ? err.message : 'Failed to load the result page',
+          verticalPosition: 'bottom',
+          timeout: '3000',
+        });
+      });
+  };
+
+  $scope.loadPreviousResultPage = function() {
+    $scope.loadResultPage(Math.max(0, $scope.resultPage.offset - $scope.resultPage.size));
+  };
+
+  $scope.loadNextResultPage = function() {
+    $scope.loadResultPage($scope.resultPage.offset + $scope.resultPage.size);
   };
 
   function isDOMLoaded(targetElemId) {
@@ -248,12 +338,15 @@ function ResultCtrl($scope, $rootScope, $route, $window, $routeParams, $location
       return;
     }
 
-    let refresh = !angular.equals(newConfig, $scope.config) ||
-      !angular.equals(result.type, $scope.type) ||
-      !angular.equals(result.data, data);
+    withResultData(result, paragraphRef, index, function() {
+      let refresh = !angular.equals(newConfig, $scope.config) ||
+        !angular.equals(result.type, $scope.type) ||
+        !angular.equals(result.data, data);
 
-    updateData(result, newConfig, paragraph, resultIndex);
-    renderResult($scope.type, refresh);
+      updateData(result, newConfig, paragraph, resultIndex);
+      initResultPage(result);
+      renderResult($scope.type, refresh);
+    });
   });
 
   $scope.$on('appendParagraphOutput', function(event, data) {
@@ -73,7 +73,11 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_INTERVAL;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_SIZE;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_CHUNK_SIZE;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_COMPRESS;
 import static org.apache.zeppelin.util.IdHashes.generateId;
 
 /**
@@ -670,6 +674,26 @@ public class InterpreterSetting {
           conf.getInt(ZEPPELIN_INTERPRETER_OUTPUT_LIMIT) + "");
     }
 
+    if (!jProperties.containsKey("zeppelin.interpreter.output.flush.interval")) {
+      jProperties.setProperty("zeppelin.interpreter.output.flush.interval",
+          conf.getInt(ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_INTERVAL) + "");
+    }
+
+    if (!jProperties.containsKey("zeppelin.interpreter.output.flush.size")) {
+      jProperties.setProperty("zeppelin.interpreter.output.flush.size",
+          conf.getInt(ZEPPELIN_INTERPRETER_OUTPUT_FLUSH_SIZE) + "");
+    }
+
+    if (!jProperties.containsKey("zeppelin.interpreter.resource.transfer.chunk.size")) {
+      jProperties.setProperty("zeppelin.interpreter.resource.transfer.chunk.size",
+          conf.getInt(ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_CHUNK_SIZE) + "");
+    }
+
+    if (!jProperties.containsKey("zeppelin.interpreter.resource.transfer.compress")) {
+      jProperties.setProperty("zeppelin.interpreter.resource.transfer.compress",
+          conf.getBoolean(ZEPPELIN_INTERPRETER_RESOURCE_TRANSFER_COMPRESS) + "");
+    }
+
     if (!jProperties.containsKey("zeppelin.interpreter.max.poolsize")) {
       jProperties.setProperty("zeppelin.interpreter.max.poolsize",
           conf.getInt(ZEPPELIN_INTERPRETER_MAX_POOL_SIZE) + "");
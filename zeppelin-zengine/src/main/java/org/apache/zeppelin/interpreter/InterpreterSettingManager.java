@@ -61,6 +61,8 @@ import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.tabledata.SpooledTableData;
+import org.apache.zeppelin.tabledata.TablePage;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.util.ReflectionUtils;
 import org.apache.zeppelin.storage.ConfigStorage;
@@ -498,6 +500,41 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return null;
   }
 
+  /**
+   * Get the number of rows of a paged table result which is spooled in interpreter process.
+   *
+   * @param tableIndex index of the table among the table results of the paragraph
+   * @return null if the paged table result is not available, e.g. interpreter is restarted
+   */
+  public Integer getPagedTableResultSize(String noteId, String paragraphId, int tableIndex) {
+    return (Integer) invokePagedTableResultMethod(noteId, paragraphId, tableIndex, "size",
+        null, null);
+  }
+
+  /**
+   * Read a page of a paged table result which is spooled in interpreter process.
+   *
+   * @return null if the paged table result is not available, e.g. interpreter is restarted
+   */
+  public TablePage readPagedTableResult(String noteId, String paragraphId, int tableIndex,
+                                        int offset, int limit) {
+    return (TablePage) invokePagedTableResultMethod(noteId, paragraphId, tableIndex, "page",
+        new Class[]{int.class, int.class}, new Object[]{offset, limit});
+  }
+
+  private Object invokePagedTableResultMethod(String noteId, String paragraphId,
+                                              int tableIndex, String methodName,
+                                              Class[] paramTypes, Object[] params) {
+    try {
+      return interpreterEventServer.invokeParagraphResourceMethod(noteId, paragraphId,
+          SpooledTableData.getResourceName(tableIndex), methodName, paramTypes, params);
+    } catch (Exception e) {
+      LOGGER.warn("Fail to read paged table result {} of paragraph {}", tableIndex,
+          paragraphId, e);
+      return null;
+    }
+  }
+
   /**
    * Get editor setting for one paragraph based on its paragraph text and noteId
    *
@@ -28,7 +28,10 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +43,9 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
 
   private InterpreterSetting interpreterSetting;
   private RemoteInterpreterProcess remoteInterpreterProcess; // attached remote interpreter process
+  // jobId -> listener of the job status pushed by the remote interpreter process
+  private Map<String, BiConsumer<Job.Status, Boolean>> remoteJobStatusListeners =
+      new ConcurrentHashMap<>();
 
   /**
    * Create InterpreterGroup with given id and interpreterSetting, used in ZeppelinServer
@@ -78,6 +84,29 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
     return remoteInterpreterProcess;
   }
 
+  public void addRemoteJobStatusListener(String jobId,
+                                         BiConsumer<Job.Status, Boolean> listener) {
+    remoteJobStatusListeners.put(jobId, listener);
+  }
+
+  public void removeRemoteJobStatusListener(String jobId,
+                                            BiConsumer<Job.Status, Boolean> listener) {
+    remoteJobStatusListeners.remove(jobId, listener);
+  }
+
+  /**
+   * Called when the remote interpreter process pushes the status change of one job.
+   * @param jobId
+   * @param status
+   * @param schedulerFull whether the remote scheduler can't start another job right now
+   */
+  public void onRemoteJobStatusChange(String jobId, Job.Status status, boolean schedulerFull) {
+    BiConsumer<Job.Status, Boolean> listener = remoteJobStatusListeners.get(jobId);
+    if (listener != null) {
+      listener.accept(status, schedulerFull);
+    }
+  }
+
 
   /**
    * Close all interpreter instances in this group
@@ -31,10 +31,12 @@ import org.apache.zeppelin.interpreter.remote.RemoteAngularObject;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.remote.ResourceTransferRequest;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.ParagraphInfo;
+import org.apache.zeppelin.interpreter.thrift.ParagraphStatusUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
 import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateAllEvent;
@@ -44,16 +46,19 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
 import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.interpreter.thrift.ServiceException;
+import org.apache.zeppelin.resource.ChunkedResourceSender;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -79,6 +84,9 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
   private final Gson gson = new Gson();
+  private final ResourceIndex resourceIndex = new ResourceIndex();
+  // serves the chunks of resources in the resource pools of this process
+  private final ChunkedResourceSender localResourceSender = new ChunkedResourceSender();
 
   public RemoteInterpreterEventServer(ZeppelinConfiguration zConf,
                                       InterpreterSettingManager interpreterSettingManager) {
@@ -167,6 +175,8 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
           registerInfo.getInterpreterGroupId());
     }
 
+    // resources of the previous interpreter process of this interpreter group are gone
+    resourceIndex.removeResourcePool(registerInfo.getInterpreterGroupId());
     interpreterProcess.processStarted(registerInfo.port, registerInfo.host);
   }
 
@@ -219,6 +229,18 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     appListener.onStatusChange(event.noteId, event.paragraphId, event.appId, event.status);
   }
 
+  @Override
+  public void updateParagraphStatus(ParagraphStatusUpdateEvent event) throws TException {
+    InterpreterGroup interpreterGroup =
+        interpreterSettingManager.getInterpreterGroupById(event.getIntpGroupId());
+    if (interpreterGroup == null) {
+      LOGGER.warn("No such interpreterGroup: " + event.getIntpGroupId());
+      return;
+    }
+    ((ManagedInterpreterGroup) interpreterGroup).onRemoteJobStatusChange(
+        event.getParagraphId(), Job.Status.valueOf(event.getStatus()), event.isSchedulerFull());
+  }
+
   @Override
   public void checkpointOutput(String noteId, String paragraphId) throws TException {
     listener.checkpointOutput(noteId, paragraphId);
@@ -315,6 +337,63 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return resourceList;
   }
 
+  @Override
+  public void addResource(String intpGroupId, String json) throws TException {
+    Resource resource = RemoteResource.fromJson(json);
+    resourceIndex.put(resource.getResourceId(), json);
+  }
+
+  @Override
+  public void removeResource(String intpGroupId, String json) throws TException {
+    resourceIndex.remove(ResourceId.fromJson(json));
+  }
+
+  /**
+   * Find resources via the resource index.
+   *
+   * @param resourceIdJson json of ResourceId, resourcePoolId is the caller interpreter group
+   *                       whose resources are excluded, null noteId/paragraphId matches any.
+   * @return
+   * @throws TException
+   */
+  @Override
+  public List<String> findResources(String resourceIdJson) throws TException {
+    ResourceId query = ResourceId.fromJson(resourceIdJson);
+    List<String> resourceList = new LinkedList<>();
+    for (Map.Entry<ResourceId, String> entry : resourceIndex.find(query.getResourcePoolId(),
+        query.getNoteId(), query.getParagraphId(), query.getName())) {
+      String resourcePoolId = entry.getKey().getResourcePoolId();
+      ManagedInterpreterGroup intpGroup =
+          interpreterSettingManager.getInterpreterGroupById(resourcePoolId);
+      if (intpGroup == null || intpGroup.getRemoteInterpreterProcess() == null ||
+          !intpGroup.getRemoteInterpreterProcess().isRunning()) {
+        // interpreter process is gone, so are its resources
+        resourceIndex.removeResourcePool(resourcePoolId);
+        continue;
+      }
+      resourceList.add(entry.getValue());
+    }
+
+    // resource pools of interpreter groups without interpreter process are not indexed
+    for (ManagedInterpreterGroup intpGroup : interpreterSettingManager.getAllInterpreterGroup()) {
+      if (intpGroup.getId().equals(query.getResourcePoolId()) ||
+          intpGroup.getRemoteInterpreterProcess() != null ||
+          intpGroup.getResourcePool() == null) {
+        continue;
+      }
+      ResourceSet resources = intpGroup.getResourcePool().getAll().filterByName(query.getName());
+      for (Resource r : resources) {
+        ResourceId id = r.getResourceId();
+        if ((query.getNoteId() == null || query.getNoteId().equals(id.getNoteId())) &&
+            (query.getParagraphId() == null ||
+                query.getParagraphId().equals(id.getParagraphId()))) {
+          resourceList.add(r.toJson());
+        }
+      }
+    }
+    return resourceList;
+  }
+
   @Override
   public ByteBuffer getResource(String resourceIdJson) throws TException {
     ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
@@ -332,6 +411,55 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return obj;
   }
 
+  /**
+   * Relay the chunk request to the interpreter process which owns the resource, chunks are
+   * passed through without being deserialized here.
+   *
+   * @param intpGroupId caller interpreter group id
+   * @param transferRequestJson transfer information
+   * @return next chunk, empty chunk means the end of the transfer
+   * @throws TException
+   */
+  @Override
+  public ByteBuffer getResourceChunk(String intpGroupId, String transferRequestJson)
+      throws TException {
+    ResourceTransferRequest request = ResourceTransferRequest.fromJson(transferRequestJson);
+    ResourceId resourceId = request.resourceId;
+    ManagedInterpreterGroup intpGroup =
+        interpreterSettingManager.getInterpreterGroupById(resourceId.getResourcePoolId());
+    if (intpGroup == null) {
+      return ByteBuffer.allocate(0);
+    }
+
+    RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+    if (remoteInterpreterProcess == null) {
+      ResourcePool localPool = intpGroup.getResourcePool();
+      if (localPool == null) {
+        return ByteBuffer.allocate(0);
+      }
+      return localResourceSender.readChunk(request.transferId, request.chunkSize,
+          request.compress, () -> {
+            Resource resource = localPool.get(resourceId.getNoteId(),
+                resourceId.getParagraphId(), resourceId.getName());
+            return resource == null ? null : resource.get();
+          });
+    } else if (remoteInterpreterProcess.isRunning()) {
+      return remoteInterpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<ByteBuffer>() {
+            @Override
+            public ByteBuffer call(RemoteInterpreterService.Client client) throws Exception {
+              return client.resourceGetChunk(
+                  resourceId.getNoteId(),
+                  resourceId.getParagraphId(),
+                  resourceId.getName(),
+                  transferRequestJson);
+            }
+          }
+      );
+    }
+    return ByteBuffer.allocate(0);
+  }
+
   /**
    *
    * @param intpGroupId caller interpreter group id
@@ -357,6 +485,28 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return obj;
   }
 
+  /**
+   * Invoke a method of the resource which the paragraph put into the resource pool of any
+   * interpreter process.
+   *
+   * @return return value of the method, null if the resource is not found
+   */
+  public Object invokeParagraphResourceMethod(String noteId, String paragraphId, String name,
+                                              String methodName, Class[] paramTypes,
+                                              Object[] params) throws TException {
+    Map<String, String> query = new HashMap<>();
+    query.put("noteId", noteId);
+    query.put("paragraphId", paragraphId);
+    query.put("name", name);
+    List<String> resources = findResources(gson.toJson(query));
+    if (resources.isEmpty()) {
+      return null;
+    }
+    ResourceId resourceId = RemoteResource.fromJson(resources.get(0)).getResourceId();
+    return invokeResourceMethod(null, new InvokeResourceMethodEventMessage(
+        resourceId, methodName, paramTypes, params, null));
+  }
+
   @Override
   public List<ParagraphInfo> getParagraphList(String user, String noteId)
       throws TException, ServiceException {
@@ -396,7 +546,7 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
             return res.invokeMethod(
                 message.methodName,
                 message.getParamTypes(),
-                message.params,
+                message.getParams(),
                 message.returnResourceName);
           } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
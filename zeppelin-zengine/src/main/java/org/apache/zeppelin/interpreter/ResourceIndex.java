@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.resource.ResourceId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the resources in the resource pools of interpreter processes, which is kept up to
+ * date by the resource events sent from interpreter processes. So that looking up a resource
+ * by (noteId, paragraphId, name) doesn't need to fetch all the resources of all the
+ * interpreter processes.
+ */
+public class ResourceIndex {
+
+  // resource name -> (resourceId -> json of the resource)
+  private final Map<String, Map<ResourceId, String>> resources = new ConcurrentHashMap<>();
+
+  public void put(ResourceId resourceId, String resourceJson) {
+    resources.computeIfAbsent(resourceId.getName(), k -> new ConcurrentHashMap<>())
+        .put(resourceId, resourceJson);
+  }
+
+  public void remove(ResourceId resourceId) {
+    resources.computeIfPresent(resourceId.getName(), (k, v) -> {
+      v.remove(resourceId);
+      return v.isEmpty() ? null : v;
+    });
+  }
+
+  /**
+   * Remove all the resources of this resource pool (interpreter group).
+   */
+  public void removeResourcePool(String resourcePoolId) {
+    for (String name : resources.keySet()) {
+      resources.computeIfPresent(name, (k, v) -> {
+        v.keySet().removeIf(id -> Objects.equals(id.getResourcePoolId(), resourcePoolId));
+        return v.isEmpty() ? null : v;
+      });
+    }
+  }
+
+  /**
+   * Find resources by name, null noteId/paragraphId matches any noteId/paragraphId.
+   *
+   * @param excludedResourcePoolId resources of this resource pool are not returned
+   * @return list of resourceId and json of matched resources
+   */
+  public List<Map.Entry<ResourceId, String>> find(String excludedResourcePoolId,
+                                                  String noteId,
+                                                  String paragraphId,
+                                                  String name) {
+    List<Map.Entry<ResourceId, String>> result = new ArrayList<>();
+    Map<ResourceId, String> resourcesOfName = resources.get(name);
+    if (resourcesOfName == null) {
+      return result;
+    }
+    for (Map.Entry<ResourceId, String> entry : resourcesOfName.entrySet()) {
+      ResourceId id = entry.getKey();
+      if (Objects.equals(id.getResourcePoolId(), excludedResourcePoolId)) {
+        continue;
+      }
+      if ((noteId == null || noteId.equals(id.getNoteId())) &&
+          (paragraphId == null || paragraphId.equals(id.getParagraphId()))) {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  public int size() {
+    int size = 0;
+    for (Map<ResourceId, String> resourcesOfName : resources.values()) {
+      size += resourcesOfName.size();
+    }
+    return size;
+  }
+}
@@ -23,6 +23,7 @@ import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.common.JsonSerializable;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -50,6 +51,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -82,13 +86,7 @@ public class Note implements JsonSerializable {
     }
   };
 
-  private static Gson gson = new GsonBuilder()
-      .setPrettyPrinting()
-      .setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
-      .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
-      .registerTypeAdapterFactory(Input.TypeAdapterFactory)
-      .setExclusionStrategies(strategy)
-      .create();
+  private static Gson gson = newGsonBuilder().create();
 
   private List<Paragraph> paragraphs = new LinkedList<>();
 
@@ -1024,11 +1022,45 @@ public class Note implements JsonSerializable {
     }
   }
 
+  /**
+   * Shallow copy of note with the given paragraphs, all the other fields are shared with this
+   * note. Only meant to be serialized, e.g. with the results of some paragraphs replaced.
+   */
+  public Note copyWithParagraphs(List<Paragraph> paragraphs) {
+    Note copy = new Note();
+    copy.paragraphs = new LinkedList<>(paragraphs);
+    copy.name = name;
+    copy.id = id;
+    copy.defaultInterpreterGroup = defaultInterpreterGroup;
+    copy.version = version;
+    copy.noteParams = noteParams;
+    copy.noteForms = noteForms;
+    copy.angularObjects = angularObjects;
+    copy.config = config;
+    copy.info = info;
+    copy.path = path;
+    return copy;
+  }
+
   @Override
   public String toJson() {
     return gson.toJson(this);
   }
 
+  /**
+   * Write note json to the writer directly, without building the whole json in memory.
+   *
+   * @param writer
+   * @throws IOException if fail to write note json
+   */
+  public void toJson(Writer writer) throws IOException {
+    try {
+      gson.toJson(this, writer);
+    } catch (JsonIOException e) {
+      throw new IOException("Fail to write note json of " + id, e);
+    }
+  }
+
   /**
    * Parse note json from note file. Throw IOException if fail to parse note json.
    *
@@ -1037,15 +1069,30 @@ public class Note implements JsonSerializable {
    * @throws IOException if fail to parse note json (note file may be corrupted)
    */
   public static Note fromJson(String json) throws IOException {
+    return fromJson(new StringReader(json));
+  }
+
+  /**
+   * Parse note json from the reader, the note file is parsed as a stream instead of being
+   * read into one string first. Throw IOException if fail to parse note json.
+   *
+   * @param reader
+   * @return Note
+   * @throws IOException if fail to parse note json (note file may be corrupted)
+   */
+  public static Note fromJson(Reader reader) throws IOException {
     try {
-      Note note = gson.fromJson(json, Note.class);
+      Note note = gson.fromJson(reader, Note.class);
+      if (note == null) {
+        throw new IOException("Note json is empty");
+      }
       convertOldInput(note);
       note.info.remove("isRunning");
       note.postProcessParagraphs();
       return note;
     } catch (Exception e) {
       logger.error("Fail to parse note json: " + e.toString());
-      throw new IOException("Fail to parse note json: " + json, e);
+      throw new IOException("Fail to parse note json", e);
     }
   }
 
@@ -1122,6 +1169,19 @@ public class Note implements JsonSerializable {
     return gson;
   }
 
+  /**
+   * Create a GsonBuilder with the settings of note json, for the notebook repos which customize
+   * the serialization of note.
+   */
+  public static GsonBuilder newGsonBuilder() {
+    return new GsonBuilder()
+        .setPrettyPrinting()
+        .setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
+        .registerTypeAdapter(Date.class, new NotebookImportDeserializer())
+        .registerTypeAdapterFactory(Input.TypeAdapterFactory)
+        .setExclusionStrategies(strategy);
+  }
+
   public void setNoteEventListeners(List<NoteEventListener> noteEventListeners) {
     this.noteEventListeners = noteEventListeners;
   }
@@ -29,6 +29,12 @@ public interface NoteEventListener {
   void onNoteCreate(Note note, AuthenticationInfo subject) throws IOException;
   void onNoteUpdate(Note note, AuthenticationInfo subject) throws IOException;
 
+  /**
+   * Called when the note is renamed or moved, the note may be not loaded.
+   */
+  default void onNoteMove(Note note, AuthenticationInfo subject) throws IOException {
+  }
+
   void onParagraphRemove(Paragraph p) throws IOException;
   void onParagraphCreate(Paragraph p) throws IOException;
   void onParagraphUpdate(Paragraph p) throws IOException;
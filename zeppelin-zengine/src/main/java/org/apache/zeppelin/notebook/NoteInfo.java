@@ -18,11 +18,18 @@
 package org.apache.zeppelin.notebook;
 
 /**
- * Metadata of Note: noteId & note Path
+ * Metadata of Note: noteId & note Path, and optionally the checksum and version of the stored
+ * note
  */
 public class NoteInfo {
   String id;
   String path;
+  // hex encoded md5 of the note file, set by the NotebookRepo which gets it cheaply
+  // when listing notes (e.g. etag of object storage), null if unknown.
+  String checksum;
+  // changes whenever the stored note changes (e.g. modification time of the note file), set by
+  // the NotebookRepo which gets it cheaply when listing notes, null if unknown.
+  String version;
 
   public NoteInfo(String id, String path) {
     super();
@@ -51,6 +58,25 @@ public class NoteInfo {
     this.path = path;
   }
 
+  public String getChecksum() {
+    return checksum;
+  }
+
+  public void setChecksum(String checksum) {
+    this.checksum = checksum;
+  }
+
+  /**
+   * @return version of the stored note, the checksum is used if the version is not set
+   */
+  public String getVersion() {
+    return version != null ? version : checksum;
+  }
+
+  public void setVersion(String version) {
+    this.version = version;
+  }
+
   public String getNoteName() {
     int pos = this.path.lastIndexOf("/");
     return path.substring(pos + 1);
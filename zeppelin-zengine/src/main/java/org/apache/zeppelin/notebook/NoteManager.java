@@ -20,6 +20,8 @@ package org.apache.zeppelin.notebook;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
@@ -28,10 +30,14 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -45,23 +51,63 @@ import java.util.stream.Collectors;
  * Note will be loaded lazily. Initially only noteId nad note name is loaded,
  * other note content is loaded until getNote is called.
  *
- * TODO(zjffdu) implement the lifecycle manager of Note
- * (release memory if note is not used for some period)
+ * The number and the total estimated size of loaded notes are bounded, the least recently
+ * used notes are unloaded (their NoteNode falls back to metadata only) when the bound is
+ * exceeded, and will be loaded again transparently by the next getNote. Notes which have
+ * running or pending paragraphs or are pinned (e.g. opened by websocket) are never unloaded.
+ * A note object that is still referenced elsewhere when it is unloaded is never replaced by a
+ * second copy: NoteNode hands the same object back until it is garbage collected.
  */
 @Singleton
 public class NoteManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(NoteManager.class);
+  // rough size of the note/paragraph fields that are not counted by their text or results
+  private static final long NOTE_BASE_WEIGHT = 1024;
+  private static final long PARAGRAPH_BASE_WEIGHT = 256;
   public static String TRASH_FOLDER = "~Trash";
   private Folder root;
   private Folder trash;
 
   private NotebookRepo notebookRepo;
+  private WriteBehindNoteSaver noteSaver;
   // noteId -> notePath
   private Map<String, String> notesInfo;
+  // noteId -> NoteInfo#getVersion when notes are listed from NotebookRepo, only known versions
+  private Map<String, String> listedNoteVersions;
+
+  // noteId -> estimated size of the loaded note, in access order
+  private final LinkedHashMap<String, Long> loadedNotes = new LinkedHashMap<>(16, 0.75f, true);
+  private long loadedNotesWeight = 0;
+  private final int maxLoadedNotes;
+  private final long maxLoadedNotesWeight;
+  private volatile Predicate<String> notePinnedChecker = noteId -> false;
 
   @Inject
   public NoteManager(NotebookRepo notebookRepo) throws IOException {
+    this(notebookRepo, ZeppelinConfiguration.create());
+  }
+
+  private NoteManager(NotebookRepo notebookRepo, ZeppelinConfiguration conf) throws IOException {
+    this(notebookRepo, conf.getNoteCacheMaxNotes(), conf.getNoteCacheMaxWeight(),
+        new WriteBehindNoteSaver(notebookRepo, conf.getNotebookSaveDelay(),
+            conf.getNotebookSaveThreads()));
+  }
+
+  public NoteManager(NotebookRepo notebookRepo,
+                     int maxLoadedNotes,
+                     long maxLoadedNotesWeight) throws IOException {
+    this(notebookRepo, maxLoadedNotes, maxLoadedNotesWeight,
+        new WriteBehindNoteSaver(notebookRepo, 0, 0));
+  }
+
+  public NoteManager(NotebookRepo notebookRepo,
+                     int maxLoadedNotes,
+                     long maxLoadedNotesWeight,
+                     WriteBehindNoteSaver noteSaver) throws IOException {
     this.notebookRepo = notebookRepo;
+    this.noteSaver = noteSaver;
+    this.maxLoadedNotes = maxLoadedNotes;
+    this.maxLoadedNotesWeight = maxLoadedNotesWeight;
     this.root = new Folder("/", notebookRepo);
     this.trash = this.root.getOrCreateFolder(TRASH_FOLDER);
     init();
@@ -69,8 +115,12 @@ public class NoteManager {
 
   // build the tree structure of notes
   private void init() throws IOException {
-    this.notesInfo = notebookRepo.list(AuthenticationInfo.ANONYMOUS).values().stream()
+    Map<String, NoteInfo> listedNoteInfos = notebookRepo.list(AuthenticationInfo.ANONYMOUS);
+    this.notesInfo = listedNoteInfos.values().stream()
         .collect(Collectors.toMap(noteInfo -> noteInfo.getId(), notesInfo -> notesInfo.getPath()));
+    this.listedNoteVersions = listedNoteInfos.values().stream()
+        .filter(noteInfo -> noteInfo.getVersion() != null)
+        .collect(Collectors.toMap(NoteInfo::getId, NoteInfo::getVersion));
     this.notesInfo.entrySet().stream()
         .forEach(entry ->
         {
@@ -86,12 +136,24 @@ public class NoteManager {
     return notesInfo;
   }
 
+  /**
+   * Versions of the stored notes when they were listed from NotebookRepo by the last
+   * init/reloadNotes, used to find the unchanged notes without loading them.
+   *
+   * @return noteId -> NoteInfo#getVersion, only for the notes whose version is known
+   */
+  public Map<String, String> getListedNoteVersions() {
+    return listedNoteVersions;
+  }
+
   //TODO(zjffdu) This is inefficient
   public List<Note> getAllNotes() {
     List<Note> notes = new ArrayList<>();
     for (String notePath : notesInfo.values()) {
       try {
-        notes.add(getNoteNode(notePath).getNote());
+        Note note = getNoteNode(notePath).getNote();
+        onNoteAccessed(note);
+        notes.add(note);
       } catch (Exception e) {
         LOGGER.warn("Fail to load note: " + notePath, e);
       }
@@ -99,16 +161,164 @@ public class NoteManager {
     return notes;
   }
 
+  /**
+   * Return the notes which are already loaded from NotebookRepo, no note will be loaded
+   * by this method.
+   *
+   * @return
+   */
+  public List<Note> getLoadedNotes() {
+    List<Note> notes = new ArrayList<>();
+    for (NoteNode noteNode : root.getNoteNodeRecursively()) {
+      Note note = noteNode.getRawNote();
+      if (note.isLoaded()) {
+        notes.add(note);
+      }
+    }
+    return notes;
+  }
+
   /**
    *
    * @throws IOException
    */
   public void reloadNotes() throws IOException {
+    noteSaver.flush();
     this.root = new Folder("/", notebookRepo);
     this.trash = this.root.getOrCreateFolder(TRASH_FOLDER);
+    synchronized (loadedNotes) {
+      loadedNotes.clear();
+      loadedNotesWeight = 0;
+    }
     init();
   }
 
+  /**
+   * Set the checker which tells whether a note is in use by others (e.g. opened by websocket),
+   * pinned notes won't be unloaded.
+   *
+   * @param notePinnedChecker
+   */
+  public void setNotePinnedChecker(Predicate<String> notePinnedChecker) {
+    this.notePinnedChecker = notePinnedChecker;
+  }
+
+  /**
+   * Record the access of this loaded note, its weight is computed when it is accessed first
+   * time after loading.
+   */
+  private void onNoteAccessed(Note note) {
+    if (!note.isLoaded()) {
+      return;
+    }
+    synchronized (loadedNotes) {
+      if (loadedNotes.get(note.getId()) != null) {
+        return;
+      }
+    }
+    updateNoteWeight(note);
+  }
+
+  /**
+   * Recompute the weight of this note, this is called when note is added or saved.
+   */
+  private void updateNoteWeight(Note note) {
+    long weight = estimateNoteWeight(note);
+    synchronized (loadedNotes) {
+      Long oldWeight = loadedNotes.put(note.getId(), weight);
+      loadedNotesWeight += weight - (oldWeight == null ? 0 : oldWeight);
+    }
+    evictNotes();
+  }
+
+  /**
+   * Estimate the memory held by the note from the size of its paragraph text and results,
+   * which is much cheaper than serializing the whole note on every save.
+   */
+  static long estimateNoteWeight(Note note) {
+    long weight = NOTE_BASE_WEIGHT;
+    for (Paragraph paragraph : note.getParagraphs()) {
+      weight += PARAGRAPH_BASE_WEIGHT;
+      if (paragraph.getText() != null) {
+        weight += paragraph.getText().length();
+      }
+      InterpreterResult result = paragraph.getReturn();
+      if (result != null && result.message() != null) {
+        for (InterpreterResultMessage message : result.message()) {
+          if (message.getData() != null) {
+            weight += message.getData().length();
+          }
+        }
+      }
+    }
+    return weight;
+  }
+
+  private void forgetNote(String noteId) {
+    synchronized (loadedNotes) {
+      Long weight = loadedNotes.remove(noteId);
+      if (weight != null) {
+        loadedNotesWeight -= weight;
+      }
+    }
+  }
+
+  /**
+   * Unload the least recently used notes until the number and the total weight of
+   * loaded notes are within the bound.
+   */
+  private void evictNotes() {
+    List<NoteNode> evictedNoteNodes = new ArrayList<>();
+    synchronized (loadedNotes) {
+      Iterator<Map.Entry<String, Long>> iter = loadedNotes.entrySet().iterator();
+      while (iter.hasNext() && (loadedNotes.size() > maxLoadedNotes
+          || loadedNotesWeight > maxLoadedNotesWeight)) {
+        Map.Entry<String, Long> entry = iter.next();
+        NoteNode noteNode = getLoadedNoteNode(entry.getKey());
+        if (noteNode != null && isPinned(noteNode.getRawNote())) {
+          continue;
+        }
+        iter.remove();
+        loadedNotesWeight -= entry.getValue();
+        if (noteNode != null) {
+          evictedNoteNodes.add(noteNode);
+        }
+      }
+    }
+    for (NoteNode noteNode : evictedNoteNodes) {
+      LOGGER.debug("Unload note: {}", noteNode);
+      noteNode.unloadNote();
+    }
+  }
+
+  private NoteNode getLoadedNoteNode(String noteId) {
+    String notePath = notesInfo.get(noteId);
+    if (notePath == null) {
+      return null;
+    }
+    try {
+      NoteNode noteNode = getNoteNode(notePath);
+      return noteNode.getRawNote().isLoaded() ? noteNode : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private boolean isPinned(Note note) {
+    // note with pending save can not be reloaded from NotebookRepo
+    return note.isRunning() || note.haveRunningOrPendingParagraphs()
+        || noteSaver.isPending(note.getId()) || notePinnedChecker.test(note.getId());
+  }
+
+  /**
+   * Return the number of loaded notes which are tracked for unloading.
+   */
+  int getNumLoadedNotes() {
+    synchronized (loadedNotes) {
+      return loadedNotes.size();
+    }
+  }
+
   private void addOrUpdateNoteNode(Note note, boolean checkDuplicates) throws IOException {
     String notePath = note.getPath();
     String[] tokens = notePath.split("/");
@@ -168,13 +378,15 @@ public class NoteManager {
    */
   public void saveNote(Note note, AuthenticationInfo subject) throws IOException {
     addOrUpdateNoteNode(note);
-    this.notebookRepo.save(note, subject);
+    this.noteSaver.save(note, subject);
     note.setLoaded(true);
+    updateNoteWeight(note);
   }
 
   public void addNote(Note note, AuthenticationInfo subject) throws IOException {
     addOrUpdateNoteNode(note, true);
     note.setLoaded(true);
+    updateNoteWeight(note);
   }
 
   /**
@@ -187,6 +399,25 @@ public class NoteManager {
     saveNote(note, AuthenticationInfo.ANONYMOUS);
   }
 
+  /**
+   * Write the pending save of this note to NotebookRepo, if any.
+   *
+   * @param noteId
+   * @throws IOException
+   */
+  public void flushNote(String noteId) throws IOException {
+    noteSaver.flush(noteId);
+  }
+
+  /**
+   * Drop the pending save of this note, if any, e.g. before its file is replaced by a revision.
+   *
+   * @param noteId
+   */
+  public void cancelPendingSave(String noteId) {
+    noteSaver.cancel(noteId);
+  }
+
   /**
    * Remove note from NotebookRepo and NoteManager
    *
@@ -196,18 +427,28 @@ public class NoteManager {
    */
   public void removeNote(String noteId, AuthenticationInfo subject) throws IOException {
     String notePath = this.notesInfo.remove(noteId);
+    forgetNote(noteId);
+    noteSaver.cancel(noteId);
     Folder folder = getOrCreateFolder(getFolderName(notePath));
     folder.removeNote(getNoteName(notePath));
     this.notebookRepo.remove(noteId, notePath, subject);
   }
 
-  public void moveNote(String noteId,
+  /**
+   * Move the note to newNotePath.
+   *
+   * @return the moved note, it may be not loaded
+   * @throws IOException
+   */
+  public Note moveNote(String noteId,
                        String newNotePath,
                        AuthenticationInfo subject) throws IOException {
     String notePath = this.notesInfo.get(noteId);
     if (noteId == null) {
       throw new IOException("No metadata found for this note: " + noteId);
     }
+    // the pending save needs to be written to the old path before moving
+    noteSaver.flush(noteId);
 
     // move the old NoteNode from notePath to newNotePath
     NoteNode noteNode = getNoteNode(notePath);
@@ -222,13 +463,21 @@ public class NoteManager {
 
     // update notebookrepo
     this.notebookRepo.move(noteId, notePath, newNotePath, subject);
+    return noteNode.getRawNote();
   }
 
-  public void moveFolder(String folderPath,
-                         String newFolderPath,
-                         AuthenticationInfo subject) throws IOException {
+  /**
+   * Move the folder to newFolderPath.
+   *
+   * @return the moved notes under this folder, they may be not loaded
+   * @throws IOException
+   */
+  public List<Note> moveFolder(String folderPath,
+                               String newFolderPath,
+                               AuthenticationInfo subject) throws IOException {
 
     // update notebookrepo
+    noteSaver.flush();
     this.notebookRepo.move(folderPath, newFolderPath, subject);
 
     // update filesystem tree
@@ -238,9 +487,11 @@ public class NoteManager {
     newFolder.getParent().addFolder(newFolder.getName(), folder);
 
     // update notesInfo
-    for (Note note : folder.getRawNotesRecursively()) {
+    List<Note> notes = folder.getRawNotesRecursively();
+    for (Note note : notes) {
       notesInfo.put(note.getId(), note.getPath());
     }
+    return notes;
   }
 
   /**
@@ -254,6 +505,7 @@ public class NoteManager {
   public List<Note> removeFolder(String folderPath, AuthenticationInfo subject) throws IOException {
 
     // update notebookrepo
+    noteSaver.flush();
     this.notebookRepo.remove(folderPath, subject);
 
     // update filesystem tree
@@ -263,6 +515,7 @@ public class NoteManager {
     // update notesInfo
     for (Note note : notes) {
       this.notesInfo.remove(note.getId());
+      forgetNote(note.getId());
     }
 
     return notes;
@@ -281,7 +534,9 @@ public class NoteManager {
       return null;
     }
     NoteNode noteNode = getNoteNode(notePath);
-    return noteNode.getNote(forceLoad);
+    Note note = noteNode.getNote(forceLoad);
+    onNoteAccessed(note);
+    return note;
   }
 
   /**
@@ -297,7 +552,9 @@ public class NoteManager {
       return null;
     }
     NoteNode noteNode = getNoteNode(notePath);
-    return noteNode.getNote();
+    Note note = noteNode.getNote();
+    onNoteAccessed(note);
+    return note;
   }
 
   /**
@@ -352,6 +609,13 @@ public class NoteManager {
     return this.trash;
   }
 
+  /**
+   * Write all the pending saves of notes to NotebookRepo.
+   */
+  public void close() {
+    noteSaver.close();
+  }
+
   private String getFolderName(String notePath) {
     int pos = notePath.lastIndexOf("/");
     return notePath.substring(0, pos);
@@ -519,6 +783,8 @@ public class NoteManager {
 
     private Folder parent;
     private Note note;
+    // the note before it is unloaded, it may still be referenced elsewhere
+    private WeakReference<Note> unloadedNote;
     private NotebookRepo notebookRepo;
 
     public NoteNode(Note note, Folder parent, NotebookRepo notebookRepo) {
@@ -539,6 +805,14 @@ public class NoteManager {
      */
     public synchronized Note getNote(boolean forceLoad) throws IOException {
       if (!note.isLoaded() && forceLoad) {
+        Note referencedNote = unloadedNote == null ? null : unloadedNote.get();
+        unloadedNote = null;
+        if (referencedNote != null) {
+          // still in use by others, hand back the same object instead of loading a second copy
+          referencedNote.setPath(note.getPath());
+          note = referencedNote;
+          return note;
+        }
         note = notebookRepo.get(note.getId(), note.getPath(), AuthenticationInfo.ANONYMOUS);
         if (parent.toString().equals("/")) {
           note.setPath("/" + note.getName());
@@ -567,6 +841,20 @@ public class NoteManager {
       }
     }
 
+    /**
+     * Release the loaded note, only the metadata of note is kept. The note is only weakly
+     * referenced afterwards: if it is still used elsewhere (e.g. by a caller which got it
+     * before), the next getNote returns that same object, otherwise it is garbage collected
+     * and loaded from NotebookRepo again. So there are never 2 note objects of the same note.
+     * Notes with running paragraphs must not be unloaded, NoteManager checks that.
+     */
+    public synchronized void unloadNote() {
+      if (note.isLoaded()) {
+        this.unloadedNote = new WeakReference<>(note);
+        this.note = new Note(new NoteInfo(note.getId(), getNotePath()));
+      }
+    }
+
     /**
      * This method will just return the note object without checking whether it is loaded
      * from NotebookRepo.
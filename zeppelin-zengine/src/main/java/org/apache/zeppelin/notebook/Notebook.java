@@ -18,6 +18,7 @@
 package org.apache.zeppelin.notebook;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -48,6 +49,7 @@ import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
 import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl;
 import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl.Revision;
+import org.apache.zeppelin.notebook.repo.ResultBlobStore;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
@@ -105,7 +107,10 @@ public class Notebook {
     this.noteEventListeners.add(this.interpreterSettingManager);
 
     if (conf.isIndexRebuild()) {
-      noteSearchService.startRebuildIndex(getAllNotes());
+      // read notes from NotebookRepo directly, so that they are not kept in NoteManager
+      noteSearchService.startRebuildIndex(new HashMap<>(noteManager.getNotesInfo()),
+          noteManager.getListedNoteVersions(),
+          this::readStoredNote);
     }
   }
 
@@ -235,12 +240,41 @@ public class Notebook {
       if (note == null) {
         throw new IOException("Note " + noteId + " not found");
       }
-      return note.toJson();
+      return inlineResultBlobs(note).toJson();
     } catch (IOException e) {
       throw new IOException(noteId + " not found");
     }
   }
 
+  /**
+   * Return a copy of note which carries the data of paragraph results stored separately from
+   * note file, or the note itself if there is no such result. Used by export and by the REST
+   * API, whose clients don't load the results lazily.
+   */
+  public Note inlineResultBlobs(Note note) throws IOException {
+    return ResultBlobStore.inlineResultBlobs(note,
+        blobId -> getResultBlob(blobId, AuthenticationInfo.ANONYMOUS),
+        conf.getString(ConfVars.ZEPPELIN_ENCODING));
+  }
+
+  /**
+   * Return a copy of paragraph which carries the data of its results stored separately from
+   * note file, or the paragraph itself if there is no such result.
+   */
+  public Paragraph inlineResultBlobs(Paragraph p) throws IOException {
+    return ResultBlobStore.inlineResultBlobs(p,
+        blobId -> getResultBlob(blobId, AuthenticationInfo.ANONYMOUS),
+        conf.getString(ConfVars.ZEPPELIN_ENCODING));
+  }
+
+  /**
+   * Open the data of paragraph result which is stored separately from note file.
+   */
+  public InputStream getResultBlob(String blobId, AuthenticationInfo subject)
+      throws IOException {
+    return notebookRepo.getResultBlob(blobId, subject);
+  }
+
   /**
    * import JSON as a new note.
    *
@@ -335,12 +369,16 @@ public class Notebook {
 
   public void moveNote(String noteId, String newNotePath, AuthenticationInfo subject) throws IOException {
     LOGGER.info("Move note " + noteId + " to " + newNotePath);
-    noteManager.moveNote(noteId, newNotePath, subject);
+    Note note = noteManager.moveNote(noteId, newNotePath, subject);
+    fireNoteMoveEvent(note, subject);
   }
 
   public void moveFolder(String folderPath, String newFolderPath, AuthenticationInfo subject) throws IOException {
     LOGGER.info("Move folder from " + folderPath + " to " + newFolderPath);
-    noteManager.moveFolder(folderPath, newFolderPath, subject);
+    List<Note> notes = noteManager.moveFolder(folderPath, newFolderPath, subject);
+    for (Note note : notes) {
+      fireNoteMoveEvent(note, subject);
+    }
   }
 
   public void removeFolder(String folderPath, AuthenticationInfo subject) throws IOException {
@@ -376,6 +414,8 @@ public class Notebook {
   public Revision checkpointNote(String noteId, String notePath, String checkpointMessage,
       AuthenticationInfo subject) throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      // checkpoint what the user sees, not what was written before the pending save
+      noteManager.flushNote(noteId);
       return ((NotebookRepoWithVersionControl) notebookRepo)
           .checkpoint(noteId, notePath, checkpointMessage, subject);
     } else {
@@ -397,6 +437,8 @@ public class Notebook {
   public Note setNoteRevision(String noteId, String notePath, String revisionId, AuthenticationInfo subject)
       throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      // the pending save would overwrite the restored revision
+      noteManager.cancelPendingSave(noteId);
       Note note = ((NotebookRepoWithVersionControl) notebookRepo)
               .setNoteRevision(noteId, notePath, revisionId, subject);
       noteManager.saveNote(note);
@@ -410,6 +452,7 @@ public class Notebook {
                                 String revisionId, AuthenticationInfo subject)
       throws IOException {
     if (((NotebookRepoSync) notebookRepo).isRevisionSupportedInDefaultRepo()) {
+      noteManager.flushNote(noteId);
       return ((NotebookRepoWithVersionControl) notebookRepo).get(noteId, noteName,
           revisionId, subject);
     } else {
@@ -549,6 +592,24 @@ public class Notebook {
     return noteList;
   }
 
+  /**
+   * Return the notes which have been loaded into memory, this won't trigger any loading
+   * from NotebookRepo.
+   */
+  public List<Note> getLoadedNotes() {
+    return noteManager.getLoadedNotes();
+  }
+
+  /**
+   * Read the note from NotebookRepo without loading it into NoteManager, so that it is not kept
+   * in memory. The returned note is only for reading, it's not initialized to run paragraphs.
+   */
+  public Note readStoredNote(String noteId, String notePath) throws IOException {
+    Note note = notebookRepo.get(noteId, notePath, AuthenticationInfo.ANONYMOUS);
+    note.setPath(notePath);
+    return note;
+  }
+
   public List<Note> getAllNotes(Function<Note, Boolean> func){
     return getAllNotes().stream()
         .filter(note -> func.apply(note))
@@ -622,6 +683,7 @@ public class Notebook {
   }
 
   public void close() {
+    this.noteManager.close();
     this.notebookRepo.close();
     this.noteSearchService.close();
   }
@@ -642,6 +704,12 @@ public class Notebook {
     }
   }
 
+  private void fireNoteMoveEvent(Note note, AuthenticationInfo subject) throws IOException {
+    for (NoteEventListener listener : noteEventListeners) {
+      listener.onNoteMove(note, subject);
+    }
+  }
+
   private void fireNoteRemoveEvent(Note note, AuthenticationInfo subject) throws IOException {
     for (NoteEventListener listener : noteEventListeners) {
       listener.onNoteRemove(note, subject);
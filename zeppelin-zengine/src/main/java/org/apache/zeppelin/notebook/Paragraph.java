@@ -53,12 +53,14 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterResultMessageOutput;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.JobListener;
 import org.apache.zeppelin.scheduler.JobWithProgressPoller;
+import org.apache.zeppelin.tabledata.SpooledTableData;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.user.UserCredentials;
@@ -492,6 +494,7 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
         if (Code.KEEP_PREVIOUS_RESULT == ret.code()) {
           return getReturn();
         }
+        markPagedResults(ret, interpreterSetting.getInterpreterSettingManager());
 
         Paragraph p = getUserParagraph(getUser());
         if (null != p) {
@@ -508,6 +511,33 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     }
   }
 
+  /**
+   * Mark the table results whose rows are spooled in interpreter process, only their first
+   * page is in the result, other pages are read via InterpreterSettingManager on demand.
+   * Only the tables the interpreter recorded as paged in the paragraph config are looked up.
+   */
+  private void markPagedResults(InterpreterResult ret,
+                                InterpreterSettingManager interpreterSettingManager) {
+    Set<Integer> pagedTables = SpooledTableData.removePagedTables(config);
+    if (pagedTables.isEmpty() || interpreterSettingManager == null || ret.message() == null) {
+      return;
+    }
+    int tableIndex = 0;
+    for (InterpreterResultMessage msg : ret.message()) {
+      if (msg.getType() != InterpreterResult.Type.TABLE) {
+        continue;
+      }
+      if (pagedTables.contains(tableIndex)) {
+        Integer size =
+            interpreterSettingManager.getPagedTableResultSize(note.getId(), getId(), tableIndex);
+        if (size != null) {
+          msg.setPagedRowCount(size);
+        }
+      }
+      tableIndex++;
+    }
+  }
+
   @Override
   protected boolean jobAbort() {
     if (interpreter == null) {
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.notebook.repo.NotebookRepo;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind stage between NoteManager and NotebookRepo.
+ *
+ * Saving a note only marks it as dirty, the note is written to NotebookRepo after saveDelayMs,
+ * so that repeated saves of the same note within this window (e.g. one save per finished
+ * paragraph when running a note) are coalesced into one write of its latest state. Saves of
+ * different notes are written in parallel by a pool of threads, while writes of the same note
+ * are never concurrent. Pending saves must be flushed before the note file is touched in
+ * other ways (move, remove) and when zeppelin server is shutdown.
+ *
+ * Saves are written synchronously in the caller thread when saveDelayMs is not positive.
+ */
+public class WriteBehindNoteSaver {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindNoteSaver.class);
+
+  private final NotebookRepo notebookRepo;
+  private final long saveDelayMs;
+  private final ScheduledThreadPoolExecutor executor;
+  // noteId -> pending save
+  private final Map<String, PendingSave> pendingSaves = new HashMap<>();
+
+  public WriteBehindNoteSaver(NotebookRepo notebookRepo, long saveDelayMs, int saveThreads) {
+    this.notebookRepo = notebookRepo;
+    this.saveDelayMs = saveDelayMs;
+    if (saveDelayMs > 0) {
+      AtomicInteger threadNum = new AtomicInteger(0);
+      this.executor = new ScheduledThreadPoolExecutor(saveThreads, r -> {
+        Thread t = new Thread(r, "WriteBehindNoteSaver-" + threadNum.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+      });
+    } else {
+      this.executor = null;
+    }
+  }
+
+  public void save(Note note, AuthenticationInfo subject) throws IOException {
+    if (executor == null) {
+      notebookRepo.save(note, subject);
+      return;
+    }
+    synchronized (pendingSaves) {
+      PendingSave pendingSave = pendingSaves.get(note.getId());
+      if (pendingSave == null) {
+        pendingSave = new PendingSave(note.getId());
+        pendingSaves.put(note.getId(), pendingSave);
+      }
+      pendingSave.note = note;
+      pendingSave.subject = subject;
+      if (!pendingSave.dirty) {
+        // otherwise a write is already scheduled, which will write this latest note
+        pendingSave.dirty = true;
+        PendingSave scheduledSave = pendingSave;
+        executor.schedule(() -> writeSafely(scheduledSave), saveDelayMs, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Write the pending save of this note now, and wait for the write in progress.
+   */
+  public void flush(String noteId) throws IOException {
+    PendingSave pendingSave;
+    synchronized (pendingSaves) {
+      pendingSave = pendingSaves.get(noteId);
+    }
+    if (pendingSave != null) {
+      write(pendingSave);
+    }
+  }
+
+  /**
+   * Write all the pending saves now.
+   */
+  public void flush() throws IOException {
+    List<PendingSave> saves;
+    synchronized (pendingSaves) {
+      saves = new ArrayList<>(pendingSaves.values());
+    }
+    IOException exception = null;
+    for (PendingSave pendingSave : saves) {
+      try {
+        write(pendingSave);
+      } catch (IOException e) {
+        LOGGER.error("Fail to save note: " + pendingSave.noteId, e);
+        exception = e;
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Drop the pending save of this note, e.g. the note is removed. It waits for the write in
+   * progress, so that the note won't be written after this method returns.
+   */
+  public void cancel(String noteId) {
+    PendingSave pendingSave;
+    synchronized (pendingSaves) {
+      pendingSave = pendingSaves.remove(noteId);
+      if (pendingSave == null) {
+        return;
+      }
+      pendingSave.dirty = false;
+    }
+    synchronized (pendingSave) {
+      LOGGER.debug("Cancel pending save of note: {}", noteId);
+    }
+  }
+
+  public boolean isPending(String noteId) {
+    synchronized (pendingSaves) {
+      return pendingSaves.containsKey(noteId);
+    }
+  }
+
+  /**
+   * Write all the pending saves and stop the save threads.
+   */
+  public void close() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+    try {
+      flush();
+    } catch (IOException e) {
+      LOGGER.error("Fail to save notes when closing", e);
+    }
+  }
+
+  private void writeSafely(PendingSave pendingSave) {
+    try {
+      write(pendingSave);
+    } catch (Exception e) {
+      LOGGER.error("Fail to save note: " + pendingSave.noteId, e);
+    }
+  }
+
+  private void write(PendingSave pendingSave) throws IOException {
+    // writes of the same note are serialized
+    synchronized (pendingSave) {
+      Note note;
+      AuthenticationInfo subject;
+      synchronized (pendingSaves) {
+        if (!pendingSave.dirty) {
+          // already written or cancelled
+          return;
+        }
+        pendingSave.dirty = false;
+        note = pendingSave.note;
+        subject = pendingSave.subject;
+      }
+      try {
+        notebookRepo.save(note, subject);
+      } catch (IOException e) {
+        synchronized (pendingSaves) {
+          // keep it pending and retry later, unless it is saved again or cancelled meanwhile
+          if (!pendingSave.dirty && pendingSaves.get(pendingSave.noteId) == pendingSave) {
+            pendingSave.dirty = true;
+            if (!executor.isShutdown()) {
+              executor.schedule(() -> writeSafely(pendingSave), saveDelayMs,
+                  TimeUnit.MILLISECONDS);
+            }
+          }
+        }
+        throw e;
+      }
+      synchronized (pendingSaves) {
+        if (!pendingSave.dirty) {
+          pendingSaves.remove(pendingSave.noteId, pendingSave);
+        }
+      }
+    }
+  }
+
+  private static class PendingSave {
+    private final String noteId;
+    private Note note;
+    private AuthenticationInfo subject;
+    // whether there's a save which is not written yet
+    private boolean dirty;
+
+    PendingSave(String noteId) {
+      this.noteId = noteId;
+    }
+  }
+}
@@ -19,28 +19,41 @@ package org.apache.zeppelin.notebook.repo;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
+import org.apache.commons.io.IOUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.user.AuthenticationInfo;
+import org.eclipse.jgit.api.AddCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.NoHeadException;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.errors.RevisionSyntaxException;
 import org.eclipse.jgit.internal.storage.file.FileRepository;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectLoader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
-import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * NotebookRepo that hosts all the notebook FS in a single Git repo
@@ -55,7 +68,12 @@ import java.util.List;
 public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWithVersionControl {
   private static final Logger LOGGER = LoggerFactory.getLogger(GitNotebookRepo.class);
 
+  private static final int REVISION_CACHE_SIZE = 32;
+
   private Git git;
+  // blob id of note file -> note json of that revision, each get parses its own note from it
+  private final Cache<String, String> revisionCache =
+      CacheBuilder.newBuilder().maximumSize(REVISION_CACHE_SIZE).build();
 
   public GitNotebookRepo() {
     super();
@@ -134,7 +152,12 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
       boolean modified = gitDiff.parallelStream().anyMatch(diffEntry -> diffEntry.getNewPath().equals(noteFileName));
       if (modified) {
         LOGGER.debug("Changes found for pattern '{}': {}", noteFileName, gitDiff);
-        DirCache added = git.add().addFilepattern(noteFileName).call();
+        AddCommand addCommand = git.add().addFilepattern(noteFileName);
+        if (resultBlobStore != null) {
+          // result blobs referred by this revision
+          addCommand.addFilepattern(ResultBlobStore.BLOB_FOLDER);
+        }
+        DirCache added = addCommand.call();
         LOGGER.debug("{} changes are about to be commited", added.getEntryCount());
         RevCommit commit = git.commit().setMessage(commitMessage).call();
         revision = new Revision(commit.getName(), commit.getShortMessage(), commit.getCommitTime());
@@ -148,48 +171,85 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
   }
 
   /**
-   * the idea is to:
-   * 1. stash current changes
-   * 2. remember head commit and checkout to the desired revision
-   * 3. get note and checkout back to the head
-   * 4. apply stash on top and remove it
+   * Read the note of revision directly from the git object database (tree walk & blob read),
+   * so that the working tree is never touched and reading revisions can run concurrently with
+   * saving notes. The json of revisions is cached by the id of their blob, so reading a revision
+   * again skips the git object lookup & inflation. Every call returns a new note.
    */
   @Override
-  public synchronized Note get(String noteId,
-                               String notePath,
-                               String revId,
-                               AuthenticationInfo subject) throws IOException {
-    Note note = null;
-    RevCommit stash = null;
+  public Note get(String noteId,
+                  String notePath,
+                  String revId,
+                  AuthenticationInfo subject) throws IOException {
+    return get(noteId, notePath, revId, true);
+  }
+
+  private Note get(String noteId, String notePath, String revId, boolean useCache)
+      throws IOException {
     String noteFileName = buildNoteFileName(noteId, notePath);
-    try {
-      List<DiffEntry> gitDiff = git.diff().setPathFilter(PathFilter.create(noteFileName)).call();
-      boolean modified = !gitDiff.isEmpty();
-      if (modified) {
-        // stash changes
-        stash = git.stashCreate().call();
-        Collection<RevCommit> stashes = git.stashList().call();
-        LOGGER.debug("Created stash : {}, stash size : {}", stash, stashes.size());
+    Repository repository = git.getRepository();
+    try (RevWalk revWalk = new RevWalk(repository)) {
+      ObjectId commitId = repository.resolve(revId);
+      if (commitId == null) {
+        LOGGER.error("Failed to return note from revision \"{}\", revision is not found", revId);
+        return null;
       }
-      ObjectId head = git.getRepository().resolve(Constants.HEAD);
-      // checkout to target revision
-      git.checkout().setStartPoint(revId).addPath(noteFileName).call();
-      // get the note
-      note = super.get(noteId, notePath, subject);
-      // checkout back to head
-      git.checkout().setStartPoint(head.getName()).addPath(noteFileName).call();
-      if (modified && stash != null) {
-        // unstash changes
-        ObjectId applied = git.stashApply().setStashRef(stash.getName()).call();
-        ObjectId dropped = git.stashDrop().setStashRef(0).call();
-        Collection<RevCommit> stashes = git.stashList().call();
-        LOGGER.debug("Stash applied as : {}, and dropped : {}, stash size: {}", applied, dropped,
-            stashes.size());
+      RevTree tree = revWalk.parseCommit(commitId).getTree();
+      try (TreeWalk treeWalk = TreeWalk.forPath(repository, noteFileName, tree)) {
+        if (treeWalk == null) {
+          LOGGER.error("Failed to return note from revision \"{}\", {} is not found", revId,
+              noteFileName);
+          return null;
+        }
+        ObjectId blobId = treeWalk.getObjectId(0);
+        String noteJson = useCache
+            ? revisionCache.get(blobId.getName(), () -> readNoteJson(repository, blobId))
+            : readNoteJson(repository, blobId);
+        Note note = Note.fromJson(noteJson);
+        note.setPath(notePath);
+        return note;
       }
-    } catch (GitAPIException e) {
+    } catch (RevisionSyntaxException | MissingObjectException | IncorrectObjectTypeException e) {
       LOGGER.error("Failed to return note from revision \"{}\"", revId, e);
+      return null;
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Result blobs which are not referred by any note anymore are deleted from the working tree,
+   * but they stay in git (checkpoint never stages the deletion), so the blobs referred only by
+   * revisions are read from HEAD.
+   */
+  @Override
+  public InputStream getResultBlob(String blobId, AuthenticationInfo subject)
+      throws IOException {
+    if (resultBlobStore == null || !ResultBlobStore.isBlobId(blobId)
+        || resultBlobStore.exists(blobId)) {
+      return super.getResultBlob(blobId, subject);
+    }
+    Repository repository = git.getRepository();
+    ObjectId headId = repository.resolve(Constants.HEAD);
+    if (headId == null) {
+      return super.getResultBlob(blobId, subject);
+    }
+    try (RevWalk revWalk = new RevWalk(repository);
+         TreeWalk treeWalk = TreeWalk.forPath(repository,
+             ResultBlobStore.BLOB_FOLDER + "/" + blobId, revWalk.parseCommit(headId).getTree())) {
+      if (treeWalk == null) {
+        return super.getResultBlob(blobId, subject);
+      }
+      return repository.open(treeWalk.getObjectId(0), Constants.OBJ_BLOB).openStream();
+    }
+  }
+
+  private String readNoteJson(Repository repository, ObjectId blobId) throws IOException {
+    ObjectLoader loader = repository.open(blobId, Constants.OBJ_BLOB);
+    try (InputStream in = loader.openStream()) {
+      return IOUtils.toString(in, conf.getString(ConfVars.ZEPPELIN_ENCODING));
     }
-    return note;
   }
 
   @Override
@@ -218,7 +278,8 @@ public class GitNotebookRepo extends VFSNotebookRepo implements NotebookRepoWith
   public Note setNoteRevision(String noteId, String notePath, String revId,
                               AuthenticationInfo subject)
       throws IOException {
-    Note revisionNote = get(noteId, notePath, revId, subject);
+    // the restored note becomes the current note, so don't share it with the revision cache
+    Note revisionNote = get(noteId, notePath, revId, false);
     if (revisionNote != null) {
       save(revisionNote, subject);
     }
@@ -24,6 +24,7 @@ import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.user.AuthenticationInfo;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -112,6 +113,41 @@ public interface NotebookRepo {
   @ZeppelinApi
   void remove(String folderPath, AuthenticationInfo subject) throws IOException;
 
+  /**
+   * Open the paragraph result which is stored separately from note file,
+   * see {@link ResultBlobStore}.
+   *
+   * @param blobId  blobId of the paragraph result message
+   * @param subject contains user information.
+   * @return the data of paragraph result
+   * @throws IOException
+   */
+  @ZeppelinApi
+  default InputStream getResultBlob(String blobId, AuthenticationInfo subject)
+      throws IOException {
+    throw new IOException("Result blob is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Get the checksum (hex encoded md5) of the stored note file without parsing the note, it is
+   * used by {@link NotebookRepoSync} to skip the unchanged notes. Repos which get the checksum
+   * for free when listing notes should set it in {@link NoteInfo} instead.
+   * Checksums of different repos are compared, so it is the checksum of the note json with all
+   * the results inlined, repos which keep results out of the note file (see
+   * {@link #getResultBlob}) need to parse the note.
+   *
+   * @param noteId
+   * @param notePath
+   * @param subject contains user information.
+   * @return checksum of the note file, null if it is not supported.
+   * @throws IOException
+   */
+  @ZeppelinApi
+  default String getNoteChecksum(String noteId, String notePath, AuthenticationInfo subject)
+      throws IOException {
+    return null;
+  }
+
   /**
    * Release any underlying resources
    */
@@ -33,12 +33,18 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Notebook repository sync with remote storage
@@ -54,6 +60,8 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   private List<NotebookRepo> repos = new ArrayList<>();
   private boolean oneWaySync;
+  private int syncThreads;
+  private String encoding;
 
   /**
    * @param conf
@@ -66,6 +74,8 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
 
   public void init(ZeppelinConfiguration conf) throws IOException {
     oneWaySync = conf.getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC);
+    syncThreads = Math.max(1, conf.getNotebookSyncThreads());
+    encoding = conf.getString(ConfVars.ZEPPELIN_ENCODING);
     String allStorageClassNames = conf.getNotebookStorageClass().trim();
     if (allStorageClassNames.isEmpty()) {
       allStorageClassNames = DEFAULT_STORAGE;
@@ -202,6 +212,15 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return getRepo(0).get(noteId, notePath, subject);
   }
 
+  /**
+   * Get result blob from the first repository
+   */
+  @Override
+  public InputStream getResultBlob(String blobId, AuthenticationInfo subject)
+      throws IOException {
+    return getRepo(0).getResultBlob(blobId, subject);
+  }
+
   /* Get Note from specific repo (for tests) */
   Note get(int repoIndex, String noteId, String noteName, AuthenticationInfo subject) throws IOException {
     return getRepo(repoIndex).get(noteId, noteName, subject);
@@ -215,7 +234,7 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     getRepo(0).save(note, subject);
     if (getRepoCount() > 1) {
       try {
-        getRepo(1).save(note, subject);
+        getRepo(1).save(inlineResultBlobs(note, getRepo(0), subject), subject);
       }
       catch (IOException e) {
         LOGGER.info(e.getMessage() + ": Failed to write to secondary storage");
@@ -275,14 +294,33 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
    * @throws IOException
    */
   void sync(int sourceRepoIndex, int destRepoIndex, AuthenticationInfo subject) throws IOException {
+    sync(getRepo(sourceRepoIndex), getRepo(destRepoIndex), subject);
+  }
+
+  void sync(NotebookRepo srcRepo, NotebookRepo dstRepo, AuthenticationInfo subject)
+      throws IOException {
     LOGGER.info("Sync started");
-    NotebookRepo srcRepo = getRepo(sourceRepoIndex);
-    NotebookRepo dstRepo = getRepo(destRepoIndex);
-    List<NoteInfo> srcNotes = new ArrayList<>(srcRepo.list(subject).values());
-    List<NoteInfo> dstNotes = new ArrayList<>(dstRepo.list(subject).values());
+    Map<String, NoteInfo> srcNotes = srcRepo.list(subject);
+    Map<String, NoteInfo> dstNotes = dstRepo.list(subject);
+
+    ExecutorService syncExecutor = Executors.newFixedThreadPool(syncThreads, r -> {
+      Thread t = new Thread(r, "NotebookRepoSync-Worker");
+      t.setDaemon(true);
+      return t;
+    });
+    try {
+      sync(srcNotes, srcRepo, dstNotes, dstRepo, subject, syncExecutor);
+    } finally {
+      syncExecutor.shutdownNow();
+    }
+    LOGGER.info("Sync ended");
+  }
 
+  private void sync(Map<String, NoteInfo> srcNotes, NotebookRepo srcRepo,
+      Map<String, NoteInfo> dstNotes, NotebookRepo dstRepo, AuthenticationInfo subject,
+      ExecutorService syncExecutor) throws IOException {
     Map<String, List<NoteInfo>> noteIds = notesCheckDiff(srcNotes, srcRepo, dstNotes, dstRepo,
-        subject);
+        subject, syncExecutor);
     List<NoteInfo> pushNoteIds = noteIds.get(pushKey);
     List<NoteInfo> pullNoteIds = noteIds.get(pullKey);
     List<NoteInfo> delDstNoteIds = noteIds.get(delDstKey);
@@ -292,7 +330,7 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       for (NoteInfo noteInfo : pushNoteIds) {
         LOGGER.info("Note : " + noteIds);
       }
-      pushNotes(subject, pushNoteIds, srcRepo, dstRepo);
+      pushNotes(subject, pushNoteIds, srcRepo, dstRepo, syncExecutor);
     } else {
       LOGGER.info("Nothing to push");
     }
@@ -302,7 +340,7 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       for (NoteInfo noteInfo : pullNoteIds) {
         LOGGER.info("Note : " + noteInfo);
       }
-      pushNotes(subject, pullNoteIds, dstRepo, srcRepo);
+      pushNotes(subject, pullNoteIds, dstRepo, srcRepo, syncExecutor);
     } else {
       LOGGER.info("Nothing to pull");
     }
@@ -316,8 +354,6 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     } else {
       LOGGER.info("Nothing to delete from dest");
     }
-
-    LOGGER.info("Sync ended");
   }
 
   public void sync(AuthenticationInfo subject) throws IOException {
@@ -325,16 +361,43 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
   }
 
   private void pushNotes(AuthenticationInfo subject, List<NoteInfo> notesInfo, NotebookRepo localRepo,
-      NotebookRepo remoteRepo) {
+      NotebookRepo remoteRepo, ExecutorService syncExecutor) throws IOException {
+    List<Future<?>> futures = new ArrayList<>();
     for (NoteInfo noteInfo : notesInfo) {
+      futures.add(syncExecutor.submit(() -> {
+        Note note = localRepo.get(noteInfo.getId(), noteInfo.getPath(), subject);
+        remoteRepo.save(inlineResultBlobs(note, localRepo, subject), subject);
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
       try {
-        remoteRepo.save(localRepo.get(noteInfo.getId(), noteInfo.getPath(), subject), subject);
-      } catch (IOException e) {
-        LOGGER.error("Failed to push note to storage, moving onto next one", e);
+        waitFor(future);
+      } catch (ExecutionException e) {
+        LOGGER.error("Failed to push note to storage, moving onto next one", e.getCause());
       }
     }
   }
 
+  /**
+   * Inline the results which srcRepo stores in blobs before writing note to another repo, which
+   * doesn't have these blobs. A repo with its own blob store moves them to its blobs again.
+   */
+  private Note inlineResultBlobs(Note note, NotebookRepo srcRepo, AuthenticationInfo subject)
+      throws IOException {
+    return ResultBlobStore.inlineResultBlobs(note,
+        blobId -> srcRepo.getResultBlob(blobId, subject), encoding);
+  }
+
+  private static <T> T waitFor(Future<T> future) throws ExecutionException, IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Sync is interrupted", e);
+    }
+  }
+
   private void deleteNotes(AuthenticationInfo subject, List<NoteInfo> noteInfos, NotebookRepo repo)
       throws IOException {
     for (NoteInfo noteInfo : noteInfos) {
@@ -358,39 +421,20 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return repos.get(repoIndex);
   }
 
-  private Map<String, List<NoteInfo>> notesCheckDiff(List<NoteInfo> sourceNotes,
-      NotebookRepo sourceRepo, List<NoteInfo> destNotes, NotebookRepo destRepo,
-      AuthenticationInfo subject) {
+  private Map<String, List<NoteInfo>> notesCheckDiff(Map<String, NoteInfo> sourceNotes,
+      NotebookRepo sourceRepo, Map<String, NoteInfo> destNotes, NotebookRepo destRepo,
+      AuthenticationInfo subject, ExecutorService syncExecutor) throws IOException {
     List<NoteInfo> pushIDs = new ArrayList<>();
     List<NoteInfo> pullIDs = new ArrayList<>();
     List<NoteInfo> delDstIDs = new ArrayList<>();
 
-    NoteInfo dnote;
-    Date sdate, ddate;
-    for (NoteInfo snote : sourceNotes) {
-      dnote = containsID(destNotes, snote.getId());
+    // notes exist in both storages are compared in parallel
+    Map<NoteInfo, Future<String>> compareResults = new LinkedHashMap<>();
+    for (NoteInfo snote : sourceNotes.values()) {
+      NoteInfo dnote = destNotes.get(snote.getId());
       if (dnote != null) {
-        try {
-          /* note exists in source and destination storage systems */
-          sdate = lastModificationDate(sourceRepo.get(snote.getId(), snote.getPath(), subject));
-          ddate = lastModificationDate(destRepo.get(dnote.getId(), dnote.getPath(), subject));
-        } catch (IOException e) {
-          LOGGER.error("Cannot access previously listed note {} from storage ", dnote.getId(), e);
-          continue;
-        }
-
-        if (sdate.compareTo(ddate) != 0) {
-          if (sdate.after(ddate) || oneWaySync) {
-            /* if source contains more up to date note - push
-             * if oneWaySync is enabled, always push no matter who's newer */
-            pushIDs.add(snote);
-            LOGGER.info("Modified note is added to push list : " + sdate);
-          } else {
-            /* destination contains more up to date note - pull */
-            LOGGER.info("Modified note is added to pull list : " + ddate);
-            pullIDs.add(snote);
-          }
-        }
+        compareResults.put(snote, syncExecutor.submit(
+            () -> compareNote(snote, sourceRepo, dnote, destRepo, subject)));
       } else {
         /* note exists in source storage, and absent in destination
          * view source as up to date - push
@@ -399,9 +443,8 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       }
     }
 
-    for (NoteInfo note : destNotes) {
-      dnote = containsID(sourceNotes, note.getId());
-      if (dnote == null) {
+    for (NoteInfo note : destNotes.values()) {
+      if (!sourceNotes.containsKey(note.getId())) {
         /* note exists in destination storage, and absent in source */
         if (oneWaySync) {
           /* if oneWaySync is enabled, delete the note from destination */
@@ -415,6 +458,22 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
       }
     }
 
+    for (Map.Entry<NoteInfo, Future<String>> compareResult : compareResults.entrySet()) {
+      String key;
+      try {
+        key = waitFor(compareResult.getValue());
+      } catch (ExecutionException e) {
+        LOGGER.error("Cannot access previously listed note {} from storage ",
+            compareResult.getKey().getId(), e.getCause());
+        continue;
+      }
+      if (pushKey.equals(key)) {
+        pushIDs.add(compareResult.getKey());
+      } else if (pullKey.equals(key)) {
+        pullIDs.add(compareResult.getKey());
+      }
+    }
+
     Map<String, List<NoteInfo>> map = new HashMap<>();
     map.put(pushKey, pushIDs);
     map.put(pullKey, pullIDs);
@@ -422,14 +481,51 @@ public class NotebookRepoSync implements NotebookRepoWithVersionControl {
     return map;
   }
 
-  private NoteInfo containsID(List <NoteInfo> notes, String id) {
-    for (NoteInfo note : notes) {
-      if (note.getId().equals(id)) {
-        return note;
+  /**
+   * Compare the note which exists in source and destination storage systems. The checksums
+   * of note files are compared first, notes are only loaded when their checksums differ
+   * or are unknown.
+   *
+   * @return pushKey or pullKey if note need to be transferred, null if it is up to date
+   */
+  private String compareNote(NoteInfo snote, NotebookRepo sourceRepo, NoteInfo dnote,
+      NotebookRepo destRepo, AuthenticationInfo subject) throws IOException {
+    String schecksum = getChecksum(snote, sourceRepo, subject);
+    String dchecksum = schecksum != null ? getChecksum(dnote, destRepo, subject) : null;
+    if (schecksum != null && schecksum.equals(dchecksum)) {
+      return null;
+    }
+    if (oneWaySync && schecksum != null && dchecksum != null) {
+      /* if oneWaySync is enabled, always push no matter who's newer */
+      LOGGER.info("Modified note is added to push list : " + snote.getId());
+      return pushKey;
+    }
+
+    Date sdate = lastModificationDate(sourceRepo.get(snote.getId(), snote.getPath(), subject));
+    Date ddate = lastModificationDate(destRepo.get(dnote.getId(), dnote.getPath(), subject));
+    if (sdate.compareTo(ddate) != 0) {
+      if (sdate.after(ddate) || oneWaySync) {
+        /* if source contains more up to date note - push
+         * if oneWaySync is enabled, always push no matter who's newer */
+        LOGGER.info("Modified note is added to push list : " + sdate);
+        return pushKey;
+      } else {
+        /* destination contains more up to date note - pull */
+        LOGGER.info("Modified note is added to pull list : " + ddate);
+        return pullKey;
       }
     }
     return null;
   }
+
+  private String getChecksum(NoteInfo noteInfo, NotebookRepo repo, AuthenticationInfo subject)
+      throws IOException {
+    if (noteInfo.getChecksum() != null) {
+      return noteInfo.getChecksum();
+    }
+    return repo.getNoteChecksum(noteInfo.getId(), noteInfo.getPath(), subject);
+  }
+
   /**
    * checks latest modification date based on Paragraph fields
    * @return -Date
@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.NameScope;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content addressed store of large paragraph results, which are kept out of the note file.
+ *
+ * The data of every result message larger than threshold is written to the blob file
+ * {notebook_dir}/.results/{sha256 of data}, and the message in note file only refers to it
+ * via blobId. Blobs are immutable and shared by all the notes with the same output, so
+ * unchanged results are never rewritten when note is saved again. Blobs are loaded lazily,
+ * only when the paragraph result is displayed.
+ *
+ * The store keeps the blobs referred by each note file. A blob is deleted once no note refers
+ * to it anymore, i.e. its result is overwritten or its paragraph or note is removed.
+ * The references of the existing note files are loaded in background after startup, no blob is
+ * deleted until they are loaded.
+ */
+public class ResultBlobStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResultBlobStore.class);
+
+  public static final String BLOB_FOLDER = ".results";
+  private static final Pattern BLOB_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+  private static final Pattern BLOB_REFERENCE_PATTERN =
+      Pattern.compile("\"blobId\"\\s*:\\s*\"([0-9a-f]{64})\"");
+
+  private final FileObject blobFolder;
+  private final int threshold;
+  private final Charset encoding;
+  // note gson which writes the data of large results to blobs
+  private final Gson gson;
+  // the note serialized by the current thread
+  private final ThreadLocal<NoteReferences> serializingNote = new ThreadLocal<>();
+  // noteId -> blobs referred by the note file, guarded by itself
+  private final Map<String, Set<String>> noteBlobIds = new HashMap<>();
+  // blobId -> number of notes referring to the blob, guarded by noteBlobIds
+  private final Map<String, Integer> blobRefCounts = new HashMap<>();
+  // whether the references of all the existing note files are loaded, guarded by noteBlobIds
+  private boolean referencesLoaded = false;
+  // notes saved or removed while loading references, their note files aren't loaded anymore
+  private final Set<String> updatedNotes = new HashSet<>();
+
+  public ResultBlobStore(FileObject notebookFolder, int threshold, String encoding)
+      throws IOException {
+    this.blobFolder = notebookFolder.resolveFile(BLOB_FOLDER, NameScope.CHILD);
+    this.threshold = threshold;
+    this.encoding = Charset.forName(encoding);
+    this.gson = Note.newGsonBuilder()
+        .registerTypeAdapter(InterpreterResultMessage.class, new ResultMessageSerializer())
+        .create();
+  }
+
+  /**
+   * Write note json to the writer, the data of large results are written to blobs instead.
+   * The note is serialized directly to the writer, without building the json tree of note.
+   *
+   * @return ids of the blobs referred by the note json
+   */
+  public Set<String> toJson(Note note, Writer writer) throws IOException {
+    NoteReferences references = new NoteReferences(note.getId());
+    serializingNote.set(references);
+    try {
+      gson.toJson(note, writer);
+    } catch (JsonIOException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Fail to write note json of " + note.getId(), e);
+    } finally {
+      serializingNote.remove();
+    }
+    return references.blobIds;
+  }
+
+  /**
+   * Serialize result message, with blobId instead of data if the data is large.
+   */
+  private class ResultMessageSerializer implements JsonSerializer<InterpreterResultMessage> {
+    @Override
+    public JsonElement serialize(InterpreterResultMessage msg, Type type,
+                                 JsonSerializationContext context) {
+      JsonObject json = new JsonObject();
+      json.add("type", context.serialize(msg.getType()));
+      String blobId = msg.getBlobId();
+      if (blobId == null && msg.getData() != null && msg.getData().length() > threshold) {
+        try {
+          blobId = put(msg.getData());
+        } catch (IOException e) {
+          throw new JsonIOException(e);
+        }
+      }
+      if (blobId != null) {
+        referTo(blobId);
+        json.addProperty("blobId", blobId);
+      } else if (msg.getData() != null) {
+        json.addProperty("data", msg.getData());
+      }
+      return json;
+    }
+  }
+
+  /**
+   * Write data to blob if it doesn't exist yet.
+   *
+   * @return blobId
+   */
+  public String put(String data) throws IOException {
+    byte[] bytes = data.getBytes(encoding);
+    String blobId = sha256(bytes);
+    // refer to the blob before checking it, so that it can't be deleted meanwhile
+    referTo(blobId);
+    FileObject blobFile = blobFolder.resolveFile(blobId, NameScope.CHILD);
+    if (blobFile.exists()) {
+      return blobId;
+    }
+    blobFolder.createFolder();
+    // write to tmp file first, so that a partial blob is never visible
+    FileObject tmpFile = blobFolder.resolveFile(blobId + ".tmp", NameScope.CHILD);
+    try (OutputStream out = tmpFile.getContent().getOutputStream(false)) {
+      out.write(bytes);
+    }
+    tmpFile.moveTo(blobFile);
+    return blobId;
+  }
+
+  /**
+   * Add the blob to the references of the note being serialized, until the note file is
+   * written the note refers to both its old & new blobs.
+   */
+  private void referTo(String blobId) {
+    NoteReferences references = serializingNote.get();
+    if (references == null) {
+      return;
+    }
+    references.blobIds.add(blobId);
+    synchronized (noteBlobIds) {
+      addReference(references.noteId, blobId);
+    }
+  }
+
+  // must be called with the lock of noteBlobIds
+  private void addReference(String noteId, String blobId) {
+    if (noteBlobIds.computeIfAbsent(noteId, id -> new HashSet<>()).add(blobId)) {
+      blobRefCounts.merge(blobId, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * Load the blobs referred by the existing note file. It must be called for all the notes
+   * before {@link #finishLoadingReferences()}, the notes saved or removed meanwhile are skipped.
+   */
+  public void loadReferences(String noteId, FileObject noteFile) throws IOException {
+    synchronized (noteBlobIds) {
+      if (updatedNotes.contains(noteId)) {
+        return;
+      }
+    }
+    Set<String> blobIds = new HashSet<>();
+    try (InputStream in = noteFile.getContent().getInputStream()) {
+      Matcher matcher = BLOB_REFERENCE_PATTERN.matcher(IOUtils.toString(in, encoding));
+      while (matcher.find()) {
+        blobIds.add(matcher.group(1));
+      }
+    }
+    if (blobIds.isEmpty()) {
+      return;
+    }
+    synchronized (noteBlobIds) {
+      if (updatedNotes.contains(noteId)) {
+        return;
+      }
+      for (String blobId : blobIds) {
+        addReference(noteId, blobId);
+      }
+    }
+  }
+
+  /**
+   * Replace the blobs referred by the note after its note file is written, the blobs which
+   * are not referred by any note anymore are deleted.
+   */
+  public void updateReferences(String noteId, Set<String> blobIds) throws IOException {
+    synchronized (noteBlobIds) {
+      if (!referencesLoaded) {
+        updatedNotes.add(noteId);
+      }
+      Set<String> oldBlobIds = noteBlobIds.remove(noteId);
+      if (oldBlobIds == null) {
+        oldBlobIds = Collections.emptySet();
+      }
+      if (!blobIds.isEmpty()) {
+        noteBlobIds.put(noteId, new HashSet<>(blobIds));
+      }
+      // only the blobs added to or dropped from this note change their reference counts
+      for (String blobId : blobIds) {
+        if (!oldBlobIds.contains(blobId)) {
+          blobRefCounts.merge(blobId, 1, Integer::sum);
+        }
+      }
+      for (String blobId : oldBlobIds) {
+        if (!blobIds.contains(blobId)
+            && blobRefCounts.computeIfPresent(blobId, (id, count) -> count > 1 ? count - 1 : null)
+            == null && referencesLoaded) {
+          delete(blobId);
+        }
+      }
+    }
+  }
+
+  /**
+   * Remove the references of the removed note, its blobs which are not referred by any other
+   * note are deleted.
+   */
+  public void removeReferences(String noteId) throws IOException {
+    updateReferences(noteId, Collections.emptySet());
+  }
+
+  /**
+   * Mark the references of all the note files as loaded, then delete the blobs not referred by
+   * any note, including the ones dropped while loading.
+   */
+  public void finishLoadingReferences() throws IOException {
+    synchronized (noteBlobIds) {
+      referencesLoaded = true;
+      updatedNotes.clear();
+      deleteUnreferencedBlobs();
+    }
+  }
+
+  /**
+   * Delete the blobs not referred by any note, e.g. blobs of the notes removed while zeppelin
+   * was not running or left by a failed save. Called once all the references are loaded.
+   */
+  private void deleteUnreferencedBlobs() throws IOException {
+    synchronized (noteBlobIds) {
+      if (!blobFolder.exists()) {
+        return;
+      }
+      for (FileObject blobFile : blobFolder.getChildren()) {
+        String blobId = blobFile.getName().getBaseName();
+        if (!isReferred(blobId)) {
+          LOGGER.info("Delete result blob {} which is not referred by any note", blobId);
+          blobFile.delete();
+        }
+      }
+    }
+  }
+
+  // must be called with the lock of noteBlobIds
+  private boolean isReferred(String blobId) {
+    return blobRefCounts.containsKey(blobId);
+  }
+
+  private void delete(String blobId) throws IOException {
+    LOGGER.debug("Delete result blob {}", blobId);
+    blobFolder.resolveFile(blobId, NameScope.CHILD).delete();
+  }
+
+  private static String sha256(byte[] bytes) throws IOException {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+      return String.format("%064x", new BigInteger(1, digest));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  public static boolean isBlobId(String blobId) {
+    return blobId != null && BLOB_ID_PATTERN.matcher(blobId).matches();
+  }
+
+  public boolean exists(String blobId) throws IOException {
+    return isBlobId(blobId) && blobFolder.resolveFile(blobId, NameScope.CHILD).exists();
+  }
+
+  public InputStream open(String blobId) throws IOException {
+    if (!isBlobId(blobId)) {
+      throw new IOException("Invalid result blob id: " + blobId);
+    }
+    FileObject blobFile = blobFolder.resolveFile(blobId, NameScope.CHILD);
+    if (!blobFile.exists()) {
+      throw new IOException("Result blob " + blobId + " is not found");
+    }
+    return blobFile.getContent().getInputStream();
+  }
+
+  public String get(String blobId) throws IOException {
+    try (InputStream in = open(blobId)) {
+      return IOUtils.toString(in, encoding);
+    }
+  }
+
+  /**
+   * Source of the blob data, e.g. {@link NotebookRepo#getResultBlob}.
+   */
+  public interface BlobSource {
+    InputStream open(String blobId) throws IOException;
+  }
+
+  /**
+   * Return a copy of note which carries the data of the results stored in blobs, or the note
+   * itself if there is no such result. Only the paragraphs with such results are copied, the
+   * copy shares the other paragraphs and fields with note.
+   */
+  public static Note inlineResultBlobs(Note note, BlobSource source, String encoding)
+      throws IOException {
+    List<Paragraph> paragraphs = note.getParagraphs();
+    boolean inlined = false;
+    for (int i = 0; i < paragraphs.size(); i++) {
+      if (hasResultBlob(paragraphs.get(i))) {
+        paragraphs.set(i, inlineResultBlobs(paragraphs.get(i), source, encoding));
+        inlined = true;
+      }
+    }
+    return inlined ? note.copyWithParagraphs(paragraphs) : note;
+  }
+
+  /**
+   * Return a copy of paragraph which carries the data of its results stored in blobs, or the
+   * paragraph itself if there is no such result.
+   */
+  public static Paragraph inlineResultBlobs(Paragraph p, BlobSource source, String encoding)
+      throws IOException {
+    if (!hasResultBlob(p)) {
+      return p;
+    }
+    Paragraph inlinedParagraph = Paragraph.fromJson(p.toJson());
+    List<InterpreterResultMessage> msgs = new ArrayList<>();
+    for (InterpreterResultMessage msg : p.getReturn().message()) {
+      if (msg.getBlobId() == null) {
+        msgs.add(msg);
+        continue;
+      }
+      try (InputStream in = source.open(msg.getBlobId())) {
+        msgs.add(new InterpreterResultMessage(msg.getType(), IOUtils.toString(in, encoding)));
+      }
+    }
+    inlinedParagraph.setResult(new InterpreterResult(p.getReturn().code(), msgs));
+    return inlinedParagraph;
+  }
+
+  private static boolean hasResultBlob(Paragraph p) {
+    return p.getReturn() != null && p.getReturn().message().stream()
+        .anyMatch(msg -> msg.getBlobId() != null);
+  }
+
+  /**
+   * Blobs referred by the note which is being serialized.
+   */
+  private static class NoteReferences {
+    private final String noteId;
+    private final Set<String> blobIds = new HashSet<>();
+
+    NoteReferences(String noteId) {
+      this.noteId = noteId;
+    }
+  }
+}
@@ -17,17 +17,28 @@
 
 package org.apache.zeppelin.notebook.repo;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.io.IOUtils;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemManager;
@@ -53,6 +64,12 @@ public class VFSNotebookRepo implements NotebookRepo {
   protected FileSystemManager fsManager;
   protected FileObject rootNotebookFileObject;
   protected String rootNotebookFolder;
+  // null if paragraph results are always kept in note file
+  protected ResultBlobStore resultBlobStore;
+  private Thread resultBlobReferenceLoader;
+  // noteId -> lock of the note file, held by save, move & remove of this note.
+  // The entry is dropped when the note is removed.
+  private final Map<String, Object> noteLocks = new ConcurrentHashMap<>();
 
   public VFSNotebookRepo() {
 
@@ -91,6 +108,41 @@ public class VFSNotebookRepo implements NotebookRepo {
     // getPath() method returns a string without root directory in windows, so we use getURI() instead
     // windows does not support paths with "file:///" prepended, so we replace it by "/"
     this.rootNotebookFolder = rootNotebookFileObject.getName().getURI().replace("file:///", "/");
+    int resultBlobThreshold = conf.getNotebookResultBlobThreshold();
+    if (resultBlobThreshold > 0) {
+      this.resultBlobStore = new ResultBlobStore(rootNotebookFileObject, resultBlobThreshold,
+          conf.getString(ConfVars.ZEPPELIN_ENCODING));
+      // the references are only needed to delete blobs, so they are loaded in background
+      // instead of reading every note file before zeppelin starts
+      this.resultBlobReferenceLoader =
+          new Thread(this::loadResultBlobReferences, "ResultBlobReferenceLoader");
+      resultBlobReferenceLoader.setDaemon(true);
+      resultBlobReferenceLoader.start();
+    }
+  }
+
+  private void loadResultBlobReferences() {
+    try {
+      FileObject rootFolder = fsManager.resolveFile(rootNotebookFolder);
+      for (NoteInfo noteInfo : listFolder(rootFolder).values()) {
+        FileObject noteFile = rootFolder.resolveFile(
+            buildNoteFileName(noteInfo.getId(), noteInfo.getPath()), NameScope.DESCENDENT);
+        // skip the note removed meanwhile
+        if (noteFile.exists()) {
+          resultBlobStore.loadReferences(noteInfo.getId(), noteFile);
+        }
+      }
+      resultBlobStore.finishLoadingReferences();
+      LOGGER.info("Result blob references are loaded");
+    } catch (IOException e) {
+      LOGGER.error("Fail to load result blob references, no result blob will be deleted", e);
+    }
+  }
+
+  void awaitResultBlobReferences() throws InterruptedException {
+    if (resultBlobReferenceLoader != null) {
+      resultBlobReferenceLoader.join();
+    }
   }
 
   @Override
@@ -119,7 +171,11 @@ public class VFSNotebookRepo implements NotebookRepo {
         try {
           String noteId = getNoteId(noteFileName);
           String notePath = getNotePath(rootNotebookFolder, noteFileName);
-          noteInfos.put(noteId, new NoteInfo(noteId, notePath));
+          NoteInfo noteInfo = new NoteInfo(noteId, notePath);
+          // modification time and size of the file, without reading it
+          noteInfo.setVersion(fileObject.getContent().getLastModifiedTime() + "_"
+              + fileObject.getContent().getSize());
+          noteInfos.put(noteId, noteInfo);
         } catch (IOException e) {
           LOGGER.warn(e.getMessage());
         }
@@ -132,31 +188,112 @@ public class VFSNotebookRepo implements NotebookRepo {
   public Note get(String noteId, String notePath, AuthenticationInfo subject) throws IOException {
     FileObject noteFile = rootNotebookFileObject.resolveFile(buildNoteFileName(noteId, notePath),
         NameScope.DESCENDENT);
-    String json = IOUtils.toString(noteFile.getContent().getInputStream(),
-        conf.getString(ConfVars.ZEPPELIN_ENCODING));
-    Note note = Note.fromJson(json);
+    Note note;
+    // parse the note file as a stream, large notes are never held in memory as one string
+    try (Reader reader = new BufferedReader(new InputStreamReader(
+        noteFile.getContent().getInputStream(), conf.getString(ConfVars.ZEPPELIN_ENCODING)))) {
+      note = Note.fromJson(reader);
+    }
     // setPath here just for testing, because actually NoteManager will setPath
     note.setPath(notePath);
     return note;
   }
 
+  /**
+   * Operation on the file of one note.
+   */
+  private interface NoteFileOperation {
+    void run() throws IOException;
+  }
+
+  /**
+   * Run the operation while holding the lock of the note. Each note has its own file, so only
+   * the operations of the same note need to be exclusive.
+   */
+  private void withNoteLock(String noteId, NoteFileOperation operation) throws IOException {
+    while (true) {
+      Object lock = noteLocks.computeIfAbsent(noteId, id -> new Object());
+      synchronized (lock) {
+        // otherwise the lock was dropped by remove while waiting for it, take the new one
+        if (noteLocks.get(noteId) == lock) {
+          operation.run();
+          return;
+        }
+      }
+    }
+  }
+
+  int getNumNoteLocks() {
+    return noteLocks.size();
+  }
+
   @Override
-  public synchronized void save(Note note, AuthenticationInfo subject) throws IOException {
-    LOGGER.info("Saving note " + note.getId() + " to " + buildNoteFileName(note));
-    // write to tmp file first, then rename it to the {note_name}_{note_id}.zpln
-    FileObject noteJson = rootNotebookFileObject.resolveFile(
-        buildNoteTempFileName(note), NameScope.DESCENDENT);
-    OutputStream out = null;
+  public void save(Note note, AuthenticationInfo subject) throws IOException {
+    withNoteLock(note.getId(), () -> {
+      LOGGER.info("Saving note " + note.getId() + " to " + buildNoteFileName(note));
+      // write to tmp file first, then rename it to the {note_name}_{note_id}.zpln
+      FileObject noteJson = rootNotebookFileObject.resolveFile(
+          buildNoteTempFileName(note), NameScope.DESCENDENT);
+      Set<String> blobIds = Collections.emptySet();
+      try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+          noteJson.getContent().getOutputStream(false),
+          conf.getString(ConfVars.ZEPPELIN_ENCODING)))) {
+        if (resultBlobStore != null) {
+          blobIds = resultBlobStore.toJson(note, writer);
+        } else {
+          note.toJson(writer);
+        }
+      }
+      noteJson.moveTo(rootNotebookFileObject.resolveFile(
+          buildNoteFileName(note), NameScope.DESCENDENT));
+      if (resultBlobStore != null) {
+        // blobs of the overwritten results are deleted
+        resultBlobStore.updateReferences(note.getId(), blobIds);
+      }
+    });
+  }
+
+  @Override
+  public String getNoteChecksum(String noteId, String notePath, AuthenticationInfo subject)
+      throws IOException {
+    if (resultBlobStore != null) {
+      // the note file refers to the results stored in blobs by blobId, the checksum is of the
+      // note with its results inlined, as the note is stored in the other storages
+      Note note = get(noteId, notePath, subject);
+      String encoding = conf.getString(ConfVars.ZEPPELIN_ENCODING);
+      Note inlinedNote = ResultBlobStore.inlineResultBlobs(note, resultBlobStore::open, encoding);
+      if (inlinedNote != note) {
+        return md5(new ByteArrayInputStream(inlinedNote.toJson().getBytes(encoding)));
+      }
+    }
+    FileObject noteFile = rootNotebookFileObject.resolveFile(buildNoteFileName(noteId, notePath),
+        NameScope.DESCENDENT);
+    try (InputStream in = noteFile.getContent().getInputStream()) {
+      return md5(in);
+    }
+  }
+
+  private static String md5(InputStream in) throws IOException {
     try {
-      out = noteJson.getContent().getOutputStream(false);
-      IOUtils.write(note.toJson().getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)), out);
-    } finally {
-      if (out != null) {
-        out.close();
+      MessageDigest md5 = MessageDigest.getInstance("MD5");
+      byte[] buffer = new byte[8192];
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        md5.update(buffer, 0, n);
       }
+      return String.format("%032x", new BigInteger(1, md5.digest()));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public InputStream getResultBlob(String blobId, AuthenticationInfo subject)
+      throws IOException {
+    if (resultBlobStore == null) {
+      return NotebookRepo.super.getResultBlob(blobId, subject);
     }
-    noteJson.moveTo(rootNotebookFileObject.resolveFile(
-        buildNoteFileName(note), NameScope.DESCENDENT));
+    return resultBlobStore.open(blobId);
   }
 
   @Override
@@ -165,13 +302,15 @@ public class VFSNotebookRepo implements NotebookRepo {
                    String newNotePath,
                    AuthenticationInfo subject) throws IOException {
     LOGGER.info("Move note " + noteId + " from " + notePath + " to " + newNotePath);
-    FileObject fileObject = rootNotebookFileObject.resolveFile(
-        buildNoteFileName(noteId, notePath), NameScope.DESCENDENT);
-    FileObject destFileObject = rootNotebookFileObject.resolveFile(
-        buildNoteFileName(noteId, newNotePath), NameScope.DESCENDENT);
-    // create parent folder first, otherwise move operation will fail
-    destFileObject.getParent().createFolder();
-    fileObject.moveTo(destFileObject);
+    withNoteLock(noteId, () -> {
+      FileObject fileObject = rootNotebookFileObject.resolveFile(
+          buildNoteFileName(noteId, notePath), NameScope.DESCENDENT);
+      FileObject destFileObject = rootNotebookFileObject.resolveFile(
+          buildNoteFileName(noteId, newNotePath), NameScope.DESCENDENT);
+      // create parent folder first, otherwise move operation will fail
+      destFileObject.getParent().createFolder();
+      fileObject.moveTo(destFileObject);
+    });
   }
 
   @Override
@@ -191,9 +330,18 @@ public class VFSNotebookRepo implements NotebookRepo {
   public void remove(String noteId, String notePath, AuthenticationInfo subject)
       throws IOException {
     LOGGER.info("Remove note: " + noteId + ", notePath: " + notePath);
-    FileObject noteFile = rootNotebookFileObject.resolveFile(
-        buildNoteFileName(noteId, notePath), NameScope.DESCENDENT);
-    noteFile.delete(Selectors.SELECT_SELF);
+    withNoteLock(noteId, () -> {
+      try {
+        FileObject noteFile = rootNotebookFileObject.resolveFile(
+            buildNoteFileName(noteId, notePath), NameScope.DESCENDENT);
+        noteFile.delete(Selectors.SELECT_SELF);
+        if (resultBlobStore != null) {
+          resultBlobStore.removeReferences(noteId);
+        }
+      } finally {
+        noteLocks.remove(noteId);
+      }
+    });
   }
 
   @Override
@@ -201,7 +349,12 @@ public class VFSNotebookRepo implements NotebookRepo {
     LOGGER.info("Remove folder: " + folderPath);
     FileObject folderObject = rootNotebookFileObject.resolveFile(
         folderPath.substring(1), NameScope.DESCENDENT);
+    Set<String> noteIds = resultBlobStore != null ? listFolder(folderObject).keySet()
+        : Collections.emptySet();
     folderObject.deleteAll();
+    for (String noteId : noteIds) {
+      resultBlobStore.removeReferences(noteId);
+    }
   }
 
   @Override
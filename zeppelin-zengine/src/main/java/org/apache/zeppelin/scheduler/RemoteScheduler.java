@@ -17,21 +17,34 @@
 
 package org.apache.zeppelin.scheduler;
 
+import org.apache.zeppelin.interpreter.InterpreterGroup;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter.
  * It is some kind of FIFOScheduler, but only run the next job after the current job is submitted
  * to remote.
+ *
+ * The status of the remote job (PENDING -> RUNNING -> FINISHED/ERROR/ABORT) is pushed by the
+ * interpreter process via RemoteInterpreterEventService, so no thread polls the remote status.
+ * Together with RUNNING the interpreter process tells whether its scheduler is full. The next
+ * job is only sent when the remote scheduler can start it, otherwise it stays PENDING in the
+ * local queue until the current job is finished, so that it can still be aborted before it
+ * reaches the interpreter process.
  */
 public class RemoteScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteScheduler.class);
 
+  // Only used as a safeguard in case the status event of the job is lost.
+  private static final long STATUS_CHECK_INTERVAL_MS = 5000;
+
   private RemoteInterpreter remoteInterpreter;
   private ExecutorService executor;
 
@@ -48,153 +61,101 @@ public class RemoteScheduler extends AbstractScheduler {
     JobRunner jobRunner = new JobRunner(this, job);
     executor.execute(jobRunner);
     // wait until it is submitted to the remote
-    while (!jobRunner.isJobSubmittedInRemote()) {
-      try {
-        Thread.sleep(100);
-      } catch (InterruptedException e) {
-        LOGGER.error("Exception in RemoteScheduler while jobRunner.isJobSubmittedInRemote " +
-            "queue.wait", e);
-      }
+    jobRunner.waitUntilSubmittedInRemote();
+  }
+
+  private ManagedInterpreterGroup getManagedInterpreterGroup() {
+    InterpreterGroup interpreterGroup = remoteInterpreter.getInterpreterGroup();
+    if (interpreterGroup instanceof ManagedInterpreterGroup) {
+      return (ManagedInterpreterGroup) interpreterGroup;
     }
+    return null;
   }
 
-  /**
-   * Role of the class is getting status info from remote process from PENDING to
-   * RUNNING status. This thread will exist after job is in RUNNING/FINISHED state.
-   */
-  private class JobStatusPoller extends Thread {
-    private long checkIntervalMsec;
-    private volatile boolean terminate;
-    private JobListener listener;
+  private class JobRunner implements Runnable {
+    private RemoteScheduler scheduler;
     private Job job;
-    private volatile Status lastStatus;
+    private volatile boolean jobExecuted;
+    private boolean jobSubmittedRemotely;
+    private final BiConsumer<Status, Boolean> remoteStatusListener = this::onRemoteStatusChange;
+    private final ManagedInterpreterGroup interpreterGroup;
 
-    public JobStatusPoller(Job job,
-                           JobListener listener,
-                           long checkIntervalMsec) {
-      setName("JobStatusPoller-" + job.getId());
-      this.checkIntervalMsec = checkIntervalMsec;
+    public JobRunner(RemoteScheduler scheduler, Job job) {
+      this.scheduler = scheduler;
       this.job = job;
-      this.listener = listener;
-      this.terminate = false;
+      jobExecuted = false;
+      jobSubmittedRemotely = false;
+      // register before the job is sent, so that no status event is missed
+      interpreterGroup = getManagedInterpreterGroup();
+      if (interpreterGroup != null) {
+        interpreterGroup.addRemoteJobStatusListener(job.getId(), remoteStatusListener);
+      }
     }
 
-    @Override
-    public void run() {
-      while (terminate == false) {
-        synchronized (this) {
-          try {
-            this.wait(checkIntervalMsec);
-          } catch (InterruptedException e) {
-            LOGGER.error("Exception in RemoteScheduler while run this.wait", e);
-          }
+    public synchronized void waitUntilSubmittedInRemote() {
+      while (!jobSubmittedRemotely) {
+        try {
+          wait(STATUS_CHECK_INTERVAL_MS);
+        } catch (InterruptedException e) {
+          LOGGER.error("Exception in RemoteScheduler while waiting job {} to be submitted",
+              job.getId(), e);
         }
-
-        if (terminate) {
-          // terminated by shutdown
-          break;
-        }
-
-        Status newStatus = getStatus();
-        if (newStatus == Status.RUNNING ||
-                newStatus == Status.FINISHED ||
-                newStatus == Status.ERROR ||
-                newStatus == Status.ABORT) {
-          // Exit this thread when job is in RUNNING/FINISHED/ERROR/ABORT state.
-          break;
+        if (!jobSubmittedRemotely) {
+          checkRemoteStatus();
         }
       }
-      terminate = true;
     }
 
-    public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
-      }
+    private synchronized void markSubmittedInRemote() {
+      jobSubmittedRemotely = true;
+      notifyAll();
     }
 
-    public Status getStatus() {
+    private void checkRemoteStatus() {
       if (!remoteInterpreter.isOpened()) {
-        if (lastStatus != null) {
-          return lastStatus;
-        } else {
-          return job.getStatus();
-        }
+        return;
       }
       Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
-      if (status == Status.UNKNOWN) {
-        // not found this job in the remote schedulers.
-        // maybe not submitted, maybe already finished
-        return job.getStatus();
+      if (status != Status.UNKNOWN) {
+        // the polled status doesn't say whether the remote scheduler is full
+        onRemoteStatusChange(status, true);
       }
-      listener.onStatusChange(job, lastStatus, status);
-      lastStatus = status;
-      return status;
-    }
-  }
-
-  private class JobRunner implements Runnable, JobListener {
-    private final Logger logger = LoggerFactory.getLogger(JobRunner.class);
-    private RemoteScheduler scheduler;
-    private Job job;
-    private volatile boolean jobExecuted;
-    private volatile boolean jobSubmittedRemotely;
-
-    public JobRunner(RemoteScheduler scheduler, Job job) {
-      this.scheduler = scheduler;
-      this.job = job;
-      jobExecuted = false;
-      jobSubmittedRemotely = false;
-    }
-
-    public boolean isJobSubmittedInRemote() {
-      return jobSubmittedRemotely;
     }
 
     @Override
     public void run() {
-      JobStatusPoller jobStatusPoller = new JobStatusPoller(job, this, 100);
-      jobStatusPoller.start();
-      scheduler.runJob(job);
-      jobExecuted = true;
-      jobSubmittedRemotely = true;
-      jobStatusPoller.shutdown();
       try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        logger.error("JobStatusPoller interrupted", e);
+        scheduler.runJob(job);
+      } finally {
+        jobExecuted = true;
+        if (interpreterGroup != null) {
+          interpreterGroup.removeRemoteJobStatusListener(job.getId(), remoteStatusListener);
+        }
+        markSubmittedInRemote();
       }
     }
 
-    @Override
-    public void onProgressUpdate(Job job, int progress) {
-    }
-
-    // Call by JobStatusPoller thread, update status when JobStatusPoller get new status.
-    @Override
-    public void onStatusChange(Job job, Status before, Status after) {
-      if (jobExecuted == false) {
-        if (after == Status.FINISHED || after == Status.ABORT
-                || after == Status.ERROR) {
-          // it can be status of last run.
-          // so not updating the remoteStatus
-          return;
-        } else if (after == Status.RUNNING) {
-          jobSubmittedRemotely = true;
-          job.setStatus(Status.RUNNING);
-        }
-      } else {
-        jobSubmittedRemotely = true;
+    // Called when the interpreter process pushes the new status of this job.
+    private void onRemoteStatusChange(Status status, boolean remoteSchedulerFull) {
+      if (jobExecuted) {
+        return;
       }
-
-      // only set status when the status fetched from JobStatusPoller is RUNNING,
-      // the status of job itself is still in PENDING.
-      // Because the status from JobStatusPoller may happen after the job is finished.
-      synchronized (job) {
-        if (after == Status.RUNNING && job.getStatus() == Status.PENDING) {
-          job.setStatus(Status.RUNNING);
+      if (status == Status.RUNNING) {
+        // only set status when the status of job itself is still in PENDING.
+        // Because the status event may arrive after the job is finished.
+        synchronized (job) {
+          if (job.getStatus() == Status.PENDING) {
+            job.setStatus(Status.RUNNING);
+          }
+        }
+        // the next job would only wait in the remote queue, where it can't be aborted as PENDING
+        if (!remoteSchedulerFull) {
+          markSubmittedInRemote();
         }
+      } else if (status == Status.FINISHED || status == Status.ERROR
+          || status == Status.ABORT) {
+        // the final status of job is set by runJob when the remote call returns
+        markSubmittedInRemote();
       }
     }
   }
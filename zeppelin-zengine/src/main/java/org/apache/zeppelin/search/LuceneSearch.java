@@ -20,14 +20,26 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -38,16 +50,18 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TrackingIndexWriter;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
@@ -65,9 +79,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Search (both, indexing and query) the notebooks using Lucene. Query is thread-safe, as creates
- * new IndexReader every time. Index is thread-safe, as re-uses single IndexWriter, which is
- * thread-safe.
+ * Search (both, indexing and query) the notebooks using Lucene.
+ *
+ * Queries share one near-real-time searcher, which is reopened in background and sees the index
+ * updates before they are committed. Updates are committed in batches, either periodically or
+ * when the number of uncommitted updates reaches the commit size. Uncommitted updates of on-disk
+ * index are kept in a journal, and replayed when the index is opened again.
  */
 public class LuceneSearch extends SearchService {
   private static final Logger logger = LoggerFactory.getLogger(LuceneSearch.class);
@@ -76,12 +93,34 @@ public class LuceneSearch extends SearchService {
   private static final String SEARCH_FIELD_TITLE = "header";
   private static final String PARAGRAPH = "paragraph";
   private static final String ID_FIELD = "id";
+  private static final String FINGERPRINT_FIELD = "fingerprint";
+  private static final String REPO_VERSION_FIELD = "repoVersion";
+  private static final String JOURNAL_FILE = "zeppelin-search.journal";
+
+  // searcher is reopened at least every second
+  private static final double MAX_STALE_SEC = 1.0;
+  // max time a query waits for the latest update to become searchable
+  private static final int MAX_WAIT_UPDATE_MS = 1000;
 
   private Path indexPath;
   private Directory indexDirectory;
   private Analyzer analyzer;
   private IndexWriterConfig indexWriterConfig;
   private IndexWriter indexWriter;
+  private TrackingIndexWriter trackingIndexWriter;
+  private SearcherManager searcherManager;
+  private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+  private ScheduledExecutorService commitExecutor;
+  // null when index is in memory
+  private SearchIndexJournal journal;
+
+  private final int commitSize;
+  private final int rebuildThreads;
+  // guards the order of journal entries, index updates and commit
+  private final Object updateLock = new Object();
+  private int uncommittedUpdates = 0;
+  // generation of the latest update, queries wait until it's searchable
+  private volatile long latestGeneration = 0;
 
   @Inject
   public LuceneSearch(ZeppelinConfiguration conf) {
@@ -91,6 +130,7 @@ public class LuceneSearch extends SearchService {
       try {
         this.indexPath = Paths.get(conf.getZeppelinSearchIndexPath());
         this.indexDirectory = FSDirectory.open(indexPath);
+        this.journal = new SearchIndexJournal(indexPath.resolve(JOURNAL_FILE));
         logger.info("Use {} for storing lucene search index", this.indexPath);
       } catch (IOException e) {
         throw new RuntimeException(
@@ -99,27 +139,67 @@ public class LuceneSearch extends SearchService {
     } else {
       this.indexDirectory = new RAMDirectory();
     }
+    this.commitSize = conf.getZeppelinSearchIndexCommitSize();
+    this.rebuildThreads = conf.getZeppelinSearchIndexRebuildThreads();
     this.analyzer = new StandardAnalyzer();
     this.indexWriterConfig = new IndexWriterConfig(analyzer);
     try {
       this.indexWriter = new IndexWriter(indexDirectory, indexWriterConfig);
+      this.trackingIndexWriter = new TrackingIndexWriter(indexWriter);
+      recoverUncommittedUpdates();
+
+      this.searcherManager = new SearcherManager(indexWriter, true, new SearcherFactory());
+      this.reopenThread = new ControlledRealTimeReopenThread<>(
+          trackingIndexWriter, searcherManager, MAX_STALE_SEC, 0);
+      this.reopenThread.setName("LuceneSearch-Reopen-Thread");
+      this.reopenThread.setDaemon(true);
+      this.reopenThread.start();
+
+      long commitInterval = conf.getZeppelinSearchIndexCommitInterval();
+      this.commitExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "LuceneSearch-Commit-Thread");
+        t.setDaemon(true);
+        return t;
+      });
+      this.commitExecutor.scheduleWithFixedDelay(this::commitSafely,
+          commitInterval, commitInterval, TimeUnit.MILLISECONDS);
     } catch (IOException e) {
       logger.error("Failed to create new IndexWriter", e);
     }
   }
 
+  /**
+   * Apply the updates which were not committed before zeppelin server stopped.
+   */
+  private void recoverUncommittedUpdates() throws IOException {
+    if (journal == null) {
+      return;
+    }
+    List<SearchIndexJournal.Entry> entries = journal.read();
+    if (entries.isEmpty()) {
+      return;
+    }
+    logger.info("Recover {} uncommitted updates of search index", entries.size());
+    for (SearchIndexJournal.Entry entry : entries) {
+      apply(entry);
+    }
+    indexWriter.commit();
+    journal.reset();
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#query(java.lang.String)
    */
   @Override
   public List<Map<String, String>> query(String queryStr) {
-    if (null == indexDirectory) {
+    if (null == indexDirectory || null == searcherManager) {
       throw new IllegalStateException(
           "Something went wrong on instance creation time, index dir is null");
     }
     List<Map<String, String>> result = Collections.emptyList();
-    try (IndexReader indexReader = DirectoryReader.open(indexDirectory)) {
-      IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+    IndexSearcher indexSearcher = null;
+    try {
+      indexSearcher = acquireSearcher();
       Analyzer analyzer = new StandardAnalyzer();
       MultiFieldQueryParser parser =
           new MultiFieldQueryParser(new String[] {SEARCH_FIELD_TEXT, SEARCH_FIELD_TITLE}, analyzer);
@@ -135,10 +215,28 @@ public class LuceneSearch extends SearchService {
       logger.error("Failed to open index dir {}, make sure indexing finished OK", indexDirectory, e);
     } catch (ParseException e) {
       logger.error("Failed to parse query " + queryStr, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          logger.error("Failed to release index searcher", e);
+        }
+      }
     }
     return result;
   }
 
+  /**
+   * Acquire the searcher after the updates done so far become searchable, it must be released.
+   */
+  private IndexSearcher acquireSearcher() throws IOException, InterruptedException {
+    reopenThread.waitForGeneration(latestGeneration, MAX_WAIT_UPDATE_MS);
+    return searcherManager.acquire();
+  }
+
   private List<Map<String, String>> doSearch(
       IndexSearcher searcher, Query query, Analyzer analyzer, Highlighter highlighter) {
     List<Map<String, String>> matchingParagraphs = Lists.newArrayList();
@@ -204,21 +302,26 @@ public class LuceneSearch extends SearchService {
    */
   @Override
   public void updateIndexDoc(Note note) throws IOException {
-    updateIndexNoteName(note);
+    updateIndexDoc(note, null);
+  }
+
+  /**
+   * @param repoVersion NoteInfo#getVersion of the note in NotebookRepo, null if unknown
+   */
+  private void updateIndexDoc(Note note, String repoVersion) throws IOException {
+    updateIndexNoteName(note, repoVersion);
     for (Paragraph p : note.getParagraphs()) {
       updateIndexParagraph(note, p);
     }
   }
 
-  private void updateIndexNoteName(Note note) throws IOException {
-    String noteName = note.getName();
+  private void updateIndexNoteName(Note note, String repoVersion) throws IOException {
+    String noteName = note.getName() == null ? "" : note.getName();
     String noteId = note.getId();
     logger.debug("Indexing Notebook {}, '{}'", noteId, noteName);
-    if (null == noteName || noteName.isEmpty()) {
-      logger.debug("Skipping empty notebook name");
-      return;
-    }
-    updateDoc(noteId, noteName, null);
+    // the document is written even for empty note name, it carries the fingerprint which is
+    // used to find unchanged and removed notes when rebuilding index
+    updateDoc(noteId, noteName, null, fingerprint(note), repoVersion);
   }
 
   private void updateIndexParagraph(Note note, Paragraph p) throws IOException {
@@ -226,7 +329,34 @@ public class LuceneSearch extends SearchService {
       logger.debug("Skipping empty paragraph");
       return;
     }
-    updateDoc(note.getId(), note.getName(), p);
+    updateDoc(note.getId(), note.getName(), p, null, null);
+  }
+
+  /**
+   * Fingerprint of the indexed content of the note, it's stored in the document of note name, so
+   * that rebuilding index can skip the notes which are not changed.
+   */
+  static String fingerprint(Note note) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      updateDigest(digest, note.getName());
+      for (Paragraph p : note.getParagraphs()) {
+        updateDigest(digest, p.getId());
+        updateDigest(digest, p.getText());
+        updateDigest(digest, p.getTitle());
+      }
+      return new BigInteger(1, digest.digest()).toString(16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void updateDigest(MessageDigest digest, String value) {
+    if (value != null) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+    // separator, so that null and different splits of the same text don't collide
+    digest.update((byte) 0);
   }
 
   /**
@@ -236,19 +366,76 @@ public class LuceneSearch extends SearchService {
    * @param noteId
    * @param noteName
    * @param p
+   * @param fingerprint fingerprint of the note, only for the document of note name
+   * @param repoVersion version of the note in NotebookRepo, only for the document of note name
    * @throws IOException
    */
-  private void updateDoc(String noteId, String noteName, Paragraph p) throws IOException {
+  private void updateDoc(String noteId, String noteName, Paragraph p, String fingerprint,
+                         String repoVersion) throws IOException {
     String id = formatId(noteId, p);
-    Document doc = newDocument(id, noteName, p);
     try {
-      indexWriter.updateDocument(new Term(ID_FIELD, id), doc);
-      indexWriter.commit();
+      SearchIndexJournal.Entry entry = newJournalEntry(id, noteName, p);
+      entry.fingerprint = fingerprint;
+      entry.repoVersion = repoVersion;
+      update(entry);
     } catch (IOException e) {
       logger.error("Failed to update index of notebook {}", noteId, e);
     }
   }
 
+  /**
+   * Journal and apply the update, it's committed later in batch.
+   */
+  private void update(SearchIndexJournal.Entry entry) throws IOException {
+    synchronized (updateLock) {
+      if (journal != null) {
+        journal.append(entry);
+      }
+      latestGeneration = apply(entry);
+      uncommittedUpdates++;
+      if (uncommittedUpdates >= commitSize) {
+        commit();
+      }
+    }
+  }
+
+  /**
+   * @return generation of the update
+   */
+  private long apply(SearchIndexJournal.Entry entry) throws IOException {
+    switch (entry.type) {
+      case UPDATE:
+        return trackingIndexWriter.updateDocument(new Term(ID_FIELD, entry.id),
+            newDocument(entry));
+      case DELETE:
+        return trackingIndexWriter.deleteDocuments(
+            new WildcardQuery(new Term(ID_FIELD, entry.id)));
+      default:
+        throw new IOException("Unknown type of journal entry " + entry.type);
+    }
+  }
+
+  private void commit() throws IOException {
+    synchronized (updateLock) {
+      if (uncommittedUpdates == 0) {
+        return;
+      }
+      indexWriter.commit();
+      uncommittedUpdates = 0;
+      if (journal != null) {
+        journal.reset();
+      }
+    }
+  }
+
+  private void commitSafely() {
+    try {
+      commit();
+    } catch (IOException e) {
+      logger.error("Failed to commit the notebook index", e);
+    }
+  }
+
   /**
    * If paragraph is not null, id is <noteId>/paragraphs/<paragraphId>, otherwise it's just
    * <noteId>.
@@ -279,22 +466,34 @@ public class LuceneSearch extends SearchService {
    * @param p paragraph
    * @return
    */
-  private Document newDocument(String id, String noteName, Paragraph p) {
-    Document doc = new Document();
-
-    Field pathField = new StringField(ID_FIELD, id, Field.Store.YES);
-    doc.add(pathField);
-    doc.add(new StringField("title", noteName, Field.Store.YES));
-
+  private SearchIndexJournal.Entry newJournalEntry(String id, String noteName, Paragraph p) {
     if (null != p) {
-      doc.add(new TextField(SEARCH_FIELD_TEXT, p.getText(), Field.Store.YES));
-      if (p.getTitle() != null) {
-        doc.add(new TextField(SEARCH_FIELD_TITLE, p.getTitle(), Field.Store.YES));
-      }
       Date date = p.getDateStarted() != null ? p.getDateStarted() : p.getDateCreated();
-      doc.add(new LongField("modified", date.getTime(), Field.Store.NO));
+      return SearchIndexJournal.Entry.update(id, noteName, p.getText(), p.getTitle(),
+          date.getTime());
     } else {
-      doc.add(new TextField(SEARCH_FIELD_TEXT, noteName, Field.Store.YES));
+      return SearchIndexJournal.Entry.update(id, noteName, noteName, null, null);
+    }
+  }
+
+  private Document newDocument(SearchIndexJournal.Entry entry) {
+    Document doc = new Document();
+
+    Field pathField = new StringField(ID_FIELD, entry.id, Field.Store.YES);
+    doc.add(pathField);
+    doc.add(new StringField("title", entry.title, Field.Store.YES));
+    doc.add(new TextField(SEARCH_FIELD_TEXT, entry.text, Field.Store.YES));
+    if (entry.header != null) {
+      doc.add(new TextField(SEARCH_FIELD_TITLE, entry.header, Field.Store.YES));
+    }
+    if (entry.modified != null) {
+      doc.add(new LongField("modified", entry.modified, Field.Store.NO));
+    }
+    if (entry.fingerprint != null) {
+      doc.add(new StringField(FINGERPRINT_FIELD, entry.fingerprint, Field.Store.YES));
+    }
+    if (entry.repoVersion != null) {
+      doc.add(new StringField(REPO_VERSION_FIELD, entry.repoVersion, Field.Store.YES));
     }
     return doc;
   }
@@ -308,14 +507,14 @@ public class LuceneSearch extends SearchService {
     long start = System.nanoTime();
     try {
       for (Note note : collection) {
-        addIndexDocAsync(note);
+        updateIndexDoc(note);
         docsIndexed++;
       }
     } catch (IOException e) {
       logger.error("Failed to index all Notebooks", e);
     } finally {
       try { // save what's been indexed, even if not full collection
-        indexWriter.commit();
+        commit();
       } catch (IOException e) {
         logger.error("Failed to save index", e);
       }
@@ -333,30 +532,12 @@ public class LuceneSearch extends SearchService {
   @Override
   public void addIndexDoc(Note note) {
     try {
-      addIndexDocAsync(note);
-      indexWriter.commit();
+      updateIndexDoc(note);
     } catch (IOException e) {
       logger.error("Failed to add note {} to index", note, e);
     }
   }
 
-  /**
-   * Indexes the given notebook, but does not commit changes.
-   *
-   * @param note
-   * @throws IOException
-   */
-  private void addIndexDocAsync(Note note) throws IOException {
-    indexNoteName(indexWriter, note.getId(), note.getName());
-    for (Paragraph doc : note.getParagraphs()) {
-      if (doc.getText() == null) {
-        logger.debug("Skipping empty paragraph");
-        continue;
-      }
-      indexDoc(indexWriter, note.getId(), note.getName(), doc);
-    }
-  }
-
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#deleteIndexDocs(org.apache.zeppelin.notebook.Note)
    */
@@ -378,8 +559,7 @@ public class LuceneSearch extends SearchService {
     String fullNoteOrJustParagraph = formatDeleteId(noteId, p);
     logger.debug("Deleting note {}, out of: {}", noteId, indexWriter.numDocs());
     try {
-      indexWriter.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, fullNoteOrJustParagraph)));
-      indexWriter.commit();
+      update(SearchIndexJournal.Entry.delete(fullNoteOrJustParagraph));
     } catch (IOException e) {
       logger.error("Failed to delete {} from index by '{}'", noteId, fullNoteOrJustParagraph, e);
     }
@@ -391,45 +571,142 @@ public class LuceneSearch extends SearchService {
    */
   @Override
   public void close() {
+    if (commitExecutor != null) {
+      commitExecutor.shutdown();
+    }
+    if (reopenThread != null) {
+      reopenThread.close();
+    }
     try {
+      commit();
+      if (searcherManager != null) {
+        searcherManager.close();
+      }
       indexWriter.close();
+      if (journal != null) {
+        journal.close();
+      }
     } catch (IOException e) {
       logger.error("Failed to .close() the notebook index", e);
     }
   }
 
+  @Override
+  public void startRebuildIndex(Map<String, String> notesInfo, Map<String, String> noteVersions,
+                                NoteLoader noteLoader) {
+    Thread thread = new Thread(() -> rebuildIndex(notesInfo, noteVersions, noteLoader));
+    thread.setName("LuceneSearch-RebuildIndex-Thread");
+    thread.start();
+  }
+
   /**
-   * Indexes a notebook name
+   * Notes whose version in NotebookRepo equals the one recorded in the index are skipped without
+   * loading them. The other notes are loaded one by one by a pool of
+   * zeppelin.search.index.rebuild.threads threads, and only re-indexed when their fingerprint
+   * differs from the one in the index. Notes which don't exist any more are removed from index.
    *
-   * @throws IOException
+   * @return number of re-indexed notes
    */
-  private void indexNoteName(IndexWriter w, String noteId, String noteName) throws IOException {
-    logger.debug("Indexing Notebook {}, '{}'", noteId, noteName);
-    if (null == noteName || noteName.isEmpty()) {
-      logger.debug("Skipping empty notebook name");
-      return;
+  int rebuildIndex(Map<String, String> notesInfo, Map<String, String> noteVersions,
+                   NoteLoader noteLoader) {
+    logger.info("Starting rebuild index");
+    long start = System.currentTimeMillis();
+    Map<String, IndexedNote> indexedNotes = getIndexedNotes();
+    for (String noteId : indexedNotes.keySet()) {
+      if (!notesInfo.containsKey(noteId)) {
+        deleteIndexDocs(noteId);
+      }
     }
-    indexDoc(w, noteId, noteName, null);
+
+    ExecutorService rebuildExecutor = Executors.newFixedThreadPool(rebuildThreads, r -> {
+      Thread t = new Thread(r, "LuceneSearch-RebuildIndex-Worker");
+      t.setDaemon(true);
+      return t;
+    });
+    AtomicInteger reindexed = new AtomicInteger(0);
+    for (Map.Entry<String, String> noteInfo : notesInfo.entrySet()) {
+      rebuildExecutor.execute(() -> {
+        String noteId = noteInfo.getKey();
+        String repoVersion = noteVersions.get(noteId);
+        IndexedNote indexedNote = indexedNotes.get(noteId);
+        if (repoVersion != null && indexedNote != null
+            && repoVersion.equals(indexedNote.repoVersion)) {
+          // not changed in NotebookRepo since it is indexed
+          return;
+        }
+        try {
+          Note note = noteLoader.load(noteId, noteInfo.getValue());
+          if (indexedNote == null || !fingerprint(note).equals(indexedNote.fingerprint)) {
+            // remove the documents of paragraphs which don't exist any more
+            deleteIndexDocs(noteId);
+            updateIndexDoc(note, repoVersion);
+            reindexed.incrementAndGet();
+          } else if (repoVersion != null) {
+            // content is the same, record the version so that the note isn't loaded next time
+            updateIndexNoteName(note, repoVersion);
+          }
+        } catch (Exception e) {
+          logger.warn("Failed to rebuild index of note " + noteInfo.getValue(), e);
+        }
+      });
+    }
+    rebuildExecutor.shutdown();
+    try {
+      rebuildExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      rebuildExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    commitSafely();
+    logger.info("Finish rebuild index, {} of {} notes are re-indexed, took {}ms",
+        reindexed.get(), notesInfo.size(), System.currentTimeMillis() - start);
+    return reindexed.get();
   }
 
-  /** Indexes a single document: - code of the paragraph (if non-null) - or just a note name */
-  private void indexDoc(IndexWriter w, String noteId, String noteName, Paragraph p)
-      throws IOException {
-    String id = formatId(noteId, p);
-    Document doc = newDocument(id, noteName, p);
-    w.addDocument(doc);
+  /**
+   * Fingerprint and version of a note recorded in index.
+   */
+  private static class IndexedNote {
+    final String fingerprint;
+    final String repoVersion;
+
+    IndexedNote(String fingerprint, String repoVersion) {
+      this.fingerprint = fingerprint;
+      this.repoVersion = repoVersion;
+    }
   }
 
-  @Override
-  public void startRebuildIndex(List<Note> notes) {
-    Thread thread = new Thread(() -> {
-      logger.info("Starting rebuild index");
-      for (Note note:  notes) {
-        addIndexDoc(note);
+  /**
+   * @return noteId -> fingerprint and version of the notes in index
+   */
+  private Map<String, IndexedNote> getIndexedNotes() {
+    Map<String, IndexedNote> indexedNotes = new HashMap<>();
+    IndexSearcher indexSearcher = null;
+    try {
+      indexSearcher = acquireSearcher();
+      int maxDoc = Math.max(1, indexSearcher.getIndexReader().maxDoc());
+      ScoreDoc[] hits = indexSearcher.search(
+          new WildcardQuery(new Term(FINGERPRINT_FIELD, "*")), maxDoc).scoreDocs;
+      Set<String> fields = new HashSet<>(
+          Arrays.asList(ID_FIELD, FINGERPRINT_FIELD, REPO_VERSION_FIELD));
+      for (ScoreDoc hit : hits) {
+        Document doc = indexSearcher.doc(hit.doc, fields);
+        indexedNotes.put(doc.get(ID_FIELD),
+            new IndexedNote(doc.get(FINGERPRINT_FIELD), doc.get(REPO_VERSION_FIELD)));
       }
-      logger.info("Finish rebuild index");
-    });
-    thread.setName("LuceneSearch-RebuildIndex-Thread");
-    thread.start();
+    } catch (IOException e) {
+      logger.error("Failed to read fingerprints of notes from index", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          logger.error("Failed to release index searcher", e);
+        }
+      }
+    }
+    return indexedNotes;
   }
 }
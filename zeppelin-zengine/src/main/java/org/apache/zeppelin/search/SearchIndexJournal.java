@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.search;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Journal of the index updates which are not committed yet, one json line per update.
+ * It is replayed when the index is opened after zeppelin server stopped without committing them,
+ * and truncated after every commit. Each update is fsynced before it's applied to the index, so
+ * that an update which is not committed to the index is never lost when the machine crashes.
+ */
+class SearchIndexJournal {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SearchIndexJournal.class);
+  private static final Gson GSON = new Gson();
+
+  /**
+   * One index update
+   */
+  static class Entry {
+    enum Type {
+      UPDATE,
+      DELETE
+    }
+
+    Type type;
+    // id of updated document, or id pattern of deleted documents
+    String id;
+    String title;
+    String text;
+    String header;
+    Long modified;
+    // fingerprint of note, only for the document of note name
+    String fingerprint;
+    // NoteInfo#getVersion of the indexed note, only for the document of note name
+    String repoVersion;
+
+    static Entry update(String id, String title, String text, String header, Long modified) {
+      Entry entry = new Entry();
+      entry.type = Type.UPDATE;
+      entry.id = id;
+      entry.title = title;
+      entry.text = text;
+      entry.header = header;
+      entry.modified = modified;
+      return entry;
+    }
+
+    static Entry delete(String idPattern) {
+      Entry entry = new Entry();
+      entry.type = Type.DELETE;
+      entry.id = idPattern;
+      return entry;
+    }
+  }
+
+  private final Path path;
+  private FileOutputStream out;
+  private Writer writer;
+
+  SearchIndexJournal(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Read the entries which were not committed. The last entry is skipped if it was only partially
+   * written.
+   */
+  List<Entry> read() throws IOException {
+    List<Entry> entries = new ArrayList<>();
+    if (!Files.exists(path)) {
+      return entries;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        try {
+          Entry entry = GSON.fromJson(line, Entry.class);
+          if (entry != null && entry.type != null) {
+            entries.add(entry);
+          }
+        } catch (JsonSyntaxException e) {
+          LOGGER.warn("Skip broken entry of search index journal {}", path);
+          break;
+        }
+      }
+    }
+    return entries;
+  }
+
+  synchronized void append(Entry entry) throws IOException {
+    if (writer == null) {
+      Files.createDirectories(path.getParent());
+      out = new FileOutputStream(path.toFile(), true);
+      writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+    writer.write(GSON.toJson(entry));
+    writer.write('\n');
+    writer.flush();
+    out.getFD().sync();
+  }
+
+  /**
+   * Discard all the entries, called after they are committed.
+   */
+  synchronized void reset() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+  }
+
+  synchronized void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+      writer = null;
+      out = null;
+    }
+  }
+}
@@ -134,5 +134,21 @@ public abstract class SearchService extends NoteEventAsyncListener {
     }
   }
 
-  public abstract void startRebuildIndex(List<Note> notes);
+  /**
+   * Rebuild the index of the given notes in background.
+   *
+   * @param notesInfo noteId -> notePath of all the notes
+   * @param noteVersions noteId -> NoteInfo#getVersion of the notes whose version is known
+   * @param noteLoader load the note to index, the note doesn't need to be kept in memory
+   */
+  public abstract void startRebuildIndex(Map<String, String> notesInfo,
+                                         Map<String, String> noteVersions,
+                                         NoteLoader noteLoader);
+
+  /**
+   * Load note for rebuilding index
+   */
+  public interface NoteLoader {
+    Note load(String noteId, String notePath) throws IOException;
+  }
 }
@@ -1,5 +1,6 @@
 package org.apache.zeppelin.interpreter;
 
+import com.google.common.io.Files;
 import org.apache.commons.io.FileUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
@@ -29,6 +30,7 @@ public abstract class AbstractInterpreterTest {
   protected InterpreterSettingManager interpreterSettingManager;
   protected InterpreterFactory interpreterFactory;
   protected File zeppelinHome;
+  protected File testDir;
   protected File interpreterDir;
   protected File confDir;
   protected File notebookDir;
@@ -39,10 +41,11 @@ public abstract class AbstractInterpreterTest {
     // copy the resources files to a temp folder
     zeppelinHome = new File("..");
     LOGGER.info("ZEPPELIN_HOME: " + zeppelinHome.getAbsolutePath());
-    interpreterDir = new File(zeppelinHome, "interpreter_" + getClass().getSimpleName());
-    confDir = new File(zeppelinHome, "conf_" + getClass().getSimpleName());
-    notebookDir = new File(zeppelinHome, "notebook_" + getClass().getSimpleName());
-    FileUtils.deleteDirectory(notebookDir);
+    // the files written by tests are kept out of the source tree
+    testDir = Files.createTempDir();
+    interpreterDir = new File(testDir, "interpreter_" + getClass().getSimpleName());
+    confDir = new File(testDir, "conf_" + getClass().getSimpleName());
+    notebookDir = new File(testDir, "notebook_" + getClass().getSimpleName());
 
     interpreterDir.mkdirs();
     confDir.mkdirs();
@@ -69,6 +72,7 @@ public abstract class AbstractInterpreterTest {
     FileUtils.deleteDirectory(interpreterDir);
     FileUtils.deleteDirectory(confDir);
     FileUtils.deleteDirectory(notebookDir);
+    FileUtils.deleteDirectory(testDir);
   }
 
   protected Note createNote() {
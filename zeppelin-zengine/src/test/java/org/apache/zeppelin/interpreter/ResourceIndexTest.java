@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import com.google.gson.Gson;
+import org.apache.zeppelin.resource.ResourceId;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResourceIndexTest {
+
+  private static final Gson gson = new Gson();
+
+  private ResourceId resourceId(String poolId, String noteId, String paragraphId, String name) {
+    Map<String, String> id = new HashMap<>();
+    id.put("resourcePoolId", poolId);
+    id.put("noteId", noteId);
+    id.put("paragraphId", paragraphId);
+    id.put("name", name);
+    return ResourceId.fromJson(gson.toJson(id));
+  }
+
+  @Test
+  public void testFind() {
+    ResourceIndex index = new ResourceIndex();
+    index.put(resourceId("pool1", null, null, "x"), "pool1_x");
+    index.put(resourceId("pool2", "note1", "paragraph1", "x"), "pool2_x");
+    index.put(resourceId("pool2", null, null, "y"), "pool2_y");
+    assertEquals(3, index.size());
+
+    assertEquals(2, index.find(null, null, null, "x").size());
+    // resources of the caller are excluded
+    assertEquals(1, index.find("pool1", null, null, "x").size());
+    assertEquals("pool2_x", index.find("pool1", null, null, "x").get(0).getValue());
+    assertEquals(1, index.find("pool3", "note1", "paragraph1", "x").size());
+    assertEquals(0, index.find("pool3", "note2", null, "x").size());
+    assertEquals(0, index.find("pool3", null, null, "z").size());
+
+    index.remove(resourceId("pool1", null, null, "x"));
+    assertEquals(1, index.find(null, null, null, "x").size());
+
+    index.removeResourcePool("pool2");
+    assertEquals(0, index.size());
+    assertEquals(0, index.find(null, null, null, "y").size());
+  }
+}
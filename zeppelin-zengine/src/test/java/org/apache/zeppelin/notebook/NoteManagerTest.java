@@ -1,5 +1,6 @@
 package org.apache.zeppelin.notebook;
 
+import com.google.common.collect.Sets;
 import org.apache.zeppelin.notebook.repo.InMemoryNotebookRepo;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.junit.Before;
@@ -7,8 +8,11 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class NoteManagerTest {
   private NoteManager noteManager;
@@ -60,6 +64,49 @@ public class NoteManagerTest {
     assertEquals(0, notesInfo.size());
   }
 
+  @Test
+  public void testUnloadLeastRecentlyUsedNotes() throws IOException {
+    this.noteManager = new NoteManager(new InMemoryNotebookRepo(), 2, Long.MAX_VALUE);
+    Note note1 = createNote("/prod/my_note1");
+    Note note2 = createNote("/prod/my_note2");
+    Note note3 = createNote("/prod/my_note3");
+    this.noteManager.saveNote(note1);
+    this.noteManager.saveNote(note2);
+    this.noteManager.getNote(note1.getId());
+    this.noteManager.saveNote(note3);
+
+    // note2 is the least recently used one
+    assertEquals(2, this.noteManager.getNumLoadedNotes());
+    assertEquals(Sets.newHashSet(note1.getId(), note3.getId()), getLoadedNoteIds());
+
+    // unloaded note is loaded again transparently, it is still referenced here so the same
+    // object is returned
+    assertSame(note2, this.noteManager.getNote(note2.getId()));
+    assertEquals(Sets.newHashSet(note2.getId(), note3.getId()), getLoadedNoteIds());
+    assertEquals(3, this.noteManager.getNotesInfo().size());
+  }
+
+  @Test
+  public void testPinnedNotesAreNotUnloaded() throws IOException {
+    Note note1 = createNote("/prod/my_note1");
+    Note note2 = createNote("/prod/my_note2");
+    long maxWeight = NoteManager.estimateNoteWeight(note1)
+        + NoteManager.estimateNoteWeight(note2) - 1;
+    this.noteManager = new NoteManager(new InMemoryNotebookRepo(), 100, maxWeight);
+    this.noteManager.setNotePinnedChecker(noteId -> noteId.equals(note1.getId()));
+    this.noteManager.saveNote(note1);
+    this.noteManager.saveNote(note2);
+
+    // total weight exceeds the bound, but note1 is pinned
+    assertEquals(Sets.newHashSet(note1.getId()), getLoadedNoteIds());
+  }
+
+  private Set<String> getLoadedNoteIds() {
+    return this.noteManager.getLoadedNotes().stream()
+        .map(Note::getId)
+        .collect(Collectors.toSet());
+  }
+
   private Note createNote(String notePath) {
     return new Note(notePath, "test", null, null, null, null, null);
   }
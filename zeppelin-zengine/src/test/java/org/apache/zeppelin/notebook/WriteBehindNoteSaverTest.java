@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.notebook.repo.NotebookRepo;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class WriteBehindNoteSaverTest {
+
+  private NotebookRepo notebookRepo = mock(NotebookRepo.class);
+  // noteId:noteName of each written note
+  private List<String> writes = Collections.synchronizedList(new ArrayList<>());
+  private WriteBehindNoteSaver noteSaver;
+
+  private void recordWrites() throws Exception {
+    doAnswer(invocation -> {
+      Note note = (Note) invocation.getArguments()[0];
+      writes.add(note.getId() + ":" + note.getName());
+      return null;
+    }).when(notebookRepo).save(any(Note.class), any(AuthenticationInfo.class));
+  }
+
+  @After
+  public void tearDown() {
+    if (noteSaver != null) {
+      noteSaver.close();
+    }
+  }
+
+  @Test
+  public void testCoalesceSaves() throws Exception {
+    recordWrites();
+    noteSaver = new WriteBehindNoteSaver(notebookRepo, 60 * 1000, 2);
+    Note note = createNote("note_1");
+    for (int i = 0; i < 5; i++) {
+      note.setName("name_" + i);
+      noteSaver.save(note, AuthenticationInfo.ANONYMOUS);
+    }
+    assertEquals(0, writes.size());
+    assertTrue(noteSaver.isPending("note_1"));
+
+    noteSaver.flush("note_1");
+    // only the latest state is written
+    assertEquals(1, writes.size());
+    assertEquals("note_1:name_4", writes.get(0));
+    assertFalse(noteSaver.isPending("note_1"));
+  }
+
+  @Test
+  public void testSaveAfterDelay() throws Exception {
+    CountDownLatch written = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      writes.add(((Note) invocation.getArguments()[0]).getId());
+      written.countDown();
+      return null;
+    }).when(notebookRepo).save(any(Note.class), any(AuthenticationInfo.class));
+    noteSaver = new WriteBehindNoteSaver(notebookRepo, 100, 2);
+    noteSaver.save(createNote("note_1"), AuthenticationInfo.ANONYMOUS);
+
+    // written by the saver itself, without flush or close
+    assertTrue(written.await(10, TimeUnit.SECONDS));
+    assertEquals(1, writes.size());
+    assertEquals("note_1", writes.get(0));
+  }
+
+  @Test
+  public void testSaveDifferentNotesInParallel() throws Exception {
+    CountDownLatch bothWriting = new CountDownLatch(2);
+    doAnswer(invocation -> {
+      bothWriting.countDown();
+      // blocks until the other note is being written too
+      assertTrue(bothWriting.await(10, TimeUnit.SECONDS));
+      writes.add(((Note) invocation.getArguments()[0]).getId());
+      return null;
+    }).when(notebookRepo).save(any(Note.class), any(AuthenticationInfo.class));
+    noteSaver = new WriteBehindNoteSaver(notebookRepo, 100, 2);
+    noteSaver.save(createNote("note_1"), AuthenticationInfo.ANONYMOUS);
+    noteSaver.save(createNote("note_2"), AuthenticationInfo.ANONYMOUS);
+
+    noteSaver.close();
+    assertEquals(2, writes.size());
+  }
+
+  @Test
+  public void testFlushAndCancel() throws Exception {
+    recordWrites();
+    noteSaver = new WriteBehindNoteSaver(notebookRepo, 60 * 1000, 2);
+    Note note1 = createNote("note_1");
+    Note note2 = createNote("note_2");
+    noteSaver.save(note1, AuthenticationInfo.ANONYMOUS);
+    noteSaver.save(note2, AuthenticationInfo.ANONYMOUS);
+
+    noteSaver.flush("note_1");
+    assertEquals(1, writes.size());
+    assertEquals("note_1:note_1", writes.get(0));
+
+    noteSaver.cancel("note_2");
+    assertFalse(noteSaver.isPending("note_2"));
+    noteSaver.close();
+    assertEquals(1, writes.size());
+  }
+
+  @Test
+  public void testCloseFlushesPendingSaves() throws Exception {
+    recordWrites();
+    noteSaver = new WriteBehindNoteSaver(notebookRepo, 60 * 1000, 2);
+    noteSaver.save(createNote("note_1"), AuthenticationInfo.ANONYMOUS);
+    noteSaver.save(createNote("note_2"), AuthenticationInfo.ANONYMOUS);
+    assertEquals(0, writes.size());
+
+    noteSaver.close();
+    assertEquals(2, writes.size());
+  }
+
+  @Test
+  public void testSaveSynchronously() throws Exception {
+    recordWrites();
+    noteSaver = new WriteBehindNoteSaver(notebookRepo, 0, 0);
+    noteSaver.save(createNote("note_1"), AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, writes.size());
+    assertFalse(noteSaver.isPending("note_1"));
+  }
+
+  private Note createNote(String noteId) {
+    Note note = new Note("/" + noteId, "test", null, null, null, null, null);
+    note.setId(noteId);
+    return note;
+  }
+}
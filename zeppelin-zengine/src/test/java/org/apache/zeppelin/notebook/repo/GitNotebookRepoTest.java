@@ -338,6 +338,37 @@ public class GitNotebookRepoTest {
     assertThat(note).isNull();
   }
 
+  @Test
+  public void getRevisionWithoutTouchingWorkingTreeTest() throws IOException, GitAPIException {
+    notebookRepo = new GitNotebookRepo(conf);
+    Revision revision_1 = notebookRepo.checkpoint(TEST_NOTE_ID, TEST_NOTE_PATH, "first commit", null);
+    Note note = notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, null);
+    note.setInterpreterFactory(mock(InterpreterFactory.class));
+    int paragraphCount_1 = note.getParagraphs().size();
+
+    // modify note without checkpoint
+    note.addNewParagraph(AuthenticationInfo.ANONYMOUS).setText("uncommitted text");
+    notebookRepo.save(note, null);
+
+    // revision is read from git objects, the modified working tree is untouched
+    Note noteRevision_1 = notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, revision_1.id, null);
+    assertThat(noteRevision_1.getParagraphs().size()).isEqualTo(paragraphCount_1);
+    assertThat(notebookRepo.getGit().stashList().call()).isEmpty();
+    assertThat(notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, null).getParagraphs().size())
+        .isEqualTo(paragraphCount_1 + 1);
+
+    // revision is cached, but every get returns its own note
+    String revisionName = noteRevision_1.getName();
+    noteRevision_1.setName("renamed after get");
+    Note noteRevision_1Again = notebookRepo.get(TEST_NOTE_ID, TEST_NOTE_PATH, revision_1.id, null);
+    assertThat(noteRevision_1Again).isNotSameAs(noteRevision_1);
+    assertThat(noteRevision_1Again.getName()).isEqualTo(revisionName);
+    Note restoredNote = notebookRepo.setNoteRevision(TEST_NOTE_ID, TEST_NOTE_PATH,
+        revision_1.id, null);
+    assertThat(restoredNote).isNotSameAs(noteRevision_1);
+    assertThat(restoredNote.getParagraphs().size()).isEqualTo(paragraphCount_1);
+  }
+
   @Test
   public void setRevisionTest() throws IOException {
     //create repo and check that note doesn't contain revisions
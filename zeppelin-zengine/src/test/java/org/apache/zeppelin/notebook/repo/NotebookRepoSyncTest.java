@@ -20,11 +20,20 @@ package org.apache.zeppelin.notebook.repo;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -390,6 +399,54 @@ public class NotebookRepoSyncTest {
     assertEquals(0, authorizationService.getWriters(note.getId()).size());
   }
 
+  @Test
+  public void testSyncComparesChecksumsBeforeLoadingNotes() throws IOException {
+    NotebookRepo srcRepo = mock(NotebookRepo.class);
+    NotebookRepo dstRepo = mock(NotebookRepo.class);
+    Map<String, NoteInfo> srcNotes = new HashMap<>();
+    Map<String, NoteInfo> dstNotes = new HashMap<>();
+    // unchanged note, checksums are got when listing notes
+    NoteInfo unchanged = new NoteInfo("unchanged", "/unchanged");
+    unchanged.setChecksum("checksum_1");
+    srcNotes.put(unchanged.getId(), unchanged);
+    NoteInfo dstUnchanged = new NoteInfo("unchanged", "/unchanged");
+    dstUnchanged.setChecksum("checksum_1");
+    dstNotes.put(dstUnchanged.getId(), dstUnchanged);
+    // changed note, checksums are got from repo
+    srcNotes.put("changed", new NoteInfo("changed", "/changed"));
+    dstNotes.put("changed", new NoteInfo("changed", "/changed"));
+    when(srcRepo.getNoteChecksum("changed", "/changed", anonymous)).thenReturn("checksum_2");
+    when(dstRepo.getNoteChecksum("changed", "/changed", anonymous)).thenReturn("checksum_3");
+    // note only exists in source repo
+    srcNotes.put("new", new NoteInfo("new", "/new"));
+    when(srcRepo.list(anonymous)).thenReturn(srcNotes);
+    when(dstRepo.list(anonymous)).thenReturn(dstNotes);
+
+    Note srcChanged = createNoteWithParagraphDate("changed", new Date(2000L));
+    Note dstChanged = createNoteWithParagraphDate("changed", new Date(1000L));
+    Note newNote = createNoteWithParagraphDate("new", new Date(1000L));
+    when(srcRepo.get("changed", "/changed", anonymous)).thenReturn(srcChanged);
+    when(dstRepo.get("changed", "/changed", anonymous)).thenReturn(dstChanged);
+    when(srcRepo.get("new", "/new", anonymous)).thenReturn(newNote);
+
+    notebookRepoSync.sync(srcRepo, dstRepo, anonymous);
+
+    verify(srcRepo, never()).get(eq("unchanged"), anyString(), any(AuthenticationInfo.class));
+    verify(dstRepo, never()).get(eq("unchanged"), anyString(), any(AuthenticationInfo.class));
+    verify(dstRepo).save(srcChanged, anonymous);
+    verify(dstRepo).save(newNote, anonymous);
+    verify(srcRepo, never()).save(any(Note.class), any(AuthenticationInfo.class));
+  }
+
+  private Note createNoteWithParagraphDate(String noteId, Date date) {
+    Paragraph p = mock(Paragraph.class);
+    when(p.getDateFinished()).thenReturn(date);
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(noteId);
+    when(note.getParagraphs()).thenReturn(Arrays.asList(p));
+    return note;
+  }
+
   static void delete(File file) {
     if (file.isFile()) {
       file.delete();
@@ -20,7 +20,11 @@ package org.apache.zeppelin.notebook.repo;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Files;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
@@ -31,10 +35,15 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 public class VFSNotebookRepoTest {
 
@@ -104,6 +113,170 @@ public class VFSNotebookRepoTest {
     assertEquals(1, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
   }
 
+  @Test
+  public void testNoteLockIsDroppedOnRemove() throws IOException {
+    Note note = new Note();
+    note.setPath("/my_note");
+    notebookRepo.save(note, AuthenticationInfo.ANONYMOUS);
+    notebookRepo.move(note.getId(), note.getPath(), "/my_project/my_note",
+        AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, notebookRepo.getNumNoteLocks());
+
+    notebookRepo.remove(note.getId(), "/my_project/my_note", AuthenticationInfo.ANONYMOUS);
+    assertEquals(0, notebookRepo.getNumNoteLocks());
+    assertEquals(0, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
+  }
+
+  private VFSNotebookRepo createRepoWithResultBlobs() throws Exception {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD.getVarName(), "100");
+    try {
+      VFSNotebookRepo repo = new VFSNotebookRepo();
+      repo.init(new ZeppelinConfiguration());
+      repo.awaitResultBlobReferences();
+      return repo;
+    } finally {
+      System.clearProperty(
+          ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_RESULT_BLOB_THRESHOLD.getVarName());
+    }
+  }
+
+  private Note createNoteWithResult(String notePath, String data) {
+    Note note = new Note();
+    note.setPath(notePath);
+    Paragraph p = note.insertNewParagraph(0, AuthenticationInfo.ANONYMOUS);
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.TABLE, data));
+    return note;
+  }
+
+  private String[] listBlobs() {
+    String[] blobs = new File(notebookDir, ResultBlobStore.BLOB_FOLDER).list();
+    return blobs != null ? blobs : new String[0];
+  }
+
+  @Test
+  public void testLargeResultsAreStoredAsBlobs() throws Exception {
+    notebookRepo = createRepoWithResultBlobs();
+
+    String largeData = "a\tb\n" + StringUtils.repeat("1\t2\n", 100);
+    List<Note> notes = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      Note note = new Note();
+      note.setPath("/my_project/my_note" + i);
+      Paragraph p = note.insertNewParagraph(0, AuthenticationInfo.ANONYMOUS);
+      p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, Arrays.asList(
+          new InterpreterResultMessage(InterpreterResult.Type.TEXT, "small output"),
+          new InterpreterResultMessage(InterpreterResult.Type.TABLE, largeData))));
+      notebookRepo.save(note, AuthenticationInfo.ANONYMOUS);
+      notes.add(note);
+    }
+    assertEquals(2, notebookRepo.list(AuthenticationInfo.ANONYMOUS).size());
+
+    // large result is kept out of note file, and is stored once for both notes
+    String noteJson = FileUtils.readFileToString(
+        new File(notebookDir, "my_project/my_note0_" + notes.get(0).getId() + ".zpln"));
+    assertFalse(noteJson.contains("1\\t2\\n"));
+    File[] blobs = new File(notebookDir, ResultBlobStore.BLOB_FOLDER).listFiles();
+    assertEquals(1, blobs.length);
+
+    Note note = notebookRepo.get(notes.get(0).getId(), notes.get(0).getPath(),
+        AuthenticationInfo.ANONYMOUS);
+    List<InterpreterResultMessage> msgs = note.getParagraph(0).getReturn().message();
+    assertEquals("small output", msgs.get(0).getData());
+    assertNull(msgs.get(0).getBlobId());
+    assertNull(msgs.get(1).getData());
+    assertEquals(blobs[0].getName(), msgs.get(1).getBlobId());
+    assertEquals(InterpreterResult.Type.TABLE, msgs.get(1).getType());
+    try (InputStream in = notebookRepo.getResultBlob(msgs.get(1).getBlobId(),
+        AuthenticationInfo.ANONYMOUS)) {
+      assertEquals(largeData, IOUtils.toString(in, "UTF-8"));
+    }
+
+    // saving note again keeps the reference to blob
+    notebookRepo.save(note, AuthenticationInfo.ANONYMOUS);
+    note = notebookRepo.get(note.getId(), note.getPath(), AuthenticationInfo.ANONYMOUS);
+    assertEquals(blobs[0].getName(), note.getParagraph(0).getReturn().message().get(1).getBlobId());
+  }
+
+  @Test
+  public void testChecksumOfNoteWithResultBlobs() throws Exception {
+    notebookRepo = createRepoWithResultBlobs();
+    Note note = createNoteWithResult("/my_note", StringUtils.repeat("1\t2\n", 100));
+    notebookRepo.save(note, AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, listBlobs().length);
+
+    // the note is pushed to a storage without result blobs, as NotebookRepoSync does
+    File otherNotebookDir = Files.createTempDir();
+    System.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_DIR.getVarName(),
+        otherNotebookDir.getAbsolutePath());
+    try {
+      VFSNotebookRepo otherRepo = new VFSNotebookRepo();
+      otherRepo.init(new ZeppelinConfiguration());
+      Note loadedNote = notebookRepo.get(note.getId(), note.getPath(),
+          AuthenticationInfo.ANONYMOUS);
+      otherRepo.save(ResultBlobStore.inlineResultBlobs(loadedNote,
+          blobId -> notebookRepo.getResultBlob(blobId, AuthenticationInfo.ANONYMOUS), "UTF-8"),
+          AuthenticationInfo.ANONYMOUS);
+
+      // both storages have the same checksum of the note
+      assertEquals(otherRepo.getNoteChecksum(note.getId(), note.getPath(),
+          AuthenticationInfo.ANONYMOUS),
+          notebookRepo.getNoteChecksum(note.getId(), note.getPath(),
+              AuthenticationInfo.ANONYMOUS));
+    } finally {
+      System.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_DIR.getVarName(),
+          notebookDir.getAbsolutePath());
+      FileUtils.deleteDirectory(otherNotebookDir);
+    }
+  }
+
+  @Test
+  public void testUnreferencedResultBlobsAreDeleted() throws Exception {
+    notebookRepo = createRepoWithResultBlobs();
+    String data1 = StringUtils.repeat("1\t2\n", 100);
+    String data2 = StringUtils.repeat("3\t4\n", 100);
+    Note note1 = createNoteWithResult("/my_note1", data1);
+    Note note2 = createNoteWithResult("/my_project/my_note2", data1);
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+    notebookRepo.save(note2, AuthenticationInfo.ANONYMOUS);
+    assertEquals(1, listBlobs().length);
+
+    // the blob of overwritten result is kept while note2 still refers to it
+    note1.getParagraph(0).setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        InterpreterResult.Type.TABLE, data2));
+    notebookRepo.save(note1, AuthenticationInfo.ANONYMOUS);
+    assertEquals(2, listBlobs().length);
+
+    // removing the folder of note2 deletes the blob of data1
+    notebookRepo.remove("/my_project", AuthenticationInfo.ANONYMOUS);
+    String[] blobs = listBlobs();
+    assertEquals(1, blobs.length);
+    Note loadedNote1 = notebookRepo.get(note1.getId(), note1.getPath(),
+        AuthenticationInfo.ANONYMOUS);
+    assertEquals(blobs[0],
+        loadedNote1.getParagraph(0).getReturn().message().get(0).getBlobId());
+
+    // clearing the result deletes its blob
+    loadedNote1.getParagraph(0).setResult(null);
+    notebookRepo.save(loadedNote1, AuthenticationInfo.ANONYMOUS);
+    assertEquals(0, listBlobs().length);
+
+    // blobs not referred by any note file are deleted when the repo is initialized
+    Note note3 = createNoteWithResult("/my_note3", data1);
+    notebookRepo.save(note3, AuthenticationInfo.ANONYMOUS);
+    FileUtils.forceDelete(new File(notebookDir, "my_note3_" + note3.getId() + ".zpln"));
+    assertEquals(1, listBlobs().length);
+    Note note4 = createNoteWithResult("/my_note4", data2);
+    notebookRepo.save(note4, AuthenticationInfo.ANONYMOUS);
+    notebookRepo = createRepoWithResultBlobs();
+    assertEquals(1, listBlobs().length);
+
+    // removing the note deletes its blob
+    notebookRepo.remove(note4.getId(), note4.getPath(), AuthenticationInfo.ANONYMOUS);
+    assertEquals(0, listBlobs().length);
+  }
+
   @Test
   public void testUpdateSettings() throws IOException {
     List<NotebookRepoSettingsInfo> repoSettings = notebookRepo.getSettings(AuthenticationInfo.ANONYMOUS);
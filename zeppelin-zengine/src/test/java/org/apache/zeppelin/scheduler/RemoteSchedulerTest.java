@@ -264,6 +264,83 @@ public class RemoteSchedulerTest extends AbstractInterpreterTest
     schedulerSvc.removeScheduler("test");
   }
 
+  @Test
+  public void testSubmitNextJobWhenRemoteSchedulerIsNotFull() throws Exception {
+    // the remote scheduler of MockInterpreterA runs up to 10 jobs in parallel
+    interpreterSetting.setProperty("parallel", "true");
+    final RemoteInterpreter intpA = (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "mock");
+    intpA.open();
+
+    Scheduler scheduler = intpA.getScheduler();
+
+    Job job1 = createInterpretJob(intpA, "jobId1");
+    Job job2 = createInterpretJob(intpA, "jobId2");
+    scheduler.submit(job1);
+    scheduler.submit(job2);
+
+    // job2 is sent to the remote as soon as job1 is RUNNING, so both run at the same time
+    int cycles = 0;
+    while (!(job1.isRunning() && job2.isRunning()) && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+    assertTrue(job1.isRunning());
+    assertTrue(job2.isRunning());
+
+    cycles = 0;
+    while (!(job1.isTerminated() && job2.isTerminated()) && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+    assertEquals(Status.FINISHED, job1.getStatus());
+    assertEquals(Status.FINISHED, job2.getStatus());
+
+    intpA.close();
+    schedulerSvc.removeScheduler("test");
+  }
+
+  private Job createInterpretJob(final RemoteInterpreter intp, final String jobId) {
+    return new Job(jobId, jobId, null) {
+      Object results;
+      InterpreterContext context = InterpreterContext.builder()
+          .setNoteId("noteId")
+          .setParagraphId(jobId)
+          .setResourcePool(new LocalResourcePool("pool1"))
+          .build();
+
+      @Override
+      public Object getReturn() {
+        return results;
+      }
+
+      @Override
+      public int progress() {
+        return 0;
+      }
+
+      @Override
+      public Map<String, Object> info() {
+        return null;
+      }
+
+      @Override
+      protected Object jobRun() throws Throwable {
+        intp.interpret("1000", context);
+        return "1000";
+      }
+
+      @Override
+      protected boolean jobAbort() {
+        return false;
+      }
+
+      @Override
+      public void setResult(Object results) {
+        this.results = results;
+      }
+    };
+  }
+
   @Override
   public void onOutputAppend(String noteId, String paragraphId, int index, String output) {
 
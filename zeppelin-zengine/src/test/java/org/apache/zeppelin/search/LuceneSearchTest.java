@@ -25,10 +25,14 @@ import com.google.common.base.Splitter;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.io.Files;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
@@ -249,6 +253,135 @@ public class LuceneSearchTest {
     assertThat(resultForQuery("NotebookN").size()).isEqualTo(1);
   }
 
+  @Test
+  public void updatesAreSearchableBeforeCommit() throws IOException {
+    noteSearchService.close();
+    System.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_SEARCH_INDEX_COMMIT_INTERVAL.getVarName(), "600000");
+    try {
+      noteSearchService = new LuceneSearch(ZeppelinConfiguration.create());
+      Note note1 = newNoteWithParagraph("Notebook1", "test");
+      noteSearchService.addIndexDoc(note1);
+
+      // searchable, but not committed yet
+      assertThat(resultForQuery("test")).isNotEmpty();
+      assertThat(numCommittedDocs()).isEqualTo(0);
+      File journalFile = new File(indexDir, "zeppelin-search.journal");
+      assertThat(journalFile.exists()).isTrue();
+
+      // committed when closed
+      noteSearchService.close();
+      assertThat(numCommittedDocs()).isEqualTo(2);
+      assertThat(journalFile.exists()).isFalse();
+    } finally {
+      System.clearProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_SEARCH_INDEX_COMMIT_INTERVAL.getVarName());
+    }
+    noteSearchService = new LuceneSearch(ZeppelinConfiguration.create());
+    assertThat(resultForQuery("test")).isNotEmpty();
+  }
+
+  @Test
+  public void canRecoverUncommittedUpdates() throws IOException {
+    noteSearchService.close();
+    // updates which were journaled but not committed before zeppelin server stopped
+    SearchIndexJournal journal =
+        new SearchIndexJournal(new File(indexDir, "zeppelin-search.journal").toPath());
+    journal.append(SearchIndexJournal.Entry.update("note1", "Notebook1", "Notebook1", null, null));
+    journal.append(SearchIndexJournal.Entry.update(
+        "note1/paragraph/p1", "Notebook1", "recovered text", null, System.currentTimeMillis()));
+    journal.append(SearchIndexJournal.Entry.update(
+        "note1/paragraph/p2", "Notebook1", "deleted text", null, System.currentTimeMillis()));
+    journal.append(SearchIndexJournal.Entry.delete("note1/paragraph/p2"));
+    journal.close();
+
+    noteSearchService = new LuceneSearch(ZeppelinConfiguration.create());
+    assertThat(resultForQuery("recovered")).isNotEmpty();
+    assertThat(resultForQuery("recovered").get(0)).containsEntry("id", "note1/paragraph/p1");
+    assertThat(resultForQuery("deleted")).isEmpty();
+    assertThat(resultForQuery("Notebook1")).isNotEmpty();
+  }
+
+  @Test
+  public void rebuildIndexOnlyReindexesChangedNotes() throws IOException, InterruptedException {
+    Note note1 = newNoteWithParagraph("Notebook1", "test");
+    Note note2 = newNoteWithParagraphs("Notebook2", "not test", "not test at all");
+    Note note3 = newNoteWithParagraph("Notebook3", "removed");
+    noteSearchService.drainEvents();
+
+    // note2 is changed and note3 is removed while they were not indexed
+    note2.getLastParagraph().setText("changed text");
+    Map<String, Note> notes = new HashMap<>();
+    notes.put(note1.getId(), note1);
+    notes.put(note2.getId(), note2);
+    Map<String, String> notesInfo = new HashMap<>();
+    notesInfo.put(note1.getId(), note1.getPath());
+    notesInfo.put(note2.getId(), note2.getPath());
+
+    assertThat(noteSearchService.rebuildIndex(notesInfo, new HashMap<>(),
+        (noteId, notePath) -> notes.get(noteId)))
+        .isEqualTo(1);
+    assertThat(resultForQuery("changed")).isNotEmpty();
+    assertThat(resultForQuery("all")).isEmpty();
+    assertThat(resultForQuery("removed")).isEmpty();
+    assertThat(resultForQuery("Notebook3")).isEmpty();
+    assertThat(resultForQuery("Notebook1")).isNotEmpty();
+
+    // nothing changed
+    assertThat(noteSearchService.rebuildIndex(notesInfo, new HashMap<>(),
+        (noteId, notePath) -> notes.get(noteId)))
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void rebuildIndexSkipsNotesWithUnchangedRepoVersion() throws IOException {
+    Note note1 = newNoteWithParagraph("Notebook1", "test");
+    noteSearchService.drainEvents();
+
+    Map<String, String> notesInfo = new HashMap<>();
+    notesInfo.put(note1.getId(), note1.getPath());
+    Map<String, String> noteVersions = new HashMap<>();
+    noteVersions.put(note1.getId(), "version_1");
+    AtomicInteger loads = new AtomicInteger(0);
+    SearchService.NoteLoader noteLoader = (noteId, notePath) -> {
+      loads.incrementAndGet();
+      return note1;
+    };
+
+    // the version is not in index yet, note is loaded and only its version is recorded
+    assertThat(noteSearchService.rebuildIndex(notesInfo, noteVersions, noteLoader)).isEqualTo(0);
+    assertThat(loads.get()).isEqualTo(1);
+
+    // same version, note is not loaded
+    assertThat(noteSearchService.rebuildIndex(notesInfo, noteVersions, noteLoader)).isEqualTo(0);
+    assertThat(loads.get()).isEqualTo(1);
+
+    // changed in repo
+    note1.getLastParagraph().setText("changed text");
+    noteVersions.put(note1.getId(), "version_2");
+    assertThat(noteSearchService.rebuildIndex(notesInfo, noteVersions, noteLoader)).isEqualTo(1);
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(resultForQuery("changed")).isNotEmpty();
+  }
+
+  @Test
+  public void rebuildIndexRemovesNoteWithEmptyName() throws IOException {
+    Note note1 = newNoteWithParagraph("Notebook1", "orphan");
+    noteSearchService.drainEvents();
+    note1.setName("");
+    noteSearchService.updateIndexDoc(note1);
+    assertThat(resultForQuery("orphan")).isNotEmpty();
+
+    // note is removed from repo
+    assertThat(noteSearchService.rebuildIndex(new HashMap<>(), new HashMap<>(),
+        (noteId, notePath) -> null)).isEqualTo(0);
+    assertThat(resultForQuery("orphan")).isEmpty();
+  }
+
+  private int numCommittedDocs() throws IOException {
+    try (DirectoryReader reader = DirectoryReader.open(FSDirectory.open(indexDir.toPath()))) {
+      return reader.numDocs();
+    }
+  }
+
   private List<Map<String, String>> resultForQuery(String q) {
     return noteSearchService.query(q);
   }